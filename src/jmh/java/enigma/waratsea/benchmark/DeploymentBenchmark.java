@@ -0,0 +1,84 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.squadron.deployment.SquadronDeploymentAI;
+import engima.waratsea.model.squadron.deployment.SquadronDeploymentStrategy;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the computer player's squadron deployment for every bundled scenario. Both the legacy greedy
+ * deployment and the solver are measured so that their run time and deployment score may be compared.
+ * The deployment score is reported as an auxiliary counter; higher is better.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DeploymentBenchmark {
+    @Param({"0", "1", "2", "3", "4", "5", "6", "7", "8", "9"})
+    private int scenarioIndex;
+
+    @Param({"GREEDY", "SOLVER"})
+    private SquadronDeploymentStrategy strategy;
+
+    private Game game;
+    private SquadronDeploymentAI deploymentAI;
+
+    /**
+     * The deployment score of the last deployment.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Score {
+        private long score;
+
+        /**
+         * Get the deployment score summed over all the computer player's nations.
+         *
+         * @return The deployment score.
+         */
+        public long score() {
+            return score;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        game = GameFixture.startNew(injector, scenarioIndex);
+
+        deploymentAI = injector.getInstance(SquadronDeploymentAI.class);
+        deploymentAI.setStrategy(strategy);
+    }
+
+    @Benchmark
+    public SquadronDeploymentAI deploy(final Score score) {
+        deploymentAI.deploy(game.getScenario(), game.getComputerPlayer());
+
+        score.score = deploymentAI
+                .getScores()
+                .values()
+                .stream()
+                .mapToLong(Long::longValue)
+                .sum();
+
+        return deploymentAI;
+    }
+}
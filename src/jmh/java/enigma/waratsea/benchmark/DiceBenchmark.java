@@ -0,0 +1,51 @@
+package enigma.waratsea.benchmark;
+
+import engima.waratsea.utility.Dice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Compares rolling anti-aircraft dice one at a time through a stream with the dice bulk count roll.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DiceBenchmark {
+    private static final int HIT = 6;
+    private static final int SIDES = 6;
+
+    @Param({"4", "12", "48"})
+    private int guns;
+
+    private final Random random = new Random();
+    private final Dice dice = new Dice();
+
+    @Benchmark
+    public long perDieStream() {
+        return IntStream
+                .range(1, guns + 1)
+                .map(gun -> random.nextInt(SIDES) + 1)
+                .filter(value -> value >= HIT)
+                .count();
+    }
+
+    @Benchmark
+    public int bulkCount() {
+        return dice.countRollsAtLeast(guns, HIT);
+    }
+}
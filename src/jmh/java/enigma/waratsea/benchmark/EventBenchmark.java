@@ -0,0 +1,61 @@
+package enigma.waratsea.benchmark;
+
+import engima.waratsea.model.game.event.Event;
+import engima.waratsea.model.game.event.EventDispatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of firing an event to a number of registered handlers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventBenchmark {
+    @Param({"10", "100", "1000"})
+    private int handlers;
+
+    private EventDispatcher<BenchmarkEvent> dispatcher;
+    private BenchmarkEvent event;
+
+    /**
+     * An event that is only used to measure the dispatcher.
+     */
+    public static class BenchmarkEvent extends Event {
+        private int value;
+
+        @Override
+        public void fire() {
+        }
+    }
+
+    @Setup
+    public void setup(final Blackhole blackhole) {
+        dispatcher = new EventDispatcher<>("BenchmarkEvent");
+        event = new BenchmarkEvent();
+
+        for (int i = 0; i < handlers; i++) {
+            dispatcher.register(new Object(), e -> blackhole.consume(e.value++));
+        }
+    }
+
+    @Benchmark
+    public void fire() {
+        dispatcher.fire(event);
+    }
+}
@@ -0,0 +1,150 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.flotilla.Flotilla;
+import engima.waratsea.model.flotilla.FlotillaFactory;
+import engima.waratsea.model.flotilla.FlotillaType;
+import engima.waratsea.model.flotilla.combat.FlotillaCombat;
+import engima.waratsea.model.flotilla.data.FlotillaData;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.ship.Hull;
+import engima.waratsea.model.ship.Torpedo;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.vessel.Vessel;
+import engima.waratsea.utility.Dice;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the axis submarine flotilla attacks of one turn. Each flotilla shares a grid with an allied task
+ * force, so every flotilla finds a contact and fires.
+ *
+ * Before each turn the torpedoes are reloaded, the ships are repaired and the dice are reseeded, so every turn
+ * carries out the same work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlotillaCombatBenchmark {
+    private static final long SEED = 1940;
+    private static final int TASK_FORCES = 300;
+
+    @Param({"1", "12", "48"})
+    private int flotillaCount;
+
+    private FlotillaCombat combat;
+    private Dice dice;
+    private final List<TaskForce> taskForces = new ArrayList<>();
+    private final List<Flotilla> flotillas = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        GameFixture.startNew(injector);
+
+        GameMap gameMap = injector.getInstance(GameMap.class);
+        TaskForceFactory taskForceFactory = injector.getInstance(TaskForceFactory.class);
+        FlotillaFactory flotillaFactory = injector.getInstance(FlotillaFactory.class);
+
+        combat = injector.getInstance(FlotillaCombat.class);
+        dice = injector.getInstance(Dice.class);
+
+        int column = 0;
+        int row = 0;
+
+        for (int i = 0; i < TASK_FORCES; i++) {
+            GameGrid grid = gameMap.getGrid(row, column);
+
+            if (grid != null) {
+                String reference = grid.getMapReference();
+                taskForces.add(taskForceFactory.create(Side.ALLIES, buildTaskForceData("Bench" + i, reference)));
+
+                if (flotillas.size() < flotillaCount) {
+                    flotillas.add(flotillaFactory.createSubmarineFlotilla(Side.AXIS, buildFlotillaData("Bench" + i, reference)));
+                }
+            }
+
+            column = (column + 1) % gameMap.getColumns();
+            row = column == 0 ? row + 1 : row;
+        }
+
+        gameMap.updateTaskForces(taskForces);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        dice.setSeed(SEED);
+
+        flotillas
+                .stream()
+                .flatMap(flotilla -> flotilla.getVessels().stream())
+                .map(Vessel::getTorpedo)
+                .forEach(torpedo -> torpedo.setNumber(torpedo.getMaxNumber()));
+
+        taskForces
+                .stream()
+                .flatMap(taskForce -> taskForce.getShips().stream())
+                .forEach(ship -> {
+                    Hull hull = ship.getHull();
+                    hull.setHealth(hull.getMaxHealth());
+
+                    Torpedo mount = ship.getTorpedo();
+                    if (mount != null && mount.isPresent()) {
+                        mount.setHealth(mount.getMaxHealth());
+                    }
+                });
+    }
+
+    @Benchmark
+    public int attack() {
+        return combat.attack(FlotillaType.SUBMARINE, flotillas);
+    }
+
+    private TaskForceData buildTaskForceData(final String name, final String location) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(List.of("CL36 Sheffield")));
+        data.setLocation(location);
+        data.setState(TaskForceState.ACTIVE);
+
+        return data;
+    }
+
+    private FlotillaData buildFlotillaData(final String name, final String location) {
+        FlotillaData data = new FlotillaData();
+        data.setName(name);
+        data.setLocation(location);
+        data.setSubs(new ArrayList<>(Arrays.asList("SM1", "SM2")));
+
+        return data;
+    }
+}
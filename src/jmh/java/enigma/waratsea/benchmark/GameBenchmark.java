@@ -0,0 +1,108 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.data.GameData;
+import engima.waratsea.model.squadron.deployment.SquadronDeploymentAI;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks starting, saving and loading a game and the computer player's squadron deployment.
+ *
+ * Starting and loading a game are one shot operations. Each measurement uses a freshly bootstrapped
+ * injector so that no state is carried over from the previous measurement.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(1)
+public class GameBenchmark {
+
+    /**
+     * A game whose scenario is selected but not started.
+     */
+    @State(Scope.Thread)
+    public static class Selected {
+        private Game game;
+
+        @Setup(Level.Invocation)
+        public void setup() throws Exception {
+            game = GameFixture.select(GameFixture.boot());
+        }
+    }
+
+    /**
+     * A started game.
+     */
+    @State(Scope.Thread)
+    public static class Started {
+        private Injector injector;
+        private Game game;
+
+        @Setup(Level.Trial)
+        public void setup() throws Exception {
+            injector = GameFixture.boot();
+            game = GameFixture.startNew(injector);
+        }
+    }
+
+    /**
+     * A saved game that is ready to be loaded.
+     */
+    @State(Scope.Thread)
+    public static class Saved {
+        private GameData data;
+        private Game game;
+
+        @Setup(Level.Trial)
+        public void save() throws Exception {
+            Game savedGame = GameFixture.startNew(GameFixture.boot());
+            savedGame.save(GameFixture.SAVED_GAME);
+            data = savedGame.getData();
+        }
+
+        @Setup(Level.Invocation)
+        public void setup() {
+            game = GameFixture.boot().getInstance(Game.class);
+            game.init(data);
+        }
+    }
+
+    @Benchmark
+    public Game startNew(final Selected selected) throws Exception {
+        selected.game.startNew();
+        return selected.game;
+    }
+
+    @Benchmark
+    public Game save(final Started started) {
+        started.game.save(GameFixture.SAVED_GAME);
+        return started.game;
+    }
+
+    @Benchmark
+    public Game load(final Saved saved) throws Exception {
+        saved.game.startExisting();
+        return saved.game;
+    }
+
+    @Benchmark
+    public Game deploySquadrons(final Started started) {
+        SquadronDeploymentAI deployment = started.injector.getInstance(SquadronDeploymentAI.class);
+        deployment.deploy(started.game.getScenario(), started.game.getComputerPlayer());
+        return started.game;
+    }
+}
@@ -0,0 +1,110 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.BasicModule;
+import engima.waratsea.model.AppProps;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.scenario.Scenario;
+
+import java.util.List;
+
+/**
+ * Bootstraps the real game guice module against the bundled Bomb Alley scenarios for the benchmarks.
+ */
+public final class GameFixture {
+    public static final String SAVED_GAME = "jmhBenchmark";
+
+    private GameFixture() {
+    }
+
+    /**
+     * Create a new injector from the main application module with the Bomb Alley game selected.
+     *
+     * @return The injector.
+     */
+    public static Injector boot() {
+        Injector injector = Guice.createInjector(new BasicModule());
+
+        injector.getInstance(GameTitle.class).setName(GameName.BOMB_ALLEY);                                             //The game instance must be injected first!
+        injector.getInstance(AppProps.class);                                                                           // Load the main application properties.
+
+        return injector;
+    }
+
+    /**
+     * Select the first bundled scenario with the human player as the allies. The game is not started.
+     *
+     * @param injector The injector.
+     * @return The game ready to be started.
+     * @throws Exception if the scenarios cannot be loaded.
+     */
+    public static Game select(final Injector injector) throws Exception {
+        return select(injector, 0);
+    }
+
+    /**
+     * Select the given bundled scenario with the human player as the allies. The game is not started.
+     *
+     * @param injector The injector.
+     * @param scenarioIndex The index of the scenario in the bundled scenario list.
+     * @return The game ready to be started.
+     * @throws Exception if the scenarios cannot be loaded.
+     */
+    public static Game select(final Injector injector, final int scenarioIndex) throws Exception {
+        Game game = injector.getInstance(Game.class);
+        game.setNew();
+
+        List<Scenario> scenarios = game.initScenarios();
+        game.setScenario(scenarios.get(scenarioIndex));
+        game.setHumanSide(Side.ALLIES);
+
+        return game;
+    }
+
+    /**
+     * Start a new game of the first bundled scenario.
+     *
+     * @param injector The injector.
+     * @return The started game.
+     * @throws Exception if the game cannot be started.
+     */
+    public static Game startNew(final Injector injector) throws Exception {
+        Game game = select(injector);
+        game.startNew();
+        return game;
+    }
+
+    /**
+     * Start a new game of the given bundled scenario.
+     *
+     * @param injector The injector.
+     * @param scenarioIndex The index of the scenario in the bundled scenario list.
+     * @return The started game.
+     * @throws Exception if the game cannot be started.
+     */
+    public static Game startNew(final Injector injector, final int scenarioIndex) throws Exception {
+        Game game = select(injector, scenarioIndex);
+        game.startNew();
+        return game;
+    }
+
+    /**
+     * Get the human player's airfield that has the most squadrons.
+     *
+     * @param game A started game.
+     * @return The human player's busiest airfield.
+     */
+    public static Airfield busiestAirfield(final Game game) {
+        return game
+                .getHumanPlayer()
+                .getAirfields()
+                .stream()
+                .max((first, second) -> Integer.compare(first.getSquadrons().size(), second.getSquadrons().size()))
+                .orElseThrow();
+    }
+}
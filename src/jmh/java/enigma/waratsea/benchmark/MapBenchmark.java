@@ -0,0 +1,87 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.patrol.PatrolPath;
+import engima.waratsea.model.base.airfield.patrol.PatrolType;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.map.paths.MapPaths;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the game map distance, range and path calculations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapBenchmark {
+    private static final String START = "G20";
+    private static final String END = "AA10";
+    private static final int RANGE = 12;
+
+    private GameMap gameMap;
+    private MapPaths mapPaths;
+    private PatrolPath patrolPath;
+    private Airfield airfield;
+    private GameGrid startGrid;
+    private GameGrid endGrid;
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        Game game = GameFixture.startNew(injector);
+
+        gameMap = injector.getInstance(GameMap.class);
+        mapPaths = injector.getInstance(MapPaths.class);
+        patrolPath = injector.getInstance(PatrolPath.class);
+
+        airfield = GameFixture.busiestAirfield(game);
+        airfield.updatePatrol(PatrolType.SEARCH, airfield.getSquadrons());
+
+        startGrid = gameMap.getGrid(START).orElseThrow();
+        endGrid = gameMap.getGrid(END).orElseThrow();
+    }
+
+    @Benchmark
+    public int determineDistanceReference() {
+        return gameMap.determineDistance(START, END);
+    }
+
+    @Benchmark
+    public int determineDistanceGrid() {
+        return gameMap.determineDistance(startGrid, endGrid);
+    }
+
+    @Benchmark
+    public boolean inRange() {
+        return gameMap.inRange(START, END, RANGE);
+    }
+
+    @Benchmark
+    public List<GameGrid> straightPath() {
+        return mapPaths.getStraightPath(START, END);
+    }
+
+    @Benchmark
+    public PatrolPath patrolPathBuildGrids() {
+        patrolPath.buildGrids(airfield.getPatrol(PatrolType.SEARCH));
+        return patrolPath;
+    }
+}
@@ -0,0 +1,87 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.minefield.Minefield;
+import engima.waratsea.model.minefield.MinefieldTransit;
+import engima.waratsea.model.taskForce.TaskForce;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks an allied task force's transit through the axis minefields. The path runs down a single map column
+ * and the mines are laid everywhere else, so no ship is ever hit and every transit carries out the same work.
+ *
+ * The transit cost should grow with the path length and not with the number of mines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MinefieldTransitBenchmark {
+    private static final int PATH_COLUMN = 40;
+
+    @Param({"5", "20", "40"})
+    private int pathLength;
+
+    @Param({"1", "100", "1000"})
+    private int mineCount;
+
+    private MinefieldTransit transit;
+    private TaskForce taskForce;
+    private final List<GameGrid> path = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        Game game = GameFixture.startNew(injector);
+
+        GameMap gameMap = injector.getInstance(GameMap.class);
+        transit = injector.getInstance(MinefieldTransit.class);
+        taskForce = game.getHumanPlayer().getTaskForces().get(0);
+
+        for (int row = 0; path.size() < pathLength && row < gameMap.getRows(); row++) {
+            GameGrid grid = gameMap.getGrid(row, PATH_COLUMN);
+            if (grid != null) {
+                path.add(grid);
+            }
+        }
+
+        List<String> mines = new ArrayList<>();
+        for (int row = 0; row < gameMap.getRows() && mines.size() < mineCount; row++) {
+            for (int column = 0; column < gameMap.getColumns() && mines.size() < mineCount; column++) {
+                GameGrid grid = gameMap.getGrid(row, column);
+                if (grid != null && column != PATH_COLUMN) {
+                    mines.add(grid.getMapReference());
+                }
+            }
+        }
+
+        List<Minefield> minefields = gameMap.getMinefields(Side.AXIS);
+        minefields.forEach(minefield -> minefield.setActiveMapRef(new ArrayList<>()));
+        minefields.get(0).setActiveMapRef(mines);
+    }
+
+    @Benchmark
+    public int transit() {
+        return transit.resolve(taskForce, path);
+    }
+}
@@ -0,0 +1,107 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.mission.AirMission;
+import engima.waratsea.model.base.airfield.mission.AirMissionType;
+import engima.waratsea.model.base.airfield.mission.MissionFactory;
+import engima.waratsea.model.base.airfield.mission.MissionRole;
+import engima.waratsea.model.base.airfield.mission.data.MissionData;
+import engima.waratsea.model.base.airfield.mission.stats.ProbabilityStats;
+import engima.waratsea.model.base.airfield.patrol.PatrolType;
+import engima.waratsea.model.base.airfield.patrol.stats.PatrolStats;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.target.Target;
+import engima.waratsea.model.taskForce.patrol.PatrolGroup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Benchmarks the air mission probability and patrol statistics calculations that the air operations
+ * dialogs recompute whenever the player changes a mission or patrol.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MissionBenchmark {
+    private AirMission landStrike;
+    private Airfield airfield;
+    private PatrolGroup searchGroup;
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        Game game = GameFixture.startNew(injector);
+
+        airfield = GameFixture.busiestAirfield(game);
+
+        List<Squadron> squadrons = airfield.getSquadrons();
+        Nation nation = squadrons.get(0).getNation();
+
+        List<Squadron> nationSquadrons = squadrons
+                .stream()
+                .filter(squadron -> squadron.getNation() == nation)
+                .collect(Collectors.toList());
+
+        Target target = game
+                .getHumanPlayer()
+                .getTargets(AirMissionType.LAND_STRIKE, nation)
+                .get(0);
+
+        MissionData data = new MissionData();
+        data.setAirbase(airfield);
+        data.setNation(nation);
+        data.setTarget(target.getName());
+        data.setSquadronMap(getSquadronMap(nationSquadrons));
+
+        landStrike = injector.getInstance(MissionFactory.class).createLandStrike(data);
+
+        airfield.updatePatrol(PatrolType.SEARCH, nationSquadrons);
+        searchGroup = airfield.getPatrolGroups().getPatrolGroup(PatrolType.SEARCH);
+    }
+
+    @Benchmark
+    public List<ProbabilityStats> landStrikeMissionProbability() {
+        return landStrike.getMissionProbability();
+    }
+
+    @Benchmark
+    public PatrolStats searchPatrolStatsCached() {
+        return searchGroup.getPatrolStats();
+    }
+
+    @Benchmark
+    public PatrolStats searchPatrolStatsFresh() {
+        return airfield
+                .getPatrolGroups()
+                .getPatrolGroup(PatrolType.SEARCH)
+                .getPatrolStats();
+    }
+
+    private Map<MissionRole, List<String>> getSquadronMap(final List<Squadron> squadrons) {
+        Map<MissionRole, List<String>> map = new HashMap<>();
+        MissionRole.stream().forEach(role -> map.put(role, new ArrayList<>()));
+        map.put(MissionRole.MAIN, squadrons.stream().map(Squadron::getName).collect(Collectors.toList()));
+        return map;
+    }
+}
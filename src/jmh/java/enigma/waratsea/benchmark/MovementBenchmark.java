@@ -0,0 +1,93 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.TurnType;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.movement.TaskForceMovement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the task force movement phase: one turn of movement for many task forces sharing a route. The
+ * task forces shuttle between two grids so that every turn moves them and updates the map.
+ *
+ * Before each turn the ships are refuelled, so every turn carries out the same work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovementBenchmark {
+    private static final int TURN = 2;
+    private static final String START = "J20";
+    private static final String END = "BA20";
+    private static final List<String> SHIPS = List.of("CL36 Sheffield", "DD53 Faulknor");
+
+    @Param({"1", "30", "120"})
+    private int taskForceCount;
+
+    private TaskForceMovement movement;
+    private final List<TaskForce> taskForces = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        GameFixture.startNew(injector);
+
+        movement = injector.getInstance(TaskForceMovement.class);
+        TaskForceFactory taskForceFactory = injector.getInstance(TaskForceFactory.class);
+
+        for (int i = 0; i < taskForceCount; i++) {
+            taskForces.add(taskForceFactory.create(Side.ALLIES, buildData("Bench" + i)));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        taskForces.forEach(taskForce -> {
+            taskForce.getShips().forEach(ship -> ship.getFuel().setLevel(ship.getFuel().getCapacity()));
+            taskForce.plotRoute(List.of(END, START));
+        });
+    }
+
+    @Benchmark
+    public List<TaskForce> move() {
+        return movement.move(taskForces, TURN, TurnType.DAY);
+    }
+
+    private TaskForceData buildData(final String name) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(SHIPS));
+        data.setLocation(START);
+        data.setState(TaskForceState.ACTIVE);
+
+        return data;
+    }
+}
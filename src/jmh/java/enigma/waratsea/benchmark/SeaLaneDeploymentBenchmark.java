@@ -0,0 +1,98 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.flotilla.deployment.FlotillaDeployment;
+import engima.waratsea.model.flotilla.deployment.FlotillaDeploymentDAO;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentSolver;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentStrategy;
+import engima.waratsea.model.map.lanes.SeaLanes;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks placing the axis submarine flotillas over the allied sea lanes of the first bundled scenario. Both
+ * the random placement and the solver are measured so that their run time and coverage may be compared. The
+ * expected sea lane coverage, in thousandths, is reported as an auxiliary counter; higher is better.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class SeaLaneDeploymentBenchmark {
+    private static final int PER_MILLE = 1000;
+
+    @Param({"4", "8", "16"})
+    private int assets;
+
+    @Param({"RANDOM", "SOLVER"})
+    private SeaLaneDeploymentStrategy strategy;
+
+    private SeaLaneDeploymentSolver solver;
+    private List<int[]> lanes;
+    private final List<String> candidates = new ArrayList<>();
+    private long seed;
+
+    /**
+     * The expected sea lane coverage of the last placement.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Coverage {
+        private long coverage;
+
+        /**
+         * Get the expected sea lane coverage in thousandths.
+         *
+         * @return The expected sea lane coverage.
+         */
+        public long coverage() {
+            return coverage;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        GameFixture.startNew(injector);
+
+        solver = injector.getInstance(SeaLaneDeploymentSolver.class);
+        lanes = injector.getInstance(SeaLanes.class).getLanes(Side.ALLIES);
+
+        injector.getInstance(FlotillaDeploymentDAO.class)
+                .load(Side.AXIS)
+                .stream()
+                .map(FlotillaDeployment::getGrids)
+                .forEach(candidates::addAll);
+    }
+
+    @Benchmark
+    public List<String> place(final Coverage coverage) {
+        seed++;                                                                                                         // A new random placement each invocation.
+
+        List<String> grids = strategy == SeaLaneDeploymentStrategy.SOLVER
+                ? solver.solve(lanes, candidates, assets, seed)
+                : solver.selectRandom(candidates, assets, seed);
+
+        coverage.coverage = Math.round(solver.getCoverage(lanes, grids) * PER_MILLE);
+
+        return grids;
+    }
+}
@@ -0,0 +1,72 @@
+package enigma.waratsea.benchmark;
+
+import com.google.inject.Injector;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.mission.execution.SeaMissionExecution;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the sea mission phase: one turn of all the scenario's task force missions. The task forces are
+ * repeated to measure how the batched pass scales with the number of missions.
+ *
+ * Before each turn the missions are put back on station and the task forces are reloaded, so every turn carries
+ * out the same work.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SeaMissionBenchmark {
+    @Param({"1", "8", "32"})
+    private int copies;
+
+    private SeaMissionExecution execution;
+    private final List<TaskForce> taskForces = new ArrayList<>();
+
+    @Setup
+    public void setup() throws Exception {
+        Injector injector = GameFixture.boot();
+        Game game = GameFixture.startNew(injector);
+
+        execution = game.getSeaMissionExecution();
+
+        List<TaskForce> all = new ArrayList<>(game.getHumanPlayer().getTaskForces());
+        all.addAll(game.getComputerPlayer().getTaskForces());
+
+        for (int i = 0; i < copies; i++) {
+            taskForces.addAll(all);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        taskForces.forEach(taskForce -> {
+            taskForce.getMission().setState(SeaMissionState.ON_STATION);
+            taskForce.init();
+        });
+    }
+
+    @Benchmark
+    public int turn() {
+        return execution.execute(taskForces);
+    }
+}
@@ -0,0 +1,143 @@
+package enigma.waratsea.benchmark;
+
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.ship.ArmourType;
+import engima.waratsea.model.ship.damage.ComponentSlot;
+import engima.waratsea.model.ship.damage.DamageBatch;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the ship damage store with a graph of one object per ship component, as ships held their components
+ * before the store.
+ *
+ * The build benchmarks measure the memory of each representation. Run them with the gc profiler to see the bytes
+ * allocated per fleet: gradle jmh -Pjmh.include=ShipDamageBenchmark -Pjmh.profilers=gc
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShipDamageBenchmark {
+    private static final int HITS = 1000;
+    private static final int HEALTH = 100_000;
+    private static final int MAX_DAMAGE = 3;
+    private static final int SLOTS = ComponentSlot.values().length;
+
+    /**
+     * A ship component as an object. The component holds its own health.
+     */
+    private static final class ComponentObject {
+        private final int maxHealth;
+        private final ArmourType armour;
+        private int health;
+
+        ComponentObject(final int health, final ArmourType armour) {
+            this.maxHealth = health;
+            this.health = health;
+            this.armour = armour;
+        }
+    }
+
+    /**
+     * A ship as an object that holds one object per component.
+     */
+    private static final class ShipObject {
+        private final ComponentObject[] components = new ComponentObject[SLOTS];
+    }
+
+    @Param({"100", "500", "2000"})
+    private int ships;
+
+    private ShipObject[] fleet;
+    private ShipDamageStore store;
+    private final DamageBatch batch = new DamageBatch();
+
+    private final int[] hitShips = new int[HITS];
+    private final int[] hitSlots = new int[HITS];
+    private final int[] hitAmounts = new int[HITS];
+
+    @Setup
+    public void setup() {
+        fleet = buildObjectGraph();
+        store = buildStore();
+
+        SplittableRandom random = new SplittableRandom(0);
+
+        for (int i = 0; i < HITS; i++) {
+            hitShips[i] = random.nextInt(ships);
+            hitSlots[i] = random.nextInt(SLOTS);
+            hitAmounts[i] = random.nextInt(MAX_DAMAGE) + 1;
+            batch.add(store.getCell(hitShips[i], ComponentSlot.values()[hitSlots[i]]), hitAmounts[i]);
+        }
+    }
+
+    @Benchmark
+    public ShipObject[] buildObjectGraph() {
+        ShipObject[] graph = new ShipObject[ships];
+
+        for (int ship = 0; ship < ships; ship++) {
+            graph[ship] = new ShipObject();
+
+            for (int slot = 0; slot < SLOTS; slot++) {
+                graph[ship].components[slot] = new ComponentObject(HEALTH, ArmourType.LIGHT);
+            }
+        }
+
+        return graph;
+    }
+
+    @Benchmark
+    public ShipDamageStore buildStore() {
+        ShipDamageStore fleetStore = new ShipDamageStore();
+
+        for (int ship = 0; ship < ships; ship++) {
+            int row = fleetStore.allocate();
+
+            for (ComponentSlot slot : ComponentSlot.values()) {
+                fleetStore.init(fleetStore.getCell(row, slot), HEALTH, HEALTH, ArmourType.LIGHT);
+            }
+        }
+
+        return fleetStore;
+    }
+
+    @Benchmark
+    public int damageObjectGraph() {
+        int knockedOut = 0;
+
+        for (int i = 0; i < HITS; i++) {
+            ComponentObject component = fleet[hitShips[i]].components[hitSlots[i]];
+
+            if (component.health > 0) {
+                component.health = Math.max(component.health - hitAmounts[i], 0);
+
+                if (component.health == 0) {
+                    knockedOut++;
+                }
+            }
+        }
+
+        return knockedOut;
+    }
+
+    @Benchmark
+    public int damageStore() {
+        return store.apply(batch, AssetType.SUB);
+    }
+}
@@ -62,6 +62,7 @@ public class AirOperations {
 
         stats.put("On take-off", rules.getProbabilityCrash(airbaseType, SquadronAction.TAKE_OFF));
         stats.put("On landing", rules.getProbabilityCrash(airbaseType, SquadronAction.LAND));
+        stats.put("On landing next turn", rules.getExpectedProbabilityCrash(airbaseType, SquadronAction.LAND, 1));
 
         return stats;
     }
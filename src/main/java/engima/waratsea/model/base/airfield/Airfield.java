@@ -22,6 +22,7 @@ import engima.waratsea.model.base.airfield.patrol.Patrols;
 import engima.waratsea.model.base.airfield.squadron.Squadrons;
 import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.operations.OperationsLog;
 import engima.waratsea.model.map.GameGrid;
 import engima.waratsea.model.map.GameMap;
 import engima.waratsea.model.map.region.Region;
@@ -41,7 +42,6 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 /**
  * Represents airfield's in the game.
@@ -52,6 +52,7 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
     private static final int AA_HIT = 6;
 
     private final Provider<PatrolGroups> patrolGroupsProvider;
+    private PatrolGroups patrolGroups;              // Rebuilt only when a patrol changes.
 
     @Getter private final Side side;
     @Getter private final String name;              // unique id.
@@ -74,6 +75,7 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
     private final AirOperations airOperations;
     private final GameMap gameMap;
     private final Dice dice;
+    private final OperationsLog operationsLog;
 
     /**
      * Constructor called by guice.
@@ -86,6 +88,7 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
      * @param airOperations air operations utility.
      * @param gameMap The game map.
      * @param dice The dice utility.
+     * @param operationsLog The game operations log.
      */
     //CHECKSTYLE:OFF
     @Inject
@@ -96,7 +99,8 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
                     final Patrols patrols,
                     final AirOperations airOperations,
                     final GameMap gameMap,
-                    final Dice dice) {
+                    final Dice dice,
+                    final OperationsLog operationsLog) {
     //CHECKSTYLE:ON
         this.patrolGroupsProvider = patrolGroupsProvider;
 
@@ -106,6 +110,7 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
         this.airOperations = airOperations;
         this.gameMap = gameMap;
         this.dice = dice;
+        this.operationsLog = operationsLog;
 
         this.side = data.getSide();
         name = data.getName();
@@ -113,7 +118,7 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
         landingType = data.getLandingType();
         airbaseType = determineType();
         maxCapacity = data.getMaxCapacity();
-        capacity = maxCapacity;
+        capacity = Optional.ofNullable(data.getCapacity()).orElse(maxCapacity);   // A saved game may have a damaged airfield.
         antiAirRating = data.getAntiAir();
         reference = data.getLocation();
 
@@ -468,6 +473,16 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
         return squadrons.getStepsForType(type);
     }
 
+    /**
+     * Get the number of aircraft of the given nation stationed at this airfield.
+     *
+     * @param nation The nation: BRITISH, ITALIAN, etc...
+     * @return The number of aircraft of the given nation based at this airfield.
+     */
+    public int getAircraftNumber(final Nation nation) {
+        return squadrons.getAircraftNumber(nation);
+    }
+
     /**
      * The String representation of the airfield.
      *
@@ -532,14 +547,19 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
     /**
      * Get the airbase patrol groups. For airfields the patrol groups are simply the collection
      * of airbase patrols. Essentially, that data in the PatrolGroups == the data in the Patrols.
+     * The groups are kept and only rebuilt when one of the airfield's patrols changes.
      *
      * @return The airbase's patrol groups.
      */
     @Override
     public PatrolGroups getPatrolGroups() {
-        return patrolGroupsProvider
-                .get()
-                .build(this);
+        if (patrolGroups == null || !patrolGroups.isCurrent()) {
+            patrolGroups = patrolGroupsProvider
+                    .get()
+                    .build(this);
+        }
+
+        return patrolGroups;
     }
 
     /**
@@ -596,11 +616,10 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
      * @param enemySquadrons The enemy squadrons that attack this airfield.
      */
     public void fireAntiAir(final MissionSquadrons enemySquadrons) {
-        int numTurnedAwaySteps = (int) IntStream
-                .range(1, antiAirRating + 1)
-                .map(this::antiAirGunFires)        // Each gun fires.
-                .filter(value -> value >= AA_HIT)  // Determine if the gun hit.
-                .count();
+        // Each gun fires. A gun hits if its modified roll is at least the hit value.
+        int numTurnedAwaySteps = dice.countRollsAtLeast(antiAirRating, AA_HIT - AA_MODIFIER);
+
+        operationsLog.combat(name, "anti-air", antiAirRating, numTurnedAwaySteps);
 
         enemySquadrons.resolveAntiAir(numTurnedAwaySteps);
     }
@@ -614,12 +633,12 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
     private boolean determineRoom(final Squadron squadron) {
         int steps = squadron.getSteps();
 
-        boolean result = steps + deployedSteps() <= maxCapacity;
+        boolean result = steps + deployedSteps() <= capacity;  // Bombardment damage reduces the capacity.
 
         log.debug("Airfield: '{}' has room result: {}", name, result);
 
         if (!result) {
-            log.warn("Airfield: '{}' has max capacity: {} and current capacity: {}", new Object[]{name, maxCapacity, deployedSteps()});
+            log.warn("Airfield: '{}' has capacity: {} and deployed steps: {}", new Object[]{name, capacity, deployedSteps()});
         }
 
         return result;
@@ -647,14 +666,6 @@ public class Airfield implements Asset, Airbase, AirbaseGroup, PersistentData<Ai
         return landingType.contains(LandingType.LAND) ? AirbaseType.LAND : AirbaseType.SEAPLANE;
     }
 
-    private int antiAirGunFires(final int gunNumber) {
-        int result = dice.roll() + AA_MODIFIER;
-
-        log.info("AA gun: '{}' fired: '{}'", gunNumber, result);
-
-        return result;
-    }
-
     /**
      * Compares this object with the specified object for order.  Returns a
      * negative integer, zero, or a positive integer as this object is less
@@ -21,7 +21,7 @@ public class AirfieldData {
     private List<LandingType> landingType;
     private Region region;
     private int maxCapacity;   //Capacity in steps.
-    private int capacity;
+    private Integer capacity;  //Capacity in steps. Not present for a new game, where the capacity is the max capacity.
     private int antiAir;
     private String location;
     private SquadronsData squadronsData; //squadrons stationed at the airfield.
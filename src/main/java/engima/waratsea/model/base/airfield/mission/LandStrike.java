@@ -154,8 +154,8 @@ public class LandStrike extends AirMissionExecutor implements AirMission  {
         int distance = targetAirbase.getDistance(airbase);
         int roundTrip = distance * 2;
 
-        turnsToTarget = getTurnsToDistance(distance);
-        turnsToHome = getTurnsToDistance(roundTrip);
+        turnsToTarget = MissionTurns.getTurnsToDistance(distance, range);
+        turnsToHome = MissionTurns.getTurnsToDistance(roundTrip, range);
 
         missionPath.start(airbase, targetAirbase);
         squadrons.takeOff();
@@ -193,7 +193,7 @@ public class LandStrike extends AirMissionExecutor implements AirMission  {
         // Get the distance to the original airbase from current grid.
         int distance = missionPath.getDistanceToEnd();
 
-        turnsToHome = getTurnsToDistance(distance);
+        turnsToHome = MissionTurns.getTurnsToDistance(distance, range);
         turnsToTarget = -1; // This should not be used anymore. Set it to an invalid value.
     }
 
@@ -431,13 +431,15 @@ public class LandStrike extends AirMissionExecutor implements AirMission  {
 
     /**
      * Get the land strike modifier for the given squadron. This modifier includes the global game
-     * land attack modifiers. An example of a global game modifier is the current weather conditions.
+     * land attack modifiers. An example of a global game modifier is the weather conditions. The
+     * weather is forecast for the turn the mission reaches its target.
      *
      * @param squadron The squadron for which the land attack modifier is obtained.
      * @return The squadron's land attack modifier, including any global game land attack modifiers.
      */
     private double getLandAttackProbability(final Squadron squadron) {
-        return squadron.getHitIndividualProbability(AttackType.LAND, getTarget(), rules.getModifier());
+        int turns = MissionTurns.getTurnsUntilTarget(this, turnsToTarget, startTurn != 0);
+        return rules.getExpected(turns, modifier -> squadron.getHitIndividualProbability(AttackType.LAND, getTarget(), modifier));
     }
 
     /**
@@ -449,8 +451,4 @@ public class LandStrike extends AirMissionExecutor implements AirMission  {
     private int getFactor(final Squadron squadron) {
         return squadron.getAttack(AttackType.LAND).getFactor();
     }
-
-    private int getTurnsToDistance(final int distance) {
-        return (distance / range) + (distance % range > 0 ? 1 : 0);
-    }
 }
@@ -234,8 +234,6 @@ public class MissionSquadrons {
 
                 turnedAwaySet.add(squadron);
 
-                log.debug("Turn away: '{}'", squadron.getName());
-
                 if (squadron.isNotEffective()) {
                     // Remove the squadron so it cannot be turned away again.
                     // It is already fully turned away.
@@ -246,6 +244,8 @@ public class MissionSquadrons {
 
         turnedAway.clear();
         turnedAway.addAll(turnedAwaySet);
+
+        log.debug("Turn away: {} steps from squadrons: '{}'", numStepsToTurnAway, turnedAwaySet.stream().map(Squadron::getName).collect(Collectors.joining(",")));
     }
 
     /**
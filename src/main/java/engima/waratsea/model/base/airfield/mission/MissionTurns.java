@@ -0,0 +1,49 @@
+package engima.waratsea.model.base.airfield.mission;
+
+/**
+ * Computes how many game turns an air mission takes to fly its distances. A mission flies the range of its
+ * squadrons each turn.
+ */
+public final class MissionTurns {
+    /**
+     * Private constructor for utility class.
+     */
+    private MissionTurns() {
+    }
+
+    /**
+     * Get the number of turns it takes to fly the given distance.
+     *
+     * @param distance The distance in grids.
+     * @param range The distance flown each turn.
+     * @return The number of turns to fly the distance. A partial turn counts as a whole turn.
+     */
+    public static int getTurnsToDistance(final int distance, final int range) {
+        return (distance / range) + (distance % range > 0 ? 1 : 0);
+    }
+
+    /**
+     * Get the number of turns from now until a mission reaches its target. A mission that has not launched flies
+     * at its squadrons' minimum range.
+     *
+     * @param mission The air mission.
+     * @param turnsToTarget The number of turns a launched mission takes to reach its target. Ignored if the
+     *                      mission has not launched.
+     * @param launched Indicates if the mission has launched.
+     * @return The number of turns until the mission reaches its target. Zero if it reaches its target this turn.
+     */
+    public static int getTurnsUntilTarget(final AirMission mission, final int turnsToTarget, final boolean launched) {
+        if (launched) {
+            return Math.max(turnsToTarget - mission.getElapsedTurns() - 1, 0);
+        }
+
+        int minimumRange = mission.getSquadrons().getMinimumRange();
+
+        if (minimumRange <= 0) {
+            return 0;
+        }
+
+        int distance = mission.getTarget().getDistance(mission.getAirbase());
+        return Math.max(getTurnsToDistance(distance, minimumRange) - 1, 0);
+    }
+}
@@ -6,6 +6,8 @@ import engima.waratsea.model.base.airfield.mission.data.MissionData;
 import engima.waratsea.model.base.airfield.mission.data.MissionsData;
 import engima.waratsea.model.base.airfield.mission.state.AirMissionAction;
 import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.journal.Journal;
+import engima.waratsea.model.game.operations.OperationsLog;
 import engima.waratsea.model.target.Target;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -18,6 +20,8 @@ import java.util.stream.Collectors;
 @Slf4j
 public class Missions {
     private final MissionDAO missionDAO;
+    private final Journal journal;
+    private final OperationsLog operationsLog;
 
     private Airbase airbase;
 
@@ -27,10 +31,16 @@ public class Missions {
      * Constructor called by guice.
      *
      * @param missionDAO The mission data access object.
+     * @param journal The game journal.
+     * @param operationsLog The game operations log.
      */
     @Inject
-    public Missions(final MissionDAO missionDAO) {
+    public Missions(final MissionDAO missionDAO,
+                    final Journal journal,
+                    final OperationsLog operationsLog) {
         this.missionDAO = missionDAO;
+        this.journal = journal;
+        this.operationsLog = operationsLog;
     }
 
     /**
@@ -87,7 +97,8 @@ public class Missions {
      * @param mission The mission that is added to this airbase.
      */
     public void addMission(final AirMission mission) {
-        log.info("Add mission: '{}'", mission.getId());
+        operationsLog.mission(airbase.getTitle(), mission.getType(), Optional.ofNullable(mission.getTarget()).map(Target::getName).orElse(null), mission.getId());
+        journal.recordMission(airbase, mission);
         missions.add(mission);
         mission.addSquadrons();
         mission.doAction(AirMissionAction.CREATE);
@@ -117,6 +128,7 @@ public class Missions {
      */
     public void clear() {
         log.info("Clear missions for airbase: '{}'", airbase.getTitle());
+        journal.recordClear(airbase);
         missions.forEach(AirMission::removeSquadrons);
         missions.clear();
     }
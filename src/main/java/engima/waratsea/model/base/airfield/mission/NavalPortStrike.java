@@ -126,8 +126,8 @@ public class NavalPortStrike extends AirMissionExecutor implements AirMission {
         int roundTrip = distance * 2;
         int minimumRange = squadrons.getMinimumRange();
 
-        turnsToTarget = (distance / minimumRange) + (distance % minimumRange > 0 ? 1 : 0);
-        turnsToHome = (roundTrip / minimumRange) + (roundTrip % minimumRange > 0 ? 1 : 0);
+        turnsToTarget = MissionTurns.getTurnsToDistance(distance, minimumRange);
+        turnsToHome = MissionTurns.getTurnsToDistance(roundTrip, minimumRange);
 
         squadrons.takeOff();
     }
@@ -374,14 +374,16 @@ public class NavalPortStrike extends AirMissionExecutor implements AirMission {
 
     /**
      * Get the naval strike modifier for the given squadron. This modifier includes the global game
-     * naval attack modifiers. An example of a global game modifier is the current weather conditions.
+     * naval attack modifiers. An example of a global game modifier is the weather conditions. The
+     * weather is forecast for the turn the mission reaches its target.
      *
      * @param attackType The attack type: Warship or Transport.
      * @param squadron The squadron for which the naval attack modifier is obtained.
      * @return The squadron's naval attack modifier, including any global game naval attack modifiers.
      */
     private double getNavalProbability(final AttackType attackType, final Squadron squadron) {
-        return squadron.getHitIndividualProbability(attackType, getTarget(), rules.getModifier() + PORT_MODIFIER);
+        int turns = MissionTurns.getTurnsUntilTarget(this, turnsToTarget, startTurn != 0);
+        return rules.getExpected(turns, modifier -> squadron.getHitIndividualProbability(attackType, getTarget(), modifier + PORT_MODIFIER));
     }
 
     /**
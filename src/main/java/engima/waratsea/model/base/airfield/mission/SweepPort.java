@@ -127,8 +127,8 @@ public class SweepPort extends AirMissionExecutor implements AirMission {
         int roundTrip = distance * 2;
         int minimumRange = squadrons.getMinimumRange();
 
-        turnsToTarget = (distance / minimumRange) + (distance % minimumRange > 0 ? 1 : 0);
-        turnsToHome = (roundTrip / minimumRange) + (roundTrip % minimumRange > 0 ? 1 : 0);
+        turnsToTarget = MissionTurns.getTurnsToDistance(distance, minimumRange);
+        turnsToHome = MissionTurns.getTurnsToDistance(roundTrip, minimumRange);
 
         squadrons.takeOff();
     }
@@ -285,13 +285,16 @@ public class SweepPort extends AirMissionExecutor implements AirMission {
     }
 
     /**
-     * Build the probability that the sweep successfully intercepts the CAP over the target.
+     * Build the probability that the sweep successfully intercepts the CAP over the target. The weather is
+     * forecast for the turn the mission reaches its target.
      *
      * @return A fixed map that indicates the chance of successfully intercepting the CAP.
      */
     private Map<String, Integer> buildProbabilityIntercept() {
         Map<String, Integer> prob = new HashMap<>();
-        prob.put("CAP", dice.probabilityPercentage(INTERCEPT_FACTOR + rules.getModifier(), 1));
+        int turns = MissionTurns.getTurnsUntilTarget(this, turnsToTarget, startTurn != 0);
+        double intercept = rules.getExpected(turns, modifier -> dice.probabilityPercentage(INTERCEPT_FACTOR + modifier, 1));
+        prob.put("CAP", (int) Math.round(intercept));
         return prob;
     }
 
@@ -1,14 +1,63 @@
 package engima.waratsea.model.base.airfield.mission.rules;
 
+import engima.waratsea.model.weather.Weather;
+import engima.waratsea.model.weather.WeatherForecast;
+import engima.waratsea.model.weather.WeatherType;
+
 import java.util.Map;
+import java.util.function.IntToDoubleFunction;
 
 public interface MissionAirRules {
     /**
-     * Get the mission air rule modifier.
+     * Get the weather.
+     *
+     * @return The weather.
+     */
+    Weather getWeather();
+
+    /**
+     * Get the mission air rule modifier for the current weather.
+     *
+     * @return The mission air rule modifier.
+     */
+    default int getModifier() {
+        return getModifier(getWeather().getCurrent());
+    }
+
+    /**
+     * Get the mission air rule modifier for the given weather.
      *
+     * @param weatherType The weather type.
      * @return The mission air rule modifier.
      */
-    int getModifier();
+    int getModifier(WeatherType weatherType);
+
+    /**
+     * Get the forecast of the weather the given number of turns from now.
+     *
+     * @param horizon The number of turns from now.
+     * @return The weather forecast.
+     */
+    default WeatherForecast getForecast(final int horizon) {
+        return getWeather().getForecast(horizon);
+    }
+
+    /**
+     * Get the expected value of a mission probability that depends upon the mission air rule modifier. A mission
+     * that reaches its target this turn uses the current weather. A mission that reaches its target in a later turn
+     * weights the probability of each forecast weather.
+     *
+     * @param horizon The number of turns from now until the mission reaches its target.
+     * @param probability Maps a mission air rule modifier to the mission probability.
+     * @return The expected mission probability.
+     */
+    default double getExpected(final int horizon, final IntToDoubleFunction probability) {
+        if (horizon <= 0) {
+            return probability.applyAsDouble(getModifier());
+        }
+
+        return getForecast(horizon).getExpected(weatherType -> probability.applyAsDouble(getModifier(weatherType)));
+    }
 
     /**
      * Determine if the mission is affected by the current weather.
@@ -3,6 +3,7 @@ package engima.waratsea.model.base.airfield.mission.rules;
 import com.google.inject.Inject;
 import engima.waratsea.model.weather.Weather;
 import engima.waratsea.model.weather.WeatherType;
+import lombok.Getter;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -12,7 +13,7 @@ import java.util.Map;
  */
 public class MissionAirStrikeRules implements MissionAirRules {
     private final Map<WeatherType, Integer> weatherModifier;
-    private final Weather weather;
+    @Getter private final Weather weather;
 
     /**
      * Constructor called by guice.
@@ -36,13 +37,14 @@ public class MissionAirStrikeRules implements MissionAirRules {
     }
 
     /**
-     * Get the land attack modifier based on the current weather.
+     * Get the land attack modifier based on the given weather.
      *
-     * @return The land attack modifier based on the current weather.
+     * @param weatherType The weather type.
+     * @return The land attack modifier based on the given weather.
      */
     @Override
-    public int getModifier() {
-        return weatherModifier.get(weather.getCurrent());
+    public int getModifier(final WeatherType weatherType) {
+        return weatherModifier.get(weatherType);
     }
 
     /**
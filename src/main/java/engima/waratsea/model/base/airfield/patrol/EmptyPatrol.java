@@ -19,6 +19,7 @@ public class EmptyPatrol implements Patrol {
     @Getter private final PatrolType type;
     @Getter private final Airbase airbase;               //The airbase from which the patrol is flown.
     @Getter private final int maxRadius = 0;
+    @Getter private final int version = 0;
 
     EmptyPatrol(final PatrolType type, final Airbase airbase) {
         this.type = type;
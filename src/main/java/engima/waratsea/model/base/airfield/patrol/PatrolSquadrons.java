@@ -3,7 +3,9 @@ package engima.waratsea.model.base.airfield.patrol;
 import engima.waratsea.model.base.Airbase;
 import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronListener;
 import engima.waratsea.model.squadron.state.SquadronAction;
+import lombok.Getter;
 
 import java.util.Collections;
 import java.util.List;
@@ -13,8 +15,9 @@ import java.util.stream.Collectors;
 /**
  * A utility class for handling patrol squadrons.
  */
-public class PatrolSquadrons {
+public class PatrolSquadrons implements SquadronListener {
     private List<Squadron> squadrons;   //The squadrons that are on this patrol.
+    @Getter private int version;        //Changes whenever a squadron joins, leaves or changes.
 
     /**
      * Set the squadrons for this patrol.
@@ -30,6 +33,9 @@ public class PatrolSquadrons {
                 .map(airbase::getSquadron)
                 .collect(Collectors.toList());
 
+        squadrons.forEach(squadron -> squadron.addListener(this));
+        version++;
+
         return getMaxRadius();
     }
 
@@ -110,6 +116,8 @@ public class PatrolSquadrons {
      */
     public int add(final Squadron squadron) {
         squadrons.add(squadron);
+        squadron.addListener(this);
+        version++;
         return getMaxRadius();
     }
 
@@ -120,7 +128,10 @@ public class PatrolSquadrons {
      * @return The new maximum radius of this patrol.
      */
     public int remove(final Squadron squadron) {
-        squadrons.remove(squadron);
+        if (squadrons.remove(squadron)) {
+            squadron.removeListener(this);
+            version++;
+        }
         return getMaxRadius();
     }
 
@@ -152,7 +163,9 @@ public class PatrolSquadrons {
      * @return The new maximum radius of this patrol: 0.
      */
     public int clear() {
+        squadrons.forEach(squadron -> squadron.removeListener(this));
         squadrons.clear();
+        version++;
         return 0;
     }
 
@@ -164,10 +177,22 @@ public class PatrolSquadrons {
      */
     public int clear(final Nation nation) {
         List<Squadron> toRemove = get(nation);
+        toRemove.forEach(squadron -> squadron.removeListener(this));
         squadrons.removeAll(toRemove);
+        version++;
         return getMaxRadius();
     }
 
+    /**
+     * A squadron on this patrol has changed strength or state.
+     *
+     * @param squadron The changed squadron.
+     */
+    @Override
+    public void squadronChanged(final Squadron squadron) {
+        version++;
+    }
+
     /**
      * Get the maximum radius from the squadron on this patrol.
      *
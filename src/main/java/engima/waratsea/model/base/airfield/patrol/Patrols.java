@@ -6,6 +6,7 @@ import engima.waratsea.model.base.Cap;
 import engima.waratsea.model.base.airfield.patrol.data.PatrolData;
 import engima.waratsea.model.base.airfield.patrol.data.PatrolsData;
 import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.journal.Journal;
 import engima.waratsea.model.squadron.Squadron;
 
 import java.util.HashMap;
@@ -21,16 +22,20 @@ public class Patrols {
     private final Map<PatrolType, Patrol> patrolMap = new HashMap<>();
 
     private final PatrolDAO patrolDAO;
+    private final Journal journal;
     private Airbase airbase;
 
     /**
      * Constructor called by guice.
      *
      * @param patrolDAO Patrol data access object.
+     * @param journal The game journal.
      */
     @Inject
-    public Patrols(final PatrolDAO patrolDAO) {
+    public Patrols(final PatrolDAO patrolDAO,
+                   final Journal journal) {
         this.patrolDAO = patrolDAO;
+        this.journal = journal;
     }
 
     /**
@@ -90,6 +95,8 @@ public class Patrols {
      * @param squadrons The squadrons on the patrol.
      */
     public void update(final PatrolType patrolType, final List<Squadron> squadrons) {
+        journal.recordPatrol(airbase, patrolType, squadrons);
+
         Patrol patrol = patrolMap.get(patrolType);
         squadrons.forEach(patrol::addSquadron);
     }
@@ -141,6 +141,17 @@ public class SearchPatrol implements Patrol {
         return squadrons.get(targetRadius);
     }
 
+    /**
+     * Get the patrol's version. The version changes whenever a squadron joins or leaves the patrol
+     * or a squadron on the patrol changes strength or state.
+     *
+     * @return The patrol's version.
+     */
+    @Override
+    public int getVersion() {
+        return squadrons.getVersion();
+    }
+
     /**
      * Get the patrol's true maximum squadron radius. This is the maximum radius
      * at which the patrol has a greater than 0 % chance to be successful.
@@ -9,6 +9,7 @@ import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.game.Side;
 import engima.waratsea.model.squadron.Squadron;
 import engima.waratsea.model.squadron.SquadronFactory;
+import engima.waratsea.model.squadron.SquadronListener;
 import engima.waratsea.model.squadron.SquadronStrength;
 import engima.waratsea.model.squadron.data.SquadronData;
 import engima.waratsea.model.squadron.state.SquadronState;
@@ -17,12 +18,16 @@ import lombok.Getter;
 import org.apache.commons.collections4.ListUtils;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -31,15 +36,48 @@ import java.util.stream.Stream;
  *
  * It does store the squadrons at an airbase. It is the source of truth regarding squadrons stationed
  * at an airbase.
+ *
+ * The squadrons are indexed by aircraft type, by nation and by nation and state. The number of aircraft
+ * stationed is kept in running totals overall, per aircraft type and per nation. The indexes and totals are
+ * updated when a squadron is added or removed, and when a stationed squadron's strength or state changes.
+ * Thus, step queries are constant time and squadron queries only examine the matching squadrons.
  */
-public class Squadrons {
+public class Squadrons implements SquadronListener {
     @Getter private final List<Squadron> squadrons = new ArrayList<>();
     private final Map<String, Squadron> squadronNameMap = new HashMap<>();
-    private final Map<AircraftType, List<Squadron>> squadronMap = new LinkedHashMap<>();
+    private final Map<AircraftType, Set<Squadron>> squadronMap = new LinkedHashMap<>();
+    private final Map<Nation, Set<Squadron>> nationMap = new EnumMap<>(Nation.class);
+    private final Map<Nation, Map<SquadronState, Set<Squadron>>> nationStateMap = new EnumMap<>(Nation.class);
+
+    private final Map<Squadron, Entry> entries = new HashMap<>();    // What each stationed squadron contributes to the indexes.
+
+    private int totalAircraft;
+    private final Map<AircraftType, Integer> aircraftByType = new EnumMap<>(AircraftType.class);
+    private final Map<Nation, Integer> aircraftByNation = new EnumMap<>(Nation.class);
 
     private final SquadronFactory factory;
     private Airbase airbase;
 
+    /**
+     * What a squadron contributed to the indexes and totals when it was last indexed.
+     */
+    private static final class Entry {
+        private final Squadron squadron;
+        private final SquadronState state;
+        private final int aircraft;
+
+        /**
+         * Constructor.
+         *
+         * @param squadron The indexed squadron.
+         */
+        private Entry(final Squadron squadron) {
+            this.squadron = squadron;
+            this.state = squadron.getState();
+            this.aircraft = squadron.getAircraftNumber();
+        }
+    }
+
     @Inject
     public Squadrons(final SquadronFactory squadronFactory) {
         this.factory = squadronFactory;
@@ -47,7 +85,7 @@ public class Squadrons {
         Stream
                 .of(AircraftType.values())
                 .sorted()
-                .forEach(type -> squadronMap.put(type, new ArrayList<>()));
+                .forEach(type -> squadronMap.put(type, new LinkedHashSet<>()));
     }
 
     /**
@@ -93,7 +131,7 @@ public class Squadrons {
      * @return The squadron list for the given nation.
      */
     public List<Squadron> getSquadrons(final Nation nation) {
-        return filterNation(nation, squadrons);
+        return new ArrayList<>(nationMap.getOrDefault(nation, Collections.emptySet()));
     }
 
     /**
@@ -114,7 +152,7 @@ public class Squadrons {
      * @return A list of squadron for the given nation and given state.
      */
     public List<Squadron> getSquadrons(final Nation nation, final SquadronState state) {
-        return filterNationAndState(nation, state, squadrons);
+        return new ArrayList<>(getIndexed(nation, state));
     }
 
     /**
@@ -124,13 +162,7 @@ public class Squadrons {
      * @return The squadron map keyed by aircraft type for the given nation and given squadron state.
      */
     public Map<AircraftType, List<Squadron>> getSquadronMap(final Nation nation) {
-        return squadronMap
-                .entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> filterNation(nation, entry.getValue()),
-                        (oldList, newList) -> oldList,
-                        LinkedHashMap::new));
+        return groupByType(nationMap.getOrDefault(nation, Collections.emptySet()));
     }
 
     /**
@@ -141,13 +173,7 @@ public class Squadrons {
      * @return The squadron map keyed by aircraft type for the given nation and given squadron state.
      */
     public Map<AircraftType, List<Squadron>> getSquadronMap(final Nation nation, final SquadronState state) {
-        return squadronMap
-                .entrySet()
-                .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
-                        entry -> filterNationAndState(nation, state, entry.getValue()),
-                        (oldList, newList) -> oldList,
-                        LinkedHashMap::new));
+        return groupByType(getIndexed(nation, state));
     }
 
     /**
@@ -156,12 +182,7 @@ public class Squadrons {
      * @return The current number of steps deployed at this airfield.
      */
     public int deployedSteps() {
-        int totalNumberOfAircraft = squadrons
-                .stream()
-                .map(Squadron::getAircraftNumber)
-                .reduce(0, Integer::sum);
-
-        return SquadronStrength.calculateSteps(totalNumberOfAircraft);
+        return SquadronStrength.calculateSteps(totalAircraft);
     }
 
     /**
@@ -170,12 +191,7 @@ public class Squadrons {
      * @return The current number of steps deployed at this airfield.
      */
     public int getCurrentSteps() {
-        int totalNumberOfAircraft = squadrons
-                .stream()
-                .map(Squadron::getAircraftNumber)
-                .reduce(0, Integer::sum);
-
-        return SquadronStrength.calculateSteps(totalNumberOfAircraft);
+        return SquadronStrength.calculateSteps(totalAircraft);
     }
 
     /**
@@ -186,13 +202,17 @@ public class Squadrons {
      * @return The number of steps of aircraft of the given type based at this airfield.
      */
     public int getStepsForType(final AircraftType type) {
-        int totalNumberOfAircraft = squadrons
-                .stream()
-                .filter(squadron -> squadron.getType() == type)
-                .map(Squadron::getAircraftNumber)
-                .reduce(0, Integer::sum);
+        return SquadronStrength.calculateSteps(aircraftByType.getOrDefault(type, 0));
+    }
 
-        return SquadronStrength.calculateSteps(totalNumberOfAircraft);
+    /**
+     * Get the number of aircraft stationed at this airfield for the given nation.
+     *
+     * @param nation The nation: BRITISH, ITALIAN, etc...
+     * @return The number of aircraft of the given nation based at this airfield.
+     */
+    public int getAircraftNumber(final Nation nation) {
+        return aircraftByNation.getOrDefault(nation, 0);
     }
 
     /**
@@ -206,9 +226,9 @@ public class Squadrons {
      * @return A unique list of aircraft that represent the aircraft models present at this airbase.
      */
     public List<Aircraft> getAircraftModelsPresent(final Nation nation) {
-        return squadrons
+        return nationMap
+                .getOrDefault(nation, Collections.emptySet())
                 .stream()
-                .filter(squadron -> squadron.ofNation(nation))
                 .map(Squadron::getAircraft)
                 .collect(Collectors.toMap(Aircraft::getModel, ListUtility::createList, ListUtils::union))
                 .values()
@@ -234,7 +254,7 @@ public class Squadrons {
      * @return True if the given nation has any squadron stationed at this airbase. False otherwise.
      */
     public boolean areSquadronsPresent(final Nation nation) {
-        return squadrons.stream().anyMatch(squadron -> squadron.ofNation(nation));
+        return !nationMap.getOrDefault(nation, Collections.emptySet()).isEmpty();
     }
 
     /**
@@ -244,7 +264,7 @@ public class Squadrons {
      * @return True if the given squadron is stationed at this airbase. False otherwise.
      */
     public boolean isStationed(final Squadron squadron) {
-        return squadrons.contains(squadron);
+        return entries.containsKey(squadron);
     }
 
     /**
@@ -253,14 +273,7 @@ public class Squadrons {
      * @param squadron The squadron to remove.
      */
     public void remove(final Squadron squadron) {
-        squadrons.remove(squadron);
-
-        squadronMap
-                .get(squadron.getType())
-                .remove(squadron);
-
-        squadronNameMap.remove(squadron.getName());
-
+        removeTemporarily(squadron);
         squadron.setHome(null);
     }
 
@@ -270,14 +283,7 @@ public class Squadrons {
      * @param squadron The squadron that is stationed.
      */
     public void add(final Squadron squadron) {
-        squadrons.add(squadron);
-
-        squadronMap
-                .get(squadron.getType())
-                .add(squadron);
-
-        squadronNameMap.put(squadron.getName(), squadron);
-
+        addTemporarily(squadron);
         squadron.setHome(airbase);
     }
 
@@ -289,13 +295,15 @@ public class Squadrons {
      * @param squadron The temporarily added squadron.
      */
     public void addTemporarily(final Squadron squadron) {
-        squadrons.add(squadron);
-
-        squadronMap
-                .get(squadron.getType())
-                .add(squadron);
+        if (entries.containsKey(squadron)) {
+            return;                                      // The squadron is already stationed here.
+        }
 
+        squadrons.add(squadron);
         squadronNameMap.put(squadron.getName(), squadron);
+
+        index(squadron);
+        squadron.addListener(this);
     }
 
     /**
@@ -306,13 +314,17 @@ public class Squadrons {
      * @param squadron The temporarily removed squadron.
      */
     public void removeTemporarily(final Squadron squadron) {
-        squadrons.remove(squadron);
+        Entry entry = entries.get(squadron);
 
-        squadronMap
-                .get(squadron.getType())
-                .remove(squadron);
+        if (entry == null) {
+            return;                                      // The squadron is not stationed here.
+        }
 
+        squadrons.remove(squadron);
         squadronNameMap.remove(squadron.getName());
+
+        unIndex(entry);
+        entry.squadron.removeListener(this);
     }
 
     /**
@@ -321,44 +333,129 @@ public class Squadrons {
      * @param nation The nation BRITISH, ITALIAN, etc...
      */
     public void clear(final Nation nation) {
-        List<Squadron> toBeRemoved = getSquadrons(nation);
-        squadrons.removeAll(toBeRemoved);
+        getSquadrons(nation).forEach(this::removeTemporarily);
+    }
 
-        toBeRemoved
-                .stream()
-                .peek(squadron -> squadronMap.get(squadron.getType()).remove(squadron))
-                .map(Squadron::getName)
-                .forEach(squadronNameMap::remove);
+    /**
+     * A stationed squadron's strength or state has changed. Update the state index and the aircraft totals.
+     *
+     * @param squadron The changed squadron.
+     */
+    @Override
+    public void squadronChanged(final Squadron squadron) {
+        Entry entry = entries.get(squadron);
+
+        if (entry == null || entry.squadron != squadron) {
+            return;
+        }
+
+        Entry updated = new Entry(squadron);
+        entries.put(squadron, updated);
+
+        Nation nation = squadron.getNation();
+
+        if (updated.state != entry.state) {
+            getStateSet(nation, entry.state).remove(squadron);
+            getStateSet(nation, updated.state).add(squadron);
+        }
+
+        updateTotals(nation, squadron.getType(), updated.aircraft - entry.aircraft);
     }
 
+    /**
+     * Add the given squadron to the indexes and totals.
+     *
+     * @param squadron The squadron.
+     */
+    private void index(final Squadron squadron) {
+        Entry entry = new Entry(squadron);
+        entries.put(squadron, entry);
+
+        Nation nation = squadron.getNation();
+        AircraftType type = squadron.getType();
+
+        squadronMap.get(type).add(squadron);
+        nationMap.computeIfAbsent(nation, key -> new LinkedHashSet<>()).add(squadron);
+        getStateSet(nation, entry.state).add(squadron);
+
+        updateTotals(nation, type, entry.aircraft);
+    }
 
     /**
-     * Filter the given squadrons by nation.
+     * Remove the given squadron from the indexes and totals. The squadron's contribution when it
+     * was last indexed is removed.
      *
-     * @param nation A nation.
-     * @param squadronList A list of squadrons.
-     * @return A list of squadrons that are owned by the given nation.
+     * @param entry The squadron's index entry.
      */
-    private List<Squadron> filterNation(final Nation nation, final List<Squadron> squadronList) {
-        return squadronList
-                .stream()
-                .filter(squadron -> squadron.ofNation(nation))
-                .collect(Collectors.toList());
+    private void unIndex(final Entry entry) {
+        Squadron squadron = entry.squadron;
+        entries.remove(squadron);
+
+        Nation nation = squadron.getNation();
+        AircraftType type = squadron.getType();
+
+        squadronMap.get(type).remove(squadron);
+        nationMap.get(nation).remove(squadron);
+        getStateSet(nation, entry.state).remove(squadron);
+
+        updateTotals(nation, type, -entry.aircraft);
     }
 
     /**
-     * Filter the given squadrons by nation and state.
+     * Get the index set of the squadrons of the given nation at the given state.
      *
      * @param nation The nation.
-     * @param state A squadron state.
-     * @param squadronsOfType A list of squadrons of a particular type.
-     * @return A list of squadrons that are at the given state for the given nation.
+     * @param state The squadron state.
+     * @return The index set.
      */
-    private List<Squadron> filterNationAndState(final Nation nation, final SquadronState state, final List<Squadron> squadronsOfType) {
-        return squadronsOfType
-                .stream()
-                .filter(squadron -> squadron.ofNation(nation))
-                .filter(squadron -> squadron.isAtState(state))
-                .collect(Collectors.toList());
+    private Set<Squadron> getStateSet(final Nation nation, final SquadronState state) {
+        return nationStateMap
+                .computeIfAbsent(nation, key -> new EnumMap<>(SquadronState.class))
+                .computeIfAbsent(state, key -> new LinkedHashSet<>());
+    }
+
+    /**
+     * Update the running aircraft totals.
+     *
+     * @param nation The nation of the aircraft.
+     * @param type The type of the aircraft.
+     * @param aircraft The number of aircraft added. Negative if aircraft are removed.
+     */
+    private void updateTotals(final Nation nation, final AircraftType type, final int aircraft) {
+        totalAircraft += aircraft;
+        aircraftByType.merge(type, aircraft, Integer::sum);
+        aircraftByNation.merge(nation, aircraft, Integer::sum);
+    }
+
+    /**
+     * Get the indexed squadrons of the given nation at the given state.
+     *
+     * @param nation The nation.
+     * @param state The squadron state. ALL selects every state.
+     * @return The indexed squadrons of the given nation at the given state.
+     */
+    private Set<Squadron> getIndexed(final Nation nation, final SquadronState state) {
+        if (state == SquadronState.ALL) {
+            return nationMap.getOrDefault(nation, Collections.emptySet());
+        }
+
+        return nationStateMap
+                .getOrDefault(nation, Collections.emptyMap())
+                .getOrDefault(state, Collections.emptySet());
+    }
+
+    /**
+     * Group the given squadrons by aircraft type. Every aircraft type is present in the returned map.
+     *
+     * @param squadronsToGroup The squadrons.
+     * @return The squadron map keyed by aircraft type.
+     */
+    private Map<AircraftType, List<Squadron>> groupByType(final Collection<Squadron> squadronsToGroup) {
+        Map<AircraftType, List<Squadron>> grouped = new LinkedHashMap<>();
+        squadronMap.keySet().forEach(type -> grouped.put(type, new ArrayList<>()));
+
+        squadronsToGroup.forEach(squadron -> grouped.get(squadron.getType()).add(squadron));
+
+        return grouped;
     }
 }
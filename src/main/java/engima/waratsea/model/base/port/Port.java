@@ -21,10 +21,17 @@ import java.util.Optional;
  * Represents a port within the game.
  */
 public class Port implements Asset, Base, PersistentData<PortData> {
+    public static final String MAJOR = "MAJOR";
+    public static final int MAJOR_UNLOAD_CAPACITY = 12;   // The cargo a major port can unload a turn, in thirds of a game unit.
+    public static final int MINOR_UNLOAD_CAPACITY = 6;    // The cargo a minor port can unload a turn, in thirds of a game unit.
+    public static final int MINIMUM_UNLOAD_CAPACITY = 1;  // A bombarded port can always unload some cargo.
+
     @Getter private final Side side;
     @Getter private final String name;
     @Getter private final String size;
     @Getter private final int antiAirRating;
+    @Getter private int damage;      // The damage taken from shore bombardment.
+    @Getter private int cargo;       // The cargo unloaded at this port.
 
     @Getter
     private final String reference; // A simple string is used to prevent circular logic on mapping names and references.
@@ -48,6 +55,8 @@ public class Port implements Asset, Base, PersistentData<PortData> {
         size = data.getSize();
         antiAirRating = data.getAntiAir();
         reference = data.getLocation();
+        damage = data.getDamage();
+        cargo = data.getCargo();
 
         this.gameMap = gameMap;
     }
@@ -63,6 +72,8 @@ public class Port implements Asset, Base, PersistentData<PortData> {
        data.setName(name);
        data.setSize(size);
        data.setLocation(reference);
+       data.setDamage(damage);
+       data.setCargo(cargo);
        return data;
     }
 
@@ -113,6 +124,34 @@ public class Port implements Asset, Base, PersistentData<PortData> {
         return !taskForces.isEmpty();
     }
 
+    /**
+     * The port is hit by shore bombardment.
+     *
+     * @param hits The number of bombardment hits.
+     */
+    public void bombard(final int hits) {
+        damage += hits;
+    }
+
+    /**
+     * Get the cargo this port can unload in a turn. Each point of bombardment damage reduces the port's capacity.
+     *
+     * @return The cargo this port can unload in a turn, in thirds of a game unit.
+     */
+    public int getUnloadCapacity() {
+        int capacity = MAJOR.equals(size) ? MAJOR_UNLOAD_CAPACITY : MINOR_UNLOAD_CAPACITY;
+        return Math.max(capacity - damage, MINIMUM_UNLOAD_CAPACITY);
+    }
+
+    /**
+     * Cargo is unloaded at this port.
+     *
+     * @param amount The amount of cargo unloaded.
+     */
+    public void unload(final int amount) {
+        cargo += amount;
+    }
+
     /**
      * Get the title of the asset that is displayed on the GUI.
      *
@@ -15,4 +15,6 @@ public class PortData {
     private String size;
     private int antiAir;
     private String location;
+    private int damage;
+    private int cargo;
 }
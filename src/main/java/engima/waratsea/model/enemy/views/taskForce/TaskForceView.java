@@ -4,6 +4,9 @@ import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import engima.waratsea.model.PersistentData;
 import engima.waratsea.model.enemy.views.taskForce.data.TaskForceViewData;
+import engima.waratsea.model.enemy.visibility.SideVisibility;
+import engima.waratsea.model.enemy.visibility.Visibility;
+import engima.waratsea.model.game.Side;
 import engima.waratsea.model.map.GameGrid;
 import engima.waratsea.model.taskForce.TaskForce;
 import lombok.Getter;
@@ -20,15 +23,20 @@ public class TaskForceView implements PersistentData<TaskForceViewData> {
     @Setter
     private boolean spotted;
 
+    private final Visibility visibility;
+
     /**
      * Constructor called by guice.
      *
      * @param data The task force view data read in from JSON or created from mission data.
+     * @param visibility The fog-of-war visibility.
      */
     @Inject
-    public TaskForceView(@Assisted final TaskForceViewData data) {
+    public TaskForceView(@Assisted final TaskForceViewData data,
+                                   final Visibility visibility) {
         this.enemyTaskForce = data.getTaskForce();
         this.spotted = false;
+        this.visibility = visibility;
     }
 
     /**
@@ -67,6 +75,28 @@ public class TaskForceView implements PersistentData<TaskForceViewData> {
         return enemyTaskForce.getGrid();
     }
 
+    /**
+     * Determine if the task force's current grid is sighted this turn by the viewing side.
+     *
+     * @return True if the task force's grid is sighted. False otherwise.
+     */
+    public boolean isSighted() {
+        return getGrid()
+                .map(grid -> visibility.isSighted(getViewingSide(), grid))
+                .orElse(false);
+    }
+
+    /**
+     * Get the number of turns since the viewing side last sighted the task force's current grid.
+     *
+     * @return The age in turns of the last known position. SideVisibility.NOT_KNOWN if the grid is not known.
+     */
+    public int getLastKnownAge() {
+        return getGrid()
+                .map(grid -> visibility.getAge(getViewingSide(), grid))
+                .orElse(SideVisibility.NOT_KNOWN);
+    }
+
     /**
      * Get the persistent data.
      *
@@ -78,4 +108,13 @@ public class TaskForceView implements PersistentData<TaskForceViewData> {
         data.setName(enemyTaskForce.getName());
         return data;
     }
+
+    /**
+     * Get the side that views the enemy task force.
+     *
+     * @return The viewing side.
+     */
+    private Side getViewingSide() {
+        return enemyTaskForce.getSide().opposite();
+    }
 }
@@ -5,6 +5,7 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import engima.waratsea.model.base.BaseId;
 import engima.waratsea.model.enemy.views.taskForce.data.TaskForceViewData;
+import engima.waratsea.model.enemy.visibility.Visibility;
 import engima.waratsea.model.game.Resource;
 import engima.waratsea.model.game.Side;
 import engima.waratsea.model.scenario.Scenario;
@@ -30,27 +31,37 @@ public class TaskForceViewDAO {
 
     private final Resource resource;
     private final TaskForceViewFactory factory;
+    private final Visibility visibility;
 
     /**
      * Constructor called by guice.
      *
      * @param resource The game resource configuration.
      * @param factory The task force view factory.
+     * @param visibility The fog-of-war visibility.
      */
     @Inject
     public TaskForceViewDAO(final Resource resource,
-                            final TaskForceViewFactory factory) {
+                            final TaskForceViewFactory factory,
+                            final Visibility visibility) {
         this.resource = resource;
         this.factory = factory;
+        this.visibility = visibility;
     }
 
     /**
-     * Load the task force view.
+     * Load the task force view. The viewing side's visibility is loaded along with its views.
      *
      * @param enemyTaskForces A list of task forces.
      * @return A list of enemy task force views.
      */
     public List<TaskForceView> load(final List<TaskForce> enemyTaskForces) {
+        enemyTaskForces
+                .stream()
+                .findFirst()
+                .map(taskForce -> taskForce.getSide().opposite())
+                .ifPresent(visibility::load);
+
         return  resource.isNew() ? getNew(enemyTaskForces) : getExisting(enemyTaskForces);
     }
 
@@ -68,6 +79,8 @@ public class TaskForceViewDAO {
             PersistentUtility.save(fileName, taskForceView);
             log.debug("Saving task force view: '{}'", taskForceView.getName());
         });
+
+        visibility.save(scenario, side);
     }
 
     /**
@@ -0,0 +1,115 @@
+package engima.waratsea.model.enemy.views.taskForce;
+
+import engima.waratsea.model.map.GameGrid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A spatial index of enemy task force views. The game map is divided into square buckets of
+ * game grids. Each enemy task force view is placed in the bucket that contains its game grid.
+ *
+ * This allows a searcher to find the enemy task forces near a given game grid by only examining
+ * the buckets that overlap the searcher's radius, instead of every enemy task force on the map.
+ */
+public class TaskForceViewIndex {
+    private static final int BUCKET_SIZE = 4;           // The number of grid rows and columns in a bucket.
+    private static final int BUCKET_KEY_FACTOR = 1000;  // Larger than the number of bucket columns of any map.
+
+    private final Map<Integer, List<TaskForceView>> buckets = new HashMap<>();
+    private final Map<TaskForceView, GameGrid> grids = new HashMap<>();
+
+    /**
+     * Add a task force view to the index.
+     *
+     * @param view The enemy task force view.
+     * @param grid The game grid of the enemy task force.
+     */
+    public void add(final TaskForceView view, final GameGrid grid) {
+        grids.put(view, grid);
+
+        buckets
+                .computeIfAbsent(getKey(toBucket(grid.getRow()), toBucket(grid.getColumn())), key -> new ArrayList<>())
+                .add(view);
+    }
+
+    /**
+     * Get the game grid of an indexed task force view.
+     *
+     * @param view The enemy task force view.
+     * @return The game grid of the task force view when it was indexed.
+     */
+    public GameGrid getGrid(final TaskForceView view) {
+        return grids.get(view);
+    }
+
+    /**
+     * Determine if the index contains any task force views.
+     *
+     * @return True if the index is empty. False otherwise.
+     */
+    public boolean isEmpty() {
+        return grids.isEmpty();
+    }
+
+    /**
+     * Get the task force views that may be within the given radius of the given game grid. The returned
+     * candidates are all located within the square of grids that bounds the given radius. The caller must
+     * still determine the exact distance of each candidate.
+     *
+     * Note, the game map distance between two grids is never less than either the row or the column
+     * difference of the two grids. Thus, the bounding square always contains every grid within the radius.
+     *
+     * @param center The game grid at the center of the search.
+     * @param radius The search radius in grids.
+     * @return The task force views that are candidates for being within the given radius.
+     */
+    public List<TaskForceView> getCandidates(final GameGrid center, final int radius) {
+        if (grids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int minRow = toBucket(center.getRow() - radius);
+        int maxRow = toBucket(center.getRow() + radius);
+        int minColumn = toBucket(center.getColumn() - radius);
+        int maxColumn = toBucket(center.getColumn() + radius);
+
+        List<TaskForceView> candidates = new ArrayList<>();
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                List<TaskForceView> views = buckets.get(getKey(row, column));
+
+                if (views != null) {
+                    candidates.addAll(views);
+                }
+            }
+        }
+
+        return candidates;
+    }
+
+    /**
+     * Convert a grid row or column into a bucket row or column.
+     *
+     * @param value A grid row or column.
+     * @return The corresponding bucket row or column.
+     */
+    private int toBucket(final int value) {
+        return Math.floorDiv(value, BUCKET_SIZE);
+    }
+
+    /**
+     * Get the bucket key for the given bucket row and column.
+     *
+     * @param row The bucket row.
+     * @param column The bucket column.
+     * @return The bucket's key.
+     */
+    private int getKey(final int row, final int column) {
+        return row * BUCKET_KEY_FACTOR + column;
+    }
+}
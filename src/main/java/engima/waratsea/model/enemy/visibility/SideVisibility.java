@@ -0,0 +1,214 @@
+package engima.waratsea.model.enemy.visibility;
+
+import engima.waratsea.model.PersistentData;
+import engima.waratsea.model.enemy.visibility.data.VisibilityData;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameGrid;
+import lombok.Getter;
+
+import java.util.Base64;
+import java.util.BitSet;
+
+/**
+ * What a side can see of the game map. Each game map cell is a bit.
+ *
+ * A cell is sighted if an enemy was spotted there this turn. A cell is known if an enemy was spotted there in a
+ * recent turn. The age of a known cell is the number of turns since it was last sighted. All queries are O(1).
+ */
+public class SideVisibility implements PersistentData<VisibilityData> {
+    public static final int NOT_KNOWN = -1;
+
+    @Getter private final Side side;
+    @Getter private int turn;
+
+    private final int rows;
+    private final int columns;
+
+    private final BitSet sighted;
+    private final BitSet known;
+    private final byte[] ages;
+
+    /**
+     * Constructor.
+     *
+     * @param side The side that sees.
+     * @param rows The number of game map rows.
+     * @param columns The number of game map columns.
+     */
+    public SideVisibility(final Side side, final int rows, final int columns) {
+        this.side = side;
+        this.rows = rows;
+        this.columns = columns;
+
+        sighted = new BitSet(rows * columns);
+        known = new BitSet(rows * columns);
+        ages = new byte[rows * columns];
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param data The visibility data read in from a JSON file.
+     */
+    public SideVisibility(final VisibilityData data) {
+        this(data.getSide(), data.getRows(), data.getColumns());
+
+        turn = data.getTurn();
+
+        sighted.or(decode(data.getSighted()));
+        known.or(decode(data.getKnown()));
+
+        byte[] knownAges = Base64.getDecoder().decode(data.getAges());
+
+        int i = 0;
+        for (int cell = known.nextSetBit(0); cell >= 0; cell = known.nextSetBit(cell + 1)) {
+            ages[cell] = knownAges[i++];
+        }
+    }
+
+    /**
+     * Get the persistent visibility data.
+     *
+     * @return The persistent visibility data.
+     */
+    @Override
+    public VisibilityData getData() {
+        byte[] knownAges = new byte[known.cardinality()];
+
+        int i = 0;
+        for (int cell = known.nextSetBit(0); cell >= 0; cell = known.nextSetBit(cell + 1)) {
+            knownAges[i++] = ages[cell];
+        }
+
+        VisibilityData data = new VisibilityData();
+        data.setSide(side);
+        data.setTurn(turn);
+        data.setRows(rows);
+        data.setColumns(columns);
+        data.setSighted(encode(sighted));
+        data.setKnown(encode(known));
+        data.setAges(Base64.getEncoder().encodeToString(knownAges));
+        return data;
+    }
+
+    /**
+     * Mark the given grid as sighted this turn.
+     *
+     * @param grid The game grid where an enemy is spotted.
+     */
+    public void sight(final GameGrid grid) {
+        int cell = getCell(grid);
+
+        sighted.set(cell);
+        known.set(cell);
+        ages[cell] = 0;
+    }
+
+    /**
+     * Determine if the given grid is sighted this turn.
+     *
+     * @param grid The game grid.
+     * @return True if an enemy is spotted at the grid this turn. False otherwise.
+     */
+    public boolean isSighted(final GameGrid grid) {
+        return sighted.get(getCell(grid));
+    }
+
+    /**
+     * Determine if the given grid is a last known enemy position.
+     *
+     * @param grid The game grid.
+     * @return True if an enemy was spotted at the grid in a recent turn. False otherwise.
+     */
+    public boolean isKnown(final GameGrid grid) {
+        return known.get(getCell(grid));
+    }
+
+    /**
+     * Get the number of turns since the given grid was last sighted.
+     *
+     * @param grid The game grid.
+     * @return The age in turns of the last known position. NOT_KNOWN if the grid is not a last known position.
+     */
+    public int getAge(final GameGrid grid) {
+        int cell = getCell(grid);
+        return known.get(cell) ? ages[cell] : NOT_KNOWN;
+    }
+
+    /**
+     * Get the number of grids sighted this turn.
+     *
+     * @return The number of sighted grids.
+     */
+    public int getSightedCount() {
+        return sighted.cardinality();
+    }
+
+    /**
+     * Get the number of last known enemy positions.
+     *
+     * @return The number of known grids.
+     */
+    public int getKnownCount() {
+        return known.cardinality();
+    }
+
+    /**
+     * Advance to the given turn. The sightings of the previous turn become last known positions. Last known
+     * positions older than the maximum age are forgotten.
+     *
+     * @param newTurn The new game turn.
+     * @param maxAge The maximum age in turns of a last known position.
+     */
+    public void nextTurn(final int newTurn, final int maxAge) {
+        if (newTurn <= turn) {
+            return;
+        }
+
+        int elapsed = newTurn - turn;
+        turn = newTurn;
+
+        sighted.clear();
+
+        for (int cell = known.nextSetBit(0); cell >= 0; cell = known.nextSetBit(cell + 1)) {
+            int age = ages[cell] + elapsed;
+
+            if (age > maxAge) {
+                known.clear(cell);
+                ages[cell] = 0;
+            } else {
+                ages[cell] = (byte) age;
+            }
+        }
+    }
+
+    /**
+     * Get the bit index of the given grid.
+     *
+     * @param grid The game grid.
+     * @return The grid's bit index.
+     */
+    private int getCell(final GameGrid grid) {
+        return grid.getRow() * columns + grid.getColumn();
+    }
+
+    /**
+     * Encode a bitset.
+     *
+     * @param bits The bitset.
+     * @return The Base64 encoded bitset.
+     */
+    private String encode(final BitSet bits) {
+        return Base64.getEncoder().encodeToString(bits.toByteArray());
+    }
+
+    /**
+     * Decode a bitset.
+     *
+     * @param value The Base64 encoded bitset.
+     * @return The bitset.
+     */
+    private BitSet decode(final String value) {
+        return BitSet.valueOf(Base64.getDecoder().decode(value));
+    }
+}
@@ -0,0 +1,187 @@
+package engima.waratsea.model.enemy.visibility;
+
+import com.google.gson.Gson;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.enemy.visibility.data.VisibilityData;
+import engima.waratsea.model.game.Resource;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.scenario.ScenarioEvent;
+import engima.waratsea.model.game.event.scenario.ScenarioEventTypes;
+import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.utility.PersistentUtility;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The fog-of-war. Tracks what each side can see of the game map.
+ *
+ * Spotting sources such as search patrols mark the grids where they spot the enemy. On each new turn the
+ * sightings become last known positions which age one turn per game turn and are forgotten after a day.
+ * Each side's visibility is saved with the side's other assets.
+ */
+@Singleton
+@Slf4j
+public class Visibility {
+    public static final String FILE_NAME = "visibility.json";
+    public static final int MAX_AGE = 6;   // One day of turns.
+
+    private final GameMap gameMap;
+    private final Resource resource;
+
+    private final Map<Side, SideVisibility> sides = new EnumMap<>(Side.class);
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param resource The game resource configuration.
+     */
+    @Inject
+    public Visibility(final GameMap gameMap,
+                      final Resource resource) {
+        this.gameMap = gameMap;
+        this.resource = resource;
+
+        ScenarioEvent.register(this, this::init, true);
+        TurnEvent.register(this, this::nextTurn, true);
+    }
+
+    /**
+     * Initialize the visibility.
+     *
+     * @param event The scenario event.
+     */
+    public void init(final ScenarioEvent event) {
+        if (event.getType() == ScenarioEventTypes.BOOT) {
+            sides.clear();
+        }
+    }
+
+    /**
+     * Get a side's visibility.
+     *
+     * @param side The side ALLIES or AXIS.
+     * @return The side's visibility.
+     */
+    public SideVisibility get(final Side side) {
+        return sides.computeIfAbsent(side, s -> new SideVisibility(s, gameMap.getRows(), gameMap.getColumns()));
+    }
+
+    /**
+     * Mark a grid as sighted by the given side.
+     *
+     * @param side The side that sees the grid.
+     * @param grid The sighted game grid.
+     */
+    public void sight(final Side side, final GameGrid grid) {
+        get(side).sight(grid);
+    }
+
+    /**
+     * Mark grids as sighted by the given side.
+     *
+     * @param side The side that sees the grids.
+     * @param grids The sighted game grids.
+     */
+    public void sight(final Side side, final Collection<GameGrid> grids) {
+        SideVisibility visibility = get(side);
+        grids.forEach(visibility::sight);
+    }
+
+    /**
+     * Determine if the given side sights the given grid this turn.
+     *
+     * @param side The side ALLIES or AXIS.
+     * @param grid The game grid.
+     * @return True if the grid is sighted. False otherwise.
+     */
+    public boolean isSighted(final Side side, final GameGrid grid) {
+        return get(side).isSighted(grid);
+    }
+
+    /**
+     * Get the number of turns since the given side last sighted the given grid.
+     *
+     * @param side The side ALLIES or AXIS.
+     * @param grid The game grid.
+     * @return The age of the last known position. SideVisibility.NOT_KNOWN if the grid is not known.
+     */
+    public int getAge(final Side side, final GameGrid grid) {
+        return get(side).getAge(grid);
+    }
+
+    /**
+     * Load a side's visibility from the saved game. A new game starts with nothing seen.
+     *
+     * @param side The side ALLIES or AXIS.
+     */
+    public void load(final Side side) {
+        sides.remove(side);
+
+        if (resource.isNew()) {
+            return;
+        }
+
+        resource
+                .getSavedURL(side, Visibility.class, FILE_NAME)
+                .map(this::read)
+                .map(SideVisibility::new)
+                .ifPresent(visibility -> sides.put(side, visibility));
+    }
+
+    /**
+     * Save a side's visibility.
+     *
+     * @param scenario The selected scenario.
+     * @param side The side ALLIES or AXIS.
+     */
+    public void save(final Scenario scenario, final Side side) {
+        log.debug("Saving visibility, scenario: '{}', side {}", scenario.getTitle(), side);
+        String fileName = resource.getSavedFileName(side, Visibility.class, FILE_NAME);
+        PersistentUtility.save(fileName, get(side));
+    }
+
+    /**
+     * Advance each side's visibility to the new turn.
+     *
+     * @param event The turn event.
+     */
+    private void nextTurn(final TurnEvent event) {
+        sides.values().forEach(visibility -> visibility.nextTurn(event.getTurn(), MAX_AGE));
+    }
+
+    /**
+     * Read the visibility data.
+     *
+     * @param url The url of the visibility JSON file.
+     * @return The visibility data or null if it cannot be read.
+     */
+    private VisibilityData read(final URL url) {
+        Path path = Paths.get(URLDecoder.decode(url.getPath(), StandardCharsets.UTF_8));
+
+        if (!Files.exists(path)) {
+            return null;                    // Saved before visibility was tracked.
+        }
+
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return new Gson().fromJson(br, VisibilityData.class);
+        } catch (Exception ex) {                                                                                        // Catch any Gson errors.
+            log.error("Unable to load visibility '{}'", url.getPath(), ex);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package engima.waratsea.model.enemy.visibility.data;
+
+import engima.waratsea.model.game.Side;
+import lombok.Data;
+
+/**
+ * A side's fog-of-war visibility that is read and written to a JSON file. The bitsets and the ages are Base64
+ * encoded to keep the saved file small.
+ */
+@Data
+public class VisibilityData {
+    private Side side;
+    private int turn;
+    private int rows;
+    private int columns;
+    private String sighted;   // The cells sighted this turn.
+    private String known;     // The cells with a last known enemy position.
+    private String ages;      // The age in turns of each known cell in cell order.
+}
@@ -5,14 +5,21 @@ import com.google.inject.Singleton;
 import engima.waratsea.model.flotilla.deployment.FlotillaDeployment;
 import engima.waratsea.model.flotilla.deployment.FlotillaDeploymentDAO;
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentSolver;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentStrategy;
+import engima.waratsea.model.map.lanes.SeaLanes;
 import engima.waratsea.model.player.Player;
 import engima.waratsea.model.scenario.Scenario;
 import engima.waratsea.model.scenario.ScenarioException;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -20,9 +27,11 @@ import java.util.stream.Collectors;
  * Flotilla deployment is controlled by a list of deployment zones that have a priority and a
  * maximum number of flotillas that may be deployed in the zone.
  *
- * Starting with the highest priority zone flotillas are randomly deployed within the zone
- * until the maximum number of flotillas for the zone is reached. Then we move on to the next
- * zone in priority and the process continues.
+ * Starting with the highest priority zone flotillas are deployed within the zone until the
+ * maximum number of flotillas for the zone is reached. Then we move on to the next zone in
+ * priority and the process continues. Within a zone the flotillas are deployed to the grids
+ * that best cover the enemy's sea lanes. The deployment is seeded from the scenario and zone
+ * so that a given scenario always deploys its flotillas the same way.
  *
  * Game rules prohibit a flotilla from be deployed in the same zone as a enemy task force,
  * thus if the human player is allowed to deploy his own flotillas it could potentially give
@@ -33,18 +42,26 @@ import java.util.stream.Collectors;
 @Slf4j
 public class FlotillaAI {
 
-    private static final Random SELECT = new Random();
-
     private final FlotillaDeploymentDAO flotillaDeploymentDAO;
+    private final SeaLanes seaLanes;
+    private final SeaLaneDeploymentSolver solver;
+
+    @Getter @Setter private SeaLaneDeploymentStrategy strategy = SeaLaneDeploymentStrategy.SOLVER;
 
     /**
      * Constructor called by guice.
      *
      * @param flotillaDeploymentDAO The flotilla deployment DAO.
+     * @param seaLanes The sea lanes.
+     * @param solver The sea lane deployment solver.
      */
     @Inject
-    public FlotillaAI(final FlotillaDeploymentDAO flotillaDeploymentDAO) {
+    public FlotillaAI(final FlotillaDeploymentDAO flotillaDeploymentDAO,
+                      final SeaLanes seaLanes,
+                      final SeaLaneDeploymentSolver solver) {
         this.flotillaDeploymentDAO = flotillaDeploymentDAO;
+        this.seaLanes = seaLanes;
+        this.solver = solver;
     }
 
     /**
@@ -68,32 +85,36 @@ public class FlotillaAI {
                     .sorted(Comparator.comparingInt(FlotillaDeployment::getPriority))
                     .collect(Collectors.toList());
 
-            flotillas.forEach(flotilla -> {
+            List<int[]> enemyLanes = seaLanes.getLanes(side.opposite());
+
+            Iterator<Flotilla> undeployed = flotillas.iterator();
+            int remaining = flotillas.size();
 
-                FlotillaDeployment flotillaDeployment = deployment.get(0);   // Get the highest ranking deployment.
+            for (FlotillaDeployment flotillaDeployment : deployment) {                                                  // Highest ranking deployment first.
+                int number = Math.min(flotillaDeployment.getNumber(), remaining);
+                long seed = Objects.hash(selectedScenario.getName(), side.name(), flotillaDeployment.getPriority());      // Enum hash codes differ between runs.
 
-                if (flotillaDeployment.getNumber() > 0) {
-                    String grid = selectGrid(flotillaDeployment.getGrids());
+                List<String> grids = strategy == SeaLaneDeploymentStrategy.SOLVER
+                        ? solver.solve(enemyLanes, new ArrayList<>(flotillaDeployment.getGrids()), number, seed)
+                        : solver.selectRandom(new ArrayList<>(flotillaDeployment.getGrids()), number, seed);
+
+                for (String grid : grids) {
+                    Flotilla flotilla = undeployed.next();
                     flotillaDeployment.deploy(grid);
                     flotilla.setReference(grid);
+                    remaining--;
 
                     log.info("Deploy flotilla '{}' to grid: '{}'", flotilla.getName(), grid);
+                }
 
-                } else {
-                    deployment.remove(flotillaDeployment);
+                if (remaining == 0) {
+                    break;
                 }
-            });
-        }
-    }
+            }
 
-    /**
-     * Select a grid to mine.
-     *
-     * @param grids The available grids that may contain a flotilla.
-     * @return The selected grid to that will contain a flotilla.
-     */
-    private String selectGrid(final List<String> grids) {
-        int selection = SELECT.nextInt(grids.size());
-        return grids.get(selection);
+            if (remaining > 0) {
+                log.warn("Side: '{}' has {} flotillas that could not be deployed", side, remaining);
+            }
+        }
     }
 }
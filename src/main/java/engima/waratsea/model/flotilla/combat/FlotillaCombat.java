@@ -0,0 +1,386 @@
+package engima.waratsea.model.flotilla.combat;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import engima.waratsea.model.flotilla.Flotilla;
+import engima.waratsea.model.flotilla.FlotillaType;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.Phase;
+import engima.waratsea.model.game.Phases;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.map.TaskForceGrid;
+import engima.waratsea.model.ship.Asw;
+import engima.waratsea.model.ship.Hull;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.ship.Torpedo;
+import engima.waratsea.model.ship.damage.DamageBatch;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.vessel.Vessel;
+import engima.waratsea.utility.Dice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The flotilla combat phase. Submarine and motor torpedo boat flotillas attack the enemy task forces that share
+ * their grid.
+ *
+ * The enemy task force grids are indexed by map cell. The index is only rebuilt when the task forces on the game
+ * map change. Thus, finding a flotilla's contact is a single lookup and does not depend upon the number of task
+ * forces.
+ *
+ * Each vessel in a flotilla that has a working torpedo with torpedoes remaining attacks. A submarine may first be
+ * driven off by the target's anti-submarine escorts. Each escort adds one to the drive off number up to a maximum.
+ * Motor torpedo boats are surface craft and are not affected by anti-submarine escorts. Each remaining vessel
+ * fires a torpedo salvo. All the dice of a flotilla's attack are rolled at once.
+ *
+ * A torpedo hit damages the hull of a randomly selected ship in the grid and may also knock out the ship's torpedo
+ * mount. The hull damage of a flotilla's attack is collected in a damage batch and applied to the ship damage store
+ * at once. The damage is recorded as ship events, so any victory conditions and release triggers are informed.
+ */
+@Singleton
+@Slf4j
+public class FlotillaCombat {
+    public static final int TORPEDO_HIT_ROLL = 6;      // A torpedo salvo hits on this die roll.
+    public static final int HULL_DAMAGE = 2;           // The hull damage of a torpedo hit.
+    public static final int CRITICAL_ROLL = 6;         // A torpedo hit also knocks out the target's torpedo mount.
+    public static final int MAX_ASW_DEFENCE = 3;       // The most a submarine can be driven off by escorts.
+
+    private static final Map<FlotillaType, AssetType> ASSET_TYPE = Map.of(
+            FlotillaType.SUBMARINE, AssetType.SUB,
+            FlotillaType.MTB, AssetType.MTB
+    );
+
+    private final GameMap gameMap;
+    private final Dice dice;
+    private final OperationsLog operationsLog;
+    private final ShipDamageStore damageStore;
+    private final Provider<Game> gameProvider;
+
+    private final DamageBatch damage = new DamageBatch();
+
+    private final Map<Side, TaskForceGrid[]> contacts = new EnumMap<>(Side.class);
+    private int contactsVersion = -1;
+    private int[] rolls = new int[0];
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param dice The dice utility.
+     * @param operationsLog The game operations log.
+     * @param damageStore The ship damage store.
+     * @param phases The game turn phases.
+     * @param gameProvider Provides the game.
+     */
+    @Inject
+    public FlotillaCombat(final GameMap gameMap,
+                          final Dice dice,
+                          final OperationsLog operationsLog,
+                          final ShipDamageStore damageStore,
+                          final Phases phases,
+                          final Provider<Game> gameProvider) {
+        this.gameMap = gameMap;
+        this.dice = dice;
+        this.operationsLog = operationsLog;
+        this.damageStore = damageStore;
+        this.gameProvider = gameProvider;
+
+        phases.register(Phase.FLOTILLA, this::execute);
+    }
+
+    /**
+     * Resolve the attacks of all of both players' flotillas for the current turn.
+     */
+    public void execute() {
+        Game game = gameProvider.get();
+
+        Map<FlotillaType, List<Flotilla>> flotillas = new EnumMap<>(FlotillaType.class);
+
+        FlotillaType.stream().forEach(type -> {
+            List<Flotilla> all = new ArrayList<>(game.getHumanPlayer().getFlotillas(type));
+            all.addAll(game.getComputerPlayer().getFlotillas(type));
+            flotillas.put(type, all);
+        });
+
+        int hits = flotillas
+                .entrySet()
+                .stream()
+                .mapToInt(entry -> attack(entry.getKey(), entry.getValue()))
+                .sum();
+
+        log.debug("Flotilla attacks scored {} hits", hits);
+    }
+
+    /**
+     * Resolve the attacks of the given flotillas.
+     *
+     * @param type The type of the flotillas: SUBMARINE or MTB.
+     * @param flotillas The flotillas that attack.
+     * @return The number of torpedo hits.
+     */
+    public int attack(final FlotillaType type, final List<Flotilla> flotillas) {
+        int hits = 0;
+
+        for (Flotilla flotilla : flotillas) {
+            Optional<TaskForceGrid> contact = getContact(flotilla);
+
+            if (contact.isPresent()) {
+                hits += attack(type, flotilla, contact.get());
+            }
+        }
+
+        return hits;
+    }
+
+    /**
+     * Get the enemy task force grid that shares the given flotilla's grid.
+     *
+     * @param flotilla The flotilla.
+     * @return The enemy task force grid if one is present.
+     */
+    public Optional<TaskForceGrid> getContact(final Flotilla flotilla) {
+        return Optional
+                .ofNullable(flotilla.getReference())
+                .flatMap(gameMap::getGrid)
+                .map(grid -> getContacts(flotilla.getSide().opposite())[getCell(grid)]);
+    }
+
+    /**
+     * Resolve a single flotilla's attack on the task forces of the given grid.
+     *
+     * @param type The type of the flotilla: SUBMARINE or MTB.
+     * @param flotilla The attacking flotilla.
+     * @param target The enemy task force grid.
+     * @return The number of torpedo hits.
+     */
+    private int attack(final FlotillaType type, final Flotilla flotilla, final TaskForceGrid target) {
+        List<Torpedo> torpedoes = getTorpedoes(flotilla);
+        List<Ship> ships = getShips(target);
+
+        if (torpedoes.isEmpty() || ships.isEmpty()) {
+            return 0;
+        }
+
+        int attackers = torpedoes.size();
+        int[] results = getRolls(attackers);
+
+        int driveOff = type == FlotillaType.SUBMARINE ? Math.min(countAsw(ships), MAX_ASW_DEFENCE) : 0;
+
+        if (driveOff > 0) {
+            dice.roll(results, attackers);
+        }
+
+        int salvos = 0;
+
+        for (int i = 0; i < attackers; i++) {
+            if (driveOff == 0 || results[i] > driveOff) {
+                Torpedo torpedo = torpedoes.get(i);
+                torpedo.setNumber(torpedo.getNumber() - 1);
+                salvos++;
+            }
+        }
+
+        dice.roll(results, salvos);
+
+        int hits = 0;
+
+        AssetType by = ASSET_TYPE.get(type);
+
+        for (int i = 0; i < salvos && !ships.isEmpty(); i++) {
+            if (results[i] >= TORPEDO_HIT_ROLL) {
+                hits++;
+                damage(ships, by);
+            }
+        }
+
+        damageStore.apply(damage, by);
+        damage.clear();
+
+        log.debug("Flotilla '{}' attacked grid '{}': {} salvos, {} hits", new Object[]{flotilla.getName(), target.getReference(), salvos, hits});
+
+        operationsLog.combat(flotilla.getName(), "torpedo", salvos, hits);
+
+        return hits;
+    }
+
+    /**
+     * Damage a randomly selected ship. The hull damage is added to the damage batch. A ship that the batch sinks
+     * is removed from the given ships.
+     *
+     * @param ships The ships that may be hit.
+     * @param by The type of the attacking asset.
+     */
+    private void damage(final List<Ship> ships, final AssetType by) {
+        int index = dice.roll(ships.size()) - 1;
+
+        Ship ship = ships.get(index);
+        Hull hull = ship.getHull();
+
+        damage.add(ship, hull.getCell(), HULL_DAMAGE);
+
+        Torpedo mount = ship.getTorpedo();
+
+        if (mount != null && mount.isPresent() && mount.getHealth() > 0 && dice.roll() >= CRITICAL_ROLL) {
+            mount.damage();
+            fire(ship, ShipEventAction.DAMAGED_TORPEDO_MOUNT, by);
+        }
+
+        if (hull.getHealth() - damage.getTotal(hull.getCell()) <= 0) {
+            ships.remove(index);
+        }
+    }
+
+    /**
+     * Get the torpedoes of the flotilla's vessels that can attack.
+     *
+     * @param flotilla The flotilla.
+     * @return The working torpedoes with torpedoes remaining.
+     */
+    private List<Torpedo> getTorpedoes(final Flotilla flotilla) {
+        List<Torpedo> torpedoes = new ArrayList<>();
+
+        for (Vessel vessel : flotilla.getVessels()) {
+            Torpedo torpedo = vessel.getTorpedo();
+
+            if (torpedo != null && torpedo.isPresent() && torpedo.getHealth() > 0 && torpedo.getNumber() > 0) {
+                torpedoes.add(torpedo);
+            }
+        }
+
+        return torpedoes;
+    }
+
+    /**
+     * Get the afloat ships of all the task forces of the given task force grid.
+     *
+     * @param target The task force grid.
+     * @return The ships that are afloat.
+     */
+    private List<Ship> getShips(final TaskForceGrid target) {
+        List<Ship> ships = new ArrayList<>();
+
+        for (TaskForce taskForce : target.getTaskForces()) {
+            for (Ship ship : taskForce.getShips()) {
+                Hull hull = ship.getHull();
+
+                if (hull != null && hull.getHealth() > 0) {
+                    ships.add(ship);
+                }
+            }
+        }
+
+        return ships;
+    }
+
+    /**
+     * Count the anti-submarine escorts among the given ships.
+     *
+     * @param ships The ships.
+     * @return The number of anti-submarine capable ships.
+     */
+    private int countAsw(final List<Ship> ships) {
+        int count = 0;
+
+        for (Ship ship : ships) {
+            Asw asw = ship.getAsw();
+
+            if (asw != null && asw.isAsw()) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Get the given side's task force grids indexed by map cell. The index is rebuilt if the task forces on the game
+     * map have changed.
+     *
+     * @param side The side of the task forces.
+     * @return The side's task force grids indexed by map cell.
+     */
+    private TaskForceGrid[] getContacts(final Side side) {
+        if (contactsVersion != gameMap.getTaskForceVersion()) {
+            contacts.clear();
+            contactsVersion = gameMap.getTaskForceVersion();
+        }
+
+        return contacts.computeIfAbsent(side, this::buildContacts);
+    }
+
+    /**
+     * Build the index of the given side's task force grids.
+     *
+     * @param side The side of the task forces.
+     * @return The side's task force grids indexed by map cell.
+     */
+    private TaskForceGrid[] buildContacts(final Side side) {
+        TaskForceGrid[] cells = new TaskForceGrid[gameMap.getRows() * gameMap.getColumns()];
+
+        Optional
+                .ofNullable(gameMap.getTaskForceGrids().get(side))
+                .ifPresent(grids -> grids
+                        .stream()
+                        .filter(TaskForceGrid::notEmpty)
+                        .forEach(grid -> gameMap
+                                .getGrid(grid.getReference())
+                                .ifPresent(gameGrid -> cells[getCell(gameGrid)] = grid)));
+
+        return cells;
+    }
+
+    /**
+     * Get the cell index of the given grid.
+     *
+     * @param grid The game grid.
+     * @return The grid's cell index.
+     */
+    private int getCell(final GameGrid grid) {
+        return grid.getRow() * gameMap.getColumns() + grid.getColumn();
+    }
+
+    /**
+     * Get an array that holds at least the given number of dice rolls. The array is reused between attacks.
+     *
+     * @param number The number of dice rolls.
+     * @return An array for the dice rolls.
+     */
+    private int[] getRolls(final int number) {
+        if (rolls.length < number) {
+            rolls = new int[number];
+        }
+
+        Arrays.fill(rolls, 0, number, 0);
+
+        return rolls;
+    }
+
+    /**
+     * Fire a ship event caused by a flotilla.
+     *
+     * @param ship The ship.
+     * @param action The ship event action.
+     * @param by The type of the attacking asset.
+     */
+    private void fire(final Ship ship, final ShipEventAction action, final AssetType by) {
+        ShipEvent event = new ShipEvent();
+        event.setShip(ship);
+        event.setAction(action);
+        event.setBy(by);
+        event.fire();
+    }
+}
@@ -17,5 +17,11 @@ public enum AssetType {
     @SerializedName(value = "SUB", alternate = {"Sub", "sub"})
     SUB,
 
-    TASK_FORCE
+    @SerializedName(value = "MTB", alternate = {"Mtb", "mtb"})
+    MTB,
+
+    TASK_FORCE,
+
+    @SerializedName(value = "MINE", alternate = {"Mine", "mine"})
+    MINE
 }
@@ -0,0 +1,190 @@
+package engima.waratsea.model.game;
+
+import engima.waratsea.model.game.rules.GameRules;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * The campaign's turn schedule.
+ *
+ * The date, turn index, turn type and month of every turn are computed when the calendar is built, starting from a
+ * given turn. A turn query is then an array lookup. The schedule grows if the game runs past the computed turns.
+ *
+ * The true type of a twilight turn depends on the game's twilight rule for the turn's month. It is resolved the first
+ * time it is asked for and then held in the schedule.
+ */
+public class CampaignCalendar {
+    private static final int MIN_TURNS = 42;    // One week of turns.
+
+    // A day consists of 3 day turns, 1 twilight turn and 2 night turns.
+    private static final TurnType[] DAY_TURNS = {TurnType.DAY, TurnType.DAY, TurnType.DAY, TurnType.TWILIGHT, TurnType.NIGHT, TurnType.NIGHT};
+
+    private final GameRules rules;
+    private final int firstNumber;
+
+    private LocalDate[] dates;
+    private TurnIndex[] indices;
+    private TurnType[] types;
+    private TurnType[] trueTypes;
+    private int[] months;
+    private int size;
+
+    /**
+     * Constructor.
+     *
+     * @param rules The game rules.
+     * @param firstNumber The number of the first turn in the schedule.
+     * @param firstDate The date of the first turn.
+     * @param firstIndex The index of the first turn.
+     * @param turns The number of turns to compute up front.
+     */
+    public CampaignCalendar(final GameRules rules,
+                            final int firstNumber,
+                            final LocalDate firstDate,
+                            final TurnIndex firstIndex,
+                            final int turns) {
+        this.rules = rules;
+        this.firstNumber = firstNumber;
+
+        int capacity = Math.max(turns, MIN_TURNS);
+
+        dates = new LocalDate[capacity];
+        indices = new TurnIndex[capacity];
+        types = new TurnType[capacity];
+        trueTypes = new TurnType[capacity];
+        months = new int[capacity];
+
+        add(firstDate, firstIndex);
+        fill();
+    }
+
+    /**
+     * Get the type of turn of a turn index.
+     *
+     * @param index The turn index.
+     * @return The turn type.
+     */
+    public static TurnType getTurnType(final TurnIndex index) {
+        return DAY_TURNS[index.getValue()];
+    }
+
+    /**
+     * Get the date of a turn.
+     *
+     * @param number The turn number.
+     * @return The turn's date.
+     */
+    public LocalDate getDate(final int number) {
+        return dates[slot(number)];
+    }
+
+    /**
+     * Get the index of a turn.
+     *
+     * @param number The turn number.
+     * @return The turn's index.
+     */
+    public TurnIndex getIndex(final int number) {
+        return indices[slot(number)];
+    }
+
+    /**
+     * Get the type of a turn.
+     *
+     * @param number The turn number.
+     * @return The turn's type.
+     */
+    public TurnType getType(final int number) {
+        return types[slot(number)];
+    }
+
+    /**
+     * Get the true type of a turn. Twilight turns are treated as either day or night turns.
+     *
+     * @param number The turn number.
+     * @return The turn's true type, either DAY or NIGHT.
+     */
+    public TurnType getTrue(final int number) {
+        int slot = slot(number);
+
+        if (trueTypes[slot] == null) {
+            trueTypes[slot] = types[slot].getTrue(rules, months[slot]);
+        }
+
+        return trueTypes[slot];
+    }
+
+    /**
+     * Get the month of a turn.
+     *
+     * @param number The turn number.
+     * @return The turn's month. A Calendar month constant, 0-11.
+     */
+    public int getMonth(final int number) {
+        return months[slot(number)];
+    }
+
+    /**
+     * Get the schedule slot of a turn. The schedule is grown if the turn is past the computed turns.
+     *
+     * @param number The turn number.
+     * @return The turn's slot.
+     */
+    private int slot(final int number) {
+        int slot = number - firstNumber;
+
+        if (slot < 0) {
+            throw new IllegalArgumentException("Turn " + number + " is before the start of the calendar: " + firstNumber);
+        }
+
+        while (slot >= size) {
+            grow();
+        }
+
+        return slot;
+    }
+
+    /**
+     * Double the schedule and compute the new turns.
+     */
+    private void grow() {
+        int capacity = dates.length * 2;
+
+        dates = Arrays.copyOf(dates, capacity);
+        indices = Arrays.copyOf(indices, capacity);
+        types = Arrays.copyOf(types, capacity);
+        trueTypes = Arrays.copyOf(trueTypes, capacity);
+        months = Arrays.copyOf(months, capacity);
+
+        fill();
+    }
+
+    /**
+     * Compute the turns that follow the last computed turn up to the schedule's capacity.
+     */
+    private void fill() {
+        while (size < dates.length) {
+            TurnIndex index = indices[size - 1].next();
+            LocalDate date = index == TurnIndex.DAY_1 ? dates[size - 1].plusDays(1) : dates[size - 1];
+            add(date, index);
+        }
+    }
+
+    /**
+     * Add a turn to the schedule. Day and night turns are their own true type.
+     *
+     * @param date The turn's date.
+     * @param index The turn's index.
+     */
+    private void add(final LocalDate date, final TurnIndex index) {
+        TurnType type = getTurnType(index);
+
+        dates[size] = date;
+        indices[size] = index;
+        types[size] = type;
+        trueTypes[size] = type == TurnType.TWILIGHT ? null : type;
+        months[size] = date.getMonthValue() - 1;
+        size++;
+    }
+}
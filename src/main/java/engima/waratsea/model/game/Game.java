@@ -2,24 +2,33 @@ package engima.waratsea.model.game;
 
 import com.google.inject.Inject;
 import engima.waratsea.model.PersistentData;
+import engima.waratsea.model.flotilla.combat.FlotillaCombat;
 import engima.waratsea.model.game.data.GameData;
 import engima.waratsea.model.game.event.Event;
 import engima.waratsea.model.game.event.scenario.ScenarioEvent;
 import engima.waratsea.model.game.event.scenario.ScenarioEventTypes;
+import engima.waratsea.model.game.journal.Journal;
+import engima.waratsea.model.game.operations.OperationsLog;
 import engima.waratsea.model.map.GameMap;
 import engima.waratsea.model.map.MapException;
 import engima.waratsea.model.player.Player;
 import engima.waratsea.model.scenario.Scenario;
-import engima.waratsea.model.scenario.ScenarioDAO;
+import engima.waratsea.model.scenario.ScenarioCatalogue;
 import engima.waratsea.model.scenario.ScenarioException;
+import engima.waratsea.model.taskForce.TaskForceReleaseRegistry;
+import engima.waratsea.model.taskForce.mission.execution.SeaMissionExecution;
+import engima.waratsea.model.taskForce.movement.TaskForceMovement;
 import engima.waratsea.model.squadron.SquadronException;
 import engima.waratsea.model.victory.VictoryException;
 import engima.waratsea.model.weather.Weather;
+import engima.waratsea.utility.metrics.Histogram;
+import engima.waratsea.utility.metrics.Metrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.inject.Named;
 import javax.inject.Singleton;
+import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,17 +40,26 @@ import java.util.concurrent.atomic.AtomicInteger;
 @Slf4j
 @Singleton
 public class Game implements PersistentData<GameData> {
+    private static final Histogram SAVE_TIMING = Metrics.histogram("game.save");
+    private static final Histogram LOAD_TIMING = Metrics.histogram("game.load");
+
     @Getter private final Player computerPlayer;
     @Getter private final Player humanPlayer;
     @Getter private final Player neutralPlayer;
     @Getter private final Weather weather;
     @Getter private final Turn turn;
+    @Getter private final TaskForceMovement movement;
+    @Getter private final FlotillaCombat flotillaCombat;
+    @Getter private final SeaMissionExecution seaMissionExecution;
 
     private final Map<Side, Player> playerMap = new HashMap<>();
     private final Resource resource;
-    private final ScenarioDAO scenarioDAO;
+    private final ScenarioCatalogue scenarioCatalogue;
     private final GameDAO gameDAO;
     private final GameMap gameMap;
+    private final Journal journal;
+    private final OperationsLog operationsLog;
+    private final TaskForceReleaseRegistry releaseRegistry;
 
     private final AtomicInteger airMissionId;
 
@@ -57,9 +75,15 @@ public class Game implements PersistentData<GameData> {
      * @param humanPlayer The human player.
      * @param neutralPlayer The neutral player.
      * @param resource The game configuration.
-     * @param scenarioDAO  The scenario data abstraction object.
+     * @param scenarioCatalogue The scenario catalogue.
      * @param gameDAO The game data abstraction object.
      * @param gameMap The game map.
+     * @param journal The game journal.
+     * @param operationsLog The game operations log.
+     * @param releaseRegistry The reserve task force release triggers.
+     * @param movement The task force movement phase.
+     * @param flotillaCombat The flotilla combat phase.
+     * @param seaMissionExecution The sea mission execution phase.
      */
     //CHECKSTYLE:OFF
     @Inject
@@ -69,9 +93,15 @@ public class Game implements PersistentData<GameData> {
                 final @Named("Human") Player humanPlayer,
                 final @Named("Neutral") Player neutralPlayer,
                 final Resource resource,
-                final ScenarioDAO scenarioDAO,
+                final ScenarioCatalogue scenarioCatalogue,
                 final GameDAO gameDAO,
-                final GameMap gameMap) {
+                final GameMap gameMap,
+                final Journal journal,
+                final OperationsLog operationsLog,
+                final TaskForceReleaseRegistry releaseRegistry,
+                final TaskForceMovement movement,
+                final FlotillaCombat flotillaCombat,
+                final SeaMissionExecution seaMissionExecution) {
         //CHECKSTYLE:ON
 
         final int startingAirMissionId = 100;
@@ -82,9 +112,15 @@ public class Game implements PersistentData<GameData> {
         this.humanPlayer = humanPlayer;
         this.neutralPlayer = neutralPlayer;
         this.resource = resource;
-        this.scenarioDAO = scenarioDAO;
+        this.scenarioCatalogue = scenarioCatalogue;
         this.gameDAO = gameDAO;
         this.gameMap = gameMap;
+        this.journal = journal;
+        this.operationsLog = operationsLog;
+        this.releaseRegistry = releaseRegistry;
+        this.movement = movement;
+        this.flotillaCombat = flotillaCombat;
+        this.seaMissionExecution = seaMissionExecution;
         this.airMissionId = new AtomicInteger(startingAirMissionId);
     }
 
@@ -152,7 +188,7 @@ public class Game implements PersistentData<GameData> {
      * @throws ScenarioException Indicates the scenario summary data could not be loaded.
      */
     public List<Scenario> initScenarios() throws ScenarioException {                                                    // New Game Step 1.
-        return scenarioDAO.load();
+        return scenarioCatalogue.load();
     }
 
     /**
@@ -232,6 +268,8 @@ public class Game implements PersistentData<GameData> {
      * @throws VictoryException indicates that the victory conditions could not be loaded.
      */
     public void startExisting() throws ScenarioException, MapException, VictoryException {                              // Saved Game Step 4.
+        long start = Metrics.start();
+
         init();            // Initialize the game.
 
         loadGameMap();     // Loads airfields and ports. They are part of the  map.
@@ -247,6 +285,8 @@ public class Game implements PersistentData<GameData> {
         // No need to deploy assets as this has already been done.
 
         buildViews();
+
+        LOAD_TIMING.stop(start);
     }
 
     /**
@@ -256,12 +296,7 @@ public class Game implements PersistentData<GameData> {
      */
     public void save(final String savedGameName) {
         resource.setSavedGameName(savedGameName);
-        gameDAO.save(this);
-        humanPlayer.saveVictory(scenario);
-        humanPlayer.saveAssets(scenario);
-        computerPlayer.saveVictory(scenario);
-        computerPlayer.saveAssets(scenario);
-        neutralPlayer.saveAssets(scenario);
+        saveGame();
     }
 
     /**
@@ -269,12 +304,28 @@ public class Game implements PersistentData<GameData> {
      */
     public void save() {
         resource.setSavedGameName(Resource.DEFAULT_SAVED_GAME);
+        saveGame();
+    }
+
+    /**
+     * Save the game and the player's victory conditions and assets.
+     */
+    private void saveGame() {
+        long start = Metrics.start();
+
         gameDAO.save(this);
         humanPlayer.saveVictory(scenario);
         humanPlayer.saveAssets(scenario);
         computerPlayer.saveVictory(scenario);
         computerPlayer.saveAssets(scenario);
         neutralPlayer.saveAssets(scenario);
+
+        journal.restart(turn.getNumber());    // The saved game is the starting point of the journal.
+        operationsLog.start(Paths.get(resource.getSavedFileName(OperationsLog.class)));
+
+        gameDAO.updateCatalog(this);          // All the saved game files are written. Catalog the saved game.
+
+        SAVE_TIMING.stop(start);
     }
 
     /**
@@ -356,7 +407,11 @@ public class Game implements PersistentData<GameData> {
      * Initialize a game.
      */
     private void init() {
+        journal.stop();
+        operationsLog.stop();
+
         Event.init();
+        releaseRegistry.clear();
 
         ScenarioEvent event = new ScenarioEvent(ScenarioEventTypes.BOOT);
         event.fire();
@@ -26,6 +26,9 @@ import java.util.stream.Stream;
  *  weather suddenly changed.
  */
 public enum Phase {
+    MOVEMENT,               // Task forces move first. The patrols then search for them at their new locations.
+    FLOTILLA,               // Flotillas attack the enemy task forces at their new locations.
+    SEA_MISSION,            // Task forces carry out their missions: bombardment, transport, invasion and ferrying.
     HUMAN_PATROL,
     COMPUTER_PATROL,
     HUMAN_MISSION,
@@ -3,7 +3,10 @@ package engima.waratsea.model.game;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import engima.waratsea.utility.Executer;
+import engima.waratsea.utility.metrics.Histogram;
+import engima.waratsea.utility.metrics.Metrics;
 
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -19,10 +22,13 @@ import java.util.stream.Collectors;
  * This class implements the strategy design pattern in that the
  * phases of a turn may be configured. Note, by default that the
  * phases of a turn include all the defined phase enums.
+ *
+ * The wall time of each phase is recorded in the phase's metrics histogram.
  */
 @Singleton
 public class Phases {
     private final Map<Phase, Executer> phases = new HashMap<>();
+    private final Map<Phase, Histogram> timings = new EnumMap<>(Phase.class);
     private List<Phase> turnPhases;
 
     @Inject
@@ -31,6 +37,8 @@ public class Phases {
         turnPhases = Phase
                 .stream()
                 .collect(Collectors.toList());
+
+        Phase.stream().forEach(phase -> timings.put(phase, Metrics.histogram("phase." + phase)));
     }
 
     /**
@@ -60,8 +68,18 @@ public class Phases {
     public void execute() {
         turnPhases
                 .stream()
-                .map(phases::get)
-                .filter(Objects::nonNull)
-                .forEach(Executer::execute);
+                .filter(phase -> Objects.nonNull(phases.get(phase)))
+                .forEach(this::execute);
+    }
+
+    /**
+     * Execute a single phase of a game turn.
+     *
+     * @param phase The phase that is executed.
+     */
+    private void execute(final Phase phase) {
+        long start = Metrics.start();
+        phases.get(phase).execute();
+        timings.get(phase).stop(start);
     }
 }
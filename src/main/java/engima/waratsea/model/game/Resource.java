@@ -8,9 +8,12 @@ import engima.waratsea.model.base.port.Port;
 import engima.waratsea.model.enemy.views.airfield.AirfieldView;
 import engima.waratsea.model.enemy.views.port.PortView;
 import engima.waratsea.model.enemy.views.taskForce.TaskForceView;
+import engima.waratsea.model.enemy.visibility.Visibility;
 import engima.waratsea.model.flotilla.MotorTorpedoBoatFlotilla;
 import engima.waratsea.model.flotilla.SubmarineFlotilla;
 import engima.waratsea.model.flotilla.deployment.FlotillaDeployment;
+import engima.waratsea.model.game.journal.Journal;
+import engima.waratsea.model.game.operations.OperationsLog;
 import engima.waratsea.model.map.region.LandRegion;
 import engima.waratsea.model.minefield.Minefield;
 import engima.waratsea.model.minefield.deployment.MinefieldDeployment;
@@ -40,7 +43,8 @@ import java.util.Optional;
 @Slf4j
 @Singleton
 public final class Resource {
-    private static final String SUMMARY_FILE_NAME = "summary.json";
+    private static final String SUMMARY_FILE_NAME = "/summary.json";
+    private static final String INDEX_FILE_NAME = "/index.json";
     private static final String SCENARIO_DIRECTORY_NAME = "/scenarios";
 
     private static final MultiKeyMap<String, String> SIDE_FILE_MAP = new MultiKeyMap<>();
@@ -69,6 +73,8 @@ public final class Resource {
         SIDE_FILE_MAP.put(Side.AXIS.toString(),       AirfieldView.class.getSimpleName(),             "/enemy/airfields/axis/");
         SIDE_FILE_MAP.put(Side.ALLIES.toString(),     TaskForceView.class.getSimpleName(),            "/enemy/taskforces/allies/");
         SIDE_FILE_MAP.put(Side.AXIS.toString(),       TaskForceView.class.getSimpleName(),            "/enemy/taskforces/axis/");
+        SIDE_FILE_MAP.put(Side.ALLIES.toString(),     Visibility.class.getSimpleName(),               "/enemy/visibility/allies/");
+        SIDE_FILE_MAP.put(Side.AXIS.toString(),       Visibility.class.getSimpleName(),               "/enemy/visibility/axis/");
         SIDE_FILE_MAP.put(Side.ALLIES.toString(),     LandRegion.class.getSimpleName(),               "/maps/allies/");
         SIDE_FILE_MAP.put(Side.AXIS.toString(),       LandRegion.class.getSimpleName(),               "/maps/axis/");
         SIDE_FILE_MAP.put(Side.NEUTRAL.toString(),    LandRegion.class.getSimpleName(),               "/maps/neutral/");
@@ -90,6 +96,8 @@ public final class Resource {
     static {
         FILE_MAP.put(Game.class, "/game.json");
         FILE_MAP.put(Scenario.class, "/summary.json");
+        FILE_MAP.put(Journal.class, "/journal.bin");
+        FILE_MAP.put(OperationsLog.class, "/operations.log");
     }
 
     private static final MultiKeyMap<String, String> DEFAULT_FILE_MAP = new MultiKeyMap<>();
@@ -183,15 +191,22 @@ public final class Resource {
     }
 
     /**
-     * Get the URL of the current game's scenario directory.
+     * Get the resource name of the current game's scenario directory.
      *
-     * @return The game's scenario directory URL.
+     * @return The game's scenario directory resource name.
      */
-    public Optional<URL> getScenarioDirectory() {
-        return Optional
-                .ofNullable(getClass()
-                .getClassLoader()
-                .getResource(gameTitle.getValue() + Resource.SCENARIO_DIRECTORY_NAME));
+    public String getScenarioDirectoryName() {
+        return gameTitle.getValue() + SCENARIO_DIRECTORY_NAME;
+    }
+
+    /**
+     * Get the resource name of the current game's scenario index. The index lists the name of each of the game's
+     * scenarios and is generated by the build.
+     *
+     * @return The game's scenario index resource name.
+     */
+    public String getScenarioIndexName() {
+        return getScenarioDirectoryName() + INDEX_FILE_NAME;
     }
 
     /**
@@ -304,12 +319,12 @@ public final class Resource {
     }
 
     /**
-     * Get the given scenario's summary file.
+     * Get the resource name of the given scenario's summary file.
      *
-     * @param scenarioDirectory The scenario directory.
-     * @return The path to the scenario summary file.
+     * @param scenarioName The scenario name. This is the name of the scenario's directory.
+     * @return The scenario summary resource name.
      */
-    public Path getScenarioSummary(final String scenarioDirectory) {
-        return Paths.get(scenarioDirectory, SUMMARY_FILE_NAME);
+    public String getScenarioSummaryName(final String scenarioName) {
+        return getScenarioDirectoryName() + "/" + scenarioName + SUMMARY_FILE_NAME;
     }
 }
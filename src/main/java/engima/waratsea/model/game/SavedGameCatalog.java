@@ -0,0 +1,421 @@
+package engima.waratsea.model.game;
+
+import com.google.gson.Gson;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.data.GameData;
+import engima.waratsea.model.game.data.SavedGameCatalogData;
+import engima.waratsea.model.game.data.SavedGameEntry;
+import engima.waratsea.model.scenario.ScenarioException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A catalog of the saved games of the current game title. The catalog is a single file in the saved games
+ * directory that holds the summary of every saved game. Thus, listing the saved games is a single small read
+ * instead of parsing every saved game.
+ *
+ * The catalog records the last modified time of each scenario's saved game directory. A saved game directory
+ * that is added or removed changes the modified time of its scenario directory. Only the scenarios whose
+ * modified time differs from the catalog are scanned again. Within a scanned scenario, only the saved games
+ * whose game file has changed are parsed. Saved games that no longer exist are pruned. A missing or corrupt
+ * catalog is rebuilt.
+ *
+ * The catalog is updated every time a game is saved. The catalog file is replaced atomically, so a reader
+ * never sees a partially written catalog.
+ */
+@Slf4j
+@Singleton
+public class SavedGameCatalog {
+    public static final String CATALOG_FILE_NAME = "catalog.json";
+    private static final String GAME_FILE_NAME = "game.json";
+    private static final String KEY_SEPARATOR = "/";
+
+    private static final Object LOCK = new Object();  // Serializes all reads and writes of the catalog file.
+
+    private final Resource resource;
+    private final Gson gson = new Gson();
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param resource The game resources.
+     */
+    @Inject
+    public SavedGameCatalog(final Resource resource) {
+        this.resource = resource;
+    }
+
+    /**
+     * Load the saved games.
+     *
+     * @return The saved game data sorted by scenario.
+     * @throws ScenarioException if the saved games directory cannot be found.
+     */
+    public List<GameData> load() throws ScenarioException {
+        return getEntries()
+                .stream()
+                .map(SavedGameEntry::getGame)
+                .sorted()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the catalog entries of all the saved games. The catalog is validated against the saved game
+     * directories first.
+     *
+     * @return The saved game catalog entries.
+     * @throws ScenarioException if the saved games directory cannot be found.
+     */
+    public List<SavedGameEntry> getEntries() throws ScenarioException {
+        Path root = getRoot().orElseThrow(() -> new ScenarioException("Unable to find the saved games directory"));
+
+        synchronized (LOCK) {
+            if (!Files.isDirectory(root)) {
+                return new ArrayList<>();
+            }
+
+            SavedGameCatalogData catalog = read(root).orElseGet(SavedGameCatalogData::new);
+
+            if (validate(root, catalog)) {
+                write(root, catalog);
+            }
+
+            return new ArrayList<>(catalog.getEntries());
+        }
+    }
+
+    /**
+     * Update the catalog with a saved game. This is called once all of the saved game's files are written.
+     *
+     * @param game The saved game data.
+     * @param savedGameDirectory The saved game directory.
+     */
+    public void update(final GameData game, final Path savedGameDirectory) {
+        Optional<Path> rootPath = getRoot();
+
+        if (rootPath.isEmpty()) {
+            log.error("Unable to find the saved games directory. Saved game catalog not updated");
+            return;
+        }
+
+        Path root = rootPath.get();
+
+        synchronized (LOCK) {
+            SavedGameCatalogData catalog = read(root).orElseGet(SavedGameCatalogData::new);
+
+            validate(root, catalog);
+
+            String key = getKey(savedGameDirectory);
+
+            Map<String, SavedGameEntry> entries = toMap(catalog.getEntries());
+            buildEntry(key, savedGameDirectory, game, System.currentTimeMillis())
+                    .ifPresent(entry -> entries.put(key, entry));
+            catalog.setEntries(new ArrayList<>(entries.values()));
+
+            write(root, catalog);
+        }
+    }
+
+    /**
+     * Validate the catalog against the saved game directories. The scenarios whose saved game directory has
+     * changed since the catalog was last written are scanned again.
+     *
+     * @param root The saved games directory.
+     * @param catalog The catalog.
+     * @return True if the catalog was changed. False otherwise.
+     */
+    private boolean validate(final Path root, final SavedGameCatalogData catalog) {
+        boolean changed = false;
+
+        Map<String, Long> scenarioModified = catalog.getScenarioModified();
+        Map<String, SavedGameEntry> entries = toMap(catalog.getEntries());
+
+        File[] scenarioDirs = Optional
+                .ofNullable(root.toFile().listFiles(File::isDirectory))
+                .orElseGet(() -> new File[0]);
+
+        Set<String> scenarios = Arrays
+                .stream(scenarioDirs)
+                .map(File::getName)
+                .collect(Collectors.toSet());
+
+        for (String scenario : new HashSet<>(scenarioModified.keySet())) {
+            if (!scenarios.contains(scenario)) {                                                                          // The scenario's saved games were all removed.
+                scenarioModified.remove(scenario);
+                entries.keySet().removeIf(key -> isInScenario(key, scenario));
+                changed = true;
+            }
+        }
+
+        for (File scenarioDir : scenarioDirs) {
+            String scenario = scenarioDir.getName();
+            long modified = scenarioDir.lastModified();
+
+            if (!scenarioDir.canRead() || Long.valueOf(modified).equals(scenarioModified.get(scenario))) {
+                continue;
+            }
+
+            log.debug("Scan saved games of scenario '{}'", scenario);
+
+            scan(scenarioDir, entries);
+            scenarioModified.put(scenario, modified);
+            changed = true;
+        }
+
+        catalog.setEntries(new ArrayList<>(entries.values()));
+
+        return changed;
+    }
+
+    /**
+     * Scan a scenario's saved game directory. Saved games whose game file is unchanged keep their catalog entry.
+     * Saved games that are new or changed are read. Saved games that no longer exist are removed.
+     *
+     * @param scenarioDir The scenario's saved game directory.
+     * @param entries The catalog entries keyed by saved game directory.
+     */
+    private void scan(final File scenarioDir, final Map<String, SavedGameEntry> entries) {
+        String scenario = scenarioDir.getName();
+
+        Map<String, SavedGameEntry> current = Stream
+                .of(Optional.ofNullable(scenarioDir.listFiles(File::isDirectory)).orElseGet(() -> new File[0]))
+                .map(File::toPath)
+                .map(dir -> getEntry(dir, entries))
+                .flatMap(Optional::stream)
+                .collect(Collectors.toMap(SavedGameEntry::getDirectory, Function.identity()));
+
+        entries.keySet().removeIf(key -> isInScenario(key, scenario));
+        entries.putAll(current);
+    }
+
+    /**
+     * Get the catalog entry of the given saved game directory. The existing entry is used if the saved game's
+     * game file has not changed.
+     *
+     * @param savedGameDirectory The saved game directory.
+     * @param entries The existing catalog entries.
+     * @return The saved game's catalog entry.
+     */
+    private Optional<SavedGameEntry> getEntry(final Path savedGameDirectory, final Map<String, SavedGameEntry> entries) {
+        Path gameFile = savedGameDirectory.resolve(GAME_FILE_NAME);
+
+        if (!Files.isRegularFile(gameFile)) {
+            return Optional.empty();
+        }
+
+        String key = getKey(savedGameDirectory);
+        SavedGameEntry existing = entries.get(key);
+
+        if (existing != null && existing.getModified() == gameFile.toFile().lastModified()) {
+            return Optional.of(existing);
+        }
+
+        return readGame(gameFile)
+                .flatMap(game -> buildEntry(key, savedGameDirectory, game, gameFile.toFile().lastModified()));
+    }
+
+    /**
+     * Build a catalog entry.
+     *
+     * @param key The catalog key of the saved game.
+     * @param savedGameDirectory The saved game directory.
+     * @param game The saved game data.
+     * @param saveTime The time at which the game was saved.
+     * @return The catalog entry.
+     */
+    private Optional<SavedGameEntry> buildEntry(final String key, final Path savedGameDirectory, final GameData game, final long saveTime) {
+        Path gameFile = savedGameDirectory.resolve(GAME_FILE_NAME);
+
+        try (Stream<Path> files = Files.walk(savedGameDirectory)) {
+            long size = files
+                    .map(Path::toFile)
+                    .filter(File::isFile)
+                    .mapToLong(File::length)
+                    .sum();
+
+            SavedGameEntry entry = new SavedGameEntry();
+            entry.setDirectory(key);
+            entry.setGame(game);
+            entry.setSaveTime(saveTime);
+            entry.setModified(gameFile.toFile().lastModified());
+            entry.setSize(size);
+
+            return Optional.of(entry);
+        } catch (IOException | RuntimeException ex) {
+            log.error("Unable to catalog saved game: '{}'", savedGameDirectory, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read a saved game's game file.
+     *
+     * @param gameFile The game file.
+     * @return The saved game data.
+     */
+    private Optional<GameData> readGame(final Path gameFile) {
+        log.debug("load game data with path '{}'", gameFile);
+
+        try (BufferedReader br = Files.newBufferedReader(gameFile, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(gson.fromJson(br, GameData.class));
+        } catch (Exception ex) {                                                                                        // Catch any Gson errors.
+            log.error("Unable to read game data: '{}'", gameFile, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Read the catalog file.
+     *
+     * @param root The saved games directory.
+     * @return The catalog. Empty if the catalog is missing or corrupt.
+     */
+    private Optional<SavedGameCatalogData> read(final Path root) {
+        Path path = root.resolve(CATALOG_FILE_NAME);
+
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return Optional
+                    .ofNullable(gson.fromJson(br, SavedGameCatalogData.class))
+                    .filter(this::isValid);
+        } catch (Exception ex) {                                                                                        // Catch any Gson errors.
+            log.warn("Saved game catalog '{}' is corrupt. It will be rebuilt", path, ex);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Write the catalog file. The catalog is written to a temporary file that then replaces the catalog file.
+     *
+     * @param root The saved games directory.
+     * @param catalog The catalog.
+     */
+    private void write(final Path root, final SavedGameCatalogData catalog) {
+        Path path = root.resolve(CATALOG_FILE_NAME);
+        Path temp = null;
+
+        try {
+            Files.createDirectories(root);
+            temp = Files.createTempFile(root, CATALOG_FILE_NAME, ".tmp");
+
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                gson.toJson(catalog, writer);
+            }
+
+            move(temp, path);
+        } catch (IOException ex) {
+            log.error("Unable to write the saved game catalog '{}'", path, ex);
+            deleteQuietly(temp);
+        }
+    }
+
+    /**
+     * Replace the catalog file with the newly written temporary file.
+     *
+     * @param temp The temporary file.
+     * @param path The catalog file.
+     * @throws IOException if the file cannot be moved.
+     */
+    private void move(final Path temp, final Path path) throws IOException {
+        try {
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Delete a file ignoring any errors.
+     *
+     * @param path The file to delete. May be null.
+     */
+    private void deleteQuietly(final Path path) {
+        try {
+            if (path != null) {
+                Files.deleteIfExists(path);
+            }
+        } catch (IOException ex) {
+            log.warn("Unable to delete '{}'", path);
+        }
+    }
+
+    /**
+     * Determine if the catalog read from the file is complete.
+     *
+     * @param catalog The catalog read from the file.
+     * @return True if the catalog is valid. False otherwise.
+     */
+    private boolean isValid(final SavedGameCatalogData catalog) {
+        return catalog.getScenarioModified() != null
+                && catalog.getEntries() != null
+                && catalog.getEntries().stream().allMatch(entry -> entry != null && entry.getDirectory() != null && entry.getGame() != null);
+    }
+
+    /**
+     * Get the saved games directory.
+     *
+     * @return The saved games directory.
+     */
+    private Optional<Path> getRoot() {
+        return resource
+                .getSavedDirectory()
+                .map(url -> new File(url.getPath()).toPath());
+    }
+
+    /**
+     * Get the catalog key of a saved game directory. The key is the scenario name and the saved game name.
+     *
+     * @param savedGameDirectory The saved game directory.
+     * @return The catalog key.
+     */
+    private String getKey(final Path savedGameDirectory) {
+        return savedGameDirectory.getParent().getFileName() + KEY_SEPARATOR + savedGameDirectory.getFileName();
+    }
+
+    /**
+     * Determine if a catalog key belongs to the given scenario.
+     *
+     * @param key The catalog key.
+     * @param scenario The scenario name.
+     * @return True if the key is one of the scenario's saved games.
+     */
+    private boolean isInScenario(final String key, final String scenario) {
+        return key.startsWith(scenario + KEY_SEPARATOR);
+    }
+
+    /**
+     * Convert the catalog entries into a map keyed by saved game directory.
+     *
+     * @param entries The catalog entries.
+     * @return A sorted map of the catalog entries.
+     */
+    private Map<String, SavedGameEntry> toMap(final List<SavedGameEntry> entries) {
+        return entries
+                .stream()
+                .collect(Collectors.toMap(SavedGameEntry::getDirectory, Function.identity(), (first, second) -> second, TreeMap::new));
+    }
+}
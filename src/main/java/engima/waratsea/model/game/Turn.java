@@ -4,26 +4,27 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import engima.waratsea.model.game.data.TurnData;
 import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.model.game.journal.Journal;
 import engima.waratsea.model.game.rules.GameRules;
 import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.utility.metrics.Histogram;
+import engima.waratsea.utility.metrics.Metrics;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
-import java.text.SimpleDateFormat;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.Date;
-import java.util.List;
 import java.util.Optional;
 
 import static engima.waratsea.model.game.TurnIndex.DAY_1;
-import static engima.waratsea.model.game.TurnType.DAY;
-import static engima.waratsea.model.game.TurnType.TWILIGHT;
-import static engima.waratsea.model.game.TurnType.NIGHT;
 
 /**
  * Represents the game's turn.
+ *
+ * The turn's date, type and month are looked up in the campaign calendar, which is built when the game starts or is
+ * loaded.
  */
 @Singleton
 @Slf4j
@@ -40,42 +41,53 @@ public class Turn {
     @Getter
     private TurnIndex index;         //Used to determine the type of turn.
 
-    private Date date;
+    private CampaignCalendar calendar;
 
-    // A day consists of 3 day turns, 1 twilight turn and 2 night turns.
-    private static final List<TurnType> DAY_TURNS = new ArrayList<>(Arrays.asList(DAY, DAY, DAY, TWILIGHT, NIGHT, NIGHT));
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd MMM yyyy");
+
+    private static final Histogram TURN_TIMING = Metrics.histogram("turn.next");
 
     private final Phases phases;
+    private final Journal journal;
 
     /**
      * Constructor called by guice.
      *
      * @param rules The game rules.
      * @param phases The game turn phases.
+     * @param journal The game journal.
      */
     @Inject
     public Turn(final GameRules rules,
-                final Phases phases) {
+                final Phases phases,
+                final Journal journal) {
         this.rules = rules;
 
         this.number = 1;
         this.index = DAY_1;
 
-        this.type = DAY_TURNS.get(index.getValue());
+        this.type = CampaignCalendar.getTurnType(index);
 
         this.phases = phases;
+        this.journal = journal;
     }
 
     /**
-     * Initialize the turn from the persistent turn data.
+     * Initialize the turn from the persistent turn data. Games saved before the turn's day was saved only have the
+     * turn's date.
      *
      * @param data The persistent turn data.
      */
     public void init(final TurnData data) {
+        LocalDate day = Optional
+                .ofNullable(data.getDay())
+                .map(LocalDate::parse)
+                .orElseGet(() -> toLocalDate(data.getDate()));
+
         number = data.getTurn();
-        index = data.getIndex();
-        date = data.getDate();
-        type = DAY_TURNS.get(index.getValue());
+        calendar = new CampaignCalendar(rules, number, day, data.getIndex(), 0);
+        index = calendar.getIndex(number);
+        type = calendar.getType(number);
     }
 
     /**
@@ -87,7 +99,8 @@ public class Turn {
         TurnData data = new TurnData();
         data.setTurn(number);
         data.setIndex(index);
-        data.setDate(date);
+        data.setDay(getLocalDate().toString());
+        data.setDate(getDate());
         return data;
     }
 
@@ -97,9 +110,19 @@ public class Turn {
      * @return The game's current date.
      */
     public Date getDate() {
-        return new Date(date.getTime());
+        return Date.from(getLocalDate()
+                .atStartOfDay(ZoneId.systemDefault())
+                .toInstant());
     }
 
+    /**
+     * Get the game's current date.
+     *
+     * @return The game's current date.
+     */
+    public LocalDate getLocalDate() {
+        return calendar.getDate(number);
+    }
 
     /**
      * Set the game's current date.
@@ -107,16 +130,16 @@ public class Turn {
      * @param scenario The selected scenario
      */
     public void start(final Scenario scenario) {
-        date = new Date(scenario.getDate().getTime());
-
-        index = Optional
+        TurnIndex startIndex = Optional
                 .ofNullable(scenario.getTurnIndex())
                 .orElse(DAY_1);
 
-        type = DAY_TURNS.get(index.getValue());
+        calendar = new CampaignCalendar(rules, number, toLocalDate(scenario.getDate()), startIndex, scenario.getMaxTurns());
 
-        SimpleDateFormat simpleDateFormat = new SimpleDateFormat("dd MMM yyyy");
-        String dateString = simpleDateFormat.format(date);
+        index = calendar.getIndex(number);
+        type = calendar.getType(number);
+
+        String dateString = DATE_FORMAT.format(getLocalDate());
 
         log.info("Starting Date: '{}', Turn:  {}, Type: {}", new Object[]{dateString, number, type});
 
@@ -128,19 +151,23 @@ public class Turn {
      * Advance the game turn.
      */
     public void next() {
+        long start = Metrics.start();
+
         number++;
 
-        index = index.next();
-        if (index == DAY_1) {
-            incrementDay();
-        }
+        index = calendar.getIndex(number);
+        type = calendar.getType(number);
 
-        type = DAY_TURNS.get(index.getValue());
+        journal.beginTurn(number);
 
         phases.execute();
 
         TurnEvent turnEvent = new TurnEvent(number);
         turnEvent.fire();
+
+        journal.endTurn();
+
+        TURN_TIMING.stop(start);
     }
 
     /**
@@ -163,29 +190,28 @@ public class Turn {
      * time of year (month).
      */
     public TurnType getTrue() {
-        return type.getTrue(rules, getMonth());
+        return calendar.getTrue(number);
     }
 
     /**
      * Get the game's current month.
      *
-     * @return The game's current month 1-12.
+     * @return The game's current month. A Calendar month constant, 0-11.
      */
     public int getMonth() {
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-        return calendar.get(Calendar.MONTH);
+        return calendar.getMonth(number);
     }
 
     /**
-     * Increment the date.
+     * Convert a date to the local calendar date.
+     *
+     * @param date The date.
+     * @return The local calendar date.
      */
-    private void incrementDay() {
-        date = Optional.ofNullable(date).map(d -> {
-            Calendar calendar = Calendar.getInstance();
-            calendar.setTime(d);
-            calendar.add(Calendar.DAY_OF_MONTH, 1);
-            return calendar.getTime();
-        }).orElse(null);
+    private LocalDate toLocalDate(final Date date) {
+        return date
+                .toInstant()
+                .atZone(ZoneId.systemDefault())
+                .toLocalDate();
     }
 }
@@ -0,0 +1,17 @@
+package engima.waratsea.model.game.data;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The persistent data of the saved game catalog.
+ */
+@Data
+public class SavedGameCatalogData {
+    private Map<String, Long> scenarioModified = new HashMap<>();   // The last modified time of each scenario's saved game directory.
+    private List<SavedGameEntry> entries = new ArrayList<>();
+}
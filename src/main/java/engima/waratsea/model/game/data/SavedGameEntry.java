@@ -0,0 +1,15 @@
+package engima.waratsea.model.game.data;
+
+import lombok.Data;
+
+/**
+ * A saved game catalog entry. This is the summary of a single saved game that is shown on the load screen.
+ */
+@Data
+public class SavedGameEntry {
+    private String directory;    // The saved game directory relative to the saved games directory: scenario/savedGameName.
+    private GameData game;       // The saved game's summary: scenario, side, turn and date.
+    private long saveTime;       // The time at which the game was saved in milliseconds since the epoch.
+    private long modified;       // The last modified time of the saved game's game.json file.
+    private long size;           // The total size in bytes of all the saved game's files.
+}
@@ -13,4 +13,5 @@ public class TurnData {
     private int turn;            //One day equals 6 turns.
     private TurnIndex index;     //Used to determine the type of turn.
     private Date date;           //The current game date.
+    private String day;          //The current game date in ISO-8601 format. Not present in older saved games.
 }
@@ -1,5 +1,7 @@
 package engima.waratsea.model.game.event;
 
+import engima.waratsea.utility.metrics.Histogram;
+import engima.waratsea.utility.metrics.Metrics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
@@ -13,6 +15,9 @@ import java.util.stream.Collectors;
 /**
  * This class is responsible for delivering events to event handlers.
  *
+ * The number of events fired and the time spent in the event handlers is recorded in the
+ * event's metrics histogram.
+ *
  * @param <E> The type of event.
  */
 @Slf4j
@@ -20,9 +25,11 @@ public class EventDispatcher<E extends Event> {
     private final Map<Object, EventHandler<E>> map = new HashMap<>();
     private final Set<Object> preserve = new HashSet<>();
     private final String name;
+    private final Histogram timing;
 
     public EventDispatcher(final String name) {
         this.name = name;
+        this.timing = Metrics.histogram("event." + name);
     }
 
     /**
@@ -88,8 +95,12 @@ public class EventDispatcher<E extends Event> {
         // interested in the event. Thus, it unregisters to keep from receiving unwanted events. If we don't copy
         // the handlers we may end up with the map's keys being modified while we are trying to iterate over them.
         // This can lead to an memory corruption exception.
+        long start = Metrics.start();
+
         List<EventHandler<E>> copyOfHandlers = new ArrayList<>(map.values());
 
         copyOfHandlers.forEach(h -> h.notify(e));
+
+        timing.stop(start);
     }
 }
@@ -66,8 +66,11 @@ public class AirfieldEvent extends Event {
      */
     @Override
     public void fire() {
-        String asset = Optional.ofNullable(by).map(a -> "by" + a).orElse("");
-        log.info("Fire event: {} {} {}", new Object[]{airfield.getName(), action, asset});
+        if (log.isDebugEnabled()) {                 // Fired events are recorded by the operations log.
+            String asset = Optional.ofNullable(by).map(a -> "by" + a).orElse("");
+            log.debug("Fire event: {} {} {}", new Object[]{airfield.getName(), action, asset});
+        }
+
         DISPATCHER.fire(this);
     }
 }
@@ -65,6 +65,19 @@ public class AirfieldEventMatcher implements PersistentData<AirfieldMatchData> {
         return data;
     }
 
+    /**
+     * Determines if a fired airfield event of the given side and action may match. Only the side and the action
+     * are examined. The remaining match criteria are not.
+     *
+     * @param firedSide The side of the fired event's airfield.
+     * @param firedAction The action of the fired event.
+     * @return True if the side and action match. False otherwise.
+     */
+    public boolean isTriggeredBy(final Side firedSide, final AirfieldEventAction firedAction) {
+        return side == firedSide
+                && isActionEqual(firedAction);
+    }
+
     /**
      * Determines if two airfield events are equal.
      *
@@ -72,8 +85,7 @@ public class AirfieldEventMatcher implements PersistentData<AirfieldMatchData> {
      * @return True if the airfield event matches. False otherwise.
      */
     public boolean match(final AirfieldEvent firedEvent) {
-        return side == firedEvent.getAirfield().getSide()
-                && isActionEqual(firedEvent.getAction())
+        return isTriggeredBy(firedEvent.getAirfield().getSide(), firedEvent.getAction())
                 && isNameEqual(firedEvent.getAirfield().getName())
                 && isByEqual(firedEvent.getBy());
     }
@@ -68,10 +68,14 @@ public class ShipEvent extends Event {
      * Log the event.
      */
     private void log() {
+        if (!log.isDebugEnabled()) {                // Fired events are recorded by the operations log.
+            return;
+        }
+
         if (by == null) {
-            log.info("Fire event: {} {} at {}", new Object[]{ship.getName(), action, ship.getTaskForce().getReference()});
+            log.debug("Fire event: {} {} at {}", new Object[]{ship.getName(), action, ship.getTaskForce().getReference()});
         } else {
-            log.info("Fire event: {} {} at {} by {}", new Object[]{ship.getName(), action, ship.getTaskForce().getReference(), by});
+            log.debug("Fire event: {} {} at {} by {}", new Object[]{ship.getName(), action, ship.getTaskForce().getReference(), by});
         }
     }
 }
@@ -100,6 +100,19 @@ public class ShipEventMatcher implements PersistentData<ShipMatchData> {
         return data;
     }
 
+    /**
+     * Determines if a fired ship event of the given side and action may match. Only the side and the action
+     * are examined. The remaining match criteria are not.
+     *
+     * @param firedSide The side of the fired event's ship.
+     * @param firedAction The action of the fired event.
+     * @return True if the side and action match. False otherwise.
+     */
+    public boolean isTriggeredBy(final Side firedSide, final ShipEventAction firedAction) {
+        return side == firedSide
+                && isActionEqual(firedAction);
+    }
+
     /**
      * Determines if the fired event matches the desired event.
      *
@@ -107,8 +120,7 @@ public class ShipEventMatcher implements PersistentData<ShipMatchData> {
      * @return True if the ship event matches. False otherwise.
      */
     public boolean match(final ShipEvent firedEvent) {
-        return side == firedEvent.getShip().getShipId().getSide()
-                && isActionEqual(firedEvent.getAction())
+        return isTriggeredBy(firedEvent.getShip().getShipId().getSide(), firedEvent.getAction())
                 && isShipTypeEqual(firedEvent.getShip())
                 && isNameEqual(firedEvent.getShip())
                 && isTaskForceNameEqual(firedEvent.getShip())
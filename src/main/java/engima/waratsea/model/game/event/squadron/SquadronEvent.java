@@ -68,10 +68,14 @@ public class SquadronEvent extends Event {
      * Log the event.
      */
     private void log() {
+        if (!log.isDebugEnabled()) {                // Fired events are recorded by the operations log.
+            return;
+        }
+
         if (by == null) {
-            log.info("Fire event: {} {} at {}", new Object[]{squadron.getName(), action, squadron.getReference()});
+            log.debug("Fire event: {} {} at {}", new Object[]{squadron.getName(), action, squadron.getReference()});
         } else {
-            log.info("Fire event: {} {} at {} by {}", new Object[]{squadron.getName(), action, squadron.getReference(), by});
+            log.debug("Fire event: {} {} at {} by {}", new Object[]{squadron.getName(), action, squadron.getReference(), by});
         }
     }
 }
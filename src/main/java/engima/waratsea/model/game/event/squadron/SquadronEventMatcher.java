@@ -93,6 +93,19 @@ public class SquadronEventMatcher implements PersistentData<SquadronMatchData> {
         return data;
     }
 
+    /**
+     * Determines if a fired squadron event of the given side and action may match. Only the side and the action
+     * are examined. The remaining match criteria are not.
+     *
+     * @param firedSide The side of the fired event's squadron.
+     * @param firedAction The action of the fired event.
+     * @return True if the side and action match. False otherwise.
+     */
+    public boolean isTriggeredBy(final Side firedSide, final SquadronEventAction firedAction) {
+        return side == firedSide
+                && isActionEqual(firedAction);
+    }
+
     /**
      * Determines if fired Squadron event matches.
      *
@@ -100,8 +113,7 @@ public class SquadronEventMatcher implements PersistentData<SquadronMatchData> {
      * @return True if the squadron event matches. False otherwise.
      */
     public boolean match(final SquadronEvent firedEvent) {
-        return side == firedEvent.getSquadron().getSide()
-                && isActionEqual(firedEvent.getAction())
+        return isTriggeredBy(firedEvent.getSquadron().getSide(), firedEvent.getAction())
                 && isSquadronTypeEqual(firedEvent.getSquadron())
                 && isSquadronNameEqual(firedEvent.getSquadron())
                 && isAircraftModelEqual(firedEvent.getSquadron())
@@ -0,0 +1,288 @@
+package engima.waratsea.model.game.journal;
+
+import com.google.gson.Gson;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.base.Airbase;
+import engima.waratsea.model.base.airfield.mission.AirMission;
+import engima.waratsea.model.base.airfield.patrol.PatrolType;
+import engima.waratsea.model.game.Resource;
+import engima.waratsea.model.game.event.airfield.AirfieldEvent;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.squadron.SquadronEvent;
+import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.utility.Dice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+/**
+ * The game journal. An append only binary record of everything that happens in the game from the time the
+ * game was last saved. The saved game plus the journal is enough to replay the game exactly.
+ *
+ * The journal is restarted each time the game is saved and is written to the saved game's directory. Thus,
+ * the saved game is always the starting point of the journal.
+ *
+ * The journal records:
+ *
+ *  - The dice seed of every game turn. Every turn reseeds the dice so that a turn can be replayed exactly.
+ *  - The result of every dice roll. These are used to verify that a replay matches the original game.
+ *  - Every player order. These are mission additions, patrol updates, airbase clears and task force moves.
+ *    Orders are only recorded between game turns. Anything ordered during a turn is a consequence of the
+ *    turn and is reproduced by replaying the turn.
+ *  - Every fired ship, squadron, airfield and turn event.
+ *
+ * @see JournalReplay
+ */
+@Slf4j
+@Singleton
+public class Journal {
+    private final Dice dice;
+    private final Resource resource;
+    private final Gson gson = new Gson();
+
+    private DataOutputStream out;
+    private SplittableRandom seeds;
+    private int turn;
+    private boolean inTurn;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param dice The dice utility.
+     * @param resource The game resources.
+     */
+    @Inject
+    public Journal(final Dice dice,
+                   final Resource resource) {
+        this.dice = dice;
+        this.resource = resource;
+    }
+
+    /**
+     * Get the path of the current saved game's journal.
+     *
+     * @return The path of the current saved game's journal.
+     */
+    public Path getPath() {
+        return Paths.get(resource.getSavedFileName(Journal.class));
+    }
+
+    /**
+     * Determine if the journal is recording.
+     *
+     * @return True if the journal is recording. False otherwise.
+     */
+    public boolean isActive() {
+        return out != null;
+    }
+
+    /**
+     * Restart the journal. Any existing journal for the current saved game is replaced.
+     *
+     * @param turnNumber The current game turn.
+     */
+    public void restart(final int turnNumber) {
+        stop();
+
+        Path path = getPath();
+
+        try {
+            Files.createDirectories(Optional.ofNullable(path.getParent()).orElseThrow(IOException::new));
+            out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (IOException ex) {
+            log.error("Unable to start the journal '{}'", path, ex);
+            return;
+        }
+
+        long seed = new SplittableRandom().nextLong();
+
+        seeds = new SplittableRandom(seed);
+        turn = turnNumber;
+        inTurn = false;
+
+        write(new JournalEntry(JournalEntryType.START, turn, seed));
+        flush();
+
+        dice.setRecorder(this::recordRoll);
+
+        ShipEvent.register(this, event -> recordEvent(event.getClass(), event.getAction() + " " + event.getShip().getName()));
+        SquadronEvent.register(this, event -> recordEvent(event.getClass(), event.getAction() + " " + event.getSquadron().getName()));
+        AirfieldEvent.register(this, event -> recordEvent(event.getClass(), event.getAction() + " " + event.getAirfield().getName()));
+        TurnEvent.register(this, event -> recordEvent(event.getClass(), Integer.toString(event.getTurn())));
+    }
+
+    /**
+     * Stop the journal.
+     */
+    public void stop() {
+        if (out == null) {
+            return;
+        }
+
+        dice.setRecorder(null);
+
+        ShipEvent.unregister(this);
+        SquadronEvent.unregister(this);
+        AirfieldEvent.unregister(this);
+        TurnEvent.unregister(this);
+
+        try {
+            out.close();
+        } catch (IOException ex) {
+            log.error("Unable to close the journal", ex);
+        }
+
+        out = null;
+    }
+
+    /**
+     * Indicate that a game turn is starting. The dice are reseeded with the turn's seed.
+     *
+     * @param turnNumber The number of the game turn that is starting.
+     */
+    public void beginTurn(final int turnNumber) {
+        if (out == null) {
+            return;
+        }
+
+        long turnSeed = seeds.nextLong();
+
+        turn = turnNumber;
+        inTurn = true;
+
+        write(new JournalEntry(JournalEntryType.TURN, turn, turnSeed));
+        dice.setSeed(turnSeed);
+    }
+
+    /**
+     * Indicate that the current game turn is complete.
+     */
+    public void endTurn() {
+        inTurn = false;
+        flush();
+    }
+
+    /**
+     * Record that a mission was added to an airbase.
+     *
+     * @param airbase The airbase.
+     * @param mission The mission.
+     */
+    public void recordMission(final Airbase airbase, final AirMission mission) {
+        recordOrder(JournalEntryType.MISSION, airbase.getName(), gson.toJson(mission.getData()));
+    }
+
+    /**
+     * Record that an airbase's patrol was updated.
+     *
+     * @param airbase The airbase.
+     * @param patrolType The type of patrol.
+     * @param squadrons The squadrons added to the patrol.
+     */
+    public void recordPatrol(final Airbase airbase, final PatrolType patrolType, final List<Squadron> squadrons) {
+        String[] values = Stream.concat(
+                Stream.of(airbase.getName(), patrolType.name()),
+                squadrons.stream().map(Squadron::getName))
+                .toArray(String[]::new);
+
+        recordOrder(JournalEntryType.PATROL, values);
+    }
+
+    /**
+     * Record that an airbase's missions and patrols were cleared.
+     *
+     * @param airbase The airbase.
+     */
+    public void recordClear(final Airbase airbase) {
+        recordOrder(JournalEntryType.CLEAR, airbase.getName());
+    }
+
+    /**
+     * Record that a task force was moved.
+     *
+     * @param taskForce The task force.
+     */
+    public void recordTaskForce(final TaskForce taskForce) {
+        String reference = Optional.ofNullable(taskForce.getReference()).orElse("");
+        recordOrder(JournalEntryType.TASK_FORCE, taskForce.getName(), reference);
+    }
+
+    /**
+     * Record a player's order. Orders given during a game turn are not recorded as they are a
+     * consequence of the turn.
+     *
+     * @param type The type of order.
+     * @param values The order's values.
+     */
+    private void recordOrder(final JournalEntryType type, final String... values) {
+        if (out != null && !inTurn) {
+            write(new JournalEntry(type, turn, 0, values));
+            flush();
+        }
+    }
+
+    /**
+     * Record a dice roll.
+     *
+     * @param result The result of the roll.
+     */
+    private void recordRoll(final int result) {
+        write(new JournalEntry(JournalEntryType.ROLL, turn, result));
+    }
+
+    /**
+     * Record a game event.
+     *
+     * @param eventClass The class of event.
+     * @param description A description of the event.
+     */
+    private void recordEvent(final Class<?> eventClass, final String description) {
+        write(new JournalEntry(JournalEntryType.EVENT, turn, 0, eventClass.getSimpleName(), description));
+    }
+
+    /**
+     * Write an entry to the journal. A journal that cannot be written is stopped.
+     *
+     * @param entry The journal entry.
+     */
+    private void write(final JournalEntry entry) {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            entry.write(out);
+        } catch (IOException ex) {
+            log.error("Unable to write to the journal. The journal is stopped", ex);
+            stop();
+        }
+    }
+
+    /**
+     * Flush the journal to disk.
+     */
+    private void flush() {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.flush();
+        } catch (IOException ex) {
+            log.error("Unable to flush the journal. The journal is stopped", ex);
+            stop();
+        }
+    }
+}
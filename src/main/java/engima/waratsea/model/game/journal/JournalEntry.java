@@ -0,0 +1,89 @@
+package engima.waratsea.model.game.journal;
+
+import lombok.Getter;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A single entry of the game journal.
+ *
+ * An entry is written in binary as: the entry type code, the game turn, a number and a list of strings.
+ * The meaning of the number and the strings depend upon the type of entry.
+ */
+public class JournalEntry {
+    @Getter private final JournalEntryType type;
+    @Getter private final int turn;
+    @Getter private final long number;
+    @Getter private final List<String> values;
+
+    /**
+     * Constructor.
+     *
+     * @param type The type of entry.
+     * @param turn The game turn on which the entry was made.
+     * @param number The entry's number.
+     * @param values The entry's values.
+     */
+    public JournalEntry(final JournalEntryType type, final int turn, final long number, final String... values) {
+        this.type = type;
+        this.turn = turn;
+        this.number = number;
+        this.values = Arrays.asList(values);
+    }
+
+    /**
+     * Get the entry's value at the given index.
+     *
+     * @param index The index of the value.
+     * @return The entry's value.
+     */
+    public String getValue(final int index) {
+        return values.get(index);
+    }
+
+    /**
+     * Write this entry.
+     *
+     * @param out The journal's output stream.
+     * @throws IOException if the entry cannot be written.
+     */
+    public void write(final DataOutputStream out) throws IOException {
+        out.writeByte(type.ordinal());
+        out.writeInt(turn);
+        out.writeLong(number);
+        out.writeShort(values.size());
+
+        for (String value : values) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);    // Mission data may exceed the 64K limit of writeUTF.
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * Read an entry.
+     *
+     * @param in The journal's input stream.
+     * @return The entry read.
+     * @throws IOException if the entry cannot be read.
+     */
+    public static JournalEntry read(final DataInputStream in) throws IOException {
+        JournalEntryType type = JournalEntryType.fromCode(in.readUnsignedByte());
+        int turn = in.readInt();
+        long number = in.readLong();
+        String[] values = new String[in.readUnsignedShort()];
+
+        for (int i = 0; i < values.length; i++) {
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            values[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        return new JournalEntry(type, turn, number, values);
+    }
+}
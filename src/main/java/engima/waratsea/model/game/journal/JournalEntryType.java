@@ -0,0 +1,27 @@
+package engima.waratsea.model.game.journal;
+
+/**
+ * The types of game journal entries.
+ */
+public enum JournalEntryType {
+    START,       // The journal is started. The number is the journal's master seed.
+    TURN,        // A game turn is executed. The number is the dice seed of the turn.
+    ROLL,        // A dice roll. The number is the result of the roll.
+    MISSION,     // A mission is added. The values are the airbase name and the mission's JSON data.
+    PATROL,      // A patrol is updated. The values are the airbase name, the patrol type and the squadron names.
+    CLEAR,       // An airbase's missions and patrols are cleared. The value is the airbase name.
+    TASK_FORCE,  // A task force is moved. The values are the task force name and its new map reference.
+    EVENT;       // A game event is fired. The values are the event type and a description of the event.
+
+    private static final JournalEntryType[] VALUES = values();
+
+    /**
+     * Get the journal entry type from its binary code.
+     *
+     * @param code The binary code of the entry type.
+     * @return The corresponding journal entry type.
+     */
+    public static JournalEntryType fromCode(final int code) {
+        return VALUES[code];
+    }
+}
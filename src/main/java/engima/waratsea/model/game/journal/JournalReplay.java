@@ -0,0 +1,258 @@
+package engima.waratsea.model.game.journal;
+
+import com.google.gson.Gson;
+import com.google.inject.Inject;
+import engima.waratsea.model.base.Airbase;
+import engima.waratsea.model.base.airfield.mission.MissionDAO;
+import engima.waratsea.model.base.airfield.mission.data.MissionData;
+import engima.waratsea.model.base.airfield.patrol.PatrolType;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.data.GameData;
+import engima.waratsea.model.map.MapException;
+import engima.waratsea.model.player.Player;
+import engima.waratsea.model.scenario.ScenarioException;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.victory.VictoryException;
+import engima.waratsea.utility.Dice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Replays a game journal. The game is rebuilt from the saved game that started the journal. Then the
+ * journal's player orders are applied and each game turn is executed with the turn's recorded dice seed.
+ *
+ * A replay should be run with an injector that has not built any of the game's views. Thus, no UI work is
+ * done and a replay runs much faster than the original game. The replay may be stopped at any game turn.
+ *
+ * The dice rolls of each replayed turn are compared to the rolls recorded in the journal. The first turn
+ * whose rolls differ is reported. This indicates that the game is no longer deterministic.
+ */
+@Slf4j
+public class JournalReplay {
+    private final Game game;
+    private final Dice dice;
+    private final MissionDAO missionDAO;
+    private final Gson gson = new Gson();
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param game The game.
+     * @param dice The dice utility.
+     * @param missionDAO The mission data access object.
+     */
+    @Inject
+    public JournalReplay(final Game game,
+                         final Dice dice,
+                         final MissionDAO missionDAO) {
+        this.game = game;
+        this.dice = dice;
+        this.missionDAO = missionDAO;
+    }
+
+    /**
+     * Read all the entries of the given journal.
+     *
+     * @param path The journal file.
+     * @return The journal's entries in the order they were recorded.
+     * @throws IOException if the journal cannot be read.
+     */
+    public static List<JournalEntry> read(final Path path) throws IOException {
+        List<JournalEntry> entries = new ArrayList<>();
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            while (true) {
+                entries.add(JournalEntry.read(in));
+            }
+        } catch (EOFException ex) {
+            log.debug("Read {} journal entries from '{}'", entries.size(), path);
+        }
+
+        return entries;
+    }
+
+    /**
+     * Replay the given journal entries up to and including the given game turn.
+     *
+     * @param savedGame The saved game that started the journal.
+     * @param entries The journal entries.
+     * @param toTurn The last game turn that is replayed.
+     * @return The result of the replay.
+     * @throws ScenarioException if the saved game's scenario cannot be loaded.
+     * @throws MapException if the saved game's map cannot be loaded.
+     * @throws VictoryException if the saved game's victory conditions cannot be loaded.
+     */
+    public JournalReplayResult replay(final GameData savedGame, final List<JournalEntry> entries, final int toTurn) throws ScenarioException, MapException, VictoryException {
+        game.init(savedGame);
+        game.startExisting();
+
+        List<Integer> rolls = new ArrayList<>();
+        dice.setRecorder(rolls::add);
+
+        int turnsReplayed = 0;
+        int ordersApplied = 0;
+        int divergentTurn = JournalReplayResult.NO_DIVERGENCE;
+
+        try {
+            for (int i = 0; i < entries.size(); i++) {
+                JournalEntry entry = entries.get(i);
+
+                if (entry.getType() == JournalEntryType.TURN) {
+                    if (entry.getTurn() > toTurn) {
+                        break;
+                    }
+
+                    rolls.clear();
+                    dice.setSeed(entry.getNumber());
+                    game.getTurn().next();
+                    turnsReplayed++;
+
+                    if (divergentTurn == JournalReplayResult.NO_DIVERGENCE && !rolls.equals(getRecordedRolls(entries, i))) {
+                        log.warn("Journal replay diverges on turn: {}", entry.getTurn());
+                        divergentTurn = entry.getTurn();
+                    }
+                } else if (applyOrder(entry)) {
+                    ordersApplied++;
+                }
+            }
+        } finally {
+            dice.setRecorder(null);
+        }
+
+        return JournalReplayResult
+                .builder()
+                .turnsReplayed(turnsReplayed)
+                .finalTurn(game.getTurn().getNumber())
+                .ordersApplied(ordersApplied)
+                .divergentTurn(divergentTurn)
+                .build();
+    }
+
+    /**
+     * Get the dice rolls recorded for the game turn that starts at the given journal entry.
+     *
+     * @param entries The journal entries.
+     * @param turnIndex The index of the turn's journal entry.
+     * @return The dice rolls recorded during the turn.
+     */
+    private List<Integer> getRecordedRolls(final List<JournalEntry> entries, final int turnIndex) {
+        return entries
+                .subList(turnIndex + 1, entries.size())
+                .stream()
+                .takeWhile(entry -> entry.getType() == JournalEntryType.ROLL || entry.getType() == JournalEntryType.EVENT)
+                .filter(entry -> entry.getType() == JournalEntryType.ROLL)
+                .map(entry -> (int) entry.getNumber())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Apply a player order.
+     *
+     * @param entry A journal entry.
+     * @return True if the entry was a player order. False otherwise.
+     */
+    private boolean applyOrder(final JournalEntry entry) {
+        switch (entry.getType()) {
+            case MISSION:
+                applyMission(entry);
+                return true;
+            case PATROL:
+                applyPatrol(entry);
+                return true;
+            case CLEAR:
+                getAirbase(entry.getValue(0)).clear();
+                return true;
+            case TASK_FORCE:
+                applyTaskForce(entry);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Add a recorded mission to its airbase.
+     *
+     * @param entry The mission journal entry.
+     */
+    private void applyMission(final JournalEntry entry) {
+        Airbase airbase = getAirbase(entry.getValue(0));
+        MissionData data = gson.fromJson(entry.getValue(1), MissionData.class);
+        data.setAirbase(airbase);
+
+        airbase.addMission(missionDAO.load(data));
+    }
+
+    /**
+     * Update a recorded airbase patrol.
+     *
+     * @param entry The patrol journal entry.
+     */
+    private void applyPatrol(final JournalEntry entry) {
+        Airbase airbase = getAirbase(entry.getValue(0));
+        PatrolType patrolType = PatrolType.valueOf(entry.getValue(1));
+        Set<String> names = new HashSet<>(entry.getValues().subList(2, entry.getValues().size()));
+
+        List<Squadron> squadrons = airbase
+                .getSquadrons()
+                .stream()
+                .filter(squadron -> names.contains(squadron.getName()))
+                .collect(Collectors.toList());
+
+        airbase.updatePatrol(patrolType, squadrons);
+    }
+
+    /**
+     * Move a recorded task force.
+     *
+     * @param entry The task force journal entry.
+     */
+    private void applyTaskForce(final JournalEntry entry) {
+        String reference = entry.getValue(1);
+
+        TaskForce taskForce = getPlayers()
+                .map(player -> player.getTaskForce(entry.getValue(0)))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Journal task force not found: " + entry.getValue(0)));
+
+        taskForce.setReference(reference.isEmpty() ? null : reference);
+    }
+
+    /**
+     * Get the airbase with the given name.
+     *
+     * @param name The airbase name.
+     * @return The airbase.
+     */
+    private Airbase getAirbase(final String name) {
+        return getPlayers()
+                .map(player -> player.getAirbase(name))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Journal airbase not found: " + name));
+    }
+
+    /**
+     * Get the players that give orders.
+     *
+     * @return The human and computer players.
+     */
+    private Stream<Player> getPlayers() {
+        return Stream.of(game.getHumanPlayer(), game.getComputerPlayer());
+    }
+}
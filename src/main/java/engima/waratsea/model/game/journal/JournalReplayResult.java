@@ -0,0 +1,26 @@
+package engima.waratsea.model.game.journal;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * The result of replaying a game journal.
+ */
+@Builder
+public class JournalReplayResult {
+    public static final int NO_DIVERGENCE = -1;
+
+    @Getter private final int turnsReplayed;         // The number of game turns replayed.
+    @Getter private final int finalTurn;             // The game turn reached by the replay.
+    @Getter private final int ordersApplied;         // The number of player orders applied.
+    @Getter private final int divergentTurn;         // The first turn whose dice rolls did not match the journal.
+
+    /**
+     * Determine if the replay reproduced every recorded dice roll.
+     *
+     * @return True if the replay matches the journal. False otherwise.
+     */
+    public boolean isExact() {
+        return divergentTurn == NO_DIVERGENCE;
+    }
+}
@@ -0,0 +1,60 @@
+package engima.waratsea.model.game.operations;
+
+import lombok.Getter;
+
+/**
+ * A game operations log record. Records are created by the operations log writer once they are drained from
+ * the operations log ring buffer. They are never created on the thread that logs the operation.
+ */
+public class OperationRecord {
+    @Getter private final long sequence;
+    @Getter private final int turn;
+    @Getter private final OperationType type;
+    @Getter private final String subject;   // The unit that does the operation.
+    @Getter private final String action;    // What the unit does.
+    @Getter private final String target;    // The unit or location on which the operation is done. May be null.
+    @Getter private final int value;        // Shots fired, distance or mission id.
+    @Getter private final int result;       // Hits scored. Zero if the operation has no result.
+
+    /**
+     * Constructor.
+     *
+     * @param sequence The record's sequence number.
+     * @param turn The game turn on which the operation occurred.
+     * @param type The type of operation.
+     * @param subject The unit that does the operation.
+     * @param action What the unit does.
+     * @param target The unit or location on which the operation is done.
+     * @param value The operation's value.
+     * @param result The operation's result.
+     */
+    //CHECKSTYLE:OFF
+    public OperationRecord(final long sequence,
+                           final int turn,
+                           final OperationType type,
+                           final String subject,
+                           final String action,
+                           final String target,
+                           final int value,
+                           final int result) {
+    //CHECKSTYLE:ON
+        this.sequence = sequence;
+        this.turn = turn;
+        this.type = type;
+        this.subject = subject;
+        this.action = action;
+        this.target = target;
+        this.value = value;
+        this.result = result;
+    }
+
+    /**
+     * Get the compact single line representation of the record that is written to the operations log file.
+     * The fields are tab separated.
+     *
+     * @return The record's operations log file line.
+     */
+    public String toLine() {
+        return sequence + "\t" + turn + "\t" + type + "\t" + subject + "\t" + action + "\t" + target + "\t" + value + "\t" + result;
+    }
+}
@@ -0,0 +1,11 @@
+package engima.waratsea.model.game.operations;
+
+/**
+ * The types of game operations log records.
+ */
+public enum OperationType {
+    COMBAT,     // A unit fires at an enemy. Anti-air fire, for example.
+    SPOTTING,   // A unit spots an enemy unit.
+    MISSION,    // An air mission is ordered.
+    EVENT       // A game event is fired.
+}
@@ -0,0 +1,430 @@
+package engima.waratsea.model.game.operations;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.Turn;
+import engima.waratsea.model.game.event.airfield.AirfieldEvent;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.squadron.SquadronEvent;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * The game operations log. This is a typed record of the combat, spotting, mission and event operations of the
+ * game. It replaces the per operation INFO logging of the game's hot paths.
+ *
+ * Logging an operation does not allocate. The operation's fields are copied into a pre-allocated slot of a
+ * lock-free ring buffer. Many threads may log at once. A slot is claimed with a compare and set of the claim
+ * sequence and is published with a volatile write of the slot's sequence. If the ring buffer is full the
+ * operation is dropped and counted rather than blocking the game.
+ *
+ * A single background writer drains the ring buffer. It appends each record as a tab separated line to the
+ * current game's operations log file and keeps the most recent records of each type for each turn in memory.
+ * The in memory records are read by the UI and tests.
+ */
+@Slf4j
+@Singleton
+public class OperationsLog {
+    private static final int CAPACITY = 4096;                       // Must be a power of two.
+    private static final int MASK = CAPACITY - 1;
+    private static final int RECORDS_PER_TURN = 256;                // The records kept in memory per type per turn.
+    private static final int TURNS_KEPT = 64;                       // The number of turns of records kept in memory.
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final String COMBAT_ACTION = "fires";
+    private static final String SPOT_ACTION = "spots";
+
+    /**
+     * A pre-allocated ring buffer slot.
+     */
+    private static final class Slot {
+        private volatile long published = -1;   // The sequence of the operation in the slot. Written last.
+        private int turn;
+        private OperationType type;
+        private String subject;
+        private Object action;
+        private Object target;
+        private int value;
+        private int result;
+    }
+
+    private final Provider<Turn> turnProvider;
+
+    private final Slot[] slots = new Slot[CAPACITY];
+    private final AtomicLong claimed = new AtomicLong();            // The next sequence to be claimed by a producer.
+    private final AtomicLong drained = new AtomicLong();            // The next sequence to be drained by the writer.
+    private final LongAdder dropped = new LongAdder();
+
+    private final AtomicBoolean writerStarted = new AtomicBoolean();
+    private volatile Thread writer;
+    private final AtomicReference<Optional<Path>> fileRequest = new AtomicReference<>();  // Empty requests the log file be closed.
+    private BufferedWriter out;                                     // Only accessed by the writer thread.
+
+    private final Map<OperationType, TreeMap<Integer, Deque<OperationRecord>>> history = new EnumMap<>(OperationType.class);
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param turnProvider Provides the game turn.
+     */
+    @Inject
+    public OperationsLog(final Provider<Turn> turnProvider) {
+        this.turnProvider = turnProvider;
+
+        for (int i = 0; i < CAPACITY; i++) {
+            slots[i] = new Slot();
+        }
+
+        for (OperationType type : OperationType.values()) {
+            history.put(type, new TreeMap<>());
+        }
+    }
+
+    /**
+     * Start logging a game's operations. The game's events are logged and the records are written to the given file.
+     * This is called once the game's events are initialized.
+     *
+     * @param path The game's operations log file.
+     */
+    public void start(final Path path) {
+        fileRequest.set(Optional.of(path));
+
+        ShipEvent.register(this, event -> event(event.getShip().getName(), event.getAction(), event.getShip().getTaskForce().getReference()));
+        SquadronEvent.register(this, event -> event(event.getSquadron().getName(), event.getAction(), event.getSquadron().getReference()));
+        AirfieldEvent.register(this, event -> event(event.getAirfield().getName(), event.getAction(), event.getBy()));
+
+        startWriter();
+    }
+
+    /**
+     * Stop logging the current game's operations. Everything logged so far is written and the log file is closed.
+     */
+    public void stop() {
+        ShipEvent.unregister(this);
+        SquadronEvent.unregister(this);
+        AirfieldEvent.unregister(this);
+
+        flush();
+        fileRequest.set(Optional.empty());
+    }
+
+    /**
+     * Log combat. A unit fires at an enemy.
+     *
+     * @param attacker The unit that fires.
+     * @param weapon The weapon that is fired.
+     * @param shots The number of shots fired.
+     * @param hits The number of hits scored.
+     */
+    public void combat(final String attacker, final String weapon, final int shots, final int hits) {
+        log(OperationType.COMBAT, attacker, COMBAT_ACTION, weapon, shots, hits);
+    }
+
+    /**
+     * Log spotting. A unit spots an enemy.
+     *
+     * @param spotter The unit that spots.
+     * @param target The enemy that is spotted.
+     * @param distance The distance in grids at which the enemy is spotted.
+     */
+    public void spotting(final String spotter, final String target, final int distance) {
+        log(OperationType.SPOTTING, spotter, SPOT_ACTION, target, distance, 0);
+    }
+
+    /**
+     * Log an air mission.
+     *
+     * @param airbase The airbase that launches the mission.
+     * @param missionType The type of air mission.
+     * @param target The mission's target.
+     * @param missionId The mission's id.
+     */
+    public void mission(final String airbase, final Object missionType, final String target, final int missionId) {
+        log(OperationType.MISSION, airbase, missionType, target, missionId, 0);
+    }
+
+    /**
+     * Log a fired game event.
+     *
+     * @param subject The unit that experiences the event.
+     * @param action The event action.
+     * @param location The location of the event or the asset that caused it.
+     */
+    public void event(final String subject, final Object action, final Object location) {
+        log(OperationType.EVENT, subject, action, location, 0, 0);
+    }
+
+    /**
+     * Get the most recent combat records of the given turn.
+     *
+     * @param turn The game turn.
+     * @param count The maximum number of records returned.
+     * @return The combat records oldest first.
+     */
+    public List<OperationRecord> getCombat(final int turn, final int count) {
+        return getRecent(OperationType.COMBAT, turn, count);
+    }
+
+    /**
+     * Get the most recent records of the given type and turn. Only records that the writer has drained are
+     * returned. Call {@link #flush()} first to include everything logged so far.
+     *
+     * @param type The type of operation.
+     * @param turn The game turn.
+     * @param count The maximum number of records returned.
+     * @return The records oldest first.
+     */
+    public List<OperationRecord> getRecent(final OperationType type, final int turn, final int count) {
+        TreeMap<Integer, Deque<OperationRecord>> turns = history.get(type);
+
+        synchronized (turns) {
+            Deque<OperationRecord> records = turns.get(turn);
+
+            if (records == null) {
+                return Collections.emptyList();
+            }
+
+            List<OperationRecord> recent = new ArrayList<>(Math.min(count, records.size()));
+            Iterator<OperationRecord> iterator = records.descendingIterator();
+
+            while (iterator.hasNext() && recent.size() < count) {
+                recent.add(iterator.next());
+            }
+
+            Collections.reverse(recent);
+            return recent;
+        }
+    }
+
+    /**
+     * Get the number of operations dropped because the ring buffer was full.
+     *
+     * @return The number of dropped operations.
+     */
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Wait until every operation logged before this call is drained by the writer.
+     */
+    public void flush() {
+        long target = claimed.get();
+
+        startWriter();
+
+        while (drained.get() < target) {
+            LockSupport.unpark(writer);
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Claim a ring buffer slot and copy the operation into it. The operation is dropped if the ring buffer is full.
+     *
+     * @param type The type of operation.
+     * @param subject The unit that does the operation.
+     * @param action What the unit does.
+     * @param target The unit or location on which the operation is done.
+     * @param value The operation's value.
+     * @param result The operation's result.
+     */
+    //CHECKSTYLE:OFF
+    private void log(final OperationType type, final String subject, final Object action, final Object target, final int value, final int result) {
+    //CHECKSTYLE:ON
+        long sequence;
+
+        do {
+            sequence = claimed.get();
+
+            if (sequence - drained.get() >= CAPACITY) {
+                dropped.increment();
+                return;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        Slot slot = slots[(int) (sequence & MASK)];
+        slot.turn = turnProvider.get().getNumber();
+        slot.type = type;
+        slot.subject = subject;
+        slot.action = action;
+        slot.target = target;
+        slot.value = value;
+        slot.result = result;
+        slot.published = sequence;                                  // Publish the slot to the writer.
+
+        startWriter();
+    }
+
+    /**
+     * Start the background writer if it is not already running.
+     */
+    private void startWriter() {
+        if (writerStarted.compareAndSet(false, true)) {
+            Thread thread = new Thread(this::write, "operations-log");
+            thread.setDaemon(true);
+            writer = thread;
+            thread.start();
+        }
+
+        while (writer == null) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * The background writer. Drains the ring buffer forever.
+     */
+    private void write() {
+        while (!Thread.currentThread().isInterrupted()) {
+            switchFile();
+
+            if (!drain()) {
+                flushFile();
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    /**
+     * Drain all of the published operations from the ring buffer.
+     *
+     * @return True if any operations were drained. False otherwise.
+     */
+    private boolean drain() {
+        boolean any = false;
+        long next = drained.get();
+
+        while (true) {
+            Slot slot = slots[(int) (next & MASK)];
+
+            if (slot.published != next) {
+                break;
+            }
+
+            OperationRecord record = new OperationRecord(next, slot.turn, slot.type, slot.subject,
+                    String.valueOf(slot.action), Optional.ofNullable(slot.target).map(String::valueOf).orElse(null),
+                    slot.value, slot.result);
+
+            slot.subject = null;                                    // Do not hold on to the game's objects.
+            slot.action = null;
+            slot.target = null;
+
+            next++;
+            drained.set(next);                                      // Free the slot for the producers.
+
+            save(record);
+            any = true;
+        }
+
+        return any;
+    }
+
+    /**
+     * Save a drained record to the log file and the in memory history.
+     *
+     * @param record The drained record.
+     */
+    private void save(final OperationRecord record) {
+        if (out != null) {
+            try {
+                out.write(record.toLine());
+                out.newLine();
+            } catch (IOException ex) {
+                log.error("Unable to write the operations log", ex);
+                closeFile();
+            }
+        }
+
+        TreeMap<Integer, Deque<OperationRecord>> turns = history.get(record.getType());
+
+        synchronized (turns) {
+            Deque<OperationRecord> records = turns.computeIfAbsent(record.getTurn(), turn -> new ArrayDeque<>());
+            records.addLast(record);
+
+            if (records.size() > RECORDS_PER_TURN) {
+                records.removeFirst();
+            }
+
+            while (turns.size() > TURNS_KEPT) {
+                turns.pollFirstEntry();
+            }
+        }
+    }
+
+    /**
+     * Close the current log file or switch to a new log file if requested.
+     */
+    private void switchFile() {
+        Optional<Path> request = fileRequest.getAndSet(null);
+
+        if (request == null) {
+            return;
+        }
+
+        closeFile();
+
+        if (request.isEmpty()) {
+            return;
+        }
+
+        Path path = request.get();
+
+        try {
+            Files.createDirectories(Optional.ofNullable(path.getParent()).orElseThrow(IOException::new));
+            out = Files.newBufferedWriter(path, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException ex) {
+            log.error("Unable to open the operations log '{}'", path, ex);
+        }
+    }
+
+    /**
+     * Flush the log file.
+     */
+    private void flushFile() {
+        if (out != null) {
+            try {
+                out.flush();
+            } catch (IOException ex) {
+                log.error("Unable to flush the operations log", ex);
+                closeFile();
+            }
+        }
+    }
+
+    /**
+     * Close the log file.
+     */
+    private void closeFile() {
+        if (out != null) {
+            try {
+                out.close();
+            } catch (IOException ex) {
+                log.error("Unable to close the operations log", ex);
+            }
+            out = null;
+        }
+    }
+}
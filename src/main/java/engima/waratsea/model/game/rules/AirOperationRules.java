@@ -101,9 +101,31 @@ public class AirOperationRules {
         return dice.probabilityPercentage(factor, 1);
     }
 
+    /**
+     * Get the expected probability that the air operation will fail with a crash the given number of turns from now.
+     * The crash probability of each forecast weather type is weighted by the probability of that weather. The time
+     * of day is that of the current turn.
+     *
+     * @param airfieldType The airfield type attempting the air operation.
+     * @param action The action of the squadron: TAKE_OFF or LAND.
+     * @param horizon The number of turns from now.
+     * @return A percentage as a whole number indicating how likely a crash occurs.
+     */
+    public int getExpectedProbabilityCrash(final AirbaseType airfieldType, final SquadronAction action, final int horizon) {
+        double expected = weather
+                .getForecast(horizon)
+                .getExpected(weatherType -> dice.probabilityPercentage(getFactor(airfieldType, action, weatherType), 1));
+
+        return (int) Math.round(expected);
+    }
+
     private int getFactor(final AirbaseType airfieldType, final SquadronAction action) {
+        return getFactor(airfieldType, action, weather.getCurrent());
+    }
+
+    private int getFactor(final AirbaseType airfieldType, final SquadronAction action, final WeatherType weatherType) {
         return landingTypeMap.get(airfieldType)
-                + weatherMap.get(action).get(weather.getCurrent())
+                + weatherMap.get(action).get(weatherType)
                 + turnTypeMap.get(action).get(turn.getTrue());
     }
 }
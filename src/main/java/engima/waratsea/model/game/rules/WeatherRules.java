@@ -11,19 +11,37 @@ import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiFunction;
+import java.util.function.IntSupplier;
 
 /**
  * This class represents the weather rules for games.
  *
  * For some games the next turns weather may vary based on the time of year.
+ *
+ * A few rules roll a second die. The second die is supplied to the rule, so that the weather model can enumerate
+ * every outcome of the rules. A rule rolls at most one second die.
  */
 @Singleton
 public class WeatherRules {
     private final GameTitle gameTitle;
     private final Dice dice;
 
-    private final Map<GameName, Map<Integer, BiFunction<WeatherType, Integer, WeatherType>>> weatherMap = new HashMap<>();
+    /**
+     * A weather rule for a single die result.
+     */
+    private interface WeatherRule {
+        /**
+         * Determine the new weather.
+         *
+         * @param current The current weather.
+         * @param month The current month.
+         * @param secondRoll Rolls a second die if the rule requires one.
+         * @return The new weather.
+         */
+        WeatherType apply(WeatherType current, int month, IntSupplier secondRoll);
+    }
+
+    private final Map<GameName, Map<Integer, WeatherRule>> weatherMap = new HashMap<>();
 
     private final Set<Integer> mediterraneanWinterMonths = Set.of(Calendar.JANUARY, Calendar.FEBRUARY, Calendar.OCTOBER, Calendar.NOVEMBER, Calendar.DECEMBER);
     private final Set<Integer> arcticSummerMonths = Set.of(Calendar.JUNE, Calendar.JULY, Calendar.AUGUST, Calendar.SEPTEMBER);
@@ -53,10 +71,23 @@ public class WeatherRules {
      * @return The new weather.
      */
     public WeatherType determineWeather(final int result, final WeatherType current, final int month) {
+        return determineWeather(result, current, month, dice::roll);
+    }
+
+    /**
+     * Execute the weather rule with the given second die. Determine the turn's weather.
+     *
+     * @param result The dice result.
+     * @param current The current weather.
+     * @param month The current month.
+     * @param secondRoll Supplies the second die result of the rules that roll a second die.
+     * @return The new weather.
+     */
+    public WeatherType determineWeather(final int result, final WeatherType current, final int month, final IntSupplier secondRoll) {
         return weatherMap
                 .get(gameTitle.getName())
                 .get(result)
-                .apply(current, month);
+                .apply(current, month, secondRoll);
     }
     /**
      * Build the weather rules.
@@ -69,19 +100,19 @@ public class WeatherRules {
         final int rollFive = 5;
         final int rollSix = 6;
 
-        BiFunction<WeatherType, Integer, WeatherType> worsen = (weather, month) -> weather.worsen();
-        BiFunction<WeatherType, Integer, WeatherType> improve = (weather, month) -> weather.improve();
-        BiFunction<WeatherType, Integer, WeatherType> same = (weather, month) -> weather.noChange();
-        BiFunction<WeatherType, Integer, WeatherType> monthDependent = this::determineWeather;
+        WeatherRule worsen = (weather, month, secondRoll) -> weather.worsen();
+        WeatherRule improve = (weather, month, secondRoll) -> weather.improve();
+        WeatherRule same = (weather, month, secondRoll) -> weather.noChange();
+        WeatherRule monthDependent = (weather, month, secondRoll) -> determineWeather(weather, month);
 
-        BiFunction<WeatherType, Integer, WeatherType> arcticRollOne = this::getArcticWeatherRollOne;
-        BiFunction<WeatherType, Integer, WeatherType> arcticRollTwo = this::getArcticWeatherRollTwo;
-        BiFunction<WeatherType, Integer, WeatherType> arcticRollThree = this::getArcticWeatherRollThree;
-        BiFunction<WeatherType, Integer, WeatherType> arcticRollFour = this::getArcticWeatherRollFour;
-        BiFunction<WeatherType, Integer, WeatherType> arcticRollFive = this::getArcticWeatherRollFive;
-        BiFunction<WeatherType, Integer, WeatherType> arcticRollSix = this::getArcticWeatherRollSix;
+        WeatherRule arcticRollOne = (weather, month, secondRoll) -> getArcticWeatherRollOne(weather, month);
+        WeatherRule arcticRollTwo = (weather, month, secondRoll) -> getArcticWeatherRollTwo(weather, month);
+        WeatherRule arcticRollThree = (weather, month, secondRoll) -> getArcticWeatherRollThree(weather, month);
+        WeatherRule arcticRollFour = (weather, month, secondRoll) -> getArcticWeatherRollFour(weather, month);
+        WeatherRule arcticRollFive = (weather, month, secondRoll) -> getArcticWeatherRollFive(weather, month);
+        WeatherRule arcticRollSix = this::getArcticWeatherRollSix;
 
-        Map<Integer, BiFunction<WeatherType, Integer, WeatherType>> bombAlleyWeather = new HashMap<>();
+        Map<Integer, WeatherRule> bombAlleyWeather = new HashMap<>();
 
         bombAlleyWeather.put(rollOne, improve);
         bombAlleyWeather.put(rollTwo, improve);
@@ -90,7 +121,7 @@ public class WeatherRules {
         bombAlleyWeather.put(rollFive, monthDependent);
         bombAlleyWeather.put(rollSix, worsen);
 
-        Map<Integer, BiFunction<WeatherType, Integer, WeatherType>> coralSeaWeather = new HashMap<>();
+        Map<Integer, WeatherRule> coralSeaWeather = new HashMap<>();
 
         coralSeaWeather.put(rollOne, improve);
         coralSeaWeather.put(rollTwo, improve);
@@ -99,7 +130,7 @@ public class WeatherRules {
         coralSeaWeather.put(rollFive, same);
         coralSeaWeather.put(rollSix, worsen);
 
-        Map<Integer, BiFunction<WeatherType, Integer, WeatherType>> arcticConvoyWeather = new HashMap<>();
+        Map<Integer, WeatherRule> arcticConvoyWeather = new HashMap<>();
 
         arcticConvoyWeather.put(rollOne, arcticRollOne);
         arcticConvoyWeather.put(rollTwo, arcticRollTwo);
@@ -144,8 +175,8 @@ public class WeatherRules {
         return arcticSummerMonths.contains(month) ? getArcticSummerRollFive(current) : getArcticWinterRollFive(current);
     }
 
-    private WeatherType getArcticWeatherRollSix(final WeatherType current, final int month) {
-        return arcticSummerMonths.contains(month) ? current.worsen() : getArcticWinterRollSix(current);
+    private WeatherType getArcticWeatherRollSix(final WeatherType current, final int month, final IntSupplier secondRoll) {
+        return arcticSummerMonths.contains(month) ? current.worsen() : getArcticWinterRollSix(current, secondRoll);
     }
 
     private WeatherType getArcticSummerRollOne(final WeatherType current) {
@@ -254,7 +285,7 @@ public class WeatherRules {
         }
     }
 
-    private WeatherType getArcticWinterRollSix(final WeatherType current) {
+    private WeatherType getArcticWinterRollSix(final WeatherType current, final IntSupplier secondRoll) {
         switch (current) {
             case CLEAR:
             case CLOUDY:
@@ -263,7 +294,7 @@ public class WeatherRules {
             case SQUALL:
                 return WeatherType.STORM;
             case STORM:
-                int die = dice.roll();
+                int die = secondRoll.getAsInt();
                 return die > rollThree ? WeatherType.GALE : WeatherType.STORM;
             default:
                 return WeatherType.GALE;
@@ -8,6 +8,7 @@ import engima.waratsea.model.base.airfield.Airfield;
 import engima.waratsea.model.base.port.Port;
 import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.journal.Journal;
 import engima.waratsea.model.map.region.Region;
 import engima.waratsea.model.map.region.RegionDAO;
 import engima.waratsea.model.map.region.RegionGrid;
@@ -23,7 +24,11 @@ import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.collections4.map.MultiKeyMap;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -58,10 +63,14 @@ public final class GameMap {
     private final Provider<BaseGrid> baseGridProvider;
     private final Provider<TaskForceGrid> taskForceGridProvider;
     private final Provider<RegionGrid> regionGridProvider;
+    private final Journal journal;
 
     @Getter private final int rows;
     @Getter private final int columns;
 
+    @Getter private int baseVersion;        // Changes whenever the map's bases and regions are loaded.
+    @Getter private int taskForceVersion;   // Changes whenever a task force is placed, moved or removed.
+
     private final MultiKeyMap<Integer, GameGrid> gridMap = new MultiKeyMap<>();          //Row, Column to Game grid map.
     private final Map<String, GameGrid> gridRefMap = new HashMap<>();                    //Map reference to Game grid map.
 
@@ -99,6 +108,7 @@ public final class GameMap {
      * @param baseGridProvider Provides base grids.
      * @param taskForceGridProvider Provides task force grids.
      * @param regionGridProvider Provides region grids.
+     * @param journal The game journal.
      */
     @Inject
     public GameMap(final MapProps props,
@@ -106,12 +116,14 @@ public final class GameMap {
                    final MinefieldDAO minefieldDAO,
                    final Provider<BaseGrid> baseGridProvider,
                    final Provider<TaskForceGrid> taskForceGridProvider,
-                   final Provider<RegionGrid> regionGridProvider) throws MapException {
+                   final Provider<RegionGrid> regionGridProvider,
+                   final Journal journal) throws MapException {
         this.regionDAO = regionDAO;
         this.minefieldDAO = minefieldDAO;
         this.baseGridProvider = baseGridProvider;
         this.taskForceGridProvider = taskForceGridProvider;
         this.regionGridProvider = regionGridProvider;
+        this.journal = journal;
 
         try {
             rows = props.getInt("rows");
@@ -178,6 +190,9 @@ public final class GameMap {
         taskForceGrids.put(Side.ALLIES, new ArrayList<>());
         taskForceGrids.put(Side.AXIS, new ArrayList<>());
         taskForceGrids.put(Side.NEUTRAL, new ArrayList<>());
+
+        baseVersion++;
+        taskForceVersion++;
     }
 
     /**
@@ -296,11 +311,41 @@ public final class GameMap {
      * @param taskForce The task force added to this map.
      */
     public void updateTaskForce(final TaskForce taskForce) {
-        if (taskForce.getReference() != null) {
-            addTaskForce(taskForce);
-        } else {
-            removeTaskForce(taskForce);
+        updateTaskForces(List.of(taskForce));
+    }
+
+    /**
+     * Add or remove task forces to/from this map. The task force grids of each affected side are rebuilt in a single
+     * pass, so the cost is proportional to the number of task force grids and not to the number of grids times the
+     * number of task forces updated. A task force without a map reference is removed from the map.
+     *
+     * @param updated The task forces whose map references have changed.
+     */
+    public void updateTaskForces(final Collection<TaskForce> updated) {
+        if (updated.isEmpty()) {
+            return;
         }
+
+        updated.forEach(journal::recordTaskForce);
+
+        taskForceVersion++;
+
+        Set<TaskForce> updatedSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        updatedSet.addAll(updated);
+
+        updated
+                .stream()
+                .map(TaskForce::getSide)
+                .distinct()
+                .forEach(side -> regroupTaskForces(side, updatedSet));
+
+        updated.forEach(taskForce -> {
+            removeFromPort(taskForce);
+
+            if (taskForce.getReference() != null && isAtFriendlyPort(taskForce)) {
+                addToPort(taskForce);
+            }
+        });
     }
 
     /**
@@ -462,14 +507,19 @@ public final class GameMap {
         int columnOne = gridOne.map(GameGrid::getColumn).orElse(0);
         int columnTwo = gridTwo.map(GameGrid::getColumn).orElse(0);
 
-        int columnDiff = Math.abs(columnTwo - columnOne);
-        int rowDiff = Math.abs(rowTwo - rowOne);
+        return determineDistance(rowOne, columnOne, rowTwo, columnTwo);
+    }
 
-        if (columnDiff > rowDiff) {
-            return columnDiff;
-        } else {
-            return columnDiff + determineRowDiff(rowOne, rowTwo, columnOne, columnTwo);
-        }
+    /**
+     * Determine the distance between two different game grids. This avoids the map reference
+     * lookups and is used by the turn phases that compute many distances per turn.
+     *
+     * @param gridOne a given game grid.
+     * @param gridTwo a given game grid.
+     * @return The distance in grids between the given two game grids.
+     */
+    public int determineDistance(final GameGrid gridOne, final GameGrid gridTwo) {
+        return determineDistance(gridOne.getRow(), gridOne.getColumn(), gridTwo.getRow(), gridTwo.getColumn());
     }
 
     /**
@@ -487,6 +537,26 @@ public final class GameMap {
         return range >= distance;
     }
 
+    /**
+     * Determine the distance between two grid coordinates.
+     *
+     * @param rowOne The row of the first grid.
+     * @param columnOne The column of the first grid.
+     * @param rowTwo The row of the second grid.
+     * @param columnTwo The column of the second grid.
+     * @return The distance in grids between the two grid coordinates.
+     */
+    private int determineDistance(final int rowOne, final int columnOne, final int rowTwo, final int columnTwo) {
+        int columnDiff = Math.abs(columnTwo - columnOne);
+        int rowDiff = Math.abs(rowTwo - rowOne);
+
+        if (columnDiff > rowDiff) {
+            return columnDiff;
+        } else {
+            return columnDiff + determineRowDiff(rowOne, rowTwo, columnOne, columnTwo);
+        }
+    }
+
     /**
      * Build the map grids.
      *
@@ -820,78 +890,48 @@ public final class GameMap {
     }
 
     /**
-     * Add a task force to the game map.
+     * Rebuild a side's task force grids. The updated task forces are removed from their old grids and added to the
+     * grids of their new map references. Existing task force grids are reused. Grids left empty are dropped.
      *
-     * @param taskForce The task force added to the game map.
+     * @param side The side: ALLIES or AXIS.
+     * @param updated The task forces whose map references have changed.
      */
-    private void addTaskForce(final TaskForce taskForce) {
-        removeTaskForce(taskForce);
-        addTaskforceToGrid(taskForce);
+    private void regroupTaskForces(final Side side, final Set<TaskForce> updated) {
+        Map<String, TaskForceGrid> gridsByReference = new LinkedHashMap<>();
 
-        if (isAtFriendlyPort(taskForce)) {
-            addToPort(taskForce);
-        }
-    }
+        for (TaskForceGrid grid : taskForceGrids.get(side)) {
+            grid.removeAll(updated);
 
-    /**
-     * Remove a task force from the game map. This happens in some games such as Arctic Convoy where
-     * at the beginning of the scenario a task force can be removed from the map and then moved to
-     * a different location.
-     *
-     * @param taskForce The task force removed from the game map.
-     */
-    private void removeTaskForce(final TaskForce taskForce) {
-        removeIfAlreadyOnMap(taskForce);
-        removeFromPort(taskForce);
-    }
-
-    /**
-     * Remove the given task force if already marked on the game map.
-     *
-     * @param taskForce The task force that is removed from the game map.
-     */
-    private void removeIfAlreadyOnMap(final TaskForce taskForce) {
-        Side side = taskForce.getSide();
+            if (grid.notEmpty()) {
+                gridsByReference.put(grid.getReference().toUpperCase(), grid);
+            }
+        }
 
-        // Find the task force's grid. Note a grid may contain several task forces.
-        List<TaskForceGrid> newTaskForceGrids = taskForceGrids
-                .get(side)
+        updated
                 .stream()
-                .peek(grid -> grid.remove(taskForce))
-                .filter(TaskForceGrid::notEmpty)
-                .collect(toList());
+                .filter(taskForce -> taskForce.getSide() == side)
+                .filter(taskForce -> taskForce.getReference() != null)
+                .forEach(taskForce -> addTaskForceToGrid(gridsByReference, taskForce));
 
-        // If the removed task force was the only task force at the game grid,
-        // then remove the game grid. It is no longer a task force grid.
-        taskForceGrids.put(side, newTaskForceGrids);
+        taskForceGrids.put(side, new ArrayList<>(gridsByReference.values()));
     }
 
     /**
-     * Add the given task force to a game grid.
+     * Add the given task force to the task force grid at its map reference. A new task force grid is created if
+     * no task force grid exists at the map reference.
      *
+     * @param gridsByReference The task force grids indexed by upper case map reference.
      * @param taskForce The task force added to the game map.
      */
-    private void addTaskforceToGrid(final TaskForce taskForce) {
-        Side side = taskForce.getSide();
+    private void addTaskForceToGrid(final Map<String, TaskForceGrid> gridsByReference, final TaskForce taskForce) {
+        String key = taskForce.getReference().toUpperCase();
+        TaskForceGrid grid = gridsByReference.get(key);
 
-        taskForceGrids
-                .get(side)
-                .stream()
-                .filter(taskForceGrid -> taskForceGrid.matches(taskForce))
-                .findFirst()
-                .ifPresentOrElse(taskForceGrid -> taskForceGrid.add(taskForce),
-                        () -> createTaskForceGrid(side, taskForce));
-    }
-
-    /**
-     * Create a task force grid.
-     *
-     * @param side The side: ALLIES or AXIS.
-     * @param taskForce The task force.
-     */
-    private void createTaskForceGrid(final Side side, final TaskForce taskForce) {
-        TaskForceGrid grid = taskForceGridProvider.get().init(taskForce);
-        taskForceGrids.get(side).add(grid);
+        if (grid == null) {
+            gridsByReference.put(key, taskForceGridProvider.get().init(taskForce));
+        } else {
+            grid.add(taskForce);
+        }
     }
 
     private boolean isAtFriendlyPort(final TaskForce taskForce) {
@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -76,6 +77,15 @@ public class TaskForceGrid implements MarkerGrid {
         taskForces.remove(taskForce);
     }
 
+    /**
+     * Remove the given task forces from this grid. Task forces that are not on this grid are ignored.
+     *
+     * @param removed The task forces to remove.
+     */
+    public void removeAll(final Set<TaskForce> removed) {
+        taskForces.removeIf(removed::contains);
+    }
+
     /**
      * Determine if this grid contains any task forces. If no task forces are present then it can be removed
      * from the game map.
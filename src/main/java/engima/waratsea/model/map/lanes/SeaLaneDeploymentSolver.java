@@ -0,0 +1,355 @@
+package engima.waratsea.model.map.lanes;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Places assets, such as mines or flotillas, at the grids that best cover the enemy's sea lanes.
+ *
+ * Each asset placed on a lane intercepts a task force using the lane with a fixed probability. The coverage of a
+ * placement is the expected fraction of the lanes on which a task force is intercepted. Each further asset on a
+ * lane adds less coverage than the one before it. An asset adjacent to an asset already placed adds less again,
+ * which spreads the assets along the lanes.
+ *
+ * The grids are chosen greedily, the grid that adds the most coverage first. As a grid's gain can only fall as
+ * assets are placed, a stale gain is an upper bound. The gains are held in a priority queue and only the grid at
+ * the head of the queue is re-evaluated (lazy greedy). Ties are broken by a seeded shuffle of the grids, so the
+ * solver is deterministic for a given seed.
+ *
+ * The greedy search stops when the number of grids is chosen or no grid adds coverage. The remaining assets are
+ * then placed at random grids. The time budget is only a safety net against a pathological set of lanes. It is far
+ * larger than any real search, so the split between the greedy and random grids does not depend on the machine's
+ * speed. A warning is logged if it ever stops the search.
+ */
+@Slf4j
+@Singleton
+public class SeaLaneDeploymentSolver {
+    private static final double INTERCEPT = 0.5;           // The probability that an asset on a lane intercepts a task force.
+    private static final double SPACING = 0.5;             // The gain factor for each adjacent asset.
+    private static final long TIME_BUDGET = TimeUnit.SECONDS.toNanos(10);
+    private static final int[] NEIGHBOR_OFFSETS = {-1, 0, 1};
+
+    /**
+     * A grid's gain in the priority queue.
+     */
+    private static final class Gain {
+        private final int candidate;
+        private final double value;
+        private final int round;      // The number of grids chosen when the gain was computed.
+
+        Gain(final int candidate, final double value, final int round) {
+            this.candidate = candidate;
+            this.value = value;
+            this.round = round;
+        }
+    }
+
+    private final GameMap gameMap;
+    private final SeaLanes seaLanes;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param seaLanes The sea lanes.
+     */
+    @Inject
+    public SeaLaneDeploymentSolver(final GameMap gameMap,
+                                   final SeaLanes seaLanes) {
+        this.gameMap = gameMap;
+        this.seaLanes = seaLanes;
+    }
+
+    /**
+     * Choose the grids that best cover the given sea lanes.
+     *
+     * @param lanes The enemy sea lanes.
+     * @param candidates The map references of the grids that may be chosen.
+     * @param number The number of grids to choose.
+     * @param seed The random seed.
+     * @return The map references of the chosen grids, in the order chosen. At most the number of candidates.
+     */
+    public List<String> solve(final List<int[]> lanes, final List<String> candidates, final int number, final long seed) {
+        long deadline = System.nanoTime() + TIME_BUDGET;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        GameGrid[] grids = shuffle(getGrids(candidates), random);
+
+        int[] cellToCandidate = new int[gameMap.getRows() * gameMap.getColumns()];
+        Arrays.fill(cellToCandidate, -1);
+
+        for (int i = 0; i < grids.length; i++) {
+            cellToCandidate[seaLanes.getCell(grids[i])] = i;
+        }
+
+        int[][] candidateLanes = getCandidateLanes(lanes, cellToCandidate, grids.length);
+        int[][] adjacent = getAdjacent(grids, cellToCandidate);
+
+        double[] laneMiss = new double[lanes.size()];                                                                   // The probability each lane's task force is not intercepted.
+        Arrays.fill(laneMiss, 1.0);
+
+        int[] adjacentChosen = new int[grids.length];
+        boolean[] chosen = new boolean[grids.length];
+        List<String> result = new ArrayList<>();
+
+        PriorityQueue<Gain> queue = new PriorityQueue<>((a, b) -> a.value != b.value
+                ? Double.compare(b.value, a.value)
+                : Integer.compare(a.candidate, b.candidate));
+
+        for (int i = 0; i < grids.length; i++) {
+            queue.add(new Gain(i, gain(i, candidateLanes, laneMiss, adjacentChosen), 0));
+        }
+
+        while (result.size() < number && !queue.isEmpty() && System.nanoTime() < deadline) {
+            Gain head = queue.poll();
+
+            if (head.round != result.size()) {
+                queue.add(new Gain(head.candidate, gain(head.candidate, candidateLanes, laneMiss, adjacentChosen), result.size()));
+                continue;
+            }
+
+            if (head.value <= 0.0) {
+                break;                                                                                                  // No grid adds coverage.
+            }
+
+            int candidate = head.candidate;
+            chosen[candidate] = true;
+            result.add(grids[candidate].getMapReference());
+
+            for (int lane : candidateLanes[candidate]) {
+                laneMiss[lane] *= 1.0 - INTERCEPT;
+            }
+
+            for (int neighbor : adjacent[candidate]) {
+                adjacentChosen[neighbor]++;
+            }
+        }
+
+        int solved = result.size();
+
+        if (solved < number && !queue.isEmpty() && System.nanoTime() >= deadline) {
+            log.warn("Sea lane deployment search stopped by its time budget after {} grids", solved);
+        }
+
+        fillRandom(grids, chosen, result, number, random);
+
+        log.debug("Chose {} grids by coverage and {} at random from {} grids", new Object[]{solved, result.size() - solved, grids.length});
+
+        return result;
+    }
+
+    /**
+     * Choose random grids. This is how assets were placed before the solver.
+     *
+     * @param candidates The map references of the grids that may be chosen.
+     * @param number The number of grids to choose.
+     * @param seed The random seed.
+     * @return The map references of the chosen grids. At most the number of candidates.
+     */
+    public List<String> selectRandom(final List<String> candidates, final int number, final long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        GameGrid[] grids = getGrids(candidates);
+
+        List<String> result = new ArrayList<>();
+        fillRandom(grids, new boolean[grids.length], result, number, random);
+        return result;
+    }
+
+    /**
+     * Get the expected coverage of the given sea lanes by assets placed at the given grids.
+     *
+     * @param lanes The enemy sea lanes.
+     * @param chosen The map references of the grids that contain an asset.
+     * @return The expected fraction of the lanes on which a task force is intercepted, from 0.0 to 1.0.
+     */
+    public double getCoverage(final List<int[]> lanes, final Collection<String> chosen) {
+        if (lanes.isEmpty()) {
+            return 0.0;
+        }
+
+        boolean[] occupied = new boolean[gameMap.getRows() * gameMap.getColumns()];
+
+        for (GameGrid grid : getGrids(chosen)) {
+            occupied[seaLanes.getCell(grid)] = true;
+        }
+
+        double covered = 0.0;
+
+        for (int[] lane : lanes) {
+            double miss = 1.0;
+
+            for (int cell : lane) {
+                if (occupied[cell]) {
+                    miss *= 1.0 - INTERCEPT;
+                }
+            }
+
+            covered += 1.0 - miss;
+        }
+
+        return covered / lanes.size();
+    }
+
+    /**
+     * Get the gain in coverage of placing an asset at the given candidate grid.
+     *
+     * @param candidate The candidate grid.
+     * @param candidateLanes The lanes through each candidate grid.
+     * @param laneMiss The probability each lane's task force is not intercepted.
+     * @param adjacentChosen The number of chosen grids adjacent to each candidate grid.
+     * @return The gain in the expected number of lanes intercepted.
+     */
+    private double gain(final int candidate, final int[][] candidateLanes, final double[] laneMiss, final int[] adjacentChosen) {
+        double gain = 0.0;
+
+        for (int lane : candidateLanes[candidate]) {
+            gain += laneMiss[lane] * INTERCEPT;
+        }
+
+        return gain * Math.pow(SPACING, adjacentChosen[candidate]);
+    }
+
+    /**
+     * Get the lanes through each candidate grid.
+     *
+     * @param lanes The sea lanes.
+     * @param cellToCandidate The candidate of each cell, -1 for cells that are not candidates.
+     * @param candidates The number of candidates.
+     * @return The indices of the lanes through each candidate grid.
+     */
+    private int[][] getCandidateLanes(final List<int[]> lanes, final int[] cellToCandidate, final int candidates) {
+        int[] counts = new int[candidates];
+
+        for (int[] lane : lanes) {
+            for (int cell : lane) {
+                int candidate = cellToCandidate[cell];
+                if (candidate >= 0) {
+                    counts[candidate]++;
+                }
+            }
+        }
+
+        int[][] candidateLanes = new int[candidates][];
+        for (int i = 0; i < candidates; i++) {
+            candidateLanes[i] = new int[counts[i]];
+        }
+
+        Arrays.fill(counts, 0);
+
+        for (int laneIndex = 0; laneIndex < lanes.size(); laneIndex++) {
+            for (int cell : lanes.get(laneIndex)) {
+                int candidate = cellToCandidate[cell];
+                if (candidate >= 0) {
+                    candidateLanes[candidate][counts[candidate]++] = laneIndex;
+                }
+            }
+        }
+
+        return candidateLanes;
+    }
+
+    /**
+     * Get the adjacent candidate grids of each candidate grid.
+     *
+     * @param grids The candidate grids.
+     * @param cellToCandidate The candidate of each cell, -1 for cells that are not candidates.
+     * @return The adjacent candidates of each candidate.
+     */
+    private int[][] getAdjacent(final GameGrid[] grids, final int[] cellToCandidate) {
+        int[][] adjacent = new int[grids.length][];
+        int[] buffer = new int[NEIGHBOR_OFFSETS.length * NEIGHBOR_OFFSETS.length];
+
+        for (int i = 0; i < grids.length; i++) {
+            GameGrid grid = grids[i];
+            int count = 0;
+
+            for (int columnOffset : NEIGHBOR_OFFSETS) {
+                for (int rowOffset : NEIGHBOR_OFFSETS) {
+                    GameGrid neighbor = gameMap.getGrid(grid.getRow() + rowOffset, grid.getColumn() + columnOffset);
+
+                    if (neighbor != null && gameMap.determineDistance(grid, neighbor) == 1) {
+                        int candidate = cellToCandidate[seaLanes.getCell(neighbor)];
+                        if (candidate >= 0) {
+                            buffer[count++] = candidate;
+                        }
+                    }
+                }
+            }
+
+            adjacent[i] = Arrays.copyOf(buffer, count);
+        }
+
+        return adjacent;
+    }
+
+    /**
+     * Choose random grids that are not already chosen until the number of grids are chosen.
+     *
+     * @param grids The candidate grids.
+     * @param chosen Indicates which candidates are already chosen.
+     * @param result The map references of the chosen grids.
+     * @param number The number of grids to choose.
+     * @param random The random generator.
+     */
+    private void fillRandom(final GameGrid[] grids, final boolean[] chosen, final List<String> result, final int number, final SplittableRandom random) {
+        List<GameGrid> remaining = new ArrayList<>();
+
+        for (int i = 0; i < grids.length; i++) {
+            if (!chosen[i]) {
+                remaining.add(grids[i]);
+            }
+        }
+
+        while (result.size() < number && !remaining.isEmpty()) {
+            GameGrid grid = remaining.remove(random.nextInt(remaining.size()));
+            result.add(grid.getMapReference());
+        }
+    }
+
+    /**
+     * Get the distinct grids of the given map references. Unknown map references are skipped.
+     *
+     * @param references The map references.
+     * @return The grids.
+     */
+    private GameGrid[] getGrids(final Collection<String> references) {
+        return references
+                .stream()
+                .map(gameMap::getGrid)
+                .flatMap(Optional::stream)
+                .distinct()
+                .collect(Collectors.toList())
+                .toArray(new GameGrid[0]);
+    }
+
+    /**
+     * Shuffle the grids.
+     *
+     * @param grids The grids.
+     * @param random The random generator.
+     * @return The given grids shuffled.
+     */
+    private GameGrid[] shuffle(final GameGrid[] grids, final SplittableRandom random) {
+        for (int i = grids.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            GameGrid swap = grids[i];
+            grids[i] = grids[j];
+            grids[j] = swap;
+        }
+
+        return grids;
+    }
+}
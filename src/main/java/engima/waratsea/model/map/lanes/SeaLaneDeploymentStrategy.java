@@ -0,0 +1,9 @@
+package engima.waratsea.model.map.lanes;
+
+/**
+ * The algorithm used to place the AI's minefields and flotillas.
+ */
+public enum SeaLaneDeploymentStrategy {
+    RANDOM,   // Place each asset at a random grid.
+    SOLVER    // Place the assets with the sea lane deployment solver.
+}
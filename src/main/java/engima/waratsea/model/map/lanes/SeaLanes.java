@@ -0,0 +1,220 @@
+package engima.waratsea.model.map.lanes;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.base.port.Port;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.map.GridType;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Computes the sea lanes of a side. A sea lane is the shortest sea path between two ports.
+ *
+ * A side's sea lanes run from each of its ports to each of its other ports, and to each enemy port. These are the
+ * routes its task forces are most likely to follow. A lane is held as the cells of the grids it passes through,
+ * where a grid's cell is its row times the number of map columns plus its column.
+ *
+ * The paths are found with a breadth first search over the grids that are not land. A port's own grid is always
+ * navigable.
+ */
+@Slf4j
+@Singleton
+public class SeaLanes {
+    private static final int[] NEIGHBOR_OFFSETS = {-1, 0, 1};
+
+    private final GameMap gameMap;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     */
+    @Inject
+    public SeaLanes(final GameMap gameMap) {
+        this.gameMap = gameMap;
+    }
+
+    /**
+     * Get the given side's sea lanes.
+     *
+     * @param side The side whose task forces use the sea lanes.
+     * @return The sea lanes. Each lane is the cells of the grids it passes through from port to port.
+     */
+    public List<int[]> getLanes(final Side side) {
+        List<GameGrid> friendlyPorts = getPortGrids(side);
+        List<GameGrid> enemyPorts = getPortGrids(side.opposite());
+
+        int cells = gameMap.getRows() * gameMap.getColumns();
+        boolean[] navigable = new boolean[cells];
+        int[][] neighbors = buildNeighbors(navigable, friendlyPorts, enemyPorts);
+
+        List<int[]> lanes = new ArrayList<>();
+        int[] parent = new int[cells];
+        int[] queue = new int[cells];
+
+        for (int i = 0; i < friendlyPorts.size(); i++) {
+            int source = getCell(friendlyPorts.get(i));
+            search(source, neighbors, parent, queue);
+
+            for (int j = i + 1; j < friendlyPorts.size(); j++) {
+                buildLane(source, getCell(friendlyPorts.get(j)), parent).ifPresent(lanes::add);
+            }
+
+            for (GameGrid enemyPort : enemyPorts) {
+                buildLane(source, getCell(enemyPort), parent).ifPresent(lanes::add);
+            }
+        }
+
+        log.debug("Side: '{}' has {} sea lanes", side, lanes.size());
+
+        return lanes;
+    }
+
+    /**
+     * Get the cell of a game grid.
+     *
+     * @param grid The game grid.
+     * @return The grid's cell.
+     */
+    public int getCell(final GameGrid grid) {
+        return grid.getRow() * gameMap.getColumns() + grid.getColumn();
+    }
+
+    /**
+     * Get the distinct grids of a side's ports.
+     *
+     * @param side The side.
+     * @return The side's port grids.
+     */
+    private List<GameGrid> getPortGrids(final Side side) {
+        return Optional
+                .ofNullable(gameMap.getPorts(side))
+                .orElse(List.of())
+                .stream()
+                .map(Port::getReference)
+                .map(gameMap::getGrid)
+                .flatMap(Optional::stream)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Build the navigable neighbors of every navigable grid.
+     *
+     * @param navigable Receives whether each cell is navigable.
+     * @param friendlyPorts The friendly port grids.
+     * @param enemyPorts The enemy port grids.
+     * @return The neighbor cells of each cell. Cells that are not navigable have no neighbors.
+     */
+    private int[][] buildNeighbors(final boolean[] navigable, final List<GameGrid> friendlyPorts, final List<GameGrid> enemyPorts) {
+        int rows = gameMap.getRows();
+        int columns = gameMap.getColumns();
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                GameGrid grid = gameMap.getGrid(row, column);
+                navigable[row * columns + column] = grid != null && grid.getType() != GridType.LAND;
+            }
+        }
+
+        friendlyPorts.forEach(grid -> navigable[getCell(grid)] = true);
+        enemyPorts.forEach(grid -> navigable[getCell(grid)] = true);
+
+        int[][] neighbors = new int[rows * columns][];
+        int[] buffer = new int[NEIGHBOR_OFFSETS.length * NEIGHBOR_OFFSETS.length];
+
+        for (int row = 0; row < rows; row++) {
+            for (int column = 0; column < columns; column++) {
+                int cell = row * columns + column;
+
+                if (!navigable[cell]) {
+                    neighbors[cell] = new int[0];
+                    continue;
+                }
+
+                GameGrid grid = gameMap.getGrid(row, column);
+                int count = 0;
+
+                for (int columnOffset : NEIGHBOR_OFFSETS) {
+                    for (int rowOffset : NEIGHBOR_OFFSETS) {
+                        GameGrid neighbor = gameMap.getGrid(row + rowOffset, column + columnOffset);
+
+                        if (neighbor != null && navigable[getCell(neighbor)] && gameMap.determineDistance(grid, neighbor) == 1) {
+                            buffer[count++] = getCell(neighbor);
+                        }
+                    }
+                }
+
+                neighbors[cell] = Arrays.copyOf(buffer, count);
+            }
+        }
+
+        return neighbors;
+    }
+
+    /**
+     * Breadth first search from the source cell. Each reached cell's parent is the cell it was reached from.
+     *
+     * @param source The source cell.
+     * @param neighbors The navigable neighbors of each cell.
+     * @param parent Receives the parent of each cell. Unreached cells have a parent of -1.
+     * @param queue The search queue.
+     */
+    private void search(final int source, final int[][] neighbors, final int[] parent, final int[] queue) {
+        Arrays.fill(parent, -1);
+
+        int head = 0;
+        int tail = 0;
+
+        parent[source] = source;
+        queue[tail++] = source;
+
+        while (head < tail) {
+            int cell = queue[head++];
+
+            for (int neighbor : neighbors[cell]) {
+                if (parent[neighbor] == -1) {
+                    parent[neighbor] = cell;
+                    queue[tail++] = neighbor;
+                }
+            }
+        }
+    }
+
+    /**
+     * Build the lane from the source cell to the target cell from the search's parent cells.
+     *
+     * @param source The source cell.
+     * @param target The target cell.
+     * @param parent The parent of each cell.
+     * @return The lane's cells from the source to the target. Empty if the target cannot be reached by sea.
+     */
+    private Optional<int[]> buildLane(final int source, final int target, final int[] parent) {
+        if (target == source || parent[target] == -1) {
+            return Optional.empty();
+        }
+
+        int length = 1;
+        for (int cell = target; cell != source; cell = parent[cell]) {
+            length++;
+        }
+
+        int[] lane = new int[length];
+        int cell = target;
+
+        for (int i = length - 1; i >= 0; i--) {
+            lane[i] = cell;
+            cell = parent[cell];
+        }
+
+        return Optional.of(lane);
+    }
+}
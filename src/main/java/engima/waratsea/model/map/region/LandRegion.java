@@ -192,12 +192,11 @@ public class LandRegion implements Region {
      */
     @Override
     public int getCurrentSteps() {
-        int totalNumberOfAircraft = airfields
-                .stream()
-                .flatMap(airfield -> airfield.getSquadrons().stream())
-                .filter(squadron -> squadron.ofNation(nation))
-                .map(Squadron::getAircraftNumber)
-                .reduce(0, Integer::sum);
+        int totalNumberOfAircraft = 0;
+
+        for (Airfield airfield : airfields) {
+            totalNumberOfAircraft += airfield.getAircraftNumber(nation);   // Each airfield keeps a running total per nation.
+        }
 
         return SquadronStrength.calculateSteps(totalNumberOfAircraft);
     }
@@ -11,7 +11,9 @@ import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Represents a minefield.
@@ -32,8 +34,10 @@ public class Minefield implements PersistentData<MinefieldData> {
     private final int number;
 
     @Getter
-    @Setter
-    private List<String> activeMapRef = new ArrayList<>();    // The game grids with mines.
+    private List<String> activeMapRef;                        // The game grids with mines.
+
+    @Getter
+    private int version;                                      // Changes whenever a grid is mined or cleared.
 
     /**
      * Constructor called by guice.
@@ -45,6 +49,7 @@ public class Minefield implements PersistentData<MinefieldData> {
         this.zoneName = data.getZone();
         this.side = data.getSide();
         this.number = data.getNumber();
+        this.activeMapRef = new ArrayList<>(Optional.ofNullable(data.getActiveMapRef()).orElseGet(Collections::emptyList));
     }
 
     /**
@@ -61,6 +66,16 @@ public class Minefield implements PersistentData<MinefieldData> {
         return data;
     }
 
+    /**
+     * Set the game grids with mines.
+     *
+     * @param mapRefs The map reference grids that are mined.
+     */
+    public void setActiveMapRef(final List<String> mapRefs) {
+        activeMapRef = mapRefs;
+        version++;
+    }
+
     /**
      * Mine one of the available zone map reference grids.
      *
@@ -69,6 +84,7 @@ public class Minefield implements PersistentData<MinefieldData> {
     public void addMine(final String grid) {
         if (hasRoom()) {
             activeMapRef.add(grid);
+            version++;
             log.info("Add mine to grid: '{}' in minefield: '{}'", grid, zoneName);
         }
     }
@@ -81,6 +97,7 @@ public class Minefield implements PersistentData<MinefieldData> {
     public void removeMine(final String grid) {
         log.info("Remove mine from grid: '{}' in minefield: '{}'", grid, zoneName);
         activeMapRef.remove(grid);
+        version++;
     }
 
     /**
@@ -3,36 +3,52 @@ package engima.waratsea.model.minefield;
 import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentSolver;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentStrategy;
+import engima.waratsea.model.map.lanes.SeaLanes;
 import engima.waratsea.model.minefield.deployment.MinefieldDeployment;
 import engima.waratsea.model.minefield.deployment.MinefieldDeploymentDAO;
 import engima.waratsea.model.player.Player;
 import engima.waratsea.model.scenario.Scenario;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Random;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * This is the minefield AI class. It deploy's minefields for the computer player.
+ *
+ * The mines of each minefield are placed at the grids of the minefield's zone that best cover the enemy's sea
+ * lanes. The placement is seeded from the scenario and zone so that a given scenario always mines the same grids.
  */
 @Slf4j
 @Singleton
 public class MinefieldAI {
 
-    private static final Random SELECT = new Random();
+    private final MinefieldDeploymentDAO minefieldDeploymentDAO;
+    private final SeaLanes seaLanes;
+    private final SeaLaneDeploymentSolver solver;
 
-    private MinefieldDeploymentDAO minefieldDeploymentDAO;
+    @Getter @Setter private SeaLaneDeploymentStrategy strategy = SeaLaneDeploymentStrategy.SOLVER;
 
     /**
      * Constructor called by guice.
      *
      * @param minefieldDeploymentDAO The minefield deployment DAO.
+     * @param seaLanes The sea lanes.
+     * @param solver The sea lane deployment solver.
      */
     @Inject
-    public MinefieldAI(final MinefieldDeploymentDAO minefieldDeploymentDAO) {
+    public MinefieldAI(final MinefieldDeploymentDAO minefieldDeploymentDAO,
+                       final SeaLanes seaLanes,
+                       final SeaLaneDeploymentSolver solver) {
         this.minefieldDeploymentDAO = minefieldDeploymentDAO;
+        this.seaLanes = seaLanes;
+        this.solver = solver;
     }
 
     /**
@@ -53,15 +69,25 @@ public class MinefieldAI {
 
             Map<String, List<String>> deploymentMap = getDeploymentMap(deployment);
 
+            List<int[]> enemyLanes = seaLanes.getLanes(side.opposite());
+
             minefields.forEach(minefield -> {
                 List<String> possibleGrids = deploymentMap.get(minefield.getZoneName());
 
                 if (possibleGrids != null) {
-                    for (int i = 0; i < minefield.getNumber(); i++) {
-                        String grid = selectGrid(possibleGrids);
+                    long seed = Objects.hash(selectedScenario.getName(), side.name(), minefield.getZoneName());      // Enum hash codes differ between runs.
+
+                    List<String> grids = strategy == SeaLaneDeploymentStrategy.SOLVER
+                            ? solver.solve(enemyLanes, possibleGrids, minefield.getNumber(), seed)
+                            : solver.selectRandom(possibleGrids, minefield.getNumber(), seed);
+
+                    grids.forEach(grid -> {
                         minefield.addMine(grid);
                         possibleGrids.remove(grid);
-                    }
+                    });
+
+                    log.info("Minefield: '{}' mines {} grids, enemy sea lane coverage: {}",
+                            new Object[]{minefield.getZoneName(), grids.size(), solver.getCoverage(enemyLanes, grids)});
                 } else {
                     log.error("No deployment found for minefield: {}", minefield.getZoneName());
                 }
@@ -80,17 +106,4 @@ public class MinefieldAI {
                 .stream()
                 .collect(Collectors.toMap(MinefieldDeployment::getZoneName, MinefieldDeployment::getGrids));
     }
-
-    /**
-     * Select a grid to mine.
-     *
-     * @param grids The available grids that may be mined.
-     * @return The selected grid to mine.
-     */
-    private String selectGrid(final List<String> grids) {
-
-        int selection = SELECT.nextInt(grids.size());
-
-        return grids.get(selection);
-    }
 }
@@ -0,0 +1,225 @@
+package engima.waratsea.model.minefield;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.ship.Hull;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.ship.damage.DamageBatch;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.utility.Dice;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Resolves task forces sailing through enemy minefields.
+ *
+ * The mined grids of each side's minefields are kept in a bitset over all of the game map grids. The bitset is
+ * only rebuilt when a side's minefields change. A task force's path is then checked one grid at a time against the
+ * enemy bitset. Thus, the cost of a transit is proportional to the length of the path and does not depend upon the
+ * number of mined grids.
+ *
+ * Each ship that enters a mined grid rolls a die. A ship is hit on a roll of six. A hit damages the ship's hull.
+ * The hits of a grid are collected in a damage batch and applied to the ship damage store at once. The hits are
+ * recorded as ship events, so any victory conditions and release triggers are informed.
+ */
+@Singleton
+@Slf4j
+public class MinefieldTransit {
+    public static final int HIT_ROLL = 6;          // A ship entering a mined grid is hit on this die roll.
+    public static final int HULL_DAMAGE = 1;       // The hull damage of a mine hit.
+
+    /**
+     * The mined grids of one side and the state of the minefields from which they were built.
+     */
+    private static final class MinedGrids {
+        private final BitSet cells;
+        private final List<Minefield> minefields;
+        private final int size;
+        private final int version;
+
+        /**
+         * Constructor.
+         *
+         * @param cells The mined cells.
+         * @param minefields The minefields from which the cells are built.
+         * @param version The sum of the minefield versions.
+         */
+        private MinedGrids(final BitSet cells, final List<Minefield> minefields, final int version) {
+            this.cells = cells;
+            this.minefields = minefields;
+            this.size = minefields.size();
+            this.version = version;
+        }
+
+        /**
+         * Determine if these mined grids are built from the current state of the given minefields.
+         *
+         * @param current The side's current minefields.
+         * @param currentVersion The sum of the current minefield versions.
+         * @return True if the mined grids are current. False otherwise.
+         */
+        private boolean isCurrent(final List<Minefield> current, final int currentVersion) {
+            return minefields == current && size == current.size() && version == currentVersion;
+        }
+    }
+
+    private final GameMap gameMap;
+    private final Dice dice;
+    private final ShipDamageStore damageStore;
+
+    private final Map<Side, MinedGrids> mined = new EnumMap<>(Side.class);
+    private final DamageBatch damage = new DamageBatch();
+
+    @Getter
+    private int rebuilds;                          // The number of times a side's mined grids have been built.
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param dice The dice utility.
+     * @param damageStore The ship damage store.
+     */
+    @Inject
+    public MinefieldTransit(final GameMap gameMap,
+                            final Dice dice,
+                            final ShipDamageStore damageStore) {
+        this.gameMap = gameMap;
+        this.dice = dice;
+        this.damageStore = damageStore;
+    }
+
+    /**
+     * Determine if the given grid is mined by the given side.
+     *
+     * @param side The side that owns the minefields.
+     * @param grid The game grid.
+     * @return True if the grid is mined. False otherwise.
+     */
+    public boolean isMined(final Side side, final GameGrid grid) {
+        return getMined(side).get(getCell(grid));
+    }
+
+    /**
+     * Resolve a task force's transit along the given path. The enemy's mined grids along the path may damage the
+     * task force's ships.
+     *
+     * @param taskForce The task force that moved.
+     * @param path The grids entered by the task force in the order they were entered.
+     * @return The number of mine hits.
+     */
+    public int resolve(final TaskForce taskForce, final List<GameGrid> path) {
+        BitSet enemyMines = getMined(taskForce.getSide().opposite());
+
+        if (enemyMines.isEmpty()) {
+            return 0;
+        }
+
+        int hits = 0;
+
+        for (GameGrid grid : path) {
+            if (enemyMines.get(getCell(grid))) {
+                hits += resolve(taskForce, grid);
+            }
+        }
+
+        return hits;
+    }
+
+    /**
+     * Resolve the task force's entry into a single mined grid.
+     *
+     * @param taskForce The task force.
+     * @param grid The mined game grid.
+     * @return The number of mine hits.
+     */
+    private int resolve(final TaskForce taskForce, final GameGrid grid) {
+        int hits = 0;
+
+        for (Ship ship : taskForce.getShips()) {
+            Hull hull = ship.getHull();
+
+            if (hull == null || hull.getHealth() <= 0 || dice.roll() < HIT_ROLL) {
+                continue;
+            }
+
+            hits++;
+            damage.add(ship, hull.getCell(), HULL_DAMAGE);
+
+            log.debug("Ship '{}' hit a mine at grid '{}'", ship.getName(), grid.getMapReference());
+        }
+
+        damageStore.apply(damage, AssetType.MINE);
+        damage.clear();
+
+        return hits;
+    }
+
+    /**
+     * Get the mined cells of the given side. The cells are rebuilt if the side's minefields have changed.
+     *
+     * @param side The side that owns the minefields.
+     * @return A bitset of the mined cells.
+     */
+    private BitSet getMined(final Side side) {
+        List<Minefield> minefields = Optional
+                .ofNullable(gameMap.getMinefields(side))
+                .orElseGet(Collections::emptyList);
+
+        int version = 0;
+        for (Minefield minefield : minefields) {
+            version += minefield.getVersion();
+        }
+
+        MinedGrids grids = mined.get(side);
+
+        if (grids == null || !grids.isCurrent(minefields, version)) {
+            grids = new MinedGrids(build(minefields), minefields, version);
+            mined.put(side, grids);
+            rebuilds++;
+        }
+
+        return grids.cells;
+    }
+
+    /**
+     * Build the mined cells of the given minefields.
+     *
+     * @param minefields A side's minefields.
+     * @return A bitset of the mined cells.
+     */
+    private BitSet build(final List<Minefield> minefields) {
+        BitSet cells = new BitSet(gameMap.getRows() * gameMap.getColumns());
+
+        minefields
+                .stream()
+                .flatMap(minefield -> minefield.getActiveMapRef().stream())
+                .map(gameMap::getGrid)
+                .flatMap(Optional::stream)
+                .forEach(grid -> cells.set(getCell(grid)));
+
+        return cells;
+    }
+
+    /**
+     * Get the bit index of the given grid.
+     *
+     * @param grid The game grid.
+     * @return The grid's bit index.
+     */
+    private int getCell(final GameGrid grid) {
+        return grid.getRow() * gameMap.getColumns() + grid.getColumn();
+    }
+}
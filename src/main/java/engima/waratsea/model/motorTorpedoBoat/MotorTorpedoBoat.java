@@ -13,6 +13,8 @@ import engima.waratsea.model.ship.Movement;
 import engima.waratsea.model.ship.ShipId;
 import engima.waratsea.model.ship.ShipType;
 import engima.waratsea.model.ship.Torpedo;
+import engima.waratsea.model.ship.damage.ComponentSlot;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.vessel.Vessel;
 import lombok.Getter;
 import lombok.Setter;
@@ -54,16 +56,18 @@ public class MotorTorpedoBoat  implements Vessel, PersistentData<MotorTorpedoBoa
      * Constructor called by guice.
      *
      * @param data The motor torpedo boat data read in from a JSON file.
+     * @param store The ship damage store.
      */
     @Inject
-    public MotorTorpedoBoat(@Assisted final MotorTorpedoBoatData data) {
+    public MotorTorpedoBoat(@Assisted final MotorTorpedoBoatData data,
+                                      final ShipDamageStore store) {
         this.shipId = data.getShipId();
         this.type = data.getType();
         this.shipClass = data.getShipClass();
         this.nationality = data.getNationality();
         this.victoryPoints = data.getVictoryPoints();
 
-        torpedo = new Torpedo(data.getTorpedo());
+        torpedo = new Torpedo(data.getTorpedo(), store, store.getCell(store.allocate(), ComponentSlot.TORPEDO));
         movement = new Movement(data.getMovement());
         fuel = new Fuel(data.getFuel());
     }
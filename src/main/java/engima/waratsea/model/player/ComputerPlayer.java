@@ -35,9 +35,12 @@ import engima.waratsea.model.squadron.SquadronException;
 import engima.waratsea.model.squadron.SquadronLocationType;
 import engima.waratsea.model.target.Target;
 import engima.waratsea.model.target.TargetDAO;
+import engima.waratsea.model.target.TargetType;
 import engima.waratsea.model.taskForce.TaskForce;
 import engima.waratsea.model.taskForce.TaskForceDAO;
 import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.patrol.PatrolGroups;
+import engima.waratsea.model.taskForce.patrol.PatrolSearch;
 import engima.waratsea.model.victory.VictoryConditions;
 import engima.waratsea.model.victory.VictoryDAO;
 import engima.waratsea.model.victory.VictoryException;
@@ -75,6 +78,7 @@ public class ComputerPlayer implements Player {
     private final SquadronDAO aviationPlant;
     private final MinefieldDAO minefieldDAO;
     private final TargetDAO targetDAO;
+    private final PatrolSearch patrolSearch;
 
     private final FlotillaAI flotillaAI;
     private final SquadronAI squadronAI;
@@ -124,6 +128,8 @@ public class ComputerPlayer implements Player {
      * @param flotillaAI  flotilla AI.
      * @param squadronAI squadron AI.
      * @param minefieldAI minefield AI.
+     * @param patrolSearch Executes the player's search patrols.
+     * @param phases The game turn phases.
      */
     //CHECKSTYLE:OFF
     @Inject
@@ -142,6 +148,7 @@ public class ComputerPlayer implements Player {
                           final FlotillaAI flotillaAI,
                           final SquadronAI squadronAI,
                           final MinefieldAI minefieldAI,
+                          final PatrolSearch patrolSearch,
                           final Phases phases) {
         //CHECKSTYLE:ON
 
@@ -157,6 +164,7 @@ public class ComputerPlayer implements Player {
         this.aviationPlant = aviationPlant;
         this.minefieldDAO = minefieldDAO;
         this.targetDAO = targetDAO;
+        this.patrolSearch = patrolSearch;
 
         this.flotillaAI = flotillaAI;
         this.squadronAI = squadronAI;
@@ -548,6 +556,15 @@ public class ComputerPlayer implements Player {
      * @return A list of enemy airfield targets.
      */
     private List<Target> getEnemyAirfieldTargets() {
+        return targetDAO.getTargets(side, TargetType.ENEMY_AIRFIELD, null, this::buildEnemyAirfieldTargets);
+    }
+
+    /**
+     * Build the enemy airfield targets.
+     *
+     * @return A list of enemy airfield targets.
+     */
+    private List<Target> buildEnemyAirfieldTargets() {
         return gameMap
                 .getAirfields(side.opposite())
                 .stream()
@@ -561,6 +578,15 @@ public class ComputerPlayer implements Player {
      * @return A list of enemy port targets.
      */
     private List<Target> getEnemyPortTargets() {
+        return targetDAO.getTargets(side, TargetType.ENEMY_PORT, null, this::buildEnemyPortTargets);
+    }
+
+    /**
+     * Build the enemy port targets.
+     *
+     * @return A list of enemy port targets.
+     */
+    private List<Target> buildEnemyPortTargets() {
         return gameMap
                 .getPorts(side.opposite())
                 .stream()
@@ -574,6 +600,15 @@ public class ComputerPlayer implements Player {
      * @return A list of friendly task force targets.
      */
     private List<Target> getFriendlyTaskForceTargets() {
+        return targetDAO.getTargets(side, TargetType.FRIENDLY_TASK_FORCE, null, this::buildFriendlyTaskForceTargets);
+    }
+
+    /**
+     * Build the friendly task force targets.
+     *
+     * @return A list of friendly task force targets.
+     */
+    private List<Target> buildFriendlyTaskForceTargets() {
         return taskForces
                 .stream()
                 .filter(taskForce -> !taskForce.atPort())
@@ -588,6 +623,16 @@ public class ComputerPlayer implements Player {
      * @return A list of friendly airbase targets.
      */
     private List<Target> getFriendlyAirbaseTargets(final Nation nation) {
+        return targetDAO.getTargets(side, TargetType.FRIENDLY_AIRBASE, nation, () -> buildFriendlyAirbaseTargets(nation));
+    }
+
+    /**
+     * Build the friendly airbase targets for the given nation.
+     *
+     * @param nation The nation: BRITISH, ITALIAN, etc.
+     * @return A list of friendly airbase targets.
+     */
+    private List<Target> buildFriendlyAirbaseTargets(final Nation nation) {
         return airbaseMap
                 .values()
                 .stream()
@@ -682,6 +727,16 @@ public class ComputerPlayer implements Player {
      */
     private void executePatrols() {
         log.info("Execute computer Patrols");
+
+        Stream<PatrolGroups> patrolGroups = Stream
+                .concat(taskForces
+                                .stream()
+                                .map(TaskForce::getPatrolGroups),
+                        airfields
+                                .stream()
+                                .map(Airfield::getPatrolGroups));
+
+        patrolSearch.search(patrolGroups, enemyTaskForces);
     }
 
     /**
@@ -35,10 +35,12 @@ import engima.waratsea.model.squadron.SquadronLocationType;
 import engima.waratsea.model.squadron.deployment.SquadronDeploymentType;
 import engima.waratsea.model.target.Target;
 import engima.waratsea.model.target.TargetDAO;
+import engima.waratsea.model.target.TargetType;
 import engima.waratsea.model.taskForce.TaskForce;
 import engima.waratsea.model.taskForce.TaskForceDAO;
 import engima.waratsea.model.taskForce.mission.SeaMissionType;
 import engima.waratsea.model.taskForce.patrol.PatrolGroups;
+import engima.waratsea.model.taskForce.patrol.PatrolSearch;
 import engima.waratsea.model.victory.VictoryConditions;
 import engima.waratsea.model.victory.VictoryDAO;
 import engima.waratsea.model.victory.VictoryException;
@@ -76,6 +78,7 @@ public class HumanPlayer implements Player {
     private final SquadronDAO aviationPlant;
     private final MinefieldDAO minefieldDAO;
     private final TargetDAO targetDAO;
+    private final PatrolSearch patrolSearch;
 
     private final FlotillaAI flotillaAI;
 
@@ -123,6 +126,7 @@ public class HumanPlayer implements Player {
      * @param targetDAO Creates targets.
      * @param flotillaAI Flotilla AI. Human Flotillas are deployed by the AI.
      * @param squadronAI Deploys the squadrons for fixed deployment scenarios.
+     * @param patrolSearch Executes the player's search patrols.
      */
     //CHECKSTYLE:OFF
     @Inject
@@ -140,6 +144,7 @@ public class HumanPlayer implements Player {
                        final TargetDAO targetDAO,
                        final FlotillaAI flotillaAI,
                        final SquadronAI squadronAI,
+                       final PatrolSearch patrolSearch,
                        final Phases phases) {
         //CHECKSTYLE:ON
 
@@ -155,6 +160,7 @@ public class HumanPlayer implements Player {
         this.minefieldDAO = minefieldDAO;
         this.aviationPlant = aviationPlant;
         this.targetDAO = targetDAO;
+        this.patrolSearch = patrolSearch;
 
         this.flotillaAI = flotillaAI;
 
@@ -555,6 +561,15 @@ public class HumanPlayer implements Player {
      * @return A list of enemy airfield targets.
      */
     private List<Target> getEnemyAirfieldTargets() {
+        return targetDAO.getTargets(side, TargetType.ENEMY_AIRFIELD, null, this::buildEnemyAirfieldTargets);
+    }
+
+    /**
+     * Build the enemy airfield targets.
+     *
+     * @return A list of enemy airfield targets.
+     */
+    private List<Target> buildEnemyAirfieldTargets() {
         return gameMap
                 .getAirfields(side.opposite())
                 .stream()
@@ -570,6 +585,15 @@ public class HumanPlayer implements Player {
      * @return A list of enemy port targets.
      */
     private List<Target> getEnemyPortTargets() {
+        return targetDAO.getTargets(side, TargetType.ENEMY_PORT, null, this::buildEnemyPortTargets);
+    }
+
+    /**
+     * Build the enemy port targets.
+     *
+     * @return A list of enemy port targets.
+     */
+    private List<Target> buildEnemyPortTargets() {
         return gameMap
                 .getPorts(side.opposite())
                 .stream()
@@ -584,6 +608,15 @@ public class HumanPlayer implements Player {
      * @return A list of friendly task force targets.
      */
     private List<Target> getFriendlyTaskForceTargets() {
+        return targetDAO.getTargets(side, TargetType.FRIENDLY_TASK_FORCE, null, this::buildFriendlyTaskForceTargets);
+    }
+
+    /**
+     * Build the friendly task force targets.
+     *
+     * @return A list of friendly task force targets.
+     */
+    private List<Target> buildFriendlyTaskForceTargets() {
         return taskForces
                 .stream()
                 .filter(taskForce -> !taskForce.atPort())
@@ -598,6 +631,16 @@ public class HumanPlayer implements Player {
      * @return A list of friendly airbase targets.
      */
     private List<Target> getFriendlyAirbaseTargets(final Nation nation) {
+        return targetDAO.getTargets(side, TargetType.FRIENDLY_AIRBASE, nation, () -> buildFriendlyAirbaseTargets(nation));
+    }
+
+    /**
+     * Build the friendly airbase targets for the given nation.
+     *
+     * @param nation The nation: BRITISH, ITALIAN, etc.
+     * @return A list of friendly airbase targets.
+     */
+    private List<Target> buildFriendlyAirbaseTargets(final Nation nation) {
         return airbaseMap
                 .values()
                 .stream()
@@ -731,7 +774,7 @@ public class HumanPlayer implements Player {
                                 .stream()
                                 .map(Airfield::getPatrolGroups));
 
-
+        patrolSearch.search(patrolGroups, enemyTaskForces);
     }
 
     /**
@@ -79,6 +79,28 @@ public class Scenario implements Comparable<Scenario> {
         squadron = SquadronDeploymentType.HUMAN;
     }
 
+    /**
+     * Copy a scenario. The scenario catalogue hands out copies, so that the cached scenarios are never changed.
+     *
+     * @param other The scenario to copy.
+     */
+    public Scenario(final Scenario other) {
+        name = other.name;
+        id = other.id;
+        title = other.title;
+        image = other.image;
+        description = other.description;
+        date = other.date == null ? null : new Date(other.date.getTime());
+        weather = other.weather;
+        maxTurns = other.maxTurns;
+        turnIndex = other.turnIndex;
+        map = other.map;
+        objectives = other.objectives;
+        squadron = other.squadron;
+        minefieldForHumanSide = other.minefieldForHumanSide;
+        flotillasForHumanSide = other.flotillasForHumanSide;
+    }
+
     /**
      * Get the scenario start date as a string.
      *
@@ -0,0 +1,205 @@
+package engima.waratsea.model.scenario;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.AppProps;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Resource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * This class is the catalogue of the game scenarios. It loads the scenario summaries from the scenario json files.
+ *
+ * Each scenario consists of several json files stored in the scenario's own directory.
+ * The summary.json file contains a brief description of the scenario.
+ * The alliesTaskForces.json file contains the allied forces available for this scenario.
+ * The axisTaskForces.json file contains the axis forces available for this scenario.
+ *
+ * The scenarios are found through the index.json resource in the game's scenario directory. The index is generated
+ * by the build and lists each scenario's directory. Resources are read through the class loader, so the scenarios
+ * are found both when the game runs from the file system and from a jar. When the index is missing, as it may be
+ * when the game runs from an IDE, the scenario directory is listed if it is on the file system.
+ *
+ * The summaries are parsed in parallel the first time a game's scenarios are loaded and are then cached. Callers
+ * are given copies of the cached scenarios.
+ */
+@Slf4j
+@Singleton
+public class ScenarioCatalogue {
+    private static final String FILE_PROTOCOL = "file";
+
+    private final Resource config;
+    private final GameTitle gameTitle;
+    private final ClassLoader classLoader;
+    private final Gson gson;
+
+    private final Map<GameName, List<Scenario>> cache = new EnumMap<>(GameName.class);
+
+    /**
+     * The constructor. Called by guice.
+     *
+     * @param config The game's config.
+     * @param gameTitle The game title.
+     * @param props Application properties.
+     */
+    @Inject
+    public ScenarioCatalogue(final Resource config,
+                             final GameTitle gameTitle,
+                             final AppProps props) {
+        this(config, gameTitle, props, ScenarioCatalogue.class.getClassLoader());
+    }
+
+    /**
+     * The constructor. The scenarios are read through the given class loader.
+     *
+     * @param config The game's config.
+     * @param gameTitle The game title.
+     * @param props Application properties.
+     * @param classLoader The class loader that reads the scenario resources.
+     */
+    public ScenarioCatalogue(final Resource config,
+                             final GameTitle gameTitle,
+                             final AppProps props,
+                             final ClassLoader classLoader) {
+        this.config = config;
+        this.gameTitle = gameTitle;
+        this.classLoader = classLoader;
+
+        gson = new GsonBuilder().setDateFormat(props.getString("scenario.date.format")).create();                      //Gson is thread safe. Build it once for all the summaries.
+    }
+
+    /**
+     * Load the game scenario summaries.
+     *
+     * @return A list of scenarios.
+     * @throws ScenarioException if the scenario summaries cannot be loaded.
+     */
+    public synchronized List<Scenario> load() throws ScenarioException {
+        GameName name = gameTitle.getName();
+
+        List<Scenario> scenarios = cache.get(name);
+
+        if (scenarios == null) {
+            scenarios = readSummaries();
+            cache.put(name, scenarios);
+        }
+
+        return scenarios
+                .stream()
+                .map(Scenario::new)                                                                                     //Copy the scenarios, the cached scenarios must not change.
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Read all the game's scenario summaries.
+     *
+     * @return The sorted scenario summaries.
+     * @throws ScenarioException Thrown if unable to find the scenarios.
+     */
+    private List<Scenario> readSummaries() throws ScenarioException {
+        List<String> names = getScenarioNames();
+
+        List<Scenario> scenarios = names
+                .parallelStream()
+                .map(this::readScenarioSummary)
+                .filter(Optional::isPresent)                                                                            //Filter any missing scenarios, these occur when the json file fails to parse.
+                .map(Optional::get)
+                .sorted()                                                                                               //Sort the scenarios.
+                .collect(Collectors.toList());
+
+        return Collections.unmodifiableList(scenarios);
+    }
+
+    /**
+     * Get the names of the game's scenarios. The names are read from the scenario index if it is present.
+     *
+     * @return The scenario names. These are the names of the scenario directories.
+     * @throws ScenarioException Thrown if unable to find the scenarios.
+     */
+    private List<String> getScenarioNames() throws ScenarioException {
+        String indexName = config.getScenarioIndexName();
+
+        try (InputStream in = classLoader.getResourceAsStream(indexName)) {
+            if (in != null) {
+                BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+                return Arrays.asList(gson.fromJson(br, String[].class));
+            }
+        } catch (Exception ex) {                                                                                        // Catch any Gson errors.
+            throw new ScenarioException("Unable to read the scenario index: " + indexName);
+        }
+
+        log.warn("No scenario index: '{}'. List the scenario directory.", indexName);
+
+        return listScenarioDirectory();
+    }
+
+    /**
+     * List the scenario directory. This is only possible when the scenarios are on the file system.
+     *
+     * @return The scenario names. These are the names of the scenario directories.
+     * @throws ScenarioException Thrown if unable to list the scenario directory.
+     */
+    private List<String> listScenarioDirectory() throws ScenarioException {
+        URL url = Optional
+                .ofNullable(classLoader.getResource(config.getScenarioDirectoryName()))
+                .filter(directory -> FILE_PROTOCOL.equals(directory.getProtocol()))
+                .orElseThrow(() -> new ScenarioException("Unable to find the scenario directories"));
+
+        try (Stream<Path> directories = Files.list(Paths.get(url.toURI()))) {
+            return directories
+                    .filter(Files::isDirectory)                                                                         //Each scenario's data is stored in its own sub-directory.
+                    .filter(Files::isReadable)                                                                          //If the directory is not readable exclude it.
+                    .map(directory -> directory.getFileName().toString())
+                    .collect(Collectors.toList());
+        } catch (Exception ex) {
+            throw new ScenarioException("Unable to list the scenario directories");
+        }
+    }
+
+    /**
+     * Read the scenario summary json file.
+     *
+     * @param scenarioName The name of the scenario's directory.
+     * @return A Scenario object. An empty optional is returned if the json file fails to parse.
+     */
+    private Optional<Scenario> readScenarioSummary(final String scenarioName)  {
+        String summaryName = config.getScenarioSummaryName(scenarioName);
+
+        try (InputStream in = classLoader.getResourceAsStream(summaryName)) {
+            if (in == null) {
+                log.error("Unable to find scenario summary: {}", summaryName);
+                return Optional.empty();
+            }
+
+            BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            Scenario scenario = gson.fromJson(br, Scenario.class);
+
+            log.debug("load scenario: {}", scenario.getTitle());
+
+            return Optional.of(scenario);
+        } catch (Exception ex) {                                                                                        // Catch any Gson errors.
+            log.error("Unable to load scenario: {}", scenarioName, ex);
+            return Optional.empty();                                                                                    // Missing scenarios are removed from the scenario list.
+        }
+    }
+}
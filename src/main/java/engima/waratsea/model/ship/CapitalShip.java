@@ -23,6 +23,8 @@ import engima.waratsea.model.game.Side;
 import engima.waratsea.model.map.GameGrid;
 import engima.waratsea.model.map.region.Region;
 import engima.waratsea.model.map.region.SeaRegion;
+import engima.waratsea.model.ship.damage.ComponentSlot;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.ship.data.GunData;
 import engima.waratsea.model.ship.data.ShipData;
 import engima.waratsea.model.squadron.Squadron;
@@ -65,6 +67,7 @@ public class CapitalShip implements Ship, Airbase {
     @Getter private final Hull hull;
     @Getter private final Cargo cargo;
     @Getter private String originPort;
+    private final List<Component> components;
 
     @Getter @Setter private AmmunitionType ammunitionType;
 
@@ -89,6 +92,7 @@ public class CapitalShip implements Ship, Airbase {
      * @param patrols The aircraft carriers air patrols.
      * @param airOperations This carrier's air operations.
      * @param region The ship's region.
+     * @param store The ship damage store.
      */
     @Inject
     public CapitalShip(@Assisted final ShipData data,
@@ -96,7 +100,8 @@ public class CapitalShip implements Ship, Airbase {
                        final Missions missions,
                        final Patrols patrols,
                        final AirOperations airOperations,
-                       final SeaRegion region) {
+                       final SeaRegion region,
+                       final ShipDamageStore store) {
 
         this.squadrons = squadrons;
         this.missions = missions;
@@ -111,17 +116,19 @@ public class CapitalShip implements Ship, Airbase {
         nation = data.getNationality();
         victoryPoints = data.getVictoryPoints();
 
-        primary = buildGun("Primary", data.getPrimary());
-        secondary = buildGun("Secondary", data.getSecondary());
-        tertiary = buildGun("Tertiary", data.getTertiary());
-        antiAir = buildGun("Anti-Air", data.getAntiAir());
+        int row = store.allocate();
+
+        primary = buildGun("Primary", ComponentSlot.PRIMARY, data.getPrimary(), store, row);
+        secondary = buildGun("Secondary", ComponentSlot.SECONDARY, data.getSecondary(), store, row);
+        tertiary = buildGun("Tertiary", ComponentSlot.TERTIARY, data.getTertiary(), store, row);
+        antiAir = buildGun("Anti-Air", ComponentSlot.ANTI_AIR, data.getAntiAir(), store, row);
         ammunitionType = Optional.ofNullable(data.getAmmunitionType()).orElse(AmmunitionType.NORMAL);
-        torpedo = new Torpedo(data.getTorpedo());
+        torpedo = new Torpedo(data.getTorpedo(), store, store.getCell(row, ComponentSlot.TORPEDO));
         asw = new Asw(data.getAsw());
 
         movement = new Movement(data.getMovement());
         fuel = new Fuel(data.getFuel());
-        hull = new Hull(data.getHull());
+        hull = new Hull(data.getHull(), store, store.getCell(row, ComponentSlot.HULL));
         cargo = new Cargo((data.getCargo()));
 
         originPort = data.getOriginPort();
@@ -135,18 +142,25 @@ public class CapitalShip implements Ship, Airbase {
         squadrons.build(this, data.getSquadronsData());
         missions.build(this, data.getMissionsData());
         patrols.build(this, data.getPatrolsData());
+
+        components = Stream.of(hull, primary, secondary, tertiary, antiAir, torpedo, movement, fuel, cargo)
+                .filter(Component::isPresent)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
      * Build a gun.
      *
      * @param name The name of the gun.
+     * @param slot The gun's component slot.
      * @param data The gun's data.
+     * @param store The ship damage store.
+     * @param row The ship's row in the ship damage store.
      * @return The gun.
      */
-    private Gun buildGun(final String name, final GunData data) {
+    private Gun buildGun(final String name, final ComponentSlot slot, final GunData data, final ShipDamageStore store, final int row) {
         data.setName(name);
-        return new Gun(data);
+        return new Gun(data, store, store.getCell(row, slot));
     }
 
     /**
@@ -625,9 +639,7 @@ public class CapitalShip implements Ship, Airbase {
      */
     @Override
     public List<Component> getComponents() {
-        return Stream.of(hull, primary, secondary, tertiary, antiAir, torpedo, movement, fuel, cargo)
-                .filter(Component::isPresent)
-                .collect(Collectors.toList());
+        return components;
     }
 
     /**
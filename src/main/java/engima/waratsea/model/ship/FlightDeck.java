@@ -1,37 +1,39 @@
 package engima.waratsea.model.ship;
 
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.ship.data.FlightDeckData;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 
 /**
- * Aircraft carrier flight deck.
+ * Aircraft carrier flight deck. The flight deck's health is held in the ship damage store.
  */
 public class FlightDeck implements Component {
     @Getter private final String name;
-    @Getter private final ArmourType armour;
 
     // The maximum capacity. This is fixed and never changes.
     @Getter private final List<Integer> capacityList;    // Capacity in steps.
 
-    // The current flight deck health. The health is an index into the capacity list
-    @Getter @Setter private int health;
+    // The flight deck's cell in the ship damage store. The flight deck health is an index into the capacity list.
+    @Getter private final int cell;
 
-    @Getter private final int maxHealth;
+    private final ShipDamageStore store;
 
     /**
      * Constructor.
      *
      * @param data The flight deck's persisted data.
+     * @param store The ship damage store.
+     * @param cell The flight deck's cell in the ship damage store.
      */
-    public FlightDeck(final FlightDeckData data) {
+    public FlightDeck(final FlightDeckData data, final ShipDamageStore store, final int cell) {
         this.name = "FlightDeck";
-        this.armour = data.getArmour();
         this.capacityList = data.getCapacityList();
-        this.health =  data.getHealth();
-        this.maxHealth = capacityList.size();
+        this.store = store;
+        this.cell = cell;
+
+        store.init(cell, data.getHealth(), capacityList.size(), data.getArmour());
     }
 
     /**
@@ -41,12 +43,50 @@ public class FlightDeck implements Component {
      */
     public FlightDeckData getData() {
         FlightDeckData data = new FlightDeckData();
-        data.setArmour(armour);
+        data.setArmour(getArmour());
         data.setCapacityList(capacityList);
-        data.setHealth(health);
+        data.setHealth(getHealth());
         return data;
     }
 
+    /**
+     * Get the flight deck's maximum health.
+     *
+     * @return The flight deck's maximum health.
+     */
+    @Override
+    public int getMaxHealth() {
+        return store.getMaxHealth(cell);
+    }
+
+    /**
+     * Get the flight deck's health.
+     *
+     * @return The flight deck's health.
+     */
+    @Override
+    public int getHealth() {
+        return store.getHealth(cell);
+    }
+
+    /**
+     * Set the flight deck's health.
+     *
+     * @param health The flight deck's new health.
+     */
+    public void setHealth(final int health) {
+        store.setHealth(cell, health);
+    }
+
+    /**
+     * Get the flight deck's armour.
+     *
+     * @return The flight deck's armour.
+     */
+    public ArmourType getArmour() {
+        return store.getArmour(cell);
+    }
+
     /**
      * Return the flight deck's current aircraft capacity.
      *
@@ -54,7 +94,7 @@ public class FlightDeck implements Component {
      */
     public int getCapacity() {
         // The capacity list is zero based, so minus one from the health.
-        return capacityList.get(health - 1);
+        return capacityList.get(getHealth() - 1);
     }
 
     /**
@@ -64,7 +104,7 @@ public class FlightDeck implements Component {
      */
     public int getMaxCapacity() {
         // The capacity list is zero based, so minus one from the max health.
-        return capacityList.get(maxHealth - 1);
+        return capacityList.get(getMaxHealth() - 1);
     }
 
     /**
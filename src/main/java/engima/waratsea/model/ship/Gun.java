@@ -1,36 +1,34 @@
 package engima.waratsea.model.ship;
 
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.ship.data.GunData;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
- * Ship's gun.
+ * Ship's gun. The gun's health is held in the ship damage store.
  */
 public class Gun implements Component {
     @Getter
     private final String name;
 
     @Getter
-    private final int maxHealth;
+    private final int cell;
 
-    @Getter
-    private final ArmourType armour;
-
-    @Getter
-    @Setter
-    private int health;
+    private final ShipDamageStore store;
 
     /**
      * Constructor.
      *
      * @param data The persisted gun data.
+     * @param store The ship damage store.
+     * @param cell The gun's cell in the ship damage store.
      */
-    public Gun(final GunData data) {
+    public Gun(final GunData data, final ShipDamageStore store, final int cell) {
         this.name = data.getName();
-        this.maxHealth = data.getMaxHealth();
-        this.armour = data.getArmour();
-        this.health = data.getHealth();
+        this.store = store;
+        this.cell = cell;
+
+        store.init(cell, data.getHealth(), data.getMaxHealth(), data.getArmour());
     }
 
     /**
@@ -40,12 +38,50 @@ public class Gun implements Component {
      */
     public GunData getData() {
         GunData data = new GunData();
-        data.setMaxHealth(maxHealth);
-        data.setArmour(armour);
-        data.setHealth(health);
+        data.setMaxHealth(getMaxHealth());
+        data.setArmour(getArmour());
+        data.setHealth(getHealth());
         return data;
     }
 
+    /**
+     * Get the gun's maximum health.
+     *
+     * @return The gun's maximum health.
+     */
+    @Override
+    public int getMaxHealth() {
+        return store.getMaxHealth(cell);
+    }
+
+    /**
+     * Get the gun's health.
+     *
+     * @return The gun's health.
+     */
+    @Override
+    public int getHealth() {
+        return store.getHealth(cell);
+    }
+
+    /**
+     * Set the gun's health.
+     *
+     * @param health The gun's new health.
+     */
+    public void setHealth(final int health) {
+        store.setHealth(cell, health);
+    }
+
+    /**
+     * Get the gun's armour.
+     *
+     * @return The gun's armour.
+     */
+    public ArmourType getArmour() {
+        return store.getArmour(cell);
+    }
+
     /**
      * Determine if the component is present.
      *
@@ -53,7 +89,7 @@ public class Gun implements Component {
      */
     @Override
     public boolean isPresent() {
-        return maxHealth != 0;
+        return getMaxHealth() != 0;
     }
 
     /**
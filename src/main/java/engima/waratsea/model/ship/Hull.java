@@ -1,40 +1,38 @@
 package engima.waratsea.model.ship;
 
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.ship.data.HullData;
 import lombok.Getter;
-import lombok.Setter;
 
 /**
- * Ship's hull.
+ * Ship's hull. The hull's health is held in the ship damage store.
  */
 public class Hull implements Component {
     @Getter
     private final String name;
 
-    @Getter
-    private final int maxHealth;
-
-    @Getter
-    private final ArmourType armour;
-
     @Getter
     private final boolean deck;
 
     @Getter
-    @Setter
-    private int health;
+    private final int cell;
+
+    private final ShipDamageStore store;
 
     /**
      * Constructor.
      *
      * @param data The persisted hull data.
+     * @param store The ship damage store.
+     * @param cell The hull's cell in the ship damage store.
      */
-    public Hull(final HullData data) {
+    public Hull(final HullData data, final ShipDamageStore store, final int cell) {
         this.name = "Hull";
-        this.maxHealth = data.getMaxHealth();
-        this.health = data.getHealth();
-        this.armour = data.getArmour();
         this.deck = data.isDeck();
+        this.store = store;
+        this.cell = cell;
+
+        store.init(cell, data.getHealth(), data.getMaxHealth(), data.getArmour());
     }
 
     /**
@@ -44,12 +42,50 @@ public class Hull implements Component {
      */
     public HullData getData() {
         HullData data = new HullData();
-        data.setMaxHealth(maxHealth);
-        data.setArmour(armour);
-        data.setHealth(health);
+        data.setMaxHealth(getMaxHealth());
+        data.setArmour(getArmour());
+        data.setHealth(getHealth());
         return data;
     }
 
+    /**
+     * Get the hull's maximum health.
+     *
+     * @return The hull's maximum health.
+     */
+    @Override
+    public int getMaxHealth() {
+        return store.getMaxHealth(cell);
+    }
+
+    /**
+     * Get the hull's health.
+     *
+     * @return The hull's health.
+     */
+    @Override
+    public int getHealth() {
+        return store.getHealth(cell);
+    }
+
+    /**
+     * Set the hull's health.
+     *
+     * @param health The hull's new health.
+     */
+    public void setHealth(final int health) {
+        store.setHealth(cell, health);
+    }
+
+    /**
+     * Get the hull's armour.
+     *
+     * @return The hull's armour.
+     */
+    public ArmourType getArmour() {
+        return store.getArmour(cell);
+    }
+
     /**
      * The hull is always present.
      *
@@ -4,6 +4,8 @@ import com.google.inject.Inject;
 import com.google.inject.assistedinject.Assisted;
 import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.ship.damage.ComponentSlot;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.ship.data.GunData;
 import engima.waratsea.model.ship.data.ShipData;
 import engima.waratsea.model.taskForce.TaskForce;
@@ -39,14 +41,19 @@ public class SurfaceShip implements Ship {
     @Getter private final Hull hull;
     @Getter private final Cargo cargo;
     @Getter private String originPort;
+    private final List<Component> components;
 
     /**
      * Constructor called by guice.
      *
      * @param data Ship's data.
+     * @param store The ship damage store.
      */
     @Inject
-    public SurfaceShip(@Assisted final ShipData data) {
+    public SurfaceShip(@Assisted final ShipData data,
+                                 final ShipDamageStore store) {
+        int row = store.allocate();
+
         shipId = data.getShipId();
         taskForce = data.getTaskForce();
         type = data.getType();
@@ -54,32 +61,39 @@ public class SurfaceShip implements Ship {
         nation = data.getNationality();
         victoryPoints = data.getVictoryPoints();
 
-        primary = buildGun("Primary", data.getPrimary());
-        secondary = buildGun("Secondary", data.getSecondary());
-        tertiary = buildGun("Tertiary", data.getTertiary());
-        antiAir = buildGun("Anti-Air", data.getAntiAir());
+        primary = buildGun("Primary", ComponentSlot.PRIMARY, data.getPrimary(), store, row);
+        secondary = buildGun("Secondary", ComponentSlot.SECONDARY, data.getSecondary(), store, row);
+        tertiary = buildGun("Tertiary", ComponentSlot.TERTIARY, data.getTertiary(), store, row);
+        antiAir = buildGun("Anti-Air", ComponentSlot.ANTI_AIR, data.getAntiAir(), store, row);
         ammunitionType = Optional.ofNullable(data.getAmmunitionType()).orElse(AmmunitionType.NORMAL);
-        torpedo = new Torpedo(data.getTorpedo());
+        torpedo = new Torpedo(data.getTorpedo(), store, store.getCell(row, ComponentSlot.TORPEDO));
         asw = new Asw(data.getAsw());
 
         movement = new Movement(data.getMovement());
         fuel = new Fuel(data.getFuel());
-        hull = new Hull(data.getHull());
+        hull = new Hull(data.getHull(), store, store.getCell(row, ComponentSlot.HULL));
         cargo = new Cargo((data.getCargo()));
 
         originPort = data.getOriginPort();
+
+        components = Stream.of(hull, primary, secondary, tertiary, antiAir, torpedo, movement, fuel, cargo)
+                .filter(Component::isPresent)
+                .collect(Collectors.toUnmodifiableList());
     }
 
     /**
      * Build a gun.
      *
      * @param name The name of the gun.
+     * @param slot The gun's component slot.
      * @param data The gun's data.
+     * @param store The ship damage store.
+     * @param row The ship's row in the ship damage store.
      * @return The gun.
      */
-    private Gun buildGun(final String name, final GunData data) {
+    private Gun buildGun(final String name, final ComponentSlot slot, final GunData data, final ShipDamageStore store, final int row) {
         data.setName(name);
-        return new Gun(data);
+        return new Gun(data, store, store.getCell(row, slot));
     }
 
     /**
@@ -163,9 +177,8 @@ public class SurfaceShip implements Ship {
      */
     @Override
     public List<Component> getComponents() {
-        return Stream.of(hull, primary, secondary, tertiary, antiAir, torpedo, movement, fuel, cargo)
-                .filter(Component::isPresent)
-                .collect(Collectors.toList());    }
+        return components;
+    }
 
     /**
      * Call this method to inform the ship that it is sailing from port.
@@ -1,22 +1,21 @@
 package engima.waratsea.model.ship;
 
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.ship.data.TorpedoData;
 import lombok.Getter;
 import lombok.Setter;
 
 /**
- * A ship's or submarine's torpedo.
+ * A ship's or submarine's torpedo. The torpedo mount's health is held in the ship damage store.
  */
 public class Torpedo implements Component {
     @Getter
     private final String name;
 
     @Getter
-    private final int maxHealth;
+    private final int cell;
 
-    @Getter
-    @Setter
-    private int health;
+    private final ShipDamageStore store;
 
     @Getter
     private final int maxNumber;
@@ -29,13 +28,17 @@ public class Torpedo implements Component {
      * Constructor.
      *
      * @param data The persisted torpedo data.
+     * @param store The ship damage store.
+     * @param cell The torpedo mount's cell in the ship damage store.
      */
-    public Torpedo(final TorpedoData data) {
+    public Torpedo(final TorpedoData data, final ShipDamageStore store, final int cell) {
         this.name = "Torpedo";
-        this.maxHealth = data.getMaxHealth();
-        this.health = data.getHealth();
+        this.store = store;
+        this.cell = cell;
         this.maxNumber = data.getMaxNumber();
         this.number = data.getNumber();
+
+        store.init(cell, data.getHealth(), data.getMaxHealth(), null);
     }
 
     /**
@@ -45,13 +48,42 @@ public class Torpedo implements Component {
      */
     public TorpedoData getData() {
         TorpedoData data = new TorpedoData();
-        data.setMaxHealth(maxHealth);
-        data.setHealth(health);
+        data.setMaxHealth(getMaxHealth());
+        data.setHealth(getHealth());
         data.setMaxNumber(maxNumber);
         data.setNumber(number);
         return data;
     }
 
+    /**
+     * Get the torpedo mount's maximum health.
+     *
+     * @return The torpedo mount's maximum health.
+     */
+    @Override
+    public int getMaxHealth() {
+        return store.getMaxHealth(cell);
+    }
+
+    /**
+     * Get the torpedo mount's health.
+     *
+     * @return The torpedo mount's health.
+     */
+    @Override
+    public int getHealth() {
+        return store.getHealth(cell);
+    }
+
+    /**
+     * Set the torpedo mount's health.
+     *
+     * @param health The torpedo mount's new health.
+     */
+    public void setHealth(final int health) {
+        store.setHealth(cell, health);
+    }
+
     /**
      * Determine if the component is present.
      *
@@ -59,7 +91,7 @@ public class Torpedo implements Component {
      */
     @Override
     public boolean isPresent() {
-        return maxHealth != 0;
+        return getMaxHealth() != 0;
     }
 
     /**
@@ -76,6 +108,6 @@ public class Torpedo implements Component {
      * If the torpedo mount/tube is damaged then the mount/tube is completely knocked out.
      */
     public void damage() {
-        health = -1;
+        store.setHealth(cell, -1);
     }
 }
@@ -0,0 +1,14 @@
+package engima.waratsea.model.ship.damage;
+
+/**
+ * The damageable component slots of a vessel in the ship damage store. Not every vessel uses every slot.
+ */
+public enum ComponentSlot {
+    HULL,
+    PRIMARY,
+    SECONDARY,
+    TERTIARY,
+    ANTI_AIR,
+    TORPEDO,
+    FLIGHT_DECK
+}
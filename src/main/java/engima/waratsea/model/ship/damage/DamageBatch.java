@@ -0,0 +1,108 @@
+package engima.waratsea.model.ship.damage;
+
+import engima.waratsea.model.ship.Ship;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * A batch of component damage that is applied to the ship damage store at once. Damage that is added with
+ * its ship is reported as ship events when the batch is applied.
+ *
+ * The batch may be cleared and reused, so that resolving a combat does not allocate per hit.
+ */
+public class DamageBatch {
+    private static final int INITIAL_CAPACITY = 32;
+
+    private int[] cells = new int[INITIAL_CAPACITY];
+    private int[] amounts = new int[INITIAL_CAPACITY];
+    private Ship[] ships = new Ship[INITIAL_CAPACITY];
+
+    @Getter private int size;
+
+    /**
+     * Add damage to a component.
+     *
+     * @param cell The component's cell in the ship damage store.
+     * @param amount The health removed from the component.
+     */
+    public void add(final int cell, final int amount) {
+        add(null, cell, amount);
+    }
+
+    /**
+     * Add damage to a ship's component. The damage is reported as ship events when the batch is applied.
+     *
+     * @param ship The damaged ship. May be null if the damage is not reported.
+     * @param cell The component's cell in the ship damage store.
+     * @param amount The health removed from the component.
+     */
+    public void add(final Ship ship, final int cell, final int amount) {
+        if (size == cells.length) {
+            cells = Arrays.copyOf(cells, size * 2);
+            amounts = Arrays.copyOf(amounts, size * 2);
+            ships = Arrays.copyOf(ships, size * 2);
+        }
+
+        cells[size] = cell;
+        amounts[size] = amount;
+        ships[size] = ship;
+        size++;
+    }
+
+    /**
+     * Get the component cell of the given damage entry.
+     *
+     * @param index The index of the damage entry.
+     * @return The component's cell in the ship damage store.
+     */
+    public int getCell(final int index) {
+        return cells[index];
+    }
+
+    /**
+     * Get the amount of the given damage entry.
+     *
+     * @param index The index of the damage entry.
+     * @return The health removed from the component.
+     */
+    public int getAmount(final int index) {
+        return amounts[index];
+    }
+
+    /**
+     * Get the ship of the given damage entry.
+     *
+     * @param index The index of the damage entry.
+     * @return The damaged ship. Null if the damage is not reported.
+     */
+    public Ship getShip(final int index) {
+        return ships[index];
+    }
+
+    /**
+     * Get the total damage in this batch to the given component.
+     *
+     * @param cell The component's cell in the ship damage store.
+     * @return The health that the batch removes from the component.
+     */
+    public int getTotal(final int cell) {
+        int total = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (cells[i] == cell) {
+                total += amounts[i];
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Remove all the damage from this batch.
+     */
+    public void clear() {
+        Arrays.fill(ships, 0, size, null);
+        size = 0;
+    }
+}
@@ -0,0 +1,253 @@
+package engima.waratsea.model.ship.damage;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.event.scenario.ScenarioEvent;
+import engima.waratsea.model.game.event.scenario.ScenarioEventTypes;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.ship.ArmourType;
+import engima.waratsea.model.ship.Ship;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The health of every vessel component in the game held in flat arrays.
+ *
+ * Each vessel is allocated a row of component slots when it is built. A component's cell is the vessel's row times
+ * the number of slots plus the component's slot. The health, maximum health and armour of each cell are held in
+ * parallel arrays. The vessel component classes are views over their cells.
+ *
+ * Damage from a combat is collected in a damage batch and applied in a single pass. The damage to each ship in the
+ * batch is reported as ship events, so any victory conditions and release triggers are informed.
+ *
+ * The store is cleared when a game is booted, so each new or saved game allocates its vessels from the first row.
+ *
+ * Note, the store must only be used from the game's thread.
+ */
+@Singleton
+@Slf4j
+public class ShipDamageStore {
+    public static final int SLOTS = ComponentSlot.values().length;
+
+    private static final int INITIAL_VESSELS = 256;
+    private static final byte NO_ARMOUR = -1;
+    private static final ArmourType[] ARMOUR_TYPES = ArmourType.values();
+    private static final ComponentSlot[] COMPONENT_SLOTS = ComponentSlot.values();
+
+    private static final Map<ComponentSlot, ShipEventAction> DAMAGE_ACTION = new EnumMap<>(Map.of(
+            ComponentSlot.HULL, ShipEventAction.DAMAGED_HULL,
+            ComponentSlot.PRIMARY, ShipEventAction.DAMAGED_PRIMARY,
+            ComponentSlot.SECONDARY, ShipEventAction.DAMAGED_SECONDARY,
+            ComponentSlot.TERTIARY, ShipEventAction.DAMAGED_TERTIARY,
+            ComponentSlot.ANTI_AIR, ShipEventAction.DAMAGED_ANTI_AIR,
+            ComponentSlot.TORPEDO, ShipEventAction.DAMAGED_TORPEDO_MOUNT
+    ));
+
+    private int[] health = new int[INITIAL_VESSELS * SLOTS];
+    private int[] maxHealth = new int[INITIAL_VESSELS * SLOTS];
+    private byte[] armour = new byte[INITIAL_VESSELS * SLOTS];
+
+    private int vessels;
+
+    /**
+     * Constructor called by guice.
+     */
+    @Inject
+    public ShipDamageStore() {
+        ScenarioEvent.register(this, this::init, true);
+    }
+
+    /**
+     * Initialize the store.
+     *
+     * @param event The scenario event.
+     */
+    private void init(final ScenarioEvent event) {
+        if (event.getType() == ScenarioEventTypes.BOOT) {
+            log.debug("Clear ship damage store.");
+            clear();
+        }
+    }
+
+    /**
+     * Remove every vessel from the store. The next vessel allocated is given the first row.
+     */
+    public void clear() {
+        int cells = vessels * SLOTS;
+
+        Arrays.fill(health, 0, cells, 0);
+        Arrays.fill(maxHealth, 0, cells, 0);
+        Arrays.fill(armour, 0, cells, (byte) 0);
+
+        vessels = 0;
+    }
+
+    /**
+     * Allocate a row of component slots for a new vessel.
+     *
+     * @return The vessel's row.
+     */
+    public int allocate() {
+        if ((vessels + 1) * SLOTS > health.length) {
+            int length = health.length * 2;
+            health = Arrays.copyOf(health, length);
+            maxHealth = Arrays.copyOf(maxHealth, length);
+            armour = Arrays.copyOf(armour, length);
+        }
+
+        return vessels++;
+    }
+
+    /**
+     * Get the cell of the given vessel's component.
+     *
+     * @param row The vessel's row.
+     * @param slot The component slot.
+     * @return The component's cell.
+     */
+    public int getCell(final int row, final ComponentSlot slot) {
+        return row * SLOTS + slot.ordinal();
+    }
+
+    /**
+     * Initialize a component's cell.
+     *
+     * @param cell The component's cell.
+     * @param initialHealth The component's health.
+     * @param initialMaxHealth The component's maximum health.
+     * @param armourType The component's armour. May be null.
+     */
+    public void init(final int cell, final int initialHealth, final int initialMaxHealth, final ArmourType armourType) {
+        health[cell] = initialHealth;
+        maxHealth[cell] = initialMaxHealth;
+        armour[cell] = armourType == null ? NO_ARMOUR : (byte) armourType.ordinal();
+    }
+
+    /**
+     * Get a component's health.
+     *
+     * @param cell The component's cell.
+     * @return The component's health.
+     */
+    public int getHealth(final int cell) {
+        return health[cell];
+    }
+
+    /**
+     * Set a component's health.
+     *
+     * @param cell The component's cell.
+     * @param value The component's new health.
+     */
+    public void setHealth(final int cell, final int value) {
+        health[cell] = value;
+    }
+
+    /**
+     * Get a component's maximum health.
+     *
+     * @param cell The component's cell.
+     * @return The component's maximum health.
+     */
+    public int getMaxHealth(final int cell) {
+        return maxHealth[cell];
+    }
+
+    /**
+     * Get a component's armour.
+     *
+     * @param cell The component's cell.
+     * @return The component's armour. Null if the component has no armour rating.
+     */
+    public ArmourType getArmour(final int cell) {
+        byte value = armour[cell];
+        return value == NO_ARMOUR ? null : ARMOUR_TYPES[value];
+    }
+
+    /**
+     * Apply a batch of damage. A component's health is never reduced below zero. Components that are already
+     * knocked out are not damaged further.
+     *
+     * Each damaged component of a ship in the batch fires the component's damage event. A hull that is reduced
+     * to zero health also fires a sunk event.
+     *
+     * @param batch The damage batch.
+     * @param by The type of asset that caused the damage.
+     * @return The number of components that were knocked out by the damage.
+     */
+    public int apply(final DamageBatch batch, final AssetType by) {
+        int knockedOut = 0;
+
+        for (int i = 0; i < batch.getSize(); i++) {
+            int cell = batch.getCell(i);
+            int current = health[cell];
+
+            if (current > 0) {
+                int remaining = Math.max(current - batch.getAmount(i), 0);
+                health[cell] = remaining;
+
+                if (remaining == 0) {
+                    knockedOut++;
+                }
+
+                report(batch.getShip(i), cell, remaining, by);
+            }
+        }
+
+        return knockedOut;
+    }
+
+    /**
+     * Get the number of vessels allocated in the store.
+     *
+     * @return The number of vessels.
+     */
+    public int getVesselCount() {
+        return vessels;
+    }
+
+    /**
+     * Fire the ship events of a damaged component.
+     *
+     * @param ship The damaged ship. Nothing is fired if null.
+     * @param cell The damaged component's cell.
+     * @param remaining The component's remaining health.
+     * @param by The type of asset that caused the damage.
+     */
+    private void report(final Ship ship, final int cell, final int remaining, final AssetType by) {
+        if (ship == null) {
+            return;
+        }
+
+        ComponentSlot slot = COMPONENT_SLOTS[cell % SLOTS];
+
+        Optional
+                .ofNullable(DAMAGE_ACTION.get(slot))
+                .ifPresent(action -> fire(ship, action, by));
+
+        if (slot == ComponentSlot.HULL && remaining == 0) {
+            fire(ship, ShipEventAction.SUNK, by);
+        }
+    }
+
+    /**
+     * Fire a ship event.
+     *
+     * @param ship The ship.
+     * @param action The ship event action.
+     * @param by The type of asset that caused the event.
+     */
+    private void fire(final Ship ship, final ShipEventAction action, final AssetType by) {
+        ShipEvent event = new ShipEvent();
+        event.setShip(ship);
+        event.setAction(action);
+        event.setBy(by);
+        event.fire();
+    }
+}
@@ -32,7 +32,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -55,7 +57,7 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
     @Getter private final String model;
     @Getter private Aircraft aircraft;
     @Getter private String name;
-    @Getter @Setter private SquadronStrength strength;             //The squadron's actual physical strength.
+    @Getter private SquadronStrength strength;                     //The squadron's actual physical strength.
     @Getter private transient SquadronStrength effectiveStrength;  //The effective squadron strength as determined by battlefield conditions such as flak.
     @Getter private String reference;                              //This is always a map reference and never a name.
     @Getter private Airbase home;
@@ -63,6 +65,8 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
     @Getter @Setter private SquadronConfig config;
     @Getter @Setter private int missionId;
 
+    private final transient List<SquadronListener> listeners = new ArrayList<>(); // Notified of strength and state changes.
+
     /**
      * Initialize the designation maps for both sides.
      *
@@ -318,6 +322,35 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
      */
     public void setState(final SquadronAction action) {
          state = state.transition(action);
+         notifyListeners();
+    }
+
+    /**
+     * Set the squadron's strength.
+     *
+     * @param newStrength The squadron's new strength.
+     */
+    public void setStrength(final SquadronStrength newStrength) {
+        strength = newStrength;
+        notifyListeners();
+    }
+
+    /**
+     * Add a listener that is notified when this squadron's strength or state changes.
+     *
+     * @param listener The listener.
+     */
+    public void addListener(final SquadronListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Remove a listener.
+     *
+     * @param listener The listener.
+     */
+    public void removeListener(final SquadronListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -506,6 +539,7 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
     public void takeOff() {
         effectiveStrength = strength;  // Ensure that on take off the effective strength has the correct value.
         state = state.transition(SquadronAction.TAKE_OFF);
+        notifyListeners();
     }
 
     /**
@@ -523,6 +557,7 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
     public void land() {
         state = state.transition(SquadronAction.LAND);
         missionId = 0;
+        notifyListeners();
     }
 
     /**
@@ -540,6 +575,7 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
         if (strength == SquadronStrength.ZERO) {
             state = state.transition(SquadronAction.SHOT_DOWN);
         }
+        notifyListeners();
     }
 
     /**
@@ -626,6 +662,14 @@ public class Squadron implements Comparable<Squadron>, Asset, PersistentData<Squ
                 .orElse(SquadronConfig.NONE);
     }
 
+    /**
+     * Notify the listeners that this squadron's strength or state has changed.
+     */
+    private void notifyListeners() {
+        // Copy the listeners as a listener may remove itself when notified.
+        new ArrayList<>(listeners).forEach(listener -> listener.squadronChanged(this));
+    }
+
     /**
      * Determine if this squadron is equal to a given object.
      *
@@ -0,0 +1,14 @@
+package engima.waratsea.model.squadron;
+
+/**
+ * Notified when a squadron's strength or state changes. Containers that index squadrons by strength or state
+ * register as listeners so that their indexes may be updated incrementally.
+ */
+public interface SquadronListener {
+    /**
+     * The given squadron's strength or state has changed.
+     *
+     * @param squadron The changed squadron.
+     */
+    void squadronChanged(Squadron squadron);
+}
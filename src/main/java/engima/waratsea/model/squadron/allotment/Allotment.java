@@ -55,6 +55,8 @@ public class Allotment {
     @Getter
     private final List<SquadronData> recon;
 
+    private static final List<String> TYPES = List.of("bombers", "fighters", "recon");  // The order optional dice are allocated.
+
     private static final Map<String, Function<AllotmentData, AllotmentTableData>> FUNCTION_MAP = Map.of(
         "bombers", AllotmentData::getBombers,
         "fighters", AllotmentData::getFighters,
@@ -187,8 +189,7 @@ public class Allotment {
      * @return A list of squadron types that are present in this allotment.
      */
     private List<String> getNumDiceNeeded(final AllotmentData data) {
-        return FUNCTION_MAP
-                .keySet()
+        return TYPES
                 .stream()
                 .map(type -> new Pair<>(type, FUNCTION_MAP.get(type).apply(data)))
                 .filter(this::isSquadronTypePresent)
@@ -56,8 +56,26 @@ public class AllotmentDAO {
      * @throws SquadronException if the squadron allotment cannot be loaded.
      */
     public Allotment load(final Scenario scenario, final Side side, final Nation nation) throws SquadronException {
-        Allotment allotment = loadScenarioSpecific(scenario, side, nation);
-        return allotment != null ? allotment : loadDefault(scenario, side, nation);
+        AllotmentData data = loadData(scenario, side, nation);
+
+        log.info("load allotment for side: {}, nation: {}", side, data.getNation());
+
+        return allotmentFactory.create(side, data);
+    }
+
+    /**
+     * Load the allotment data for the given scenario, side and nation. No dice are rolled. This allows the
+     * allotment to be analysed without allotting any squadrons.
+     *
+     * @param scenario The selected scenario.
+     * @param side The side: ALLIES or AXIS.
+     * @param nation The nation: BRITISH, ITALIAN, GERMAN, etc...
+     * @return The squadron allotment data of a nation.
+     * @throws SquadronException if the squadron allotment cannot be loaded.
+     */
+    public AllotmentData loadData(final Scenario scenario, final Side side, final Nation nation) throws SquadronException {
+        AllotmentData data = loadScenarioSpecific(scenario, side, nation);
+        return data != null ? data : loadDefault(scenario, side, nation);
     }
 
     /**
@@ -67,15 +85,15 @@ public class AllotmentDAO {
      * @param scenario The selected scenario.
      * @param side The side: ALLIES or AXIS.
      * @param nation The nation: BRITISH, ITALIAN, GERMAN, etc...
-     * @return The squadron allotment of a nation.
+     * @return The squadron allotment data of a nation.
      */
-    private Allotment loadScenarioSpecific(final Scenario scenario, final Side side, final Nation nation)  {
+    private AllotmentData loadScenarioSpecific(final Scenario scenario, final Side side, final Nation nation)  {
         String year = getAllotmentYear(scenario);
 
         log.info("load specific squadron allotments, scenario: '{}', side: '{}', nation: '{}', year: '{}'", new Object[]{scenario.getTitle(), side.toLower(), nation.toString(), year});
-        Allotment allotment = config
+        AllotmentData allotment = config
                 .getScenarioURL(side, Allotment.class, year + "/" + side.toLower() + "/" + nation + ".json")
-                .map(url -> readAllotment(url, side))
+                .map(this::readAllotment)
                 .orElse(null);
 
         log.info("load specific squadron allotments scenario: '{}', side: '{}', nation: '{}', year: '{}', success: {}",
@@ -89,37 +107,32 @@ public class AllotmentDAO {
      * @param scenario The selected scenario.
      * @param side The side: ALLIES or AXIS.
      * @param nation The nation: BRITISH, ITALIAN, GERMAN, etc...
-     * @return The squadron allotment of a nation.
+     * @return The squadron allotment data of a nation.
      * @throws SquadronException if the squadron allotment cannot be loaded.
      */
-    private Allotment loadDefault(final Scenario scenario, final Side side, final Nation nation) throws SquadronException {
+    private AllotmentData loadDefault(final Scenario scenario, final Side side, final Nation nation) throws SquadronException {
         String year = getAllotmentYear(scenario);
 
         log.info("Load squadron allotments, scenario: '{}', side: '{}', nation: '{}', year: '{}'", new Object[]{scenario.getTitle(), side.toLower(), nation.toString(), year});
         return config.getGameURL(side, Allotment.class, year + "/" + side.toLower() + "/" + nation + ".json")
-                .map(url -> readAllotment(url, side))
+                .map(this::readAllotment)
                 .orElseThrow(() -> new SquadronException("Unable to load allotment for " + scenario.getTitle() + " for " + side.toLower() + " nation: " + nation + " year: " + year));
     }
 
     /**
-     * Read the allotment data from json files for the given side.
+     * Read the allotment data from json files.
      *
-     * @param url specifies the task force json file.
-     * @param side specifies the side: ALLIES or AXIS.
-     * @return returns a squadron allotment.
+     * @param url specifies the allotment json file.
+     * @return returns the squadron allotment data.
      */
-    private Allotment readAllotment(final URL url, final Side side) {
+    private AllotmentData readAllotment(final URL url) {
         try {
             Path path = Paths.get(url.toURI().getPath()); // Use the URI to support file names with spaces.
 
             try (BufferedReader br = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
 
                 Gson gson = new Gson();
-                AllotmentData allotmentData = gson.fromJson(br, AllotmentData.class);
-
-                log.info("load allotment for side: {}, nation: {}", side, allotmentData.getNation());
-
-                return allotmentFactory.create(side, allotmentData);
+                return gson.fromJson(br, AllotmentData.class);
             } catch (Exception ex) {                                                                                        // Catch any Gson errors.
                 log.error("Unable to load allotment: {}", url.getPath(), ex);
                 return null;
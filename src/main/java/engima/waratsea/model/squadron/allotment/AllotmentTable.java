@@ -62,14 +62,22 @@ public class AllotmentTable {
 
         log.debug("{} : Number of steps: {}", nation, numberOfSteps);
 
-        // loop through the groups picking squadrons from each group.
+        // loop through the groups picking squadrons from each group. Stop if the groups run out of aircraft.
         int neededSquadrons = numberOfSquadrons;
-        while (neededSquadrons > 0) {
+        boolean exhausted = false;
+        while (neededSquadrons > 0 && !exhausted) {
+            int selectedThisPass = 0;
             for (AllotmentGroup group : groups) {
                 List<SquadronData> selected = group.select(neededSquadrons);
                 neededSquadrons -= selected.size();
+                selectedThisPass += selected.size();
                 squadrons.addAll(selected);
             }
+            exhausted = selectedThisPass == 0;
+        }
+
+        if (neededSquadrons > 0) {
+            log.warn("{} : allotment groups exhausted, {} squadrons not allotted", nation, neededSquadrons);
         }
 
         squadrons.forEach(squadron -> log.debug("Squadron: {}", squadron));
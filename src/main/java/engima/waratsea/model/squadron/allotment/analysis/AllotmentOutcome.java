@@ -0,0 +1,119 @@
+package engima.waratsea.model.squadron.allotment.analysis;
+
+import engima.waratsea.model.base.airfield.mission.stats.ProbabilityStats;
+import engima.waratsea.model.game.Nation;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The outcome of a nation's squadron allotment.
+ *
+ * The step distributions are exact. The aircraft type inclusion probabilities and mean squadrons are estimated from
+ * the sampled squadron mixes.
+ */
+@Builder
+public class AllotmentOutcome {
+    private static final int PERCENTAGE = 100;
+
+    @Getter
+    private final Nation nation;
+
+    @Getter
+    private final int samples;                               // The number of squadron mixes sampled.
+
+    @Getter
+    private final Map<String, StepDistribution> steps;       // The exact step distribution of each table: bombers, fighters or recon.
+
+    @Getter
+    private final Map<String, Double> inclusion;             // The probability each aircraft type is allotted at least one squadron.
+
+    @Getter
+    private final Map<String, Double> meanSquadrons;         // The mean number of squadrons of each aircraft type.
+
+    @Getter
+    private final Map<String, Double> meanTableSquadrons;    // The mean number of squadrons of each table.
+
+    @Getter
+    private final Map<String, Double> shortfall;             // The probability each table's groups run out of aircraft.
+
+    /**
+     * Get the probability that the given aircraft type is allotted at least one squadron.
+     *
+     * @param model The aircraft type.
+     * @return The probability, from 0.0 to 1.0.
+     */
+    public double getInclusion(final String model) {
+        return inclusion.getOrDefault(model, 0.0);
+    }
+
+    /**
+     * Get the outcome as probability tables. There is a table of the number of squadrons allotted for each of the
+     * bombers, fighters and recon, and a table of the probability each aircraft type is allotted.
+     *
+     * @return The probability tables.
+     */
+    public List<ProbabilityStats> getStats() {
+        List<ProbabilityStats> stats = new ArrayList<>();
+
+        steps.forEach((type, distribution) -> stats.add(ProbabilityStats
+                .builder()
+                .title(nation + " " + type)
+                .eventColumnTitle("Squadrons")
+                .probability(buildSquadronProbability(distribution))
+                .build()));
+
+        stats.add(ProbabilityStats
+                .builder()
+                .title(nation + " aircraft")
+                .eventColumnTitle("Aircraft")
+                .probability(buildInclusionProbability())
+                .build());
+
+        return stats;
+    }
+
+    /**
+     * Build the percentage probability of each number of squadrons of a table.
+     *
+     * @param distribution The table's step distribution.
+     * @return A map of the number of squadrons to the percentage probability.
+     */
+    private Map<String, Integer> buildSquadronProbability(final StepDistribution distribution) {
+        Map<String, Integer> probability = new LinkedHashMap<>();
+
+        for (int squadrons = 0; squadrons <= distribution.getMaxSquadrons(); squadrons++) {
+            double chance = distribution.getSquadronProbability(squadrons);
+            if (chance > 0.0) {
+                probability.put(Integer.toString(squadrons), toPercentage(chance));
+            }
+        }
+
+        return probability;
+    }
+
+    /**
+     * Build the percentage probability of each aircraft type being allotted.
+     *
+     * @return A map of the aircraft type to the percentage probability.
+     */
+    private Map<String, Integer> buildInclusionProbability() {
+        Map<String, Integer> probability = new LinkedHashMap<>();
+        inclusion.forEach((model, chance) -> probability.put(model, toPercentage(chance)));
+        return probability;
+    }
+
+    /**
+     * Convert a probability to a percentage.
+     *
+     * @param probability The probability, from 0.0 to 1.0.
+     * @return The percentage, from 0 to 100.
+     */
+    private int toPercentage(final double probability) {
+        return (int) Math.round(probability * PERCENTAGE);
+    }
+}
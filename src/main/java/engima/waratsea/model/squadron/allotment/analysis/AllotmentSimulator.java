@@ -0,0 +1,404 @@
+package engima.waratsea.model.squadron.allotment.analysis;
+
+import com.google.inject.Singleton;
+import engima.waratsea.model.squadron.allotment.data.AllotmentAircraftData;
+import engima.waratsea.model.squadron.allotment.data.AllotmentData;
+import engima.waratsea.model.squadron.allotment.data.AllotmentGroupData;
+import engima.waratsea.model.squadron.allotment.data.AllotmentTableData;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Analyses a nation's squadron allotment without allotting any squadrons.
+ *
+ * The step distribution of each allotment table is computed exactly. The optional dice are allocated to the tables
+ * as the game allocates them: each table but the last rolls a die of the remaining optional dice and the last table
+ * is given what remains. The allocations are enumerated, so each table's number of dice and thus its steps are
+ * known exactly.
+ *
+ * Which aircraft are allotted depends on the order the groups are drawn from, so the squadron mixes are sampled.
+ * The samples are split into chunks that run in parallel. Each chunk has its own random generator split from the
+ * seed before the chunks run, so the outcome is the same for a given seed however the chunks are scheduled. The
+ * allotment data is only read: each group's aircraft are copied into a compact pool of aircraft type indices and
+ * each sample draws from a scratch copy of the pool.
+ */
+@Slf4j
+@Singleton
+public class AllotmentSimulator {
+    private static final int CHUNK_SIZE = 1024;
+    private static final int SIDES = 6;
+
+    // The order the game allocates the optional dice.
+    private static final List<String> TYPES = List.of("bombers", "fighters", "recon");
+
+    private static final Map<String, Function<AllotmentData, AllotmentTableData>> FUNCTION_MAP = Map.of(
+            "bombers", AllotmentData::getBombers,
+            "fighters", AllotmentData::getFighters,
+            "recon", AllotmentData::getRecon
+    );
+
+    /**
+     * An allotment table compiled for sampling.
+     */
+    private static final class Table {
+        private final String type;
+        private final int dice;
+        private final int factor;
+        private final int[] selectSize;      // The select size of each group.
+        private final int[][] pool;          // The aircraft type index of each aircraft in each group.
+
+        Table(final String type, final int dice, final int factor, final int[] selectSize, final int[][] pool) {
+            this.type = type;
+            this.dice = dice;
+            this.factor = factor;
+            this.selectSize = selectSize;
+            this.pool = pool;
+        }
+    }
+
+    /**
+     * The totals of a chunk of samples.
+     */
+    private static final class Totals {
+        private final long[] included;       // The number of samples that include each aircraft type.
+        private final long[] squadrons;      // The number of squadrons of each aircraft type over all samples.
+        private final long[] tableSquadrons; // The number of squadrons of each table over all samples.
+        private final long[] shortfall;      // The number of samples in which each table's groups ran out.
+
+        Totals(final int types, final int tables) {
+            included = new long[types];
+            squadrons = new long[types];
+            tableSquadrons = new long[tables];
+            shortfall = new long[tables];
+        }
+
+        Totals add(final Totals other) {
+            addTo(included, other.included);
+            addTo(squadrons, other.squadrons);
+            addTo(tableSquadrons, other.tableSquadrons);
+            addTo(shortfall, other.shortfall);
+            return this;
+        }
+
+        private static void addTo(final long[] total, final long[] values) {
+            for (int i = 0; i < total.length; i++) {
+                total[i] += values[i];
+            }
+        }
+    }
+
+    /**
+     * Simulate a nation's squadron allotment.
+     *
+     * @param data The nation's allotment data. It is not changed.
+     * @param samples The number of squadron mixes to sample.
+     * @param seed The random seed.
+     * @return The allotment outcome.
+     */
+    public AllotmentOutcome simulate(final AllotmentData data, final int samples, final long seed) {
+        List<String> present = getPresentTypes(data);
+        Map<String, Map<Integer, Double>> optionalDice = getOptionalDice(present, data.getMaxOptionalDice());
+
+        Map<String, Integer> modelIndex = new LinkedHashMap<>();
+        List<Table> tables = present
+                .stream()
+                .map(type -> compile(type, FUNCTION_MAP.get(type).apply(data), modelIndex))
+                .collect(Collectors.toList());
+
+        Map<String, StepDistribution> steps = new LinkedHashMap<>();
+        tables.forEach(table -> steps.put(table.type, StepDistribution.of(shift(optionalDice.get(table.type), table.dice), table.factor)));
+
+        int chunks = (Math.max(samples, 0) + CHUNK_SIZE - 1) / CHUNK_SIZE;
+
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            randoms[i] = root.split();                                                                                  // Split before running, so the chunks do not depend on scheduling.
+        }
+
+        int numModels = modelIndex.size();
+        int numTables = tables.size();
+
+        Totals totals = IntStream
+                .range(0, chunks)
+                .parallel()
+                .mapToObj(chunk -> sample(tables, data.getMaxOptionalDice(), numModels, Math.min(CHUNK_SIZE, samples - chunk * CHUNK_SIZE), randoms[chunk]))
+                .reduce(new Totals(numModels, numTables), Totals::add);
+
+        log.debug("Nation: '{}' simulated {} allotments in {} chunks", new Object[]{data.getNation(), samples, chunks});
+
+        return buildOutcome(data, samples, steps, tables, modelIndex, totals);
+    }
+
+    /**
+     * Get the exact distribution of the optional dice allocated to each present table.
+     *
+     * @param present The types of the tables present, in the order the optional dice are allocated.
+     * @param maxOptionalDice The nation's maximum number of optional dice.
+     * @return The probability of each number of optional dice of each table.
+     */
+    public Map<String, Map<Integer, Double>> getOptionalDice(final List<String> present, final int maxOptionalDice) {
+        Map<String, Map<Integer, Double>> result = new LinkedHashMap<>();
+        present.forEach(type -> result.put(type, new HashMap<>()));
+
+        if (!present.isEmpty()) {
+            allocate(present, 0, maxOptionalDice, 1.0, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Enumerate the optional dice allocations from the given table on.
+     *
+     * @param present The types of the tables present.
+     * @param position The position of the table being allocated dice.
+     * @param remaining The optional dice not yet allocated.
+     * @param weight The probability of the allocation so far.
+     * @param result Receives the probability of each number of optional dice of each table.
+     */
+    private void allocate(final List<String> present, final int position, final int remaining, final double weight, final Map<String, Map<Integer, Double>> result) {
+        Map<Integer, Double> table = result.get(present.get(position));
+
+        if (position == present.size() - 1) {                                                                           // The last table is given what remains.
+            table.merge(remaining, weight, Double::sum);
+            return;
+        }
+
+        if (remaining <= 0) {
+            table.merge(0, weight, Double::sum);
+            allocate(present, position + 1, remaining, weight, result);
+            return;
+        }
+
+        for (int roll = 1; roll <= remaining; roll++) {
+            double rollWeight = weight / remaining;
+            table.merge(roll, rollWeight, Double::sum);
+            allocate(present, position + 1, remaining - roll, rollWeight, result);
+        }
+    }
+
+    /**
+     * Sample a chunk of allotments.
+     *
+     * @param tables The compiled tables.
+     * @param maxOptionalDice The nation's maximum number of optional dice.
+     * @param numModels The number of aircraft types.
+     * @param samples The number of allotments to sample.
+     * @param random The chunk's random generator.
+     * @return The chunk's totals.
+     */
+    private Totals sample(final List<Table> tables, final int maxOptionalDice, final int numModels, final int samples, final SplittableRandom random) {
+        Totals totals = new Totals(numModels, tables.size());
+        int[] counts = new int[numModels];
+
+        int[][][] scratch = new int[tables.size()][][];
+        for (int t = 0; t < tables.size(); t++) {
+            int[][] pool = tables.get(t).pool;
+            scratch[t] = new int[pool.length][];
+            for (int g = 0; g < pool.length; g++) {
+                scratch[t][g] = new int[pool[g].length];
+            }
+        }
+
+        int[] sizes = new int[tables.stream().mapToInt(table -> table.pool.length).max().orElse(0)];
+
+        for (int s = 0; s < samples; s++) {
+            Arrays.fill(counts, 0);
+
+            int remaining = maxOptionalDice;
+
+            for (int t = 0; t < tables.size(); t++) {
+                Table table = tables.get(t);
+
+                int optional;
+                if (t == tables.size() - 1) {
+                    optional = remaining;
+                } else {
+                    optional = remaining <= 0 ? 0 : random.nextInt(remaining) + 1;
+                }
+                remaining -= optional;
+
+                int numSteps = table.factor;
+                for (int d = 0; d < table.dice + optional; d++) {
+                    numSteps += random.nextInt(SIDES) + 1;
+                }
+
+                int needed = StepDistribution.toSquadrons(numSteps);
+                int allotted = select(table, scratch[t], sizes, needed, counts, random);
+
+                totals.tableSquadrons[t] += allotted;
+                if (allotted < needed) {
+                    totals.shortfall[t]++;
+                }
+            }
+
+            for (int m = 0; m < numModels; m++) {
+                totals.squadrons[m] += counts[m];
+                if (counts[m] > 0) {
+                    totals.included[m]++;
+                }
+            }
+        }
+
+        return totals;
+    }
+
+    /**
+     * Select the squadrons of a table. The groups are drawn from in turn, each giving up to its select size, until
+     * the squadrons needed are selected or a full pass over the groups selects nothing.
+     *
+     * @param table The compiled table.
+     * @param scratch The table's scratch pools.
+     * @param sizes The scratch pool sizes.
+     * @param needed The number of squadrons needed.
+     * @param counts Receives the number of squadrons of each aircraft type.
+     * @param random The random generator.
+     * @return The number of squadrons selected.
+     */
+    private int select(final Table table, final int[][] scratch, final int[] sizes, final int needed, final int[] counts, final SplittableRandom random) {
+        for (int g = 0; g < table.pool.length; g++) {
+            System.arraycopy(table.pool[g], 0, scratch[g], 0, table.pool[g].length);
+            sizes[g] = table.pool[g].length;
+        }
+
+        int stillNeeded = needed;
+        boolean exhausted = false;
+
+        while (stillNeeded > 0 && !exhausted) {
+            int selectedThisPass = 0;
+
+            for (int g = 0; g < table.pool.length; g++) {
+                int number = Math.min(Math.min(stillNeeded, table.selectSize[g]), sizes[g]);
+
+                for (int i = 0; i < number; i++) {
+                    int index = random.nextInt(sizes[g]);
+                    counts[scratch[g][index]]++;
+                    scratch[g][index] = scratch[g][--sizes[g]];                                                         // Remove the selected aircraft from the pool.
+                }
+
+                stillNeeded -= number;
+                selectedThisPass += number;
+            }
+
+            exhausted = selectedThisPass == 0;
+        }
+
+        return needed - stillNeeded;
+    }
+
+    /**
+     * Compile an allotment table into pools of aircraft type indices.
+     *
+     * @param type The table's type: bombers, fighters or recon.
+     * @param data The table's data.
+     * @param modelIndex The index of each aircraft type. New aircraft types are added.
+     * @return The compiled table.
+     */
+    private Table compile(final String type, final AllotmentTableData data, final Map<String, Integer> modelIndex) {
+        List<AllotmentGroupData> groups = Optional.ofNullable(data.getGroups()).orElse(List.of());
+
+        int[] selectSize = new int[groups.size()];
+        int[][] pool = new int[groups.size()][];
+
+        for (int g = 0; g < groups.size(); g++) {
+            AllotmentGroupData group = groups.get(g);
+            selectSize[g] = group.getSelectSize();
+
+            List<Integer> aircraft = new ArrayList<>();
+            for (AllotmentAircraftData entry : Optional.ofNullable(group.getAircraft()).orElse(List.of())) {
+                int index = modelIndex.computeIfAbsent(entry.getType(), model -> modelIndex.size());
+                for (int i = 0; i < entry.getNumber(); i++) {
+                    aircraft.add(index);
+                }
+            }
+
+            pool[g] = aircraft.stream().mapToInt(Integer::intValue).toArray();
+        }
+
+        return new Table(type, data.getDice(), data.getFactor(), selectSize, pool);
+    }
+
+    /**
+     * Get the types of the tables present in the allotment, in the order the optional dice are allocated.
+     *
+     * @param data The allotment data.
+     * @return The types of the tables present.
+     */
+    private List<String> getPresentTypes(final AllotmentData data) {
+        return TYPES
+                .stream()
+                .filter(type -> Optional.ofNullable(FUNCTION_MAP.get(type).apply(data)).map(AllotmentTableData::isPresent).orElse(false))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Shift a distribution of optional dice by a table's fixed dice.
+     *
+     * @param optionalDice The probability of each number of optional dice.
+     * @param dice The table's fixed dice.
+     * @return The probability of each total number of dice.
+     */
+    private Map<Integer, Double> shift(final Map<Integer, Double> optionalDice, final int dice) {
+        return optionalDice
+                .entrySet()
+                .stream()
+                .collect(Collectors.toMap(entry -> entry.getKey() + dice, Map.Entry::getValue));
+    }
+
+    /**
+     * Build the allotment outcome from the totals of all the samples.
+     *
+     * @param data The allotment data.
+     * @param samples The number of samples.
+     * @param steps The exact step distribution of each table.
+     * @param tables The compiled tables.
+     * @param modelIndex The index of each aircraft type.
+     * @param totals The totals of all the samples.
+     * @return The allotment outcome.
+     */
+    private AllotmentOutcome buildOutcome(final AllotmentData data,
+                                          final int samples,
+                                          final Map<String, StepDistribution> steps,
+                                          final List<Table> tables,
+                                          final Map<String, Integer> modelIndex,
+                                          final Totals totals) {
+        double perSample = samples > 0 ? 1.0 / samples : 0.0;
+
+        Map<String, Double> inclusion = new LinkedHashMap<>();
+        Map<String, Double> meanSquadrons = new LinkedHashMap<>();
+        modelIndex.forEach((model, index) -> {
+            inclusion.put(model, totals.included[index] * perSample);
+            meanSquadrons.put(model, totals.squadrons[index] * perSample);
+        });
+
+        Map<String, Double> meanTableSquadrons = new LinkedHashMap<>();
+        Map<String, Double> shortfall = new LinkedHashMap<>();
+        for (int t = 0; t < tables.size(); t++) {
+            meanTableSquadrons.put(tables.get(t).type, totals.tableSquadrons[t] * perSample);
+            shortfall.put(tables.get(t).type, totals.shortfall[t] * perSample);
+        }
+
+        return AllotmentOutcome
+                .builder()
+                .nation(data.getNation())
+                .samples(samples)
+                .steps(steps)
+                .inclusion(inclusion)
+                .meanSquadrons(meanSquadrons)
+                .meanTableSquadrons(meanTableSquadrons)
+                .shortfall(shortfall)
+                .build();
+    }
+}
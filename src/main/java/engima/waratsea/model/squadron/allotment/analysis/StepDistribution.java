@@ -0,0 +1,189 @@
+package engima.waratsea.model.squadron.allotment.analysis;
+
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * The exact distribution of the number of steps rolled on an allotment table.
+ *
+ * The steps of a table are the sum of its dice plus its factor. The distribution of the sum of n six sided dice is
+ * the n-fold convolution of a single die's distribution, which is computed directly rather than by enumerating the
+ * 6^n rolls. An odd number of steps is rounded up and two steps make a squadron, so the squadron distribution
+ * follows from the step distribution.
+ */
+public final class StepDistribution {
+    private static final int SIDES = 6;
+
+    private final int min;                // The fewest steps that may be rolled.
+    private final double[] probability;   // The probability of each number of steps, starting from min.
+
+    /**
+     * Constructor.
+     *
+     * @param min The fewest steps that may be rolled.
+     * @param probability The probability of each number of steps, starting from min.
+     */
+    private StepDistribution(final int min, final double[] probability) {
+        this.min = min;
+        this.probability = probability;
+    }
+
+    /**
+     * Get the step distribution of rolling the given number of dice and adding the factor.
+     *
+     * @param dice The number of six sided dice rolled.
+     * @param factor The number added to the dice roll.
+     * @return The step distribution.
+     */
+    public static StepDistribution of(final int dice, final int factor) {
+        int numDice = Math.max(dice, 0);
+        double[] sums = {1.0};                                  // The distribution of the sum of zero dice.
+
+        for (int i = 0; i < numDice; i++) {
+            sums = addDie(sums);
+        }
+
+        return new StepDistribution(numDice + factor, sums);
+    }
+
+    /**
+     * Get the step distribution of a table whose number of dice is itself random. This is the case when the table
+     * is allocated a random number of optional dice.
+     *
+     * @param dice The probability of each number of dice rolled.
+     * @param factor The number added to the dice roll.
+     * @return The step distribution.
+     */
+    public static StepDistribution of(final Map<Integer, Double> dice, final int factor) {
+        int maxDice = dice.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+        int minDice = dice.keySet().stream().mapToInt(Integer::intValue).min().orElse(0);
+
+        double[] mixed = new double[SIDES * maxDice - minDice + 1];                                               // From minDice ones to maxDice sixes.
+
+        dice.forEach((numDice, weight) -> {
+            StepDistribution roll = of(numDice, factor);
+            int offset = roll.min - (minDice + factor);
+            for (int i = 0; i < roll.probability.length; i++) {
+                mixed[offset + i] += weight * roll.probability[i];
+            }
+        });
+
+        return new StepDistribution(minDice + factor, trim(mixed));
+    }
+
+    /**
+     * Get the probability of rolling the given number of steps.
+     *
+     * @param steps The number of steps.
+     * @return The probability, from 0.0 to 1.0.
+     */
+    public double getProbability(final int steps) {
+        int index = steps - min;
+        return index >= 0 && index < probability.length ? probability[index] : 0.0;
+    }
+
+    /**
+     * Get the fewest steps that may be rolled.
+     *
+     * @return The minimum number of steps.
+     */
+    public int getMin() {
+        return min;
+    }
+
+    /**
+     * Get the most steps that may be rolled.
+     *
+     * @return The maximum number of steps.
+     */
+    public int getMax() {
+        return min + probability.length - 1;
+    }
+
+    /**
+     * Get the expected number of steps.
+     *
+     * @return The mean number of steps.
+     */
+    public double getMean() {
+        double mean = 0.0;
+
+        for (int i = 0; i < probability.length; i++) {
+            mean += (min + i) * probability[i];
+        }
+
+        return mean;
+    }
+
+    /**
+     * Get the number of squadrons allotted for a number of steps. An odd number of steps is rounded up.
+     *
+     * @param steps The number of steps.
+     * @return The number of squadrons. Never negative.
+     */
+    public static int toSquadrons(final int steps) {
+        return steps <= 0 ? 0 : (steps + 1) / 2;
+    }
+
+    /**
+     * Get the probability that the given number of squadrons is allotted.
+     *
+     * @param squadrons The number of squadrons.
+     * @return The probability, from 0.0 to 1.0.
+     */
+    public double getSquadronProbability(final int squadrons) {
+        double result = 0.0;
+
+        for (int i = 0; i < probability.length; i++) {
+            if (toSquadrons(min + i) == squadrons) {
+                result += probability[i];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the most squadrons that may be allotted.
+     *
+     * @return The maximum number of squadrons.
+     */
+    public int getMaxSquadrons() {
+        return toSquadrons(getMax());
+    }
+
+    /**
+     * Convolve a distribution of sums with one more die.
+     *
+     * @param sums The probability of each sum, starting from the fewest dice.
+     * @return The probability of each sum with one more die.
+     */
+    private static double[] addDie(final double[] sums) {
+        double[] result = new double[sums.length + SIDES - 1];
+
+        for (int i = 0; i < sums.length; i++) {
+            double share = sums[i] / SIDES;
+            for (int face = 0; face < SIDES; face++) {
+                result[i + face] += share;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Trim the unused tail of a distribution.
+     *
+     * @param probability The probability of each number of steps.
+     * @return The distribution without trailing zero probabilities. At least one entry is kept.
+     */
+    private static double[] trim(final double[] probability) {
+        int length = probability.length;
+
+        while (length > 1 && probability[length - 1] == 0.0) {
+            length--;
+        }
+
+        return Arrays.copyOf(probability, length);
+    }
+}
@@ -0,0 +1,349 @@
+package engima.waratsea.model.squadron.deployment;
+
+import engima.waratsea.model.aircraft.AircraftType;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.map.region.Region;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronStrength;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The squadron deployment solver's model of a nation's airfields and squadrons.
+ *
+ * Each airfield is a bin whose capacity is the airfield's maximum capacity in steps. Each airfield belongs to
+ * a region that may have a maximum and a minimum number of steps. Room is checked exactly as the airfields and
+ * regions check it: the squadron's steps plus the steps of the aircraft already present may not exceed the
+ * maximum. Aircraft of other nations already stationed at an airfield occupy the airfield's capacity.
+ *
+ * The model keeps a running score. A deployed squadron scores its aircraft less its airfield ranking for each
+ * aircraft. Every step by which a region's minimum is not met is heavily penalized.
+ */
+class DeploymentModel {
+    static final int UNASSIGNED = -1;
+
+    private static final int AIRCRAFT_WEIGHT = 100;      // The reward for each deployed aircraft.
+    private static final int SHORTFALL_WEIGHT = 10_000;  // The penalty for each step a region minimum is not met.
+
+    @Getter private final List<Squadron> squadrons;
+    @Getter private final List<Airfield> airfields;
+
+    private final int[] fieldAircraft;
+    private final int[] fieldMax;
+    private final int[] fieldRegion;
+
+    private final int[] regionAircraft;
+    private final int[] regionMax;
+    private final int[] regionMin;
+
+    private final int[] aircraft;
+    private final int[] steps;
+    private final int[][] rank;          // The ranking of each airfield for each squadron. Lower is better.
+    private final boolean[][] canLand;   // Indicates if each squadron may land at each airfield.
+
+    private final int[] assignment;
+    private final boolean[] locked;
+
+    @Getter private long score;
+
+    //CHECKSTYLE:OFF
+    /**
+     * Constructor. The nation's squadrons should already be cleared from the airfields.
+     *
+     * @param nation The nation whose squadrons are deployed.
+     * @param squadrons The squadrons to deploy.
+     * @param airfields The nation's airfields.
+     * @param rankings The airfield rankings for each aircraft type.
+     */
+    DeploymentModel(final Nation nation,
+                    final List<Squadron> squadrons,
+                    final List<Airfield> airfields,
+                    final Map<AircraftType, Map<Integer, List<Airfield>>> rankings) {
+    //CHECKSTYLE:ON
+        this.squadrons = new ArrayList<>(squadrons);
+        this.airfields = new ArrayList<>(airfields);
+
+        int numFields = airfields.size();
+        int numSquadrons = squadrons.size();
+
+        fieldAircraft = new int[numFields];
+        fieldMax = new int[numFields];
+        fieldRegion = new int[numFields];
+
+        Map<Region, Integer> regionIndex = new LinkedHashMap<>();
+
+        for (int a = 0; a < numFields; a++) {
+            Airfield airfield = airfields.get(a);
+
+            fieldAircraft[a] = airfield
+                    .getSquadrons()
+                    .stream()
+                    .filter(squadron -> !squadron.ofNation(nation))
+                    .mapToInt(Squadron::getAircraftNumber)
+                    .sum();
+
+            fieldMax[a] = airfield.getMaxCapacity();
+            fieldRegion[a] = regionIndex.computeIfAbsent(airfield.getRegion(nation), region -> regionIndex.size());
+        }
+
+        List<Region> regions = new ArrayList<>(regionIndex.keySet());
+        regionAircraft = new int[regions.size()];
+        regionMax = new int[regions.size()];
+        regionMin = new int[regions.size()];
+
+        for (int r = 0; r < regions.size(); r++) {
+            Region region = regions.get(r);
+            regionMax[r] = region.getMaxSteps();
+            regionMin[r] = region.getMinSteps();
+
+            // Airfields of the region that are not deployment airfields may still hold this nation's aircraft.
+            regionAircraft[r] = region
+                    .getAirfields()
+                    .stream()
+                    .filter(airfield -> !airfields.contains(airfield))
+                    .mapToInt(airfield -> airfield.getAircraftNumber(nation))
+                    .sum();
+        }
+
+        aircraft = new int[numSquadrons];
+        steps = new int[numSquadrons];
+        rank = new int[numSquadrons][numFields];
+        canLand = new boolean[numSquadrons][numFields];
+        assignment = new int[numSquadrons];
+        locked = new boolean[numSquadrons];
+
+        Map<AircraftType, int[]> typeRanks = new HashMap<>();
+
+        for (int s = 0; s < numSquadrons; s++) {
+            Squadron squadron = squadrons.get(s);
+            aircraft[s] = squadron.getAircraftNumber();
+            steps[s] = squadron.getSteps();
+            rank[s] = typeRanks.computeIfAbsent(squadron.getType(), type -> getRanks(rankings.get(type)));
+            assignment[s] = UNASSIGNED;
+
+            for (int a = 0; a < numFields; a++) {
+                canLand[s][a] = airfields.get(a).canSquadronLand(squadron);
+            }
+        }
+
+        score = -(long) SHORTFALL_WEIGHT * totalShortfall();
+    }
+
+    /**
+     * Get the number of squadrons.
+     *
+     * @return The number of squadrons.
+     */
+    int numSquadrons() {
+        return aircraft.length;
+    }
+
+    /**
+     * Get the number of airfields.
+     *
+     * @return The number of airfields.
+     */
+    int numFields() {
+        return fieldMax.length;
+    }
+
+    /**
+     * Get the number of regions.
+     *
+     * @return The number of regions.
+     */
+    int numRegions() {
+        return regionMin.length;
+    }
+
+    /**
+     * Get the number of aircraft of a squadron.
+     *
+     * @param s A squadron index.
+     * @return The number of aircraft of the squadron.
+     */
+    int getAircraft(final int s) {
+        return aircraft[s];
+    }
+
+    /**
+     * Get the ranking of an airfield for a squadron.
+     *
+     * @param s A squadron index.
+     * @param a An airfield index.
+     * @return The ranking. Lower is better.
+     */
+    int getRank(final int s, final int a) {
+        return rank[s][a];
+    }
+
+    /**
+     * Get the region of an airfield.
+     *
+     * @param a An airfield index.
+     * @return The region index.
+     */
+    int getRegion(final int a) {
+        return fieldRegion[a];
+    }
+
+    /**
+     * Get the airfield of a squadron.
+     *
+     * @param s A squadron index.
+     * @return The airfield index or UNASSIGNED.
+     */
+    int getAssignment(final int s) {
+        return assignment[s];
+    }
+
+    /**
+     * Determine if a squadron is locked to its airfield.
+     *
+     * @param s A squadron index.
+     * @return True if the squadron may not be moved.
+     */
+    boolean isLocked(final int s) {
+        return locked[s];
+    }
+
+    /**
+     * Lock a squadron to its airfield. Mandatory deployments are locked.
+     *
+     * @param s A squadron index.
+     */
+    void lock(final int s) {
+        locked[s] = true;
+    }
+
+    /**
+     * Get the room remaining at an airfield in steps.
+     *
+     * @param a An airfield index.
+     * @return The remaining room in steps.
+     */
+    int getRoom(final int a) {
+        return fieldMax[a] - SquadronStrength.calculateSteps(fieldAircraft[a]);
+    }
+
+    /**
+     * Get the steps a region still needs to meet its minimum.
+     *
+     * @param r A region index.
+     * @return The needed steps.
+     */
+    int getNeeded(final int r) {
+        return Math.max(regionMin[r] - SquadronStrength.calculateSteps(regionAircraft[r]), 0);
+    }
+
+    /**
+     * Get the total steps by which all the region minimums are not met.
+     *
+     * @return The total shortfall in steps.
+     */
+    int totalShortfall() {
+        int total = 0;
+        for (int r = 0; r < regionMin.length; r++) {
+            total += getNeeded(r);
+        }
+        return total;
+    }
+
+    /**
+     * Determine if a squadron may be deployed to an airfield.
+     *
+     * @param s A squadron index.
+     * @param a An airfield index.
+     * @return True if the airfield and its region have room and the squadron may land there.
+     */
+    boolean isFeasible(final int s, final int a) {
+        int r = fieldRegion[a];
+
+        return canLand[s][a]
+                && steps[s] + SquadronStrength.calculateSteps(fieldAircraft[a]) <= fieldMax[a]
+                && (regionMax[r] == 0 || steps[s] + SquadronStrength.calculateSteps(regionAircraft[r]) <= regionMax[r]);
+    }
+
+    /**
+     * Deploy a squadron to an airfield. Feasibility is not checked.
+     *
+     * @param s A squadron index.
+     * @param a An airfield index.
+     */
+    void assign(final int s, final int a) {
+        int r = fieldRegion[a];
+        int neededBefore = getNeeded(r);
+
+        assignment[s] = a;
+        fieldAircraft[a] += aircraft[s];
+        regionAircraft[r] += aircraft[s];
+
+        score += contribution(s, a) + (long) SHORTFALL_WEIGHT * (neededBefore - getNeeded(r));
+    }
+
+    /**
+     * Remove a squadron from its airfield.
+     *
+     * @param s A squadron index.
+     */
+    void unassign(final int s) {
+        int a = assignment[s];
+
+        if (a == UNASSIGNED) {
+            return;
+        }
+
+        int r = fieldRegion[a];
+        int neededBefore = getNeeded(r);
+
+        assignment[s] = UNASSIGNED;
+        fieldAircraft[a] -= aircraft[s];
+        regionAircraft[r] -= aircraft[s];
+
+        score -= contribution(s, a) + (long) SHORTFALL_WEIGHT * (getNeeded(r) - neededBefore);
+    }
+
+    /**
+     * The score contributed by a squadron deployed at an airfield.
+     *
+     * @param s A squadron index.
+     * @param a An airfield index.
+     * @return The score contribution.
+     */
+    private long contribution(final int s, final int a) {
+        return (long) aircraft[s] * (AIRCRAFT_WEIGHT - rank[s][a]);
+    }
+
+    /**
+     * Convert a ranking map into a ranking for each airfield. Airfields missing from the ranking map are
+     * ranked after every ranked airfield.
+     *
+     * @param ranking The ranking map of an aircraft type.
+     * @return The ranking of each airfield.
+     */
+    private int[] getRanks(final Map<Integer, List<Airfield>> ranking) {
+        Map<Integer, List<Airfield>> rankingMap = ranking == null ? Map.of() : ranking;
+
+        int worst = rankingMap.keySet().stream().mapToInt(Integer::intValue).max().orElse(0) + 1;
+
+        int[] ranks = new int[airfields.size()];
+        for (int a = 0; a < ranks.length; a++) {
+            ranks[a] = worst;
+        }
+
+        rankingMap.forEach((value, fields) -> fields.forEach(airfield -> {
+            int a = airfields.indexOf(airfield);
+            if (a >= 0) {
+                ranks[a] = Math.min(ranks[a], value);
+            }
+        }));
+
+        return ranks;
+    }
+}
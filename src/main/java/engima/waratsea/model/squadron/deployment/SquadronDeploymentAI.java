@@ -14,12 +14,16 @@ import engima.waratsea.model.scenario.Scenario;
 import engima.waratsea.model.squadron.Squadron;
 import engima.waratsea.model.squadron.SquadronException;
 import engima.waratsea.model.squadron.SquadronLocationType;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
@@ -32,6 +36,10 @@ public class SquadronDeploymentAI {
     private final GameMap gameMap;
     private final SquadronDeploymentDAO deploymentDAO;
     private final SquadronDeploymentMap deploymentMap;                               //Contains all the airfields for this nation.
+    private final SquadronDeploymentSolver solver;
+
+    @Getter @Setter private SquadronDeploymentStrategy strategy = SquadronDeploymentStrategy.SOLVER;
+    @Getter private final Map<Nation, Long> scores = new EnumMap<>(Nation.class);  //The solver's score of each nation's last deployment.
 
     private Scenario scenario;
     private Player player;
@@ -49,12 +57,17 @@ public class SquadronDeploymentAI {
      * @param gameMap The game's map.
      * @param deploymentDAO The squadron deployment DAO.
      * @param deploymentMap The squadron deployment map.
+     * @param solver The squadron deployment solver.
      */
     @Inject
-    public SquadronDeploymentAI(final GameMap gameMap, final SquadronDeploymentDAO deploymentDAO, final SquadronDeploymentMap deploymentMap) {
+    public SquadronDeploymentAI(final GameMap gameMap,
+                                final SquadronDeploymentDAO deploymentDAO,
+                                final SquadronDeploymentMap deploymentMap,
+                                final SquadronDeploymentSolver solver) {
         this.gameMap = gameMap;
         this.deploymentDAO = deploymentDAO;
         this.deploymentMap = deploymentMap;
+        this.solver = solver;
     }
 
     /**
@@ -68,6 +81,7 @@ public class SquadronDeploymentAI {
         player = gamePlayer;
         side = player.getSide();
 
+        scores.clear();
         player.getNations().forEach(this::deployNation);
     }
 
@@ -93,23 +107,61 @@ public class SquadronDeploymentAI {
 
             deploymentMap.build(side, deployments, airfields);                                    //Build the nation's deployment.
 
-            airfields
+            // All the airfields are cleared before any squadron is deployed. Otherwise, clearing a later airfield
+            // would remove squadrons just deployed to it while meeting an earlier region's requirement.
+            airfields.forEach(airfield -> airfield.clearSquadrons(nation));
+
+            List<Region> regions = airfields
                     .stream()
-                    .map(airfield -> airfield.clearSquadrons(nation))
                     .map(airfield -> airfield.getRegion(nation))
                     .distinct()
                     .map(region -> region.setRequirements(squadrons))
-                    .filter(Region::hasMinimumRequirement)
-                    .map(this::meetMandatory)
-                    .forEach(this::meetMinimum);
+                    .collect(Collectors.toList());
+
+            List<Squadron> allotted = new ArrayList<>(squadrons);
+
+            if (strategy == SquadronDeploymentStrategy.SOLVER) {
+                deploySolved(nation, airfields);
+            } else {
+                regions
+                        .stream()
+                        .filter(Region::hasMinimumRequirement)
+                        .map(this::meetMandatory)
+                        .forEach(this::meetMinimum);
+
+                finishDeployment();
+            }
 
-            finishDeployment();
+            scores.put(nation, solver.evaluate(nation, allotted, airfields, deploymentMap));
 
         } catch (SquadronException ex) {
             log.error("Unable to deploy squadrons. Unable to load deployment {} {}", scenario.getTitle(), nation);
         }
     }
 
+    /**
+     * Deploy the nation's squadrons as planned by the squadron deployment solver. The solver is seeded from
+     * the scenario and nation so that a given scenario always deploys the same allotment the same way.
+     *
+     * @param nation The nation: BRITISH, ITALIAN, etc...
+     * @param airfields The nation's airfields.
+     */
+    private void deploySolved(final Nation nation, final List<Airfield> airfields) {
+        long seed = Objects.hash(scenario.getName(), side.name(), nation.name());      // Enum hash codes differ between runs.
+
+        SquadronDeploymentPlan plan = solver.solve(nation, squadrons, airfields, deploymentMap, seed);
+
+        plan.getAssignments().forEach((squadron, airfield) -> {
+            AirfieldOperation result = airfield.addSquadron(squadron);
+            log.info("Deploy squadron: '{}' of type '{}' to airfield: '{}' result: '{}'",
+                    new Object[]{squadron.getName(), squadron.getType(), airfield.getName(), result});
+        });
+
+        plan.getUndeployed().forEach(squadron -> log.warn("Squadron: '{}' of type '{}' could not be deployed", squadron.getName(), squadron.getType()));
+
+        log.info("Deployment finished - success: {}", plan.getUndeployed().isEmpty() && plan.getShortfall() == 0);
+    }
+
     /**
      * Get the squadron type map. A map of base aircraft type to squadron list. This is used in the region
      * requirement fulfillment to evenly distribute the type of aircraft deployed.
@@ -0,0 +1,21 @@
+package engima.waratsea.model.squadron.deployment;
+
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.squadron.Squadron;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The result of the squadron deployment solver. It maps each deployed squadron to its airfield.
+ */
+@Builder
+public class SquadronDeploymentPlan {
+    @Getter private final Map<Squadron, Airfield> assignments;  // The deployed squadrons and their airfields.
+    @Getter private final List<Squadron> undeployed;            // The squadrons that could not be deployed.
+    @Getter private final long score;                           // The score of the deployment. Higher is better.
+    @Getter private final int shortfall;                        // The total steps by which the region minimums are not met.
+    @Getter private final int iterations;                       // The number of local search iterations performed.
+}
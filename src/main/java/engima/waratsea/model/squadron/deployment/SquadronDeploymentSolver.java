@@ -0,0 +1,475 @@
+package engima.waratsea.model.squadron.deployment;
+
+import com.google.inject.Singleton;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.squadron.Squadron;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Solves the computer player's squadron deployment for a nation.
+ *
+ * The airfields are capacity constrained bins grouped into regions that have minimum and maximum step
+ * requirements. The solver works in three phases:
+ *
+ *  1. Mandatory aircraft models are placed at their airfields and locked.
+ *  2. A priority queue of squadrons, largest first, fills the regions that have unmet minimums and then places
+ *     the remaining squadrons at their best ranked airfield that has room. Ties are broken by the airfield with
+ *     the most room, which spreads the squadrons over equally ranked airfields.
+ *  3. A bounded local search relocates, swaps and inserts squadrons, keeping only moves that improve the score.
+ *     Blocking squadrons may be ejected to make room for larger undeployed squadrons.
+ *
+ * The solver is deterministic for a given seed. The local search stops after a fixed number of iterations or after
+ * a run of iterations without improvement. The time budget is only a safety net against a pathological allotment.
+ * It is far larger than the iteration cap needs on any reasonable machine, so it does not make the deployment
+ * depend on the machine's speed. A warning is logged if it ever stops the search.
+ */
+@Slf4j
+@Singleton
+public class SquadronDeploymentSolver {
+    private static final int MAX_ITERATIONS = 20_000;
+    private static final int STALL_LIMIT = 4_000;
+    private static final long TIME_BUDGET = TimeUnit.SECONDS.toNanos(10);
+    private static final int MOVE_TYPES = 3;
+
+    /**
+     * Solve the deployment of the given squadrons. The nation's squadrons should already be cleared from the
+     * airfields and the region requirements should already be set. The airfields are not modified.
+     *
+     * @param nation The nation whose squadrons are deployed.
+     * @param squadrons The squadrons to deploy.
+     * @param airfields The nation's airfields.
+     * @param deploymentMap The nation's deployment rankings and mandatory models.
+     * @param seed The random seed.
+     * @return The deployment plan.
+     */
+    public SquadronDeploymentPlan solve(final Nation nation,
+                                        final List<Squadron> squadrons,
+                                        final List<Airfield> airfields,
+                                        final SquadronDeploymentMap deploymentMap,
+                                        final long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        DeploymentModel model = new DeploymentModel(nation, squadrons, airfields, deploymentMap.getDeploymentMap());
+
+        deployMandatory(model, deploymentMap);
+
+        List<Integer> order = getPriorityOrder(model, random);
+        meetMinimums(model, order);
+        deployRemaining(model, order);
+
+        long constructed = model.getScore();
+        int iterations = improve(model, random);
+
+        log.info("{} deployment score: constructed {}, improved {} in {} iterations, shortfall {}",
+                new Object[]{nation, constructed, model.getScore(), iterations, model.totalShortfall()});
+
+        return buildPlan(model, iterations);
+    }
+
+    /**
+     * Score the current deployment of the given squadrons with the solver's scoring. This allows deployments
+     * made by other means to be compared with the solver's deployments.
+     *
+     * @param nation The nation whose squadrons are deployed.
+     * @param squadrons The nation's squadrons.
+     * @param airfields The nation's airfields.
+     * @param deploymentMap The nation's deployment rankings.
+     * @return The score of the current deployment.
+     */
+    public long evaluate(final Nation nation,
+                         final List<Squadron> squadrons,
+                         final List<Airfield> airfields,
+                         final SquadronDeploymentMap deploymentMap) {
+        DeploymentModel model = new DeploymentModel(nation, squadrons, airfields, deploymentMap.getDeploymentMap());
+
+        for (int s = 0; s < model.numSquadrons(); s++) {
+            int a = airfields.indexOf(squadrons.get(s).getHome());
+            if (a >= 0) {
+                model.assign(s, a);
+            }
+        }
+
+        return model.getScore();
+    }
+
+    /**
+     * Deploy the mandatory aircraft models to their airfields. The deployed squadrons are locked.
+     *
+     * @param model The deployment model.
+     * @param deploymentMap The nation's deployment.
+     */
+    private void deployMandatory(final DeploymentModel model, final SquadronDeploymentMap deploymentMap) {
+        List<Airfield> airfields = model.getAirfields();
+
+        for (int a = 0; a < airfields.size(); a++) {
+            for (String aircraftModel : deploymentMap.getMandatoryModels(airfields.get(a))) {
+                int s = findUnassigned(model, aircraftModel);
+
+                if (s == DeploymentModel.UNASSIGNED) {
+                    log.error("Could not find a squadron of model '{}' for airfield '{}'", aircraftModel, airfields.get(a).getName());
+                } else if (model.isFeasible(s, a)) {
+                    model.assign(s, a);
+                    model.lock(s);
+                }
+            }
+        }
+    }
+
+    /**
+     * Order the squadrons for deployment. Squadrons with more aircraft are deployed first, as large items are
+     * harder to fit into the remaining room. Ties are broken randomly.
+     *
+     * @param model The deployment model.
+     * @param random The random number generator.
+     * @return The squadron indexes in deployment order.
+     */
+    private List<Integer> getPriorityOrder(final DeploymentModel model, final SplittableRandom random) {
+        long[] tieBreak = new long[model.numSquadrons()];
+
+        PriorityQueue<Integer> queue = new PriorityQueue<>(Comparator
+                .comparingInt((Integer s) -> -model.getAircraft(s))
+                .thenComparingLong(s -> tieBreak[s]));
+
+        for (int s = 0; s < model.numSquadrons(); s++) {
+            tieBreak[s] = random.nextLong();
+            if (model.getAssignment(s) == DeploymentModel.UNASSIGNED) {
+                queue.add(s);
+            }
+        }
+
+        List<Integer> order = new ArrayList<>(queue.size());
+        while (!queue.isEmpty()) {
+            order.add(queue.poll());
+        }
+
+        return order;
+    }
+
+    /**
+     * Fill the regions whose minimum step requirement is not yet met. The regions with the largest need are
+     * filled first.
+     *
+     * @param model The deployment model.
+     * @param order The squadrons in deployment order.
+     */
+    private void meetMinimums(final DeploymentModel model, final List<Integer> order) {
+        List<Integer> regions = new ArrayList<>();
+        for (int r = 0; r < model.numRegions(); r++) {
+            regions.add(r);
+        }
+
+        regions.sort(Comparator.comparingInt((Integer r) -> -model.getNeeded(r)).thenComparingInt(r -> r));
+
+        for (int r : regions) {
+            for (int s : order) {
+                if (model.getNeeded(r) == 0) {
+                    break;
+                }
+
+                if (model.getAssignment(s) == DeploymentModel.UNASSIGNED) {
+                    int a = bestField(model, s, r);
+                    if (a != DeploymentModel.UNASSIGNED) {
+                        model.assign(s, a);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Deploy the remaining squadrons to their best ranked airfields.
+     *
+     * @param model The deployment model.
+     * @param order The squadrons in deployment order.
+     */
+    private void deployRemaining(final DeploymentModel model, final List<Integer> order) {
+        for (int s : order) {
+            if (model.getAssignment(s) == DeploymentModel.UNASSIGNED) {
+                int a = bestField(model, s, DeploymentModel.UNASSIGNED);
+                if (a != DeploymentModel.UNASSIGNED) {
+                    model.assign(s, a);
+                }
+            }
+        }
+    }
+
+    /**
+     * Improve the deployment with a bounded local search. Only improving moves are kept.
+     *
+     * @param model The deployment model.
+     * @param random The random number generator.
+     * @return The number of iterations performed.
+     */
+    private int improve(final DeploymentModel model, final SplittableRandom random) {
+        if (model.numSquadrons() == 0 || model.numFields() < 2) {
+            return 0;
+        }
+
+        long deadline = System.nanoTime() + TIME_BUDGET;
+        int stalled = 0;
+        int iteration = 0;
+
+        while (iteration < MAX_ITERATIONS && stalled < STALL_LIMIT && System.nanoTime() < deadline) {
+            iteration++;
+
+            int s = random.nextInt(model.numSquadrons());
+            boolean improved;
+
+            if (model.isLocked(s)) {
+                improved = false;
+            } else if (model.getAssignment(s) == DeploymentModel.UNASSIGNED) {
+                improved = insert(model, s, random.nextInt(model.numFields()));
+            } else {
+                improved = random.nextInt(MOVE_TYPES) == 0
+                        ? swap(model, s, random.nextInt(model.numSquadrons()))
+                        : relocate(model, s, random.nextInt(model.numFields()));
+            }
+
+            stalled = improved ? 0 : stalled + 1;
+        }
+
+        if (iteration < MAX_ITERATIONS && stalled < STALL_LIMIT) {
+            log.warn("Deployment local search stopped by its time budget after {} iterations", iteration);
+        }
+
+        return iteration;
+    }
+
+    /**
+     * Move a deployed squadron to another airfield if that improves the score.
+     *
+     * @param model The deployment model.
+     * @param s The squadron.
+     * @param target The target airfield.
+     * @return True if the move was kept.
+     */
+    private boolean relocate(final DeploymentModel model, final int s, final int target) {
+        int origin = model.getAssignment(s);
+
+        if (origin == target) {
+            return false;
+        }
+
+        long before = model.getScore();
+        model.unassign(s);
+
+        if (model.isFeasible(s, target)) {
+            model.assign(s, target);
+            if (model.getScore() > before) {
+                return true;
+            }
+            model.unassign(s);
+        }
+
+        model.assign(s, origin);
+        return false;
+    }
+
+    /**
+     * Swap the airfields of two deployed squadrons if that improves the score.
+     *
+     * @param model The deployment model.
+     * @param s The first squadron.
+     * @param t The second squadron.
+     * @return True if the swap was kept.
+     */
+    private boolean swap(final DeploymentModel model, final int s, final int t) {
+        int first = model.getAssignment(s);
+        int second = model.getAssignment(t);
+
+        if (model.isLocked(t) || second == DeploymentModel.UNASSIGNED || first == second) {
+            return false;
+        }
+
+        long before = model.getScore();
+        model.unassign(s);
+        model.unassign(t);
+
+        if (model.isFeasible(s, second)) {
+            model.assign(s, second);
+            if (model.isFeasible(t, first)) {
+                model.assign(t, first);
+                if (model.getScore() > before) {
+                    return true;
+                }
+                model.unassign(t);
+            }
+            model.unassign(s);
+        }
+
+        model.assign(s, first);
+        model.assign(t, second);
+        return false;
+    }
+
+    /**
+     * Deploy an undeployed squadron to the given airfield. If the airfield has no room, a smaller squadron at the
+     * airfield is ejected and moved to its best airfield with room, or left undeployed. The move is kept only if
+     * it improves the score.
+     *
+     * @param model The deployment model.
+     * @param s The undeployed squadron.
+     * @param target The target airfield.
+     * @return True if the move was kept.
+     */
+    private boolean insert(final DeploymentModel model, final int s, final int target) {
+        long before = model.getScore();
+
+        if (model.isFeasible(s, target)) {
+            model.assign(s, target);
+            if (model.getScore() > before) {
+                return true;
+            }
+            model.unassign(s);
+            return false;
+        }
+
+        int ejected = findEjectable(model, target, model.getAircraft(s));
+
+        if (ejected == DeploymentModel.UNASSIGNED) {
+            return false;
+        }
+
+        model.unassign(ejected);
+
+        if (model.isFeasible(s, target)) {
+            model.assign(s, target);
+
+            int a = bestField(model, ejected, DeploymentModel.UNASSIGNED);
+            if (a != DeploymentModel.UNASSIGNED) {
+                model.assign(ejected, a);
+            }
+
+            if (model.getScore() > before) {
+                return true;
+            }
+
+            model.unassign(ejected);
+            model.unassign(s);
+        }
+
+        model.assign(ejected, target);
+        return false;
+    }
+
+    /**
+     * Find the largest unlocked squadron at the given airfield that is smaller than the given size.
+     *
+     * @param model The deployment model.
+     * @param a The airfield.
+     * @param size The number of aircraft of the squadron that needs room.
+     * @return The squadron to eject or UNASSIGNED if there is none.
+     */
+    private int findEjectable(final DeploymentModel model, final int a, final int size) {
+        int found = DeploymentModel.UNASSIGNED;
+
+        for (int t = 0; t < model.numSquadrons(); t++) {
+            if (model.getAssignment(t) == a && !model.isLocked(t) && model.getAircraft(t) < size
+                    && (found == DeploymentModel.UNASSIGNED || model.getAircraft(t) > model.getAircraft(found))) {
+                found = t;
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Find the best airfield with room for a squadron. The best airfield has the lowest ranking and then the
+     * most room.
+     *
+     * @param model The deployment model.
+     * @param s The squadron.
+     * @param region Only airfields of this region are considered. UNASSIGNED considers every airfield.
+     * @return The best airfield or UNASSIGNED if no airfield has room.
+     */
+    private int bestField(final DeploymentModel model, final int s, final int region) {
+        int best = DeploymentModel.UNASSIGNED;
+
+        for (int a = 0; a < model.numFields(); a++) {
+            if ((region == DeploymentModel.UNASSIGNED || model.getRegion(a) == region) && model.isFeasible(s, a)
+                    && (best == DeploymentModel.UNASSIGNED || isBetter(model, s, a, best))) {
+                best = a;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Determine if an airfield is a better choice for a squadron than another airfield.
+     *
+     * @param model The deployment model.
+     * @param s The squadron.
+     * @param candidate The candidate airfield.
+     * @param best The best airfield so far.
+     * @return True if the candidate airfield is better.
+     */
+    private boolean isBetter(final DeploymentModel model, final int s, final int candidate, final int best) {
+        int rankCompare = Integer.compare(model.getRank(s, candidate), model.getRank(s, best));
+
+        return rankCompare < 0 || (rankCompare == 0 && model.getRoom(candidate) > model.getRoom(best));
+    }
+
+    /**
+     * Find the first undeployed squadron of the given aircraft model.
+     *
+     * @param model The deployment model.
+     * @param aircraftModel The aircraft model.
+     * @return The squadron or UNASSIGNED if there is none.
+     */
+    private int findUnassigned(final DeploymentModel model, final String aircraftModel) {
+        List<Squadron> squadrons = model.getSquadrons();
+
+        for (int s = 0; s < squadrons.size(); s++) {
+            if (model.getAssignment(s) == DeploymentModel.UNASSIGNED && squadrons.get(s).getModel().equals(aircraftModel)) {
+                return s;
+            }
+        }
+
+        return DeploymentModel.UNASSIGNED;
+    }
+
+    /**
+     * Build the deployment plan from the model.
+     *
+     * @param model The deployment model.
+     * @param iterations The number of local search iterations performed.
+     * @return The deployment plan.
+     */
+    private SquadronDeploymentPlan buildPlan(final DeploymentModel model, final int iterations) {
+        Map<Squadron, Airfield> assignments = new LinkedHashMap<>();
+        List<Squadron> undeployed = new ArrayList<>();
+
+        List<Squadron> squadrons = model.getSquadrons();
+        List<Airfield> airfields = model.getAirfields();
+
+        for (int s = 0; s < squadrons.size(); s++) {
+            int a = model.getAssignment(s);
+
+            if (a == DeploymentModel.UNASSIGNED) {
+                undeployed.add(squadrons.get(s));
+            } else {
+                assignments.put(squadrons.get(s), airfields.get(a));
+            }
+        }
+
+        return SquadronDeploymentPlan
+                .builder()
+                .assignments(Collections.unmodifiableMap(assignments))
+                .undeployed(Collections.unmodifiableList(undeployed))
+                .score(model.getScore())
+                .shortfall(model.totalShortfall())
+                .iterations(iterations)
+                .build();
+    }
+}
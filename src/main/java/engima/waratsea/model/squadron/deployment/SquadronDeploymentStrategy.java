@@ -0,0 +1,9 @@
+package engima.waratsea.model.squadron.deployment;
+
+/**
+ * The algorithm used to deploy the computer player's squadrons.
+ */
+public enum SquadronDeploymentStrategy {
+    GREEDY,   // Round robin through the ranked airfields one squadron at a time.
+    SOLVER    // Solve the deployment with the squadron deployment solver.
+}
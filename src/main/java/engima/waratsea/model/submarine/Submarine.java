@@ -12,6 +12,8 @@ import engima.waratsea.model.ship.Movement;
 import engima.waratsea.model.ship.ShipId;
 import engima.waratsea.model.ship.ShipType;
 import engima.waratsea.model.ship.Torpedo;
+import engima.waratsea.model.ship.damage.ComponentSlot;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
 import engima.waratsea.model.submarine.data.SubmarineData;
 import engima.waratsea.model.vessel.Vessel;
 import lombok.Getter;
@@ -57,16 +59,18 @@ public class Submarine implements Vessel, PersistentData<SubmarineData> {
      * Constructor called by guice.
      *
      * @param data The submarine data read in from a JSON file.
+     * @param store The ship damage store.
      */
     @Inject
-    public Submarine(@Assisted final SubmarineData data) {
+    public Submarine(@Assisted final SubmarineData data,
+                               final ShipDamageStore store) {
         this.shipId = data.getShipId();
         this.type = data.getType();
         this.shipClass = data.getShipClass();
         this.nationality = data.getNationality();
         this.victoryPoints = data.getVictoryPoints();
 
-        torpedo = new Torpedo(data.getTorpedo());
+        torpedo = new Torpedo(data.getTorpedo(), store, store.getCell(store.allocate(), ComponentSlot.TORPEDO));
         movement = new Movement(data.getMovement());
         fuel = new Fuel(data.getFuel());
     }
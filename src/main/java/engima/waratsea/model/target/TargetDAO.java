@@ -5,32 +5,74 @@ import com.google.inject.Singleton;
 import engima.waratsea.model.base.Airbase;
 import engima.waratsea.model.base.airfield.Airfield;
 import engima.waratsea.model.base.port.Port;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
 import engima.waratsea.model.game.event.scenario.ScenarioEvent;
 import engima.waratsea.model.game.event.scenario.ScenarioEventTypes;
+import engima.waratsea.model.map.GameMap;
 import engima.waratsea.model.target.data.TargetData;
 import engima.waratsea.model.taskForce.TaskForce;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.map.MultiKeyMap;
 
-import java.util.HashMap;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
 
 /**
  * The target data access object. Provides access to all target objects.
+ *
+ * This is the scenario's target catalogue. A target is created once per scenario for each target type, side and
+ * name, no matter if it is loaded from a mission's persistent data or looked up from a game asset. Thus, all
+ * missions and players share the same target instances.
+ *
+ * The lists of targets for a side and target type are also kept. A list is rebuilt only when the game map reports
+ * that the assets it is built from have changed: task force lists when a task force moves and base lists when the
+ * map's bases and regions are reloaded.
  */
 @Singleton
 @Slf4j
 public class TargetDAO {
-    private final Map<TargetType, Function<TargetData, Target>> factoryMap = new HashMap<>();
-    private final Map<TargetType, Map<String, Target>> cache = new HashMap<>();
+    private static final int UNVERSIONED = 0;
+
+    /**
+     * A cached list of targets and the version of the game map assets from which it was built.
+     */
+    private static final class TargetView {
+        private final int version;
+        private final List<Target> targets;
+
+        /**
+         * Constructor.
+         *
+         * @param version The game map asset version.
+         * @param targets The targets.
+         */
+        private TargetView(final int version, final List<Target> targets) {
+            this.version = version;
+            this.targets = targets;
+        }
+    }
+
+    private final Map<TargetType, Function<TargetData, Target>> factoryMap = new EnumMap<>(TargetType.class);
+    private final Map<TargetType, IntSupplier> versionMap = new EnumMap<>(TargetType.class);
+
+    private final MultiKeyMap<Object, Target> cache = new MultiKeyMap<>();          // Type, side, name to target.
+    private final MultiKeyMap<Object, TargetView> views = new MultiKeyMap<>();      // Side, type, nation to targets.
 
     /**
      * Constructor called by guice.
      *
      * @param factory The target factory.
+     * @param gameMap The game map.
      */
     @Inject
-    public TargetDAO(final TargetFactory factory) {
+    public TargetDAO(final TargetFactory factory,
+                     final GameMap gameMap) {
         factoryMap.put(TargetType.ENEMY_AIRFIELD, factory::createEnemyAirfieldTarget);
         factoryMap.put(TargetType.FRIENDLY_AIRBASE, factory::createFriendlyAirfieldTarget);
         factoryMap.put(TargetType.ENEMY_PORT, factory::createEnemyPortTarget);
@@ -40,9 +82,14 @@ public class TargetDAO {
         factoryMap.put(TargetType.SEA_GRID, factory::createSeaGrid);
         factoryMap.put(TargetType.LAND_GRID, factory::createLandGrid);
 
-        TargetType
-                .stream()
-                .forEach(type -> cache.put(type, new HashMap<>()));
+        versionMap.put(TargetType.ENEMY_AIRFIELD, gameMap::getBaseVersion);
+        versionMap.put(TargetType.FRIENDLY_AIRBASE, gameMap::getBaseVersion);
+        versionMap.put(TargetType.ENEMY_PORT, gameMap::getBaseVersion);
+        versionMap.put(TargetType.FRIENDLY_PORT, gameMap::getBaseVersion);
+        versionMap.put(TargetType.ENEMY_TASK_FORCE, gameMap::getTaskForceVersion);
+        versionMap.put(TargetType.FRIENDLY_TASK_FORCE, gameMap::getTaskForceVersion);
+        versionMap.put(TargetType.SEA_GRID, () -> UNVERSIONED);
+        versionMap.put(TargetType.LAND_GRID, () -> UNVERSIONED);
 
         ScenarioEvent.register(this, this::init, true);
     }
@@ -55,18 +102,49 @@ public class TargetDAO {
     public void init(final ScenarioEvent event) {
         if (event.getType() == ScenarioEventTypes.BOOT) {
             log.debug("Clear the Target DAO cache.");
-            cache.values().forEach(Map::clear);
+            cache.clear();
+            views.clear();
         }
     }
 
     /**
-     * Load the target.
+     * Load the target. The same target is returned for the same target type, side and name.
      *
      * @param data The target data.
      * @return A target.
      */
     public Target load(final TargetData data) {
-        return factoryMap.get(data.getType()).apply(data);
+        Target target = cache.get(data.getType(), data.getSide(), data.getName());
+
+        if (target == null) {
+            target = factoryMap.get(data.getType()).apply(data);
+            cache.put(data.getType(), data.getSide(), data.getName(), target);
+        }
+
+        return target;
+    }
+
+    /**
+     * Get a side's targets of the given type. The targets are only rebuilt if the game map assets from which they
+     * are built have changed since the last call.
+     *
+     * @param side The side whose targets are returned. This is the side of the player.
+     * @param type The type of target.
+     * @param nation The nation: BRITISH, ITALIAN, etc. May be null if the targets do not depend upon nation.
+     * @param builder Builds the targets.
+     * @return An unmodifiable list of targets.
+     */
+    public List<Target> getTargets(final Side side, final TargetType type, final Nation nation, final Supplier<List<Target>> builder) {
+        int version = versionMap.get(type).getAsInt();
+
+        TargetView view = views.get(side, type, nation);
+
+        if (view == null || view.version != version) {
+            view = new TargetView(version, Collections.unmodifiableList(builder.get()));
+            views.put(side, type, nation, view);
+        }
+
+        return view.targets;
     }
 
     /**
@@ -76,18 +154,7 @@ public class TargetDAO {
      * @return A friendly airfield target that corresponds to the given airbase.
      */
     public Target getFriendlyAirbaseTarget(final Airbase airbase) {
-        if (cache.get(TargetType.FRIENDLY_AIRBASE).containsKey(airbase.getName())) {
-            return cache.get(TargetType.FRIENDLY_AIRBASE).get(airbase.getName());
-        }
-
-        TargetData data = new TargetData();
-        data.setSide(airbase.getSide());
-        data.setName(airbase.getName());
-        data.setType(TargetType.FRIENDLY_AIRBASE);
-
-        Target target = load(data);
-        cache.get(TargetType.FRIENDLY_AIRBASE).put(airbase.getName(), target);
-        return target;
+        return load(buildData(TargetType.FRIENDLY_AIRBASE, airbase.getSide(), airbase.getName()));
     }
 
     /**
@@ -97,18 +164,7 @@ public class TargetDAO {
      * @return An enemy airfield target that corresponds to the given airfield.
      */
     public Target getEnemyAirfieldTarget(final Airfield airfield) {
-        if (cache.get(TargetType.ENEMY_AIRFIELD).containsKey(airfield.getName())) {
-            return cache.get(TargetType.ENEMY_AIRFIELD).get(airfield.getName());
-        }
-
-        TargetData data = new TargetData();
-        data.setSide(airfield.getSide().opposite());
-        data.setName(airfield.getName());
-        data.setType(TargetType.ENEMY_AIRFIELD);
-
-        Target target = load(data);
-        cache.get(TargetType.ENEMY_AIRFIELD).put(airfield.getName(), target);
-        return target;
+        return load(buildData(TargetType.ENEMY_AIRFIELD, airfield.getSide().opposite(), airfield.getName()));
     }
 
     /**
@@ -118,18 +174,7 @@ public class TargetDAO {
      * @return An enemy port target that corresponds to the given port.
      */
     public Target getEnemyPortTarget(final Port port) {
-        if (cache.get(TargetType.ENEMY_PORT).containsKey(port.getName())) {
-            return cache.get(TargetType.ENEMY_PORT).get(port.getName());
-        }
-
-        TargetData data = new TargetData();
-        data.setSide(port.getSide().opposite());
-        data.setName(port.getName());
-        data.setType(TargetType.ENEMY_PORT);
-
-        Target target = load(data);
-        cache.get(TargetType.ENEMY_PORT).put(port.getName(), target);
-        return target;
+        return load(buildData(TargetType.ENEMY_PORT, port.getSide().opposite(), port.getName()));
     }
 
     /**
@@ -139,18 +184,7 @@ public class TargetDAO {
      * @return A friendly task force target that corresponds to the given task force.
      */
     public Target getFriendlyTaskForceTarget(final TaskForce taskForce) {
-        if (cache.get(TargetType.FRIENDLY_TASK_FORCE).containsKey(taskForce.getName())) {
-            return cache.get(TargetType.FRIENDLY_TASK_FORCE).get(taskForce.getName());
-        }
-
-        TargetData data = new TargetData();
-        data.setSide(taskForce.getSide());
-        data.setName(taskForce.getName());
-        data.setType(TargetType.FRIENDLY_TASK_FORCE);
-
-        Target target = load(data);
-        cache.get(TargetType.FRIENDLY_TASK_FORCE).put(taskForce.getName(), target);
-        return target;
+        return load(buildData(TargetType.FRIENDLY_TASK_FORCE, taskForce.getSide(), taskForce.getName()));
     }
 
     /**
@@ -160,17 +194,22 @@ public class TargetDAO {
      * @return An enemy task force target that corresponds to the given task force.
      */
     public Target getEnemyTaskForceTarget(final TaskForce taskForce) {
-        if (cache.get(TargetType.ENEMY_TASK_FORCE).containsKey(taskForce.getName())) {
-            return cache.get(TargetType.ENEMY_TASK_FORCE).get(taskForce.getName());
-        }
+        return load(buildData(TargetType.ENEMY_TASK_FORCE, taskForce.getSide().opposite(), taskForce.getName()));
+    }
 
+    /**
+     * Build the target data of a game asset.
+     *
+     * @param type The type of target.
+     * @param side The side of the target.
+     * @param name The name of the game asset.
+     * @return The target data.
+     */
+    private TargetData buildData(final TargetType type, final Side side, final String name) {
         TargetData data = new TargetData();
-        data.setSide(taskForce.getSide().opposite());
-        data.setName(taskForce.getName());
-        data.setType(TargetType.ENEMY_TASK_FORCE);
-
-        Target target = load(data);
-        cache.get(TargetType.ENEMY_TASK_FORCE).put(taskForce.getName(), target);
-        return target;
+        data.setSide(side);
+        data.setName(name);
+        data.setType(type);
+        return data;
     }
 }
@@ -13,11 +13,9 @@ import engima.waratsea.model.base.airfield.patrol.Patrol;
 import engima.waratsea.model.base.airfield.patrol.PatrolType;
 import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.game.Side;
-import engima.waratsea.model.game.event.ship.ShipEvent;
 import engima.waratsea.model.game.event.ship.ShipEventMatcher;
 import engima.waratsea.model.game.event.ship.ShipEventMatcherFactory;
 import engima.waratsea.model.game.event.ship.data.ShipMatchData;
-import engima.waratsea.model.game.event.turn.TurnEvent;
 import engima.waratsea.model.game.event.turn.TurnEventMatcher;
 import engima.waratsea.model.game.event.turn.data.TurnMatchData;
 import engima.waratsea.model.map.GameGrid;
@@ -59,6 +57,7 @@ import java.util.stream.Stream;
 @Slf4j
 public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, PersistentData<TaskForceData> {
     private final Provider<PatrolGroups> provider;
+    private PatrolGroups patrolGroups;      // Rebuilt only when a patrol of the task force changes.
 
     @Getter private final Side side;
     @Getter private final String name;
@@ -67,6 +66,7 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
     @Getter private String reference;                                //This is always a map reference and never a name.
     @Getter private final List<String> possibleStartingLocations;    //Some task forces may start at multiple locations.
     @Getter private boolean locationKnown;
+    @Getter private List<String> route;                              //The remaining plotted route waypoints as map references.
     @Getter @Setter private TaskForceState state;
     @Getter @Setter private List<ShipEventMatcher> releaseShipEvents;
     @Getter @Setter private List<TurnEventMatcher> releaseTurnEvents;
@@ -82,6 +82,7 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
     private final Shipyard shipyard;
     private final ShipEventMatcherFactory shipEventMatcherFactory;
     private final GameMap gameMap;
+    private final TaskForceReleaseRegistry releaseRegistry;
 
     /**
      * Constructor of Task Force called by guice.
@@ -93,7 +94,9 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
      * @param shipEventMatcherFactory Factory for creating ship event matchers.
      * @param missionDAO mission data access object, loads missions.
      * @param gameMap The game's map.
+     * @param releaseRegistry The reserve task force release triggers.
      */
+    //CHECKSTYLE:OFF
     @Inject
     public TaskForce(@Assisted final Side side,
                      @Assisted final TaskForceData data,
@@ -101,11 +104,14 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
                                final Shipyard shipyard,
                                final ShipEventMatcherFactory shipEventMatcherFactory,
                                final MissionDAO missionDAO,
-                               final GameMap gameMap) {
+                               final GameMap gameMap,
+                               final TaskForceReleaseRegistry releaseRegistry) {
+    //CHECKSTYLE:ON
         this.provider = provider;
 
         this.shipEventMatcherFactory = shipEventMatcherFactory;
         this.gameMap = gameMap;
+        this.releaseRegistry = releaseRegistry;
 
         this.side = side;
         name = data.getName();
@@ -126,6 +132,8 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
                 .ofNullable(data.getPossibleStartingLocations())      // set the possible starting locations to
                 .orElseGet(() -> List.of(data.getLocation()));        // the fixed starting location.
 
+        plotRoute(Optional.ofNullable(data.getRoute()).orElseGet(Collections::emptyList));
+
         buildShips(data.getShips());
         getCargoShips(data.getCargoShips());
         setAirbases();
@@ -149,6 +157,7 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
         data.setMission(mission.getData());
         data.setState(state);
         data.setLocation(reference);
+        data.setRoute(new ArrayList<>(route));
         data.setShips(getShipNames(ships));
         data.setCargoShips(getShipNames(cargoShips));
         data.setReleaseShipEvents(PersistentUtility.getData(releaseShipEvents));
@@ -279,6 +288,29 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
         locationKnown = StringUtils.isNotBlank(reference);
     }
 
+    /**
+     * Move the task force to the given map reference without updating the game map. This is used by the
+     * movement phase which moves many task forces and then updates the game map once for all of them.
+     *
+     * @param newReference The task force's new map reference.
+     */
+    public void moveTo(final String newReference) {
+        reference = newReference;
+        locationKnown = true;
+    }
+
+    /**
+     * Plot the task force's route. The task force sails along the route during the movement phase.
+     *
+     * @param waypoints The route waypoints. These are map references or base names.
+     */
+    public void plotRoute(final List<String> waypoints) {
+        route = waypoints
+                .stream()
+                .map(gameMap::convertNameToReference)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
     /**
      * Get the task force's reference. Return a port if the task force is in a port.
      * Otherwise, a game map reference is returned.
@@ -396,15 +428,20 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
     }
 
     /**
-     * Get this task forces patrol groups.
+     * Get this task forces patrol groups. The groups are kept and only rebuilt when
+     * one of the task force's patrols changes.
      *
      * @return This task force's patrol groups.
      */
     @Override
     public PatrolGroups getPatrolGroups() {
-        return provider
-                .get()
-                .build(this);
+        if (patrolGroups == null || !patrolGroups.isCurrent()) {
+            patrolGroups = provider
+                    .get()
+                    .build(this);
+        }
+
+        return patrolGroups;
     }
 
     /**
@@ -521,16 +558,10 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
     }
 
     /**
-     * Register the task force for game events.
+     * Register the task force's release triggers.
      */
     private void finish() {
-        Optional.ofNullable(releaseShipEvents)
-                .filter(matchers -> state == TaskForceState.RESERVE)
-                .ifPresent(matchers -> ShipEvent.register(this, this::handleShipEvent));
-
-        Optional.ofNullable(releaseTurnEvents)
-                .filter(matchers -> state == TaskForceState.RESERVE)
-                .ifPresent(matchers -> TurnEvent.register(this, this::handleTurnEvent));
+        releaseRegistry.register(this);
     }
 
     /**
@@ -560,38 +591,11 @@ public class TaskForce implements AirbaseGroup, Comparable<TaskForce>, Asset, Pe
     }
 
     /**
-     * This method is called to notify the event handler that an event has fired.
-     *
-     * @param event The fired event.
-     */
-    private void handleShipEvent(final ShipEvent event) {
-        log.info("{} {} notify ship event {} {} {}.", new Object[] {name, title,
-                event.getShip().getShipId().getSide().getPossessive(), event.getShip().getType(), event.getAction()});
-
-        boolean release = releaseShipEvents.stream().anyMatch(eventMatcher -> eventMatcher.match(event));
-
-        if (release) {
-            state = TaskForceState.ACTIVE;
-            log.info("{} state {}", name, state);
-            ShipEvent.unregister(this);
-        }
-    }
-
-    /**
-     * This method is called to notify the event.
-     *
-     * @param event the fired event.
+     * Release the task force from reserve. This is called once one of its release events has fired.
      */
-    private void handleTurnEvent(final TurnEvent event) {
-        log.info("{} {} notify turn event {}", new Object[] {name, title, event.getTurn()});
-
-        boolean release = releaseTurnEvents.stream().anyMatch(eventMatcher -> eventMatcher.match(event));
-
-        if (release) {
-            state = TaskForceState.ACTIVE;
-            log.info("{} state {}", name, state);
-            TurnEvent.unregister(this);
-        }
+    void release() {
+        state = TaskForceState.ACTIVE;
+        log.info("{} state {}", name, state);
     }
 
     /**
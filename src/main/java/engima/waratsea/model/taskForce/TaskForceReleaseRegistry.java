@@ -0,0 +1,268 @@
+package engima.waratsea.model.taskForce;
+
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventMatcher;
+import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.model.game.event.turn.TurnEventMatcher;
+import engima.waratsea.model.ship.Ship;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * The release triggers of all the reserve task forces.
+ *
+ * Rather than each reserve task force registering for every ship and turn event, the task forces register their
+ * release event matchers here. The matchers are indexed by their most selective field. Ship event matchers are
+ * indexed by ship name, or if no ship name is specified by task force name. Turn event matchers are indexed by
+ * their exact turn or by the turn after which they may match. A fired event only examines the matchers stored
+ * under the fired ship's name and task force name, or the fired turn, along with the ship matchers that specify
+ * neither name.
+ *
+ * A task force is released when any of its matchers match, exactly as before. Released task forces are removed
+ * from the reserve set. Their matchers are then skipped.
+ */
+@Slf4j
+@Singleton
+public class TaskForceReleaseRegistry {
+
+    /**
+     * A task force ship event release trigger.
+     */
+    private static final class ShipTrigger {
+        private final TaskForce taskForce;
+        private final ShipEventMatcher matcher;
+
+        /**
+         * Constructor.
+         *
+         * @param taskForce The reserve task force.
+         * @param matcher The ship event that releases the task force.
+         */
+        private ShipTrigger(final TaskForce taskForce, final ShipEventMatcher matcher) {
+            this.taskForce = taskForce;
+            this.matcher = matcher;
+        }
+    }
+
+    /**
+     * A task force turn event release trigger.
+     */
+    private static final class TurnTrigger {
+        private final TaskForce taskForce;
+        private final TurnEventMatcher matcher;
+
+        /**
+         * Constructor.
+         *
+         * @param taskForce The reserve task force.
+         * @param matcher The turn event that releases the task force.
+         */
+        private TurnTrigger(final TaskForce taskForce, final TurnEventMatcher matcher) {
+            this.taskForce = taskForce;
+            this.matcher = matcher;
+        }
+    }
+
+    private final Map<String, List<ShipTrigger>> byShipName = new HashMap<>();
+    private final Map<String, List<ShipTrigger>> byTaskForceName = new HashMap<>();    // Keyed by lower case name.
+    private final List<ShipTrigger> anyShip = new ArrayList<>();
+
+    private final Map<Integer, List<TurnTrigger>> byTurn = new HashMap<>();
+    private final NavigableMap<Integer, List<TurnTrigger>> byTurnGreaterThan = new TreeMap<>();
+
+    private final Set<TaskForce> reserve = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * Register a task force's release triggers. Only task forces in reserve are registered.
+     *
+     * @param taskForce The task force.
+     */
+    public void register(final TaskForce taskForce) {
+        if (taskForce.getState() != TaskForceState.RESERVE) {
+            return;
+        }
+
+        reserve.add(taskForce);
+
+        Optional.ofNullable(taskForce.getReleaseShipEvents())
+                .orElseGet(Collections::emptyList)
+                .forEach(matcher -> addShipTrigger(new ShipTrigger(taskForce, matcher)));
+
+        Optional.ofNullable(taskForce.getReleaseTurnEvents())
+                .orElseGet(Collections::emptyList)
+                .forEach(matcher -> addTurnTrigger(new TurnTrigger(taskForce, matcher)));
+
+        ShipEvent.register(this, this::handleShipEvent);
+        TurnEvent.register(this, this::handleTurnEvent);
+    }
+
+    /**
+     * Determine if the given task force is waiting to be released.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force is registered and not yet released. False otherwise.
+     */
+    public boolean isWaiting(final TaskForce taskForce) {
+        return reserve.contains(taskForce);
+    }
+
+    /**
+     * Clear all of the release triggers. This is called when a new game is initialized.
+     */
+    public void clear() {
+        byShipName.clear();
+        byTaskForceName.clear();
+        anyShip.clear();
+        byTurn.clear();
+        byTurnGreaterThan.clear();
+        reserve.clear();
+    }
+
+    /**
+     * Index a ship event release trigger.
+     *
+     * @param trigger The ship event release trigger.
+     */
+    private void addShipTrigger(final ShipTrigger trigger) {
+        List<String> names = trigger.matcher.getNames();
+        String taskForceName = trigger.matcher.getTaskForceName();
+
+        if (names != null) {
+            names.forEach(name -> byShipName.computeIfAbsent(name, key -> new ArrayList<>()).add(trigger));
+        } else if (taskForceName != null) {
+            byTaskForceName.computeIfAbsent(taskForceName.toLowerCase(), key -> new ArrayList<>()).add(trigger);
+        } else {
+            anyShip.add(trigger);
+        }
+    }
+
+    /**
+     * Index a turn event release trigger. Triggers that can never match are not indexed.
+     *
+     * @param trigger The turn event release trigger.
+     */
+    private void addTurnTrigger(final TurnTrigger trigger) {
+        int turn = trigger.matcher.getTurn();
+        int turnGreaterThan = trigger.matcher.getTurnGreaterThan();
+
+        if (turn != 0) {
+            byTurn.computeIfAbsent(turn, key -> new ArrayList<>()).add(trigger);
+        }
+
+        if (turnGreaterThan != 0) {
+            byTurnGreaterThan.computeIfAbsent(turnGreaterThan, key -> new ArrayList<>()).add(trigger);
+        }
+    }
+
+    /**
+     * Release the reserve task forces whose ship event triggers match the fired event.
+     *
+     * @param event The fired ship event.
+     */
+    private void handleShipEvent(final ShipEvent event) {
+        if (reserve.isEmpty()) {
+            return;
+        }
+
+        Ship ship = event.getShip();
+
+        Set<TaskForce> released = new LinkedHashSet<>();
+
+        matchShip(byShipName.get(ship.getName()), event, released);
+
+        Optional.ofNullable(ship.getTaskForce())
+                .map(TaskForce::getName)
+                .ifPresent(name -> matchShip(byTaskForceName.get(name.toLowerCase()), event, released));
+
+        matchShip(anyShip, event, released);
+
+        released.forEach(this::release);
+    }
+
+    /**
+     * Release the reserve task forces whose turn event triggers match the fired event.
+     *
+     * @param event The fired turn event.
+     */
+    private void handleTurnEvent(final TurnEvent event) {
+        if (reserve.isEmpty()) {
+            return;
+        }
+
+        Set<TaskForce> released = new LinkedHashSet<>();
+
+        matchTurn(byTurn.get(event.getTurn()), event, released);
+
+        byTurnGreaterThan
+                .headMap(event.getTurn(), true)
+                .values()
+                .forEach(triggers -> matchTurn(triggers, event, released));
+
+        released.forEach(this::release);
+    }
+
+    /**
+     * Match the ship event triggers of the reserve task forces.
+     *
+     * @param triggers The candidate ship event triggers. May be null.
+     * @param event The fired ship event.
+     * @param released The task forces that are released.
+     */
+    private void matchShip(final Collection<ShipTrigger> triggers, final ShipEvent event, final Set<TaskForce> released) {
+        if (triggers == null) {
+            return;
+        }
+
+        for (ShipTrigger trigger : triggers) {
+            if (reserve.contains(trigger.taskForce)
+                    && !released.contains(trigger.taskForce)
+                    && trigger.matcher.match(event)) {
+                released.add(trigger.taskForce);
+            }
+        }
+    }
+
+    /**
+     * Match the turn event triggers of the reserve task forces.
+     *
+     * @param triggers The candidate turn event triggers. May be null.
+     * @param event The fired turn event.
+     * @param released The task forces that are released.
+     */
+    private void matchTurn(final Collection<TurnTrigger> triggers, final TurnEvent event, final Set<TaskForce> released) {
+        if (triggers == null) {
+            return;
+        }
+
+        for (TurnTrigger trigger : triggers) {
+            if (reserve.contains(trigger.taskForce)
+                    && !released.contains(trigger.taskForce)
+                    && trigger.matcher.match(event)) {
+                released.add(trigger.taskForce);
+            }
+        }
+    }
+
+    /**
+     * Release a task force. Its remaining triggers are ignored from now on.
+     *
+     * @param taskForce The released task force.
+     */
+    private void release(final TaskForce taskForce) {
+        reserve.remove(taskForce);
+        taskForce.release();
+    }
+}
@@ -25,4 +25,5 @@ public class TaskForceData {
     private List<ShipMatchData> releaseShipEvents;
     private List<TurnMatchData> releaseTurnEvents;
     private List<String> cargoShips;
+    private List<String> route;            // The plotted route: map references or base names.
 }
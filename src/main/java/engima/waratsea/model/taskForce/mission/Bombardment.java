@@ -5,8 +5,10 @@ import com.google.inject.assistedinject.Assisted;
 import engima.waratsea.model.target.Target;
 import engima.waratsea.model.target.TargetDAO;
 import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
 import engima.waratsea.utility.PersistentUtility;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.Collections;
 import java.util.List;
@@ -21,6 +23,10 @@ public class Bombardment implements SeaMission {
     @Getter
     private final List<Target> targets;
 
+    @Getter
+    @Setter
+    private SeaMissionState state;
+
     /**
      * The constructor called by guice.
      *
@@ -32,6 +38,7 @@ public class Bombardment implements SeaMission {
                                  final TargetDAO targetDAO) {
 
         type = data.getType();
+        state = Optional.ofNullable(data.getState()).orElse(SeaMissionState.EN_ROUTE);
 
         targets = Optional.ofNullable(data.getTargets())
                 .orElseGet(Collections::emptyList)
@@ -50,6 +57,7 @@ public class Bombardment implements SeaMission {
     public MissionData getData() {
         MissionData data = new MissionData();
         data.setType(type);
+        data.setState(state);
         data.setTargets(PersistentUtility.getData(targets));
         return data;
     }
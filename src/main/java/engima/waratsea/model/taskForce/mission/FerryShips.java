@@ -5,8 +5,10 @@ import com.google.inject.assistedinject.Assisted;
 import engima.waratsea.model.target.Target;
 import engima.waratsea.model.target.TargetDAO;
 import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
 import engima.waratsea.utility.PersistentUtility;
 import lombok.Getter;
+import lombok.Setter;
 
 import java.util.Collections;
 import java.util.List;
@@ -20,6 +22,10 @@ public class FerryShips implements SeaMission {
     @Getter
     private final List<Target> targets;
 
+    @Getter
+    @Setter
+    private SeaMissionState state;
+
     /**
      * The constructor called by guice.
      *
@@ -30,6 +36,7 @@ public class FerryShips implements SeaMission {
     public FerryShips(@Assisted final MissionData data,
                       final TargetDAO targetDAO) {
         type = data.getType();
+        state = Optional.ofNullable(data.getState()).orElse(SeaMissionState.EN_ROUTE);
 
         targets = Optional.ofNullable(data.getTargets())
                 .orElseGet(Collections::emptyList)
@@ -48,6 +55,7 @@ public class FerryShips implements SeaMission {
     public MissionData getData() {
         MissionData data = new MissionData();
         data.setType(type);
+        data.setState(state);
         data.setTargets(PersistentUtility.getData(targets));
         return data;
     }
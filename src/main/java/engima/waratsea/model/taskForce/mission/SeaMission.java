@@ -2,6 +2,7 @@ package engima.waratsea.model.taskForce.mission;
 
 import engima.waratsea.model.target.Target;
 import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
 
 import java.util.List;
 
@@ -27,4 +28,18 @@ public interface SeaMission {
      * @return A list of targets for this mission.
      */
     List<Target> getTargets();
+
+    /**
+     * Get the mission's state.
+     *
+     * @return The mission's state.
+     */
+    SeaMissionState getState();
+
+    /**
+     * Set the mission's state.
+     *
+     * @param state The mission's new state.
+     */
+    void setState(SeaMissionState state);
 }
@@ -3,6 +3,7 @@ package engima.waratsea.model.taskForce.mission.data;
 import engima.waratsea.model.game.Side;
 import engima.waratsea.model.target.data.TargetData;
 import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
 import lombok.Data;
 
 import java.util.List;
@@ -14,5 +15,6 @@ import java.util.List;
 public class MissionData {
     private Side side;
     private SeaMissionType type;
+    private SeaMissionState state;
     private List<TargetData> targets;
 }
@@ -0,0 +1,213 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.port.Port;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.ship.AmmunitionType;
+import engima.waratsea.model.ship.Gun;
+import engima.waratsea.model.ship.Hull;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionExecutor;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
+import engima.waratsea.utility.Dice;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Carries out shore bombardment missions.
+ *
+ * A bombarding task force must be adjacent to or at its target grid. Each afloat ship loaded with bombardment
+ * ammunition and with a working primary gun fires once. The dice of all the task forces that bombard this turn are
+ * rolled at once when the turn's bombardments are prepared.
+ *
+ * Each hit reduces the capacity of an enemy airfield at the target by one step and damages an enemy port at the
+ * target. A base's airfield and port share its grid, so both are hit. The bombardment ammunition is spent once the
+ * task force fires.
+ */
+@Singleton
+@Slf4j
+public class BombardmentExecutor implements SeaMissionExecutor {
+    public static final int BOMBARDMENT_RANGE = 1;        // A task force bombards from an adjacent sea grid.
+    public static final int BOMBARDMENT_HIT_ROLL = 5;     // A bombarding ship hits on this die roll or higher.
+    public static final int AIRFIELD_DAMAGE = 1;          // The airfield capacity steps lost for each hit.
+
+    private static final Set<SeaMissionState> FIRING = EnumSet.of(SeaMissionState.ON_STATION, SeaMissionState.EXECUTING);
+
+    private final GameMap gameMap;
+    private final Dice dice;
+    private final OperationsLog operationsLog;
+
+    private int[] rolls = new int[0];
+    private int nextRoll;
+    private int rolled;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param dice The dice utility.
+     * @param operationsLog The game operations log.
+     */
+    @Inject
+    public BombardmentExecutor(final GameMap gameMap,
+                               final Dice dice,
+                               final OperationsLog operationsLog) {
+        this.gameMap = gameMap;
+        this.dice = dice;
+        this.operationsLog = operationsLog;
+    }
+
+    /**
+     * Roll the dice of every ship that may bombard this turn.
+     *
+     * @param taskForces The task forces with bombardment missions.
+     */
+    @Override
+    public void prepare(final List<TaskForce> taskForces) {
+        int shots = 0;
+
+        for (TaskForce taskForce : taskForces) {
+            if (FIRING.contains(taskForce.getMission().getState())) {
+                shots += countShips(taskForce);
+            }
+        }
+
+        if (rolls.length < shots) {
+            rolls = new int[shots];
+        }
+
+        dice.roll(rolls, shots);
+
+        nextRoll = 0;
+        rolled = shots;
+    }
+
+    /**
+     * Determine if the task force is in bombardment range of its target.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force may bombard its target. False otherwise.
+     */
+    @Override
+    public boolean reachedTarget(final TaskForce taskForce) {
+        return MissionTarget.getDistance(taskForce, gameMap) <= BOMBARDMENT_RANGE;
+    }
+
+    /**
+     * Bombard the task force's target.
+     *
+     * @param taskForce The task force.
+     * @return True, a task force bombards once.
+     */
+    @Override
+    public boolean execute(final TaskForce taskForce) {
+        int shots = 0;
+        int hits = 0;
+
+        for (Ship ship : taskForce.getShips()) {
+            if (canBombard(ship)) {
+                shots++;
+                hits += nextRoll() >= BOMBARDMENT_HIT_ROLL ? 1 : 0;
+                ship.setAmmunitionType(AmmunitionType.NORMAL);                                                          // The bombardment ammunition is spent.
+            }
+        }
+
+        Optional<GameGrid> target = MissionTarget.getGrid(taskForce, gameMap);
+
+        if (hits > 0) {
+            target.ifPresent(grid -> damage(taskForce.getSide().opposite(), grid.getMapReference(), hits));
+        }
+
+        log.debug("Task force '{}' bombarded '{}': {} shots, {} hits",
+                new Object[]{taskForce.getName(), target.map(GameGrid::getMapReference).orElse("unknown"), shots, hits});
+
+        operationsLog.combat(taskForce.getName(), "bombardment", shots, hits);
+
+        return true;
+    }
+
+    /**
+     * Damage the enemy base at the target.
+     *
+     * @param enemy The enemy side.
+     * @param reference The target's map reference.
+     * @param hits The number of hits.
+     */
+    private void damage(final Side enemy, final String reference, final int hits) {
+        Optional
+                .ofNullable(gameMap.getAirfields(enemy))
+                .orElse(List.of())
+                .stream()
+                .filter(airfield -> reference.equals(gameMap.convertNameToReference(airfield.getReference())))
+                .findFirst()
+                .ifPresent(airfield -> damage(airfield, hits));
+
+        gameMap
+                .getPort(enemy, reference)
+                .ifPresent(port -> port.bombard(hits));
+    }
+
+    /**
+     * Reduce an airfield's capacity.
+     *
+     * @param airfield The airfield.
+     * @param hits The number of hits.
+     */
+    private void damage(final Airfield airfield, final int hits) {
+        airfield.setCapacity(Math.max(airfield.getCapacity() - hits * AIRFIELD_DAMAGE, 0));
+    }
+
+    /**
+     * Count the ships of the task force that can bombard.
+     *
+     * @param taskForce The task force.
+     * @return The number of ships that can bombard.
+     */
+    private int countShips(final TaskForce taskForce) {
+        int count = 0;
+
+        for (Ship ship : taskForce.getShips()) {
+            if (canBombard(ship)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Determine if a ship can bombard. The ship must be afloat, be loaded with bombardment ammunition and have a
+     * working primary gun.
+     *
+     * @param ship The ship.
+     * @return True if the ship can bombard. False otherwise.
+     */
+    private boolean canBombard(final Ship ship) {
+        Hull hull = ship.getHull();
+        Gun primary = ship.getPrimary();
+
+        return ship.getAmmunitionType() == AmmunitionType.BOMBARDMENT
+                && hull != null && hull.getHealth() > 0
+                && primary != null && primary.isPresent() && primary.getHealth() > 0;
+    }
+
+    /**
+     * Get the next of the turn's bombardment rolls. If the turn's rolls are used up, as they may be if a task force
+     * arrives on station after the turn was prepared, a die is rolled.
+     *
+     * @return The die roll.
+     */
+    private int nextRoll() {
+        return nextRoll < rolled ? rolls[nextRoll++] : dice.roll();
+    }
+}
@@ -0,0 +1,124 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.ship.Cargo;
+import engima.waratsea.model.ship.Hull;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carries out missions that unload cargo at their target.
+ *
+ * Each afloat cargo ship unloads up to one game unit of cargo a turn. Cargo capacities are held in thirds of a game
+ * unit, so a large transport takes three turns to unload. The target may further limit the cargo unloaded each turn.
+ * A cargo ship that empties fires its cargo unloaded event. The mission is complete once every cargo ship is empty.
+ */
+@Slf4j
+public abstract class CargoExecutor implements SeaMissionExecutor {
+    public static final int UNLOAD_PER_TURN = 3;          // One game unit of cargo.
+
+    private final GameMap gameMap;
+    private final OperationsLog operationsLog;
+
+    /**
+     * Constructor.
+     *
+     * @param gameMap The game map.
+     * @param operationsLog The game operations log.
+     */
+    protected CargoExecutor(final GameMap gameMap, final OperationsLog operationsLog) {
+        this.gameMap = gameMap;
+        this.operationsLog = operationsLog;
+    }
+
+    /**
+     * Unload the task force's cargo ships.
+     *
+     * @param taskForce The task force.
+     * @return True if all the cargo is unloaded. False if cargo remains.
+     */
+    @Override
+    public boolean execute(final TaskForce taskForce) {
+        GameGrid target = MissionTarget.getGrid(taskForce, gameMap).orElse(null);
+
+        int capacity = target == null ? Integer.MAX_VALUE : getUnloadCapacity(taskForce, target);
+        int unloaded = 0;
+        boolean empty = true;
+
+        for (Ship ship : taskForce.getCargoShips()) {
+            Cargo cargo = ship.getCargo();
+            Hull hull = ship.getHull();
+
+            if (cargo == null || cargo.getLevel() <= 0 || hull == null || hull.getHealth() <= 0) {
+                continue;
+            }
+
+            int amount = Math.min(Math.min(cargo.getLevel(), UNLOAD_PER_TURN), capacity - unloaded);
+            cargo.setLevel(cargo.getLevel() - amount);
+            unloaded += amount;
+
+            if (amount > 0 && cargo.getLevel() == 0) {
+                fireUnloaded(ship);
+            }
+
+            empty &= cargo.getLevel() == 0;
+        }
+
+        if (unloaded > 0 && target != null) {
+            deliver(taskForce, target, unloaded);
+            operationsLog.event(taskForce.getName(), taskForce.getMission().getType(), target.getMapReference());
+        }
+
+        log.debug("Task force '{}' unloaded {} cargo", taskForce.getName(), unloaded);
+
+        return empty;
+    }
+
+    /**
+     * Get the game map.
+     *
+     * @return The game map.
+     */
+    protected GameMap getGameMap() {
+        return gameMap;
+    }
+
+    /**
+     * Get the cargo that may be unloaded at the target this turn. By default, only the ships limit the unloading.
+     *
+     * @param taskForce The task force.
+     * @param target The target's game grid.
+     * @return The cargo that may be unloaded this turn, in thirds of a game unit.
+     */
+    protected int getUnloadCapacity(final TaskForce taskForce, final GameGrid target) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Deliver the unloaded cargo to the target.
+     *
+     * @param taskForce The task force.
+     * @param target The target's game grid.
+     * @param amount The amount of cargo unloaded.
+     */
+    protected abstract void deliver(TaskForce taskForce, GameGrid target, int amount);
+
+    /**
+     * Fire the cargo unloaded event of a cargo ship that is now empty. This event scores the delivery's victory
+     * points.
+     *
+     * @param ship The emptied cargo ship.
+     */
+    private void fireUnloaded(final Ship ship) {
+        ShipEvent event = new ShipEvent();
+        event.setShip(ship);
+        event.setAction(ShipEventAction.CARGO_UNLOADED);
+        event.fire();
+    }
+}
@@ -0,0 +1,196 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.aircraft.LandingType;
+import engima.waratsea.model.base.Airbase;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.AirfieldOperation;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionExecutor;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Carries out aircraft ferry missions.
+ *
+ * The ferried squadrons are land based squadrons carried aboard the task force's aircraft carriers. The carriers'
+ * own squadrons stay aboard. A ferried squadron flies off to the target airfield once the airfield is within the
+ * squadron's range. It is only stationed at the airfield if the airfield and its region have the capacity. A
+ * squadron that is refused for lack of capacity stays aboard and tries again next turn. A squadron the airfield can
+ * never take, such as one of a nation that may not use the airfield, is undeliverable and stays aboard for good. The
+ * mission is complete once every ferried squadron has flown off or is undeliverable.
+ */
+@Singleton
+@Slf4j
+public class FerryAircraftExecutor implements SeaMissionExecutor {
+    private static final Set<AirfieldOperation> RETRY = EnumSet.of(AirfieldOperation.REGION_FULL, AirfieldOperation.BASE_FULL);
+
+    private final GameMap gameMap;
+    private final OperationsLog operationsLog;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param operationsLog The game operations log.
+     */
+    @Inject
+    public FerryAircraftExecutor(final GameMap gameMap,
+                                 final OperationsLog operationsLog) {
+        this.gameMap = gameMap;
+        this.operationsLog = operationsLog;
+    }
+
+    /**
+     * Determine if any ferried squadron is in range of the target airfield.
+     *
+     * @param taskForce The task force.
+     * @return True if a ferried squadron can reach the target airfield. False otherwise.
+     */
+    @Override
+    public boolean reachedTarget(final TaskForce taskForce) {
+        int distance = MissionTarget.getDistance(taskForce, gameMap);
+
+        return getFerriedSquadrons(taskForce)
+                .stream()
+                .anyMatch(squadron -> squadron.getRange() >= distance);
+    }
+
+    /**
+     * Fly the ferried squadrons that are in range to the target airfield.
+     *
+     * @param taskForce The task force.
+     * @return True if all the ferried squadrons have flown off or are undeliverable. False otherwise.
+     */
+    @Override
+    public boolean execute(final TaskForce taskForce) {
+        Optional<Airfield> airfield = getAirfield(taskForce);
+
+        if (airfield.isEmpty()) {
+            log.warn("Task force '{}' has no friendly airfield to ferry aircraft to", taskForce.getName());
+            return true;
+        }
+
+        int distance = MissionTarget.getDistance(taskForce, gameMap);
+        int ferried = 0;
+        int remaining = 0;
+        int undeliverable = 0;
+
+        for (Airbase carrier : taskForce.getRealAirbases()) {
+            for (Squadron squadron : new ArrayList<>(carrier.getSquadrons())) {
+                if (!isFerried(squadron)) {
+                    continue;
+                }
+
+                if (!airfield.get().canUse(squadron.getNation())) {
+                    undeliverable++;
+                    continue;
+                }
+
+                if (squadron.getRange() < distance) {
+                    remaining++;
+                    continue;
+                }
+
+                AirfieldOperation result = fly(squadron, carrier, airfield.get());
+
+                if (result == AirfieldOperation.SUCCESS) {
+                    ferried++;
+                } else if (RETRY.contains(result)) {
+                    remaining++;
+                } else {
+                    undeliverable++;
+                }
+            }
+        }
+
+        log.debug("Task force '{}' ferried {} squadrons to '{}', {} remain aboard, {} undeliverable",
+                new Object[]{taskForce.getName(), ferried, airfield.get().getName(), remaining, undeliverable});
+
+        if (ferried > 0) {
+            operationsLog.event(taskForce.getName(), taskForce.getMission().getType(), airfield.get().getName());
+        }
+
+        return remaining == 0;
+    }
+
+    /**
+     * Get the squadrons the task force is ferrying.
+     *
+     * @param taskForce The task force.
+     * @return The land based squadrons aboard the task force's carriers.
+     */
+    public List<Squadron> getFerriedSquadrons(final TaskForce taskForce) {
+        List<Squadron> ferried = new ArrayList<>();
+
+        for (Airbase carrier : taskForce.getRealAirbases()) {
+            for (Squadron squadron : carrier.getSquadrons()) {
+                if (isFerried(squadron)) {
+                    ferried.add(squadron);
+                }
+            }
+        }
+
+        return ferried;
+    }
+
+    /**
+     * Fly a squadron from its carrier to the airfield.
+     *
+     * @param squadron The squadron.
+     * @param carrier The carrier the squadron is aboard.
+     * @param airfield The target airfield.
+     * @return The result of stationing the squadron at the airfield. The squadron remains aboard unless the result is
+     * success.
+     */
+    private AirfieldOperation fly(final Squadron squadron, final Airbase carrier, final Airfield airfield) {
+        AirfieldOperation result = airfield.canStation(squadron);
+
+        if (result != AirfieldOperation.SUCCESS) {
+            log.debug("Squadron '{}' cannot be ferried to '{}': {}", new Object[]{squadron.getName(), airfield.getName(), result});
+            return result;
+        }
+
+        carrier.removeSquadron(squadron);
+        airfield.addSquadron(squadron);
+
+        return result;
+    }
+
+    /**
+     * Determine if a squadron is being ferried. Only land based squadrons are ferried.
+     *
+     * @param squadron The squadron.
+     * @return True if the squadron is ferried. False if it belongs to the carrier.
+     */
+    private boolean isFerried(final Squadron squadron) {
+        return squadron.getLandingType() == LandingType.LAND;
+    }
+
+    /**
+     * Get the friendly airfield at the task force's target.
+     *
+     * @param taskForce The task force.
+     * @return The target airfield if present.
+     */
+    private Optional<Airfield> getAirfield(final TaskForce taskForce) {
+        Optional<GameGrid> target = MissionTarget.getGrid(taskForce, gameMap);
+
+        return target.flatMap(grid -> Optional
+                .ofNullable(gameMap.getAirfields(taskForce.getSide()))
+                .orElse(List.of())
+                .stream()
+                .filter(airfield -> grid.getMapReference().equals(gameMap.convertNameToReference(airfield.getReference())))
+                .findFirst());
+    }
+}
@@ -0,0 +1,57 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionExecutor;
+
+/**
+ * Carries out ferry missions. The ships are ferried to their target port, where the mission ends.
+ */
+@Singleton
+public class FerryShipsExecutor implements SeaMissionExecutor {
+    private final GameMap gameMap;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     */
+    @Inject
+    public FerryShipsExecutor(final GameMap gameMap) {
+        this.gameMap = gameMap;
+    }
+
+    /**
+     * Determine if the task force is in its target port.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force is in its target port. False otherwise.
+     */
+    @Override
+    public boolean reachedTarget(final TaskForce taskForce) {
+        return MissionTarget.getDistance(taskForce, gameMap) == 0;
+    }
+
+    /**
+     * The ships have been ferried.
+     *
+     * @param taskForce The task force.
+     * @return True, the mission is complete on arrival.
+     */
+    @Override
+    public boolean execute(final TaskForce taskForce) {
+        return true;
+    }
+
+    /**
+     * The ferried ships remain at their new port.
+     *
+     * @return False, the mission ends at the target.
+     */
+    @Override
+    public boolean returnsHome() {
+        return false;
+    }
+}
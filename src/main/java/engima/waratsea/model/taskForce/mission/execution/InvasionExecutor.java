@@ -0,0 +1,55 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.taskForce.TaskForce;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carries out invasion missions. An invasion task force lands its troops from the sea grid adjacent to or at its
+ * target. The landed troops are ashore and are no longer tracked as cargo. Only the cargo unloaded events of the
+ * emptied transports record the landing.
+ */
+@Singleton
+@Slf4j
+public class InvasionExecutor extends CargoExecutor {
+    public static final int LANDING_RANGE = 1;           // Troops are landed from an adjacent sea grid.
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param operationsLog The game operations log.
+     */
+    @Inject
+    public InvasionExecutor(final GameMap gameMap,
+                            final OperationsLog operationsLog) {
+        super(gameMap, operationsLog);
+    }
+
+    /**
+     * Determine if the task force is in landing range of its target.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force may land troops at its target. False otherwise.
+     */
+    @Override
+    public boolean reachedTarget(final TaskForce taskForce) {
+        return MissionTarget.getDistance(taskForce, getGameMap()) <= LANDING_RANGE;
+    }
+
+    /**
+     * Land the troops at the target.
+     *
+     * @param taskForce The task force.
+     * @param target The target's game grid.
+     * @param amount The amount of troops landed.
+     */
+    @Override
+    protected void deliver(final TaskForce taskForce, final GameGrid target, final int amount) {
+        log.debug("Task force '{}' landed {} troops at '{}'", new Object[]{taskForce.getName(), amount, target.getMapReference()});
+    }
+}
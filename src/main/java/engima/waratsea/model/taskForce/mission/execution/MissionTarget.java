@@ -0,0 +1,52 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.target.Target;
+import engima.waratsea.model.taskForce.TaskForce;
+
+import java.util.Optional;
+
+/**
+ * Locates a task force's mission target. A mission's first target is the one the task force sails to.
+ */
+final class MissionTarget {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private MissionTarget() {
+    }
+
+    /**
+     * Get the game grid of the task force's mission target.
+     *
+     * @param taskForce The task force.
+     * @param gameMap The game map.
+     * @return The target's game grid if the mission has a target.
+     */
+    static Optional<GameGrid> getGrid(final TaskForce taskForce, final GameMap gameMap) {
+        return taskForce
+                .getMission()
+                .getTargets()
+                .stream()
+                .findFirst()
+                .map(Target::getReference)
+                .map(gameMap::convertNameToReference)
+                .flatMap(gameMap::getGrid);
+    }
+
+    /**
+     * Get the distance from the task force to its mission target.
+     *
+     * @param taskForce The task force.
+     * @param gameMap The game map.
+     * @return The distance in grids. UNREACHABLE if the task force or the target is not on the map.
+     */
+    static int getDistance(final TaskForce taskForce, final GameMap gameMap) {
+        Optional<GameGrid> target = getGrid(taskForce, gameMap);
+        Optional<GameGrid> location = taskForce.getGrid();
+
+        return target.isPresent() && location.isPresent()
+                ? gameMap.determineDistance(location.get(), target.get())
+                : UNREACHABLE;
+    }
+}
@@ -0,0 +1,152 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.Phase;
+import engima.waratsea.model.game.Phases;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.mission.SeaMission;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionAction;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionExecutor;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The sea mission phase. Each active task force carries out its mission for the current turn.
+ *
+ * A task force's mission state advances by one transition each turn. The task forces are grouped by mission type
+ * in a single pass over both players' task forces. Each mission type's executor then prepares its whole batch
+ * before the individual missions are carried out. This allows, for example, the dice of all the turn's shore
+ * bombardments to be rolled at once.
+ *
+ * Only the missions that act upon their target have an executor. The other missions, such as patrol and escort,
+ * are carried out by other phases and are skipped here.
+ */
+@Singleton
+@Slf4j
+public class SeaMissionExecution {
+    private final Map<SeaMissionType, SeaMissionExecutor> executors = new EnumMap<>(SeaMissionType.class);
+    private final Provider<Game> gameProvider;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param bombardment The bombardment mission executor.
+     * @param transport The transport mission executor.
+     * @param invasion The invasion mission executor.
+     * @param ferryShips The ferry ships mission executor.
+     * @param ferryAircraft The ferry aircraft mission executor.
+     * @param phases The game turn phases.
+     * @param gameProvider Provides the game.
+     */
+    //CHECKSTYLE:OFF
+    @Inject
+    public SeaMissionExecution(final BombardmentExecutor bombardment,
+                               final TransportExecutor transport,
+                               final InvasionExecutor invasion,
+                               final FerryShipsExecutor ferryShips,
+                               final FerryAircraftExecutor ferryAircraft,
+                               final Phases phases,
+                               final Provider<Game> gameProvider) {
+        //CHECKSTYLE:ON
+        this.gameProvider = gameProvider;
+
+        executors.put(SeaMissionType.BOMBARDMENT, bombardment);
+        executors.put(SeaMissionType.TRANSPORT, transport);
+        executors.put(SeaMissionType.INVASION, invasion);
+        executors.put(SeaMissionType.FERRY, ferryShips);
+        executors.put(SeaMissionType.FERRY_AIRCRAFT, ferryAircraft);
+
+        phases.register(Phase.SEA_MISSION, this::execute);
+    }
+
+    /**
+     * Carry out the missions of all of both players' task forces for the current turn.
+     */
+    public void execute() {
+        Game game = gameProvider.get();
+
+        List<TaskForce> taskForces = new ArrayList<>(game.getHumanPlayer().getTaskForces());
+        taskForces.addAll(game.getComputerPlayer().getTaskForces());
+
+        execute(taskForces);
+    }
+
+    /**
+     * Carry out the missions of the given task forces for the current turn.
+     *
+     * @param taskForces The task forces.
+     * @return The number of missions whose state changed.
+     */
+    public int execute(final List<TaskForce> taskForces) {
+        Map<SeaMissionType, List<TaskForce>> batches = new EnumMap<>(SeaMissionType.class);
+
+        for (TaskForce taskForce : taskForces) {
+            SeaMission mission = taskForce.getMission();
+
+            if (isPending(taskForce, mission)) {
+                batches.computeIfAbsent(mission.getType(), type -> new ArrayList<>()).add(taskForce);
+            }
+        }
+
+        int advanced = batches
+                .entrySet()
+                .stream()
+                .mapToInt(entry -> execute(executors.get(entry.getKey()), entry.getValue()))
+                .sum();
+
+        log.debug("Sea missions advanced {} in {} batches", advanced, batches.size());
+
+        return advanced;
+    }
+
+    /**
+     * Carry out a batch of missions of the same type.
+     *
+     * @param executor The mission type's executor.
+     * @param taskForces The task forces with missions of this type.
+     * @return The number of missions whose state changed.
+     */
+    private int execute(final SeaMissionExecutor executor, final List<TaskForce> taskForces) {
+        executor.prepare(taskForces);
+
+        int changed = 0;
+
+        for (TaskForce taskForce : taskForces) {
+            SeaMission mission = taskForce.getMission();
+            SeaMissionState current = mission.getState();
+            SeaMissionState next = current.transition(SeaMissionAction.EXECUTE, executor, taskForce);
+
+            if (next != current) {
+                log.debug("Task force '{}' mission {} is now {}", new Object[]{taskForce.getName(), mission.getType(), next});
+                changed++;
+            }
+
+            mission.setState(next);
+        }
+
+        return changed;
+    }
+
+    /**
+     * Determine if a task force has a mission that is carried out this turn.
+     *
+     * @param taskForce The task force.
+     * @param mission The task force's mission.
+     * @return True if the mission has an executor and is not yet done. False otherwise.
+     */
+    private boolean isPending(final TaskForce taskForce, final SeaMission mission) {
+        return taskForce.isActive()
+                && mission != null
+                && mission.getState() != SeaMissionState.DONE
+                && executors.containsKey(mission.getType());
+    }
+}
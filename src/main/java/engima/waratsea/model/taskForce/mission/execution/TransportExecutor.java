@@ -0,0 +1,69 @@
+package engima.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.base.port.Port;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.taskForce.TaskForce;
+
+/**
+ * Carries out transport missions. A transport task force unloads its cargo in its target friendly port. The port's
+ * bombardment damage limits the cargo it unloads each turn.
+ */
+@Singleton
+public class TransportExecutor extends CargoExecutor {
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param operationsLog The game operations log.
+     */
+    @Inject
+    public TransportExecutor(final GameMap gameMap,
+                             final OperationsLog operationsLog) {
+        super(gameMap, operationsLog);
+    }
+
+    /**
+     * Determine if the task force is in its target port.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force is in its target friendly port. False otherwise.
+     */
+    @Override
+    public boolean reachedTarget(final TaskForce taskForce) {
+        return MissionTarget.getDistance(taskForce, getGameMap()) == 0 && taskForce.atPort();
+    }
+
+    /**
+     * Get the cargo the target port can unload this turn. A bombarded port unloads less cargo.
+     *
+     * @param taskForce The task force.
+     * @param target The target's game grid.
+     * @return The cargo the port can unload this turn, in thirds of a game unit.
+     */
+    @Override
+    protected int getUnloadCapacity(final TaskForce taskForce, final GameGrid target) {
+        return getGameMap()
+                .getPort(taskForce.getSide(), target.getMapReference())
+                .map(Port::getUnloadCapacity)
+                .orElse(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Deliver the unloaded cargo to the port.
+     *
+     * @param taskForce The task force.
+     * @param target The target's game grid.
+     * @param amount The amount of cargo unloaded.
+     */
+    @Override
+    protected void deliver(final TaskForce taskForce, final GameGrid target, final int amount) {
+        getGameMap()
+                .getPort(taskForce.getSide(), target.getMapReference())
+                .ifPresent(port -> port.unload(amount));
+    }
+}
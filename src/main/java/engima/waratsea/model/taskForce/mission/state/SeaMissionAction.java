@@ -0,0 +1,8 @@
+package engima.waratsea.model.taskForce.mission.state;
+
+/**
+ * Sea mission actions.
+ */
+public enum SeaMissionAction {
+    EXECUTE,   // Perform the mission for the current turn.
+}
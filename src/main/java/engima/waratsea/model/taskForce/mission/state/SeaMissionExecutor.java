@@ -0,0 +1,56 @@
+package engima.waratsea.model.taskForce.mission.state;
+
+import engima.waratsea.model.taskForce.TaskForce;
+
+import java.util.List;
+
+/**
+ * Carries out a type of sea mission for the task forces given the mission. The sea mission state class calls these
+ * methods as a task force's mission moves from state to state.
+ */
+public interface SeaMissionExecutor {
+    /**
+     * Prepare to execute the missions of the given task forces for the current turn. This is called once a turn
+     * before any of the task forces' missions are executed. It allows work that is common to all the missions, such
+     * as rolling dice, to be done at once.
+     *
+     * @param taskForces The task forces with this type of mission.
+     */
+    default void prepare(final List<TaskForce> taskForces) {
+    }
+
+    /**
+     * Determine if the task force has reached its mission's target.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force is in position to carry out its mission. False otherwise.
+     */
+    boolean reachedTarget(TaskForce taskForce);
+
+    /**
+     * Carry out the task force's mission for the current turn.
+     *
+     * @param taskForce The task force.
+     * @return True if the mission is complete. False if the mission continues next turn.
+     */
+    boolean execute(TaskForce taskForce);
+
+    /**
+     * Determine if the task force has returned home.
+     *
+     * @param taskForce The task force.
+     * @return True if the task force is at a friendly port. False otherwise.
+     */
+    default boolean reachedHome(final TaskForce taskForce) {
+        return taskForce.atPort();
+    }
+
+    /**
+     * Determine if the task force returns home once its mission is complete.
+     *
+     * @return True if the task force returns home. False if the mission ends at the target.
+     */
+    default boolean returnsHome() {
+        return true;
+    }
+}
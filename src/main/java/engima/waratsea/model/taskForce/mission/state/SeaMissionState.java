@@ -0,0 +1,85 @@
+package engima.waratsea.model.taskForce.mission.state;
+
+import engima.waratsea.model.taskForce.TaskForce;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sea mission states. A task force's mission lasts many turns, thus we need to keep track of a mission's state.
+ *
+ * A task force arrives on station at its target during one turn and carries out its mission from the next turn.
+ * Some missions, such as unloading cargo, take several turns. If the task force leaves its target before the
+ * mission is complete, the mission is en route again.
+ */
+@RequiredArgsConstructor
+public enum SeaMissionState {
+    EN_ROUTE("En Route") {
+        public SeaMissionState transition(final SeaMissionAction action, final SeaMissionExecutor executor, final TaskForce taskForce) {
+            return action == SeaMissionAction.EXECUTE && executor.reachedTarget(taskForce) ? ON_STATION : EN_ROUTE;
+        }
+    },
+
+    ON_STATION("On Station") {
+        public SeaMissionState transition(final SeaMissionAction action, final SeaMissionExecutor executor, final TaskForce taskForce) {
+            return execute(executor, taskForce);
+        }
+    },
+
+    EXECUTING("Executing") {
+        public SeaMissionState transition(final SeaMissionAction action, final SeaMissionExecutor executor, final TaskForce taskForce) {
+            return execute(executor, taskForce);
+        }
+    },
+
+    RETURNING("Returning") {
+        public SeaMissionState transition(final SeaMissionAction action, final SeaMissionExecutor executor, final TaskForce taskForce) {
+            return action == SeaMissionAction.EXECUTE && executor.reachedHome(taskForce) ? DONE : RETURNING;
+        }
+    },
+
+    DONE("Done") {
+        public SeaMissionState transition(final SeaMissionAction action, final SeaMissionExecutor executor, final TaskForce taskForce) {
+            return DONE;
+        }
+    };
+
+    private final String value;
+
+    /**
+     * Transition to a new state.
+     *
+     * @param action The sea mission action or event that occurred.
+     * @param executor Carries out the task force's type of mission.
+     * @param taskForce The task force whose mission changes state.
+     * @return The new sea mission state.
+     */
+    public abstract SeaMissionState transition(SeaMissionAction action, SeaMissionExecutor executor, TaskForce taskForce);
+
+    /**
+     * Carry out the mission of a task force that is at its target.
+     *
+     * @param executor Carries out the task force's type of mission.
+     * @param taskForce The task force.
+     * @return The new sea mission state.
+     */
+    private static SeaMissionState execute(final SeaMissionExecutor executor, final TaskForce taskForce) {
+        if (!executor.reachedTarget(taskForce)) {
+            return EN_ROUTE;                                      // The task force has left its target.
+        }
+
+        if (!executor.execute(taskForce)) {
+            return EXECUTING;
+        }
+
+        return executor.returnsHome() ? RETURNING : DONE;
+    }
+
+    /**
+     * The String representation of this enum.
+     *
+     * @return The String representation of this enum.
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,275 @@
+package engima.waratsea.model.taskForce.movement;
+
+import com.google.inject.Inject;
+import com.google.inject.Provider;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.Phase;
+import engima.waratsea.model.game.Phases;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.Turn;
+import engima.waratsea.model.game.TurnType;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.map.TaskForceGrid;
+import engima.waratsea.model.minefield.MinefieldTransit;
+import engima.waratsea.model.ship.Fuel;
+import engima.waratsea.model.ship.Movement;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.taskForce.TaskForce;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The task force movement phase.
+ *
+ * Each active task force sails along its plotted route at the speed of its slowest ship. A ship's speed is its even
+ * movement allowance on even turns and its odd movement allowance on odd turns. Task forces are slowed at night.
+ * A task force's speed is also limited by the ship with the least fuel. Ships that are out of fuel limp along at the
+ * out of fuel speed. Each grid moved burns fuel from every ship in the task force.
+ *
+ * A task force stops for the turn when it enters a friendly port on its route. A task force's route is removed as
+ * it reaches each waypoint. The route is plotted by the player and is assumed to be navigable.
+ *
+ * The grids entered by each task force are checked against the enemy's minefields.
+ *
+ * All the task forces are moved first and then the game map is updated once with all the moved task forces.
+ */
+@Singleton
+@Slf4j
+public class TaskForceMovement {
+    public static final int NIGHT_SPEED_REDUCTION = 1;    // Task forces steam more cautiously at night.
+    public static final int OUT_OF_FUEL_SPEED = 1;        // Ships without fuel can only limp along.
+    public static final int FUEL_PER_GRID = 1;            // The fuel burned by a ship for each grid moved.
+
+    private static final int[] NEIGHBOR_OFFSETS = {-1, 0, 1};
+
+    private final GameMap gameMap;
+    private final Provider<Turn> turnProvider;
+    private final MinefieldTransit minefieldTransit;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param phases The game turn phases.
+     * @param turnProvider Provides the game turn.
+     * @param minefieldTransit Resolves task forces sailing through minefields.
+     */
+    @Inject
+    public TaskForceMovement(final GameMap gameMap,
+                             final Phases phases,
+                             final Provider<Turn> turnProvider,
+                             final MinefieldTransit minefieldTransit) {
+        this.gameMap = gameMap;
+        this.turnProvider = turnProvider;
+        this.minefieldTransit = minefieldTransit;
+
+        phases.register(Phase.MOVEMENT, this::execute);
+    }
+
+    /**
+     * Move all of the task forces on the game map for the current turn.
+     */
+    public void execute() {
+        Turn turn = turnProvider.get();
+
+        List<TaskForce> taskForces = new ArrayList<>();
+
+        gameMap
+                .getTaskForceGrids()
+                .values()
+                .forEach(grids -> grids
+                        .stream()
+                        .map(TaskForceGrid::getTaskForces)
+                        .forEach(taskForces::addAll));
+
+        List<TaskForce> moved = move(taskForces, turn.getNumber(), turn.getTrue());
+
+        log.debug("Moved {} of {} task forces on turn {}", new Object[]{moved.size(), taskForces.size(), turn.getNumber()});
+    }
+
+    /**
+     * Move the given task forces along their routes and update the game map with the moved task forces.
+     *
+     * @param taskForces The task forces that are moved.
+     * @param turnNumber The game turn number.
+     * @param turnType The true type of the game turn: DAY or NIGHT.
+     * @return The task forces that moved.
+     */
+    public List<TaskForce> move(final List<TaskForce> taskForces, final int turnNumber, final TurnType turnType) {
+        List<TaskForce> moved = new ArrayList<>();
+
+        for (TaskForce taskForce : taskForces) {
+            if (move(taskForce, turnNumber, turnType)) {
+                moved.add(taskForce);
+            }
+        }
+
+        gameMap.updateTaskForces(moved);
+
+        return moved;
+    }
+
+    /**
+     * Get the number of grids the given task force may move this turn.
+     *
+     * @param taskForce The task force.
+     * @param turnNumber The game turn number.
+     * @param turnType The true type of the game turn: DAY or NIGHT.
+     * @return The number of grids the task force may move.
+     */
+    public int getSpeed(final TaskForce taskForce, final int turnNumber, final TurnType turnType) {
+        boolean evenTurn = turnNumber % 2 == 0;
+
+        int speed = Integer.MAX_VALUE;
+        int fuel = Integer.MAX_VALUE;
+
+        for (Ship ship : taskForce.getShips()) {
+            Movement movement = ship.getMovement();
+            if (movement != null) {
+                speed = Math.min(speed, evenTurn ? movement.getEven() : movement.getOdd());
+            }
+
+            Fuel shipFuel = ship.getFuel();
+            if (shipFuel != null) {
+                fuel = Math.min(fuel, shipFuel.getLevel());
+            }
+        }
+
+        if (speed == Integer.MAX_VALUE || speed <= 0) {
+            return 0;
+        }
+
+        if (turnType == TurnType.NIGHT) {
+            speed = Math.max(speed - NIGHT_SPEED_REDUCTION, 1);
+        }
+
+        int fuelSpeed = Math.max(fuel / FUEL_PER_GRID, OUT_OF_FUEL_SPEED);
+
+        return Math.min(speed, fuelSpeed);
+    }
+
+    /**
+     * Move a single task force along its route.
+     *
+     * @param taskForce The task force that is moved.
+     * @param turnNumber The game turn number.
+     * @param turnType The true type of the game turn: DAY or NIGHT.
+     * @return True if the task force moved. False otherwise.
+     */
+    private boolean move(final TaskForce taskForce, final int turnNumber, final TurnType turnType) {
+        List<String> route = taskForce.getRoute();
+
+        if (!taskForce.isActive() || route.isEmpty()) {
+            return false;
+        }
+
+        Optional<GameGrid> start = taskForce.getGrid();
+
+        if (start.isEmpty()) {
+            return false;
+        }
+
+        int speed = getSpeed(taskForce, turnNumber, turnType);
+        boolean leavingPort = taskForce.atPort();
+        Side side = taskForce.getSide();
+
+        GameGrid current = start.get();
+        List<GameGrid> path = new ArrayList<>(speed);
+
+        while (!route.isEmpty()) {
+            Optional<GameGrid> waypoint = gameMap.getGrid(route.get(0));
+
+            if (waypoint.isEmpty() || waypoint.get().equals(current)) {
+                route.remove(0);                              // Waypoint reached or not on the map.
+
+                if (!path.isEmpty() && gameMap.isLocationBase(side, current.getMapReference())) {
+                    break;                                    // Entered a friendly port. Stop for this turn.
+                }
+
+                continue;
+            }
+
+            if (path.size() == speed) {
+                break;
+            }
+
+            current = step(current, waypoint.get());
+            path.add(current);
+        }
+
+        if (path.isEmpty()) {
+            return false;
+        }
+
+        if (leavingPort) {
+            taskForce.setSail();
+        }
+
+        taskForce.moveTo(current.getMapReference());
+        burnFuel(taskForce, path.size());
+        minefieldTransit.resolve(taskForce, path);
+
+        return true;
+    }
+
+    /**
+     * Move one grid from the current grid towards the given waypoint.
+     *
+     * @param current The current game grid.
+     * @param waypoint The waypoint game grid.
+     * @return The adjacent game grid closest to the waypoint.
+     */
+    private GameGrid step(final GameGrid current, final GameGrid waypoint) {
+        GameGrid best = current;
+        int bestDistance = gameMap.determineDistance(current, waypoint);
+
+        for (int columnOffset : NEIGHBOR_OFFSETS) {
+            for (int rowOffset : NEIGHBOR_OFFSETS) {
+                GameGrid neighbor = gameMap.getGrid(current.getRow() + rowOffset, current.getColumn() + columnOffset);
+
+                if (neighbor != null && gameMap.determineDistance(current, neighbor) == 1) {
+                    int distance = gameMap.determineDistance(neighbor, waypoint);
+
+                    if (distance < bestDistance) {
+                        best = neighbor;
+                        bestDistance = distance;
+                    }
+                }
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Burn the fuel of each ship in the task force. A ship that runs out of fuel fires an out of fuel event.
+     *
+     * @param taskForce The task force that moved.
+     * @param grids The number of grids moved.
+     */
+    private void burnFuel(final TaskForce taskForce, final int grids) {
+        for (Ship ship : taskForce.getShips()) {
+            Fuel fuel = ship.getFuel();
+
+            if (fuel == null || fuel.getLevel() <= 0) {
+                continue;
+            }
+
+            int level = Math.max(fuel.getLevel() - grids * FUEL_PER_GRID, 0);
+            fuel.setLevel(level);
+
+            if (level == 0) {
+                ShipEvent event = new ShipEvent();
+                event.setShip(ship);
+                event.setAction(ShipEventAction.OUT_OF_FUEL);
+                event.fire();
+            }
+        }
+    }
+}
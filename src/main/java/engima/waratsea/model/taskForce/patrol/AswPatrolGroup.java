@@ -232,7 +232,8 @@ public class AswPatrolGroup implements PatrolGroup {
      * @param distance The distance to the target.
      * @return The success rate of finding a submarine flotilla. An integer percentage.
      */
-    private int getSuccessRate(final int distance) {
+    @Override
+    public int getSuccessRate(final int distance) {
         List<Squadron> inRange = getSquadronsInRange(distance);
         return aswRules.getBaseSearchSuccess(distance, inRange);
     }
@@ -166,7 +166,8 @@ public class CapPatrolGroup implements PatrolGroup {
      * @param distance The distance to the target.
      * @return The success rate.
      */
-    private int getSuccessRate(final int distance) {
+    @Override
+    public int getSuccessRate(final int distance) {
         List<Squadron> inRange = getSquadronsInRange(distance);
         return capRules.getBaseSearchSuccess(distance, inRange);
     }
@@ -66,6 +66,14 @@ public interface PatrolGroup {
      */
     int getTrueMaxRadius();
 
+    /**
+     * Get the rate of success for this patrol group at the given radius.
+     *
+     * @param radius The distance the target is from the patrol group's airbase.
+     * @return An integer representing the percentage success rate of the patrol at the given radius.
+     */
+    int getSuccessRate(int radius);
+
     /**
      * Get the patrol stats for this group.
      *
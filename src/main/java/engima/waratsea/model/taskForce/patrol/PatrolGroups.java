@@ -2,6 +2,7 @@ package engima.waratsea.model.taskForce.patrol;
 
 import com.google.inject.Inject;
 import engima.waratsea.model.base.AirbaseGroup;
+import engima.waratsea.model.base.airfield.patrol.Patrol;
 import engima.waratsea.model.base.airfield.patrol.PatrolType;
 import engima.waratsea.model.squadron.Squadron;
 import engima.waratsea.model.taskForce.patrol.data.PatrolGroupData;
@@ -18,6 +19,8 @@ public class PatrolGroups {
 
     private final PatrolGroupDAO patrolGroupDAO;
 
+    private int version;                                // The summed patrol versions the groups were built from.
+
     @Getter @Setter private AirbaseGroup airbaseGroup;  // The corresponding airbase group of these patrol groups.
     @Getter @Setter private AirbaseGroup homeGroup;     // The home airbase group of these patrol groups. The home group
                                                         // is represented by a single task force or airfield. This is
@@ -43,9 +46,7 @@ public class PatrolGroups {
         airbaseGroup = group;
         homeGroup = group;  // By default, the home group is equal to the airbase group.
                             // Task force groups will override this default.
-        PatrolType
-                .stream()
-                .forEach(this::buildPatrolGroups);
+        update();
 
         return this;
     }
@@ -57,6 +58,18 @@ public class PatrolGroups {
         PatrolType
                 .stream()
                 .forEach(this::buildPatrolGroups);
+
+        version = getAirbaseVersion();
+    }
+
+    /**
+     * Determine if the patrol groups still match the airbase group's patrols. The groups go stale
+     * when a squadron joins or leaves any of the group's patrols or a patrolling squadron changes.
+     *
+     * @return True if the patrol groups are current. False if they need to be rebuilt.
+     */
+    public boolean isCurrent() {
+        return version == getAirbaseVersion();
     }
 
     /**
@@ -92,4 +105,21 @@ public class PatrolGroups {
 
         patrolMap.put(patrolType, patrolGroupDAO.load(data));
     }
+
+    /**
+     * Get the summed version of all of the airbase group's patrols. Patrol versions only increase,
+     * so any change to any patrol changes the sum.
+     *
+     * @return The summed patrol version.
+     */
+    private int getAirbaseVersion() {
+        return airbaseGroup
+                .getAirbases()
+                .stream()
+                .flatMap(airbase -> PatrolType
+                        .stream()
+                        .map(airbase::getPatrol))
+                .mapToInt(Patrol::getVersion)
+                .sum();
+    }
 }
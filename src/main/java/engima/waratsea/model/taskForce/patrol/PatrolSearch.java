@@ -0,0 +1,212 @@
+package engima.waratsea.model.taskForce.patrol;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.base.Airbase;
+import engima.waratsea.model.base.airfield.patrol.PatrolType;
+import engima.waratsea.model.enemy.views.taskForce.TaskForceView;
+import engima.waratsea.model.enemy.views.taskForce.TaskForceViewIndex;
+import engima.waratsea.model.enemy.visibility.Visibility;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.utility.Dice;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Executes a side's search patrols against the enemy task forces.
+ *
+ * The enemy task forces are placed in a spatial index. Each search patrol group then only examines the
+ * enemy task forces that are located within the bounding square of its true maximum radius. Thus, the
+ * work done is proportional to the number of patrols times the number of enemy task forces near each patrol.
+ *
+ * Each enemy task force within range of a patrol is spotted if a percentage die roll is less than or equal
+ * to the patrol's success rate at the task force's distance. Once all the patrols have searched, the
+ * enemy task force views and the searching side's visibility are updated in a single pass.
+ */
+@Singleton
+public class PatrolSearch {
+    private static final int PERCENTAGE = 100;
+
+    private final GameMap gameMap;
+    private final Dice dice;
+    private final OperationsLog operationsLog;
+    private final Visibility visibility;
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param gameMap The game map.
+     * @param dice The dice utility.
+     * @param operationsLog The game operations log.
+     * @param visibility The fog-of-war visibility.
+     */
+    @Inject
+    public PatrolSearch(final GameMap gameMap,
+                        final Dice dice,
+                        final OperationsLog operationsLog,
+                        final Visibility visibility) {
+        this.gameMap = gameMap;
+        this.dice = dice;
+        this.operationsLog = operationsLog;
+        this.visibility = visibility;
+    }
+
+    /**
+     * Execute the given search patrols against the given enemy task forces. The enemy task force views
+     * are marked as spotted or not spotted depending upon the result of the search.
+     *
+     * @param patrolGroups The searching side's patrol groups.
+     * @param enemyTaskForces The searching side's views of the enemy task forces.
+     * @return The enemy task force views that were spotted.
+     */
+    public Set<TaskForceView> search(final Stream<PatrolGroups> patrolGroups, final List<TaskForceView> enemyTaskForces) {
+        TaskForceViewIndex index = buildIndex(enemyTaskForces);
+
+        Set<TaskForceView> spotted = new HashSet<>();
+
+        if (!index.isEmpty()) {
+            patrolGroups
+                    .map(groups -> groups.getPatrolGroup(PatrolType.SEARCH))
+                    .filter(group -> !group.getSquadrons().isEmpty())
+                    .forEach(group -> search(group, index, spotted));
+        }
+
+        update(enemyTaskForces, spotted);
+
+        return spotted;
+    }
+
+    /**
+     * Build the spatial index of the enemy task forces that may be spotted. Only task forces at sea
+     * with a known location are indexed.
+     *
+     * @param enemyTaskForces The enemy task force views.
+     * @return A spatial index of the enemy task force views.
+     */
+    private TaskForceViewIndex buildIndex(final List<TaskForceView> enemyTaskForces) {
+        TaskForceViewIndex index = new TaskForceViewIndex();
+
+        enemyTaskForces
+                .stream()
+                .filter(view -> !view.getEnemyTaskForce().atPort())
+                .forEach(view -> view.getGrid().ifPresent(grid -> index.add(view, grid)));
+
+        return index;
+    }
+
+    /**
+     * A single search patrol group searches for the enemy task forces.
+     *
+     * @param group The search patrol group.
+     * @param index The spatial index of the enemy task forces.
+     * @param spotted The enemy task forces spotted so far this phase.
+     */
+    private void search(final PatrolGroup group, final TaskForceViewIndex index, final Set<TaskForceView> spotted) {
+        Optional<GameGrid> origin = getOrigin(group);
+
+        if (origin.isEmpty()) {
+            return;
+        }
+
+        GameGrid originGrid = origin.get();
+        int radius = group.getTrueMaxRadius();
+
+        for (TaskForceView candidate : index.getCandidates(originGrid, radius)) {
+            if (spotted.contains(candidate)) {
+                continue;                          // Already spotted by another patrol. No need to search again.
+            }
+
+            int distance = gameMap.determineDistance(originGrid, index.getGrid(candidate));
+
+            if (distance <= radius && isSpotted(group, distance)) {
+                operationsLog.spotting(group.getAirbaseGroup().getTitle(), candidate.getName(), distance);
+                spotted.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Roll the percentage die to determine if a patrol spots a task force.
+     *
+     * @param group The search patrol group.
+     * @param distance The distance of the task force from the patrol's airbase.
+     * @return True if the task force is spotted. False otherwise.
+     */
+    private boolean isSpotted(final PatrolGroup group, final int distance) {
+        int successRate = group.getSuccessRate(distance);
+        return successRate > 0 && dice.roll(PERCENTAGE) <= successRate;
+    }
+
+    /**
+     * Get the game grid from which the given patrol group searches.
+     *
+     * @param group The search patrol group.
+     * @return The game grid of the patrol group's airbases.
+     */
+    private Optional<GameGrid> getOrigin(final PatrolGroup group) {
+        return group
+                .getAirbaseGroup()
+                .getAirbases()
+                .stream()
+                .findFirst()
+                .flatMap(Airbase::getGrid);
+    }
+
+    /**
+     * Update the enemy task force views with the results of the search. Task forces that are newly spotted
+     * fire a ship spotted event for each of their ships. The grids of the spotted task forces are marked
+     * as sighted by the searching side.
+     *
+     * @param enemyTaskForces The enemy task force views.
+     * @param spotted The enemy task force views that were spotted.
+     */
+    private void update(final List<TaskForceView> enemyTaskForces, final Set<TaskForceView> spotted) {
+        List<GameGrid> sighted = new ArrayList<>();
+
+        enemyTaskForces.forEach(view -> {
+            boolean newlySpotted = spotted.contains(view) && !view.isSpotted();
+            view.setSpotted(spotted.contains(view));
+
+            if (newlySpotted) {
+                fireSpotted(view.getEnemyTaskForce());
+            }
+
+            if (spotted.contains(view)) {
+                view.getGrid().ifPresent(sighted::add);
+            }
+        });
+
+        if (!enemyTaskForces.isEmpty()) {
+            Side searchingSide = enemyTaskForces.get(0).getEnemyTaskForce().getSide().opposite();
+            visibility.sight(searchingSide, sighted);
+        }
+    }
+
+    /**
+     * Fire a ship spotted event for each ship of the given task force.
+     *
+     * @param taskForce The spotted task force.
+     */
+    private void fireSpotted(final TaskForce taskForce) {
+        for (Ship ship : taskForce.getShips()) {
+            ShipEvent event = new ShipEvent();
+            event.setShip(ship);
+            event.setAction(ShipEventAction.SPOTTED);
+            event.setBy(AssetType.AIRCRAFT);
+            event.fire();
+        }
+    }
+}
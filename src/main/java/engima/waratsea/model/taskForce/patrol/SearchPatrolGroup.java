@@ -13,9 +13,14 @@ import engima.waratsea.model.squadron.Squadron;
 import engima.waratsea.model.squadron.SquadronConfig;
 import engima.waratsea.model.squadron.SquadronStrength;
 import engima.waratsea.model.taskForce.patrol.data.PatrolGroupData;
+import engima.waratsea.model.weather.Weather;
+import engima.waratsea.model.weather.WeatherType;
+import engima.waratsea.utility.metrics.CacheMetric;
+import engima.waratsea.utility.metrics.Metrics;
 import lombok.Getter;
 
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +28,8 @@ import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 public class SearchPatrolGroup implements PatrolGroup {
+    private static final CacheMetric STATS_CACHE = Metrics.cache("cache.searchPatrolStats");
+
     @Getter private final PatrolType type = PatrolType.SEARCH;
     @Getter private final List<Squadron> squadrons;
     @Getter private int maxRadius;
@@ -30,6 +37,14 @@ public class SearchPatrolGroup implements PatrolGroup {
     private final PatrolGroups patrolGroups;  //The parent patrol groups.
 
     private final PatrolAirRules searchRules; //The set of rules that govern this patrol.
+    private final Weather weather;
+
+    // The patrol group's squadrons are fixed for the life of the group. Thus, the success rates and stats
+    // only change when the weather changes. They are cached so that repeated UI refreshes and the search
+    // phase do not recompute them.
+    private final Map<Integer, Integer> successRates = new HashMap<>();    // Radius to success rate.
+    private PatrolStats patrolStats;
+    private WeatherType cachedWeather;
 
     /**
      * Constructor called by guice. Get the airbases from the given task force. From the airbases
@@ -38,11 +53,14 @@ public class SearchPatrolGroup implements PatrolGroup {
      * @param data The data needed to construct a search patrol group. The required data consists
      *             of the task force.
      * @param searchRules The search patrol rules.
+     * @param weather The game weather.
      */
     @Inject
     public SearchPatrolGroup(@Assisted final PatrolGroupData data,
-                                       final @Named("search") PatrolAirRules searchRules) {
+                                       final @Named("search") PatrolAirRules searchRules,
+                                       final Weather weather) {
         this.searchRules = searchRules;
+        this.weather = weather;
 
         patrolGroups = data.getGroups();
         squadrons = data.getSquadrons();
@@ -116,6 +134,38 @@ public class SearchPatrolGroup implements PatrolGroup {
      */
     @Override
     public PatrolStats getPatrolStats() {
+        validateCache();
+
+        if (patrolStats == null) {
+            STATS_CACHE.miss();
+            patrolStats = buildPatrolStats();
+        } else {
+            STATS_CACHE.hit();
+        }
+
+        return patrolStats;
+    }
+
+    /**
+     * Get the rate of success for this patrol's air search. The rate is cached per radius
+     * for the current weather.
+     *
+     * @param radius The distance the target is from the patrol's base.
+     * @return An integer representing the percentage success rate of finding a task force.
+     */
+    @Override
+    public int getSuccessRate(final int radius) {
+        validateCache();
+
+        return successRates.computeIfAbsent(radius, this::calculateSuccessRate);
+    }
+
+    /**
+     * Build the patrol stats for this group.
+     *
+     * @return The patrol stats for this patrol group.
+     */
+    private PatrolStats buildPatrolStats() {
         int trueMaxRadius = getTrueMaxRadius();
 
         Map<Integer, Map<String, PatrolStat>> stats = IntStream
@@ -124,11 +174,11 @@ public class SearchPatrolGroup implements PatrolGroup {
                 .collect(Collectors.toMap(radius -> radius,
                                           this::getPatrolStat));
 
-        PatrolStats patrolStats = new PatrolStats();
-        patrolStats.setData(stats);
-        patrolStats.setMetaData(getMetaData());
+        PatrolStats groupStats = new PatrolStats();
+        groupStats.setData(stats);
+        groupStats.setMetaData(getMetaData());
 
-        return patrolStats;
+        return groupStats;
     }
 
     /**
@@ -202,16 +252,29 @@ public class SearchPatrolGroup implements PatrolGroup {
     }
 
     /**
-     * Get the rate of success for this patrol's air search.
+     * Calculate the rate of success for this patrol's air search.
      *
      * @param radius The distance the target is from the patrol's base.
      * @return An integer representing the percentage success rate of finding a task force.
      */
-    private int getSuccessRate(final int radius) {
+    private int calculateSuccessRate(final int radius) {
         List<Squadron> inRange = getSquadronsInRange(radius);
         return searchRules.getBaseSearchSuccess(radius, inRange);
     }
 
+    /**
+     * Discard the cached success rates and stats if the weather has changed since they were calculated.
+     */
+    private void validateCache() {
+        WeatherType current = weather.getCurrent();
+
+        if (current != cachedWeather) {
+            successRates.clear();
+            patrolStats = null;
+            cachedWeather = current;
+        }
+    }
+
     /**
      * Determine which squadrons on patrol can reach the given target radius.
      *
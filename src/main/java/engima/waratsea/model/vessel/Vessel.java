@@ -1,6 +1,7 @@
 package engima.waratsea.model.vessel;
 
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.ship.Torpedo;
 
 public interface Vessel {
 
@@ -25,4 +26,11 @@ public interface Vessel {
      */
     String getShipClass();
 
+    /**
+     * Get the vessel's torpedo.
+     *
+     * @return The vessel's torpedo.
+     */
+    Torpedo getTorpedo();
+
 }
@@ -114,6 +114,17 @@ public class AirfieldVictory implements VictoryCondition<AirfieldEvent, Airfield
         return result;
     }
 
+    /**
+     * Determine if the fired airfield event's side and action may trigger this victory condition.
+     *
+     * @param event The fired airfield event.
+     * @return True if this victory condition may match events of the fired event's side and action.
+     */
+    @Override
+    public boolean isTriggeredBy(final AirfieldEvent event) {
+        return matcher.isTriggeredBy(event.getAirfield().getSide(), event.getAction());
+    }
+
     /**
      * Determine if the fired event matches this victory condition trigger.
      *
@@ -103,6 +103,19 @@ public class RequiredShipVictory implements VictoryCondition<ShipEvent, ShipVict
         return details;
     }
 
+    /**
+     * Determine if the fired ship event's side and action may trigger this victory condition.
+     *
+     * @param event The fired ship event.
+     * @return True if this victory condition may match events of the fired event's side and action.
+     */
+    @Override
+    public boolean isTriggeredBy(final ShipEvent event) {
+        return matchers
+                .stream()
+                .anyMatch(matcher -> matcher.isTriggeredBy(event.getShip().getShipId().getSide(), event.getAction()));
+    }
+
     /**
      * Determine if a ship event thrown results in meeting the required victory condition.
      *
@@ -122,6 +122,17 @@ public class ShipVictory implements VictoryCondition<ShipEvent, ShipVictoryData>
         return data;
     }
 
+    /**
+     * Determine if the fired ship event's side and action may trigger this victory condition.
+     *
+     * @param event The fired ship event.
+     * @return True if this victory condition may match events of the fired event's side and action.
+     */
+    @Override
+    public boolean isTriggeredBy(final ShipEvent event) {
+        return matcher.isTriggeredBy(event.getShip().getShipId().getSide(), event.getAction());
+    }
+
     /**
      * Determine if a ship event thrown results in a change in victory points.
      *
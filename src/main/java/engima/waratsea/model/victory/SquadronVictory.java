@@ -93,6 +93,17 @@ public class SquadronVictory implements VictoryCondition<SquadronEvent, Squadron
         return points;
     }
 
+    /**
+     * Determine if the fired squadron event's side and action may trigger this victory condition.
+     *
+     * @param event The fired squadron event.
+     * @return True if this victory condition may match events of the fired event's side and action.
+     */
+    @Override
+    public boolean isTriggeredBy(final SquadronEvent event) {
+        return matcher.isTriggeredBy(event.getSquadron().getSide(), event.getAction());
+    }
+
     /**
      * Determine if the fired event matches this victory condition trigger.
      *
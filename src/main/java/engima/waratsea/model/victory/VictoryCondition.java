@@ -41,6 +41,15 @@ public interface VictoryCondition<E, D> extends PersistentData<D> {
      */
     boolean match(E event);
 
+    /**
+     * Determine if the fired event's side and action may trigger this victory condition. Only the side and the
+     * action of the event are examined. Thus, all events with the same side and action give the same answer.
+     *
+     * @param event The fired event.
+     * @return True if this victory condition may match events of the fired event's side and action.
+     */
+    boolean isTriggeredBy(E event);
+
     /**
      * Get the victory condition data that is read and written to a JSON file.
      *
@@ -0,0 +1,103 @@
+package engima.waratsea.model.victory;
+
+import engima.waratsea.model.game.Side;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * An index of a list of victory conditions keyed by the side and action of the events that trigger them.
+ *
+ * Whether a victory condition can be triggered by an event at all depends only upon the event's side and action.
+ * Thus, the first event of a given side and action compiles the list of victory conditions that may be triggered
+ * by that side and action. Every later event with the same side and action only examines
+ * those candidate conditions. The candidates are kept in the original condition order, so the first matching
+ * candidate is the same condition that a search of the full list would find.
+ *
+ * @param <E> The event type.
+ * @param <D> The victory condition data type.
+ */
+class VictoryConditionIndex<E, D> {
+    private final List<VictoryCondition<E, D>> conditions;
+
+    private final Function<E, Side> sideKey;
+    private final Function<E, ? extends Enum<?>> actionKey;
+
+    private final Map<Side, Map<Enum<?>, List<VictoryCondition<E, D>>>> index = new EnumMap<>(Side.class);
+
+    /**
+     * Constructor.
+     *
+     * @param conditions The victory conditions to index.
+     * @param sideKey Extracts the side from a fired event.
+     * @param actionKey Extracts the action from a fired event.
+     */
+    VictoryConditionIndex(final List<VictoryCondition<E, D>> conditions,
+                          final Function<E, Side> sideKey,
+                          final Function<E, ? extends Enum<?>> actionKey) {
+        this.conditions = conditions;
+        this.sideKey = sideKey;
+        this.actionKey = actionKey;
+    }
+
+    /**
+     * Get the first victory condition that matches the fired event.
+     *
+     * @param event The fired event.
+     * @return The first matching victory condition if one exists.
+     */
+    Optional<VictoryCondition<E, D>> findFirst(final E event) {
+        return getCandidates(event)
+                .stream()
+                .filter(condition -> condition.match(event))
+                .findFirst();
+    }
+
+    /**
+     * Get all the victory conditions that match the fired event.
+     *
+     * @param event The fired event.
+     * @return The matching victory conditions.
+     */
+    List<VictoryCondition<E, D>> findAll(final E event) {
+        return getCandidates(event)
+                .stream()
+                .filter(condition -> condition.match(event))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the victory conditions that may be triggered by the fired event's side and action.
+     *
+     * @param event The fired event.
+     * @return The candidate victory conditions in their original order.
+     */
+    List<VictoryCondition<E, D>> getCandidates(final E event) {
+        if (conditions.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return index
+                .computeIfAbsent(sideKey.apply(event), side -> new HashMap<>())
+                .computeIfAbsent(actionKey.apply(event), action -> compile(event));
+    }
+
+    /**
+     * Compile the candidate victory conditions for the fired event's side and action.
+     *
+     * @param event The fired event.
+     * @return The victory conditions that may be triggered by the fired event's side and action.
+     */
+    private List<VictoryCondition<E, D>> compile(final E event) {
+        return conditions
+                .stream()
+                .filter(condition -> condition.isTriggeredBy(event))
+                .collect(Collectors.toUnmodifiableList());
+    }
+}
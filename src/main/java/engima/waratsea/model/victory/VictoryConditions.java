@@ -1,9 +1,11 @@
 package engima.waratsea.model.victory;
 
 import com.google.inject.Inject;
+import com.google.inject.Provider;
 import com.google.inject.assistedinject.Assisted;
 import engima.waratsea.model.PersistentData;
 import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.Turn;
 import engima.waratsea.model.game.event.Event;
 import engima.waratsea.model.game.event.airfield.AirfieldEvent;
 import engima.waratsea.model.game.event.ship.ShipEvent;
@@ -20,7 +22,9 @@ import lombok.extern.slf4j.Slf4j;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -30,6 +34,11 @@ import java.util.stream.Stream;
  * Represents a side's victory conditions for the game.
  * Thus, there are only two instances of this class constructed.
  * One for the ALLIES and one for the AXIS.
+ *
+ * The victory conditions are indexed by the side and action of the events that trigger them. Thus, a fired
+ * event is only tested against the victory conditions that can possibly match it. The total victory points are
+ * kept as a running total and every event is recorded in an append only history along with the turn on which
+ * it occurred.
  */
 @Slf4j
 public class VictoryConditions implements PersistentData<VictoryConditionsData> {
@@ -49,6 +58,15 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
 
     private final List<VictoryCondition<AirfieldEvent, AirfieldVictoryData>> scenarioAirfields; // Scenario specific victory condition for airfields.
 
+    private final VictoryConditionIndex<ShipEvent, ShipVictoryData> defaultShipIndex;
+    private final VictoryConditionIndex<ShipEvent, ShipVictoryData> scenarioShipIndex;
+    private final VictoryConditionIndex<ShipEvent, ShipVictoryData> requiredShipIndex;
+    private final VictoryConditionIndex<SquadronEvent, SquadronVictoryData> defaultSquadronIndex;
+    private final VictoryConditionIndex<SquadronEvent, SquadronVictoryData> scenarioSquadronIndex;
+    private final VictoryConditionIndex<AirfieldEvent, AirfieldVictoryData> scenarioAirfieldIndex;
+
+    private final Provider<Turn> turnProvider;
+
     /**
      * Holds the result of a victory condition check.
      */
@@ -65,7 +83,10 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
     /**
      * Stores the history of events that award victory points.
      */
-    private static class History {
+    public static class History {
+        @Getter
+        private final int turn;
+
         @Getter
         private final Event event;
 
@@ -75,17 +96,20 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
         /**
          * Constructor.
          *
+         * @param turn The game turn on which the event occurred.
          * @param event The game event.
          * @param points The corresponding points awarded.
          */
-        History(final Event event, final int points) {
+        History(final int turn, final Event event, final int points) {
+            this.turn = turn;
             this.event = event;
             this.points = points;
         }
     }
 
-    @Getter
     private final List<History> history = new ArrayList<>();
+    private final Map<Integer, List<History>> turnHistory = new HashMap<>();
+    private final Map<Integer, Integer> turnPoints = new HashMap<>();
 
     /**
      * Constructor of a side's victory.
@@ -95,13 +119,17 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
      * @param shipVictoryFactory Ship victory factory.
      * @param airfieldVictoryFactory Airfield victory factory.
      * @param squadronVictoryFactory Squadron victory factory.
+     * @param turnProvider Provides the game turn.
      */
     @Inject
     public VictoryConditions(@Assisted final VictoryConditionsData data,
                              @Assisted final Side side,
                              final ShipVictoryFactory<ShipEvent, ShipVictoryData> shipVictoryFactory,
                              final AirfieldVictoryFactory<AirfieldEvent, AirfieldVictoryData> airfieldVictoryFactory,
-                             final SquadronVictoryFactory<SquadronEvent, SquadronVictoryData> squadronVictoryFactory) {
+                             final SquadronVictoryFactory<SquadronEvent, SquadronVictoryData> squadronVictoryFactory,
+                             final Provider<Turn> turnProvider) {
+        this.turnProvider = turnProvider;
+
         objectives = data.getObjectives();
 
         log.debug("Build default ship victory conditions for side: {}.", side);
@@ -122,6 +150,13 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
         log.debug("Build scenario airfield victory conditions for side: {}.", side);
         scenarioAirfields = buildConditions(data.getScenarioAirfield(), airfieldVictoryFactory::createAirfield);
 
+        defaultShipIndex = buildShipIndex(defaultShips);
+        scenarioShipIndex = buildShipIndex(scenarioShips);
+        requiredShipIndex = buildShipIndex(requiredShips);
+        defaultSquadronIndex = buildSquadronIndex(defaultSquadron);
+        scenarioSquadronIndex = buildSquadronIndex(scenarioSquadron);
+        scenarioAirfieldIndex = new VictoryConditionIndex<>(scenarioAirfields, event -> event.getAirfield().getSide(), AirfieldEvent::getAction);
+
         registerForEvents();
 
         totalVictoryPoints = data.getTotalVictoryPoints();
@@ -178,6 +213,35 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
         }
     }
 
+    /**
+     * Get the history of all the events that have occurred since these victory conditions were created.
+     *
+     * @return The victory history in the order in which the events occurred.
+     */
+    public List<History> getHistory() {
+        return Collections.unmodifiableList(history);
+    }
+
+    /**
+     * Get the history of the events that occurred on the given turn.
+     *
+     * @param turn The game turn.
+     * @return The victory history of the given turn in the order in which the events occurred.
+     */
+    public List<History> getHistory(final int turn) {
+        return Collections.unmodifiableList(turnHistory.getOrDefault(turn, Collections.emptyList()));
+    }
+
+    /**
+     * Get the victory points awarded on the given turn.
+     *
+     * @param turn The game turn.
+     * @return The victory points awarded on the given turn.
+     */
+    public int getTurnVictoryPoints(final int turn) {
+        return turnPoints.getOrDefault(turn, 0);
+    }
+
     /**
      * Build the ship victory conditions.
      *
@@ -196,6 +260,26 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Build the index of the given ship victory conditions.
+     *
+     * @param conditions The ship victory conditions.
+     * @return The ship victory condition index.
+     */
+    private VictoryConditionIndex<ShipEvent, ShipVictoryData> buildShipIndex(final List<VictoryCondition<ShipEvent, ShipVictoryData>> conditions) {
+        return new VictoryConditionIndex<>(conditions, event -> event.getShip().getShipId().getSide(), ShipEvent::getAction);
+    }
+
+    /**
+     * Build the index of the given squadron victory conditions.
+     *
+     * @param conditions The squadron victory conditions.
+     * @return The squadron victory condition index.
+     */
+    private VictoryConditionIndex<SquadronEvent, SquadronVictoryData> buildSquadronIndex(final List<VictoryCondition<SquadronEvent, SquadronVictoryData>> conditions) {
+        return new VictoryConditionIndex<>(conditions, event -> event.getSquadron().getSide(), SquadronEvent::getAction);
+    }
+
     /**
      * Register for events.
      */
@@ -215,19 +299,19 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
 
         //Get the scenario specific event victory points that were awarded.
         log.debug("Check specific scenario victory conditions.");
-        Result result = getPoints(scenarioShips, event);
+        Result result = getPoints(scenarioShipIndex, event);
 
         if (!result.isAwarded()) {
             log.debug("No scenario specific victory condition matched. Check default victory conditions.");
             //The event did not trigger any scenario specific victory conditions. Thus,
             //get the points for the default victory conditions.
-            result = getPoints(defaultShips, event);
+            result = getPoints(defaultShipIndex, event);
         }
 
         //Send the ship event to the required victory conditions.
         //The points awarded is needed to see if the total required points for the event are satisfied.
         //Note not all conditions will specify a point requirement.
-        checkRequired(requiredShips, event, result.getPoints());
+        checkRequired(requiredShipIndex, event, result.getPoints());
 
         saveHistory(event, result.getPoints());
     }
@@ -242,13 +326,13 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
 
         //Get the scenario specific event victory points that were awarded.
         log.debug("Check specific scenario victory conditions.");
-        Result result = getPoints(scenarioSquadron, event);
+        Result result = getPoints(scenarioSquadronIndex, event);
 
         if (!result.isAwarded()) {
             log.debug("No scenario specific victory condition matched. Check default victory conditions.");
             //The event did not trigger any scenario specific victory conditions. Thus,
             //get the points for the default victory conditions.
-            result = getPoints(defaultSquadron, event);
+            result = getPoints(defaultSquadronIndex, event);
         }
 
         saveHistory(event, result.getPoints());
@@ -261,7 +345,7 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
      */
     private void handleAirfieldEvent(final AirfieldEvent event) {
         log.debug("Handle airfield event for airfield '{}' {}", event.getAirfield().getName(), event.getAction());
-        Result result = getPoints(scenarioAirfields, event);
+        Result result = getPoints(scenarioAirfieldIndex, event);
         saveHistory(event, result.getPoints());
     }
 
@@ -270,25 +354,20 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
      *
      * @param <E> The corresponding event type.
      * @param <D> The JSON data type.
-     * @param victoryConditions List of victory conditions.
+     * @param index The index of the victory conditions.
      * @param event The fired event.
      * @return True if the fired event award victory points.
      */
-    private <E, D> Result getPoints(final List<VictoryCondition<E, D>> victoryConditions, final E event) {
+    private <E, D> Result getPoints(final VictoryConditionIndex<E, D> index, final E event) {
         Result result = new Result();
-        List<VictoryCondition<E, D>> matched = Optional.ofNullable(victoryConditions)
-                .orElseGet(Collections::emptyList)
-                .stream()
-                .filter(condition -> condition.match(event))
-                .collect(Collectors.toList());
+        Optional<VictoryCondition<E, D>> matched = index.findFirst(event);
 
         // Some victory conditions may match but not awarded any points.
         // This happens when multiple occurrences of an event is needed before points are awarded.
         // The event will match, but no points are awarded.
-        result.setAwarded(!matched.isEmpty());
+        result.setAwarded(matched.isPresent());
 
-        int points = matched.stream()
-                .findFirst()
+        int points = matched
                 .map(condition -> condition.getPoints(event))
                 .orElse(0);
 
@@ -303,18 +382,14 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
      *
      * @param <E> The corresponding event type.
      * @param <D> The JSON data type.
-     * @param victoryConditions  List of victory conditions.
+     * @param index The index of the required victory conditions.
      * @param event The fired event.
      * @param pointsAwarded The points awarded for this event.
      */
-    private <E, D> void checkRequired(final List<VictoryCondition<E, D>> victoryConditions, final E event, final int pointsAwarded) {
-        List<VictoryCondition<E, D>> matched = Optional.ofNullable(victoryConditions)
-                .orElseGet(Collections::emptyList)
-                .stream()
-                .filter(condition -> condition.match(event))
-                .collect(Collectors.toList());
-
-        matched.forEach(condition -> condition.isPointRequirementMet(pointsAwarded));
+    private <E, D> void checkRequired(final VictoryConditionIndex<E, D> index, final E event, final int pointsAwarded) {
+        index
+                .findAll(event)
+                .forEach(condition -> condition.isPointRequirementMet(pointsAwarded));
     }
 
     /**
@@ -324,7 +399,12 @@ public class VictoryConditions implements PersistentData<VictoryConditionsData>
      * @param points The resulting victory points.
      */
     private void saveHistory(final Event event, final int points) {
-        history.add(new History(event, points));
+        int turn = turnProvider.get().getNumber();
+        History entry = new History(turn, event, points);
+
+        history.add(entry);
+        turnHistory.computeIfAbsent(turn, key -> new ArrayList<>()).add(entry);
+        turnPoints.merge(turn, points, Integer::sum);
     }
 
     /**
@@ -19,6 +19,7 @@ public class Weather {
     private final GameRules rules;
     private final Provider<Turn> turnProvider;
     private final Dice dice;
+    private final WeatherModel model;
 
     @Getter
     @Setter
@@ -31,15 +32,18 @@ public class Weather {
      * @param phases The game turn phases.
      * @param turnProvider Provides the game turn.
      * @param dice Dice utility.
+     * @param model The weather's Markov model.
      */
     @Inject
     public Weather(final GameRules rules,
                    final Phases phases,
                    final Provider<Turn> turnProvider,
-                   final Dice dice) {
+                   final Dice dice,
+                   final WeatherModel model) {
         this.rules = rules;
         this.turnProvider = turnProvider;
         this.dice = dice;
+        this.model = model;
 
         phases.register(Phase.WEATHER, this::determine);
     }
@@ -54,6 +58,20 @@ public class Weather {
         determine();
     }
 
+    /**
+     * Get the forecast of the weather the given number of turns from now.
+     *
+     * @param horizon The number of turns from now.
+     * @return The weather forecast.
+     */
+    public WeatherForecast getForecast(final int horizon) {
+        int month = turnProvider
+                .get()
+                .getMonth();
+
+        return model.getForecast(month, current, horizon);
+    }
+
     /**
      * Determine the current turns weather.
      **/
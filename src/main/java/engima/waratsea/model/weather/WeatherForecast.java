@@ -0,0 +1,66 @@
+package engima.waratsea.model.weather;
+
+import java.util.function.ToDoubleFunction;
+
+/**
+ * The probability of each weather type a number of turns from now.
+ *
+ * Forecasts are built and cached by the weather model. A forecast is immutable.
+ */
+public class WeatherForecast {
+    private static final WeatherType[] WEATHER_TYPES = WeatherType.values();
+
+    private final double[] probabilities;
+
+    /**
+     * Constructor.
+     *
+     * @param probabilities The probability of each weather type indexed by the weather type's ordinal.
+     */
+    WeatherForecast(final double[] probabilities) {
+        this.probabilities = probabilities.clone();
+    }
+
+    /**
+     * Get the probability of the given weather type.
+     *
+     * @param weatherType The weather type.
+     * @return The probability, from 0.0 to 1.0, of the given weather.
+     */
+    public double getProbability(final WeatherType weatherType) {
+        return probabilities[weatherType.ordinal()];
+    }
+
+    /**
+     * Get the most likely weather type. Ties go to the better weather.
+     *
+     * @return The most likely weather type.
+     */
+    public WeatherType getMostLikely() {
+        int best = 0;
+
+        for (int i = 1; i < probabilities.length; i++) {
+            if (probabilities[i] > probabilities[best]) {
+                best = i;
+            }
+        }
+
+        return WEATHER_TYPES[best];
+    }
+
+    /**
+     * Get the expected value of a weather dependent quantity.
+     *
+     * @param value Maps a weather type to the quantity.
+     * @return The quantity weighted by the probability of each weather type.
+     */
+    public double getExpected(final ToDoubleFunction<WeatherType> value) {
+        double expected = 0.0;
+
+        for (WeatherType weatherType : WEATHER_TYPES) {
+            expected += probabilities[weatherType.ordinal()] * value.applyAsDouble(weatherType);
+        }
+
+        return expected;
+    }
+}
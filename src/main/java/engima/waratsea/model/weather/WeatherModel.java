@@ -0,0 +1,218 @@
+package engima.waratsea.model.weather;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.rules.WeatherRules;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The weather rules compiled into a Markov chain over the weather types.
+ *
+ * For each month the rules are compiled into a transition matrix by enumerating every die result, and every second
+ * die result for the rules that roll one. Entry [i][j] of the matrix is the probability that weather i becomes
+ * weather j on the next turn. The forecast n turns ahead is a row of the matrix raised to the nth power.
+ *
+ * The matrices are compiled the first time a game's forecast is requested. The powers of the matrices and the
+ * forecasts built from them are cached, so a repeated forecast is a lookup.
+ */
+@Singleton
+public class WeatherModel {
+    private static final int MONTHS = 12;
+    private static final int DIE_SIDES = 6;
+    private static final WeatherType[] WEATHER_TYPES = WeatherType.values();
+    private static final int STATES = WEATHER_TYPES.length;
+
+    /**
+     * The compiled weather of a single game.
+     */
+    private static final class CompiledWeather {
+        private final double[][][] transitions = new double[MONTHS][][];
+        private final List<List<double[][]>> powers = new ArrayList<>(MONTHS);
+        private final List<List<WeatherForecast[]>> forecasts = new ArrayList<>(MONTHS);
+    }
+
+    private final WeatherRules rules;
+    private final GameTitle gameTitle;
+
+    private final Map<GameName, CompiledWeather> compiled = new EnumMap<>(GameName.class);
+
+    /**
+     * Constructor called by guice.
+     *
+     * @param rules The weather rules.
+     * @param gameTitle The game title.
+     */
+    @Inject
+    public WeatherModel(final WeatherRules rules,
+                        final GameTitle gameTitle) {
+        this.rules = rules;
+        this.gameTitle = gameTitle;
+    }
+
+    /**
+     * Get the weather transition matrix of the given month.
+     *
+     * @param month The month. A Calendar month constant.
+     * @return A copy of the month's transition matrix indexed by weather type ordinal.
+     */
+    public double[][] getTransitions(final int month) {
+        double[][] matrix = getCompiled().transitions[month];
+        double[][] copy = new double[STATES][];
+
+        for (int i = 0; i < STATES; i++) {
+            copy[i] = matrix[i].clone();
+        }
+
+        return copy;
+    }
+
+    /**
+     * Get the weather forecast for the given number of turns from now. The month is assumed not to change over
+     * the forecast horizon.
+     *
+     * @param month The month. A Calendar month constant.
+     * @param current The current weather.
+     * @param horizon The number of turns from now. Zero is the current weather.
+     * @return The weather forecast.
+     */
+    public WeatherForecast getForecast(final int month, final WeatherType current, final int horizon) {
+        if (horizon < 0) {
+            throw new IllegalArgumentException("Weather forecast horizon must not be negative: " + horizon);
+        }
+
+        CompiledWeather weather = getCompiled();
+        List<WeatherForecast[]> monthForecasts = weather.forecasts.get(month);
+
+        if (horizon >= monthForecasts.size()) {
+            extend(weather, month, horizon);
+        }
+
+        return monthForecasts.get(horizon)[current.ordinal()];
+    }
+
+    /**
+     * Get the compiled weather of the current game. The weather is compiled on first use.
+     *
+     * @return The compiled weather.
+     */
+    private CompiledWeather getCompiled() {
+        return compiled.computeIfAbsent(gameTitle.getName(), name -> compile());
+    }
+
+    /**
+     * Compile the weather rules of the current game into transition matrices.
+     *
+     * @return The compiled weather.
+     */
+    private CompiledWeather compile() {
+        CompiledWeather weather = new CompiledWeather();
+
+        for (int month = 0; month < MONTHS; month++) {
+            double[][] matrix = buildTransitions(month);
+            weather.transitions[month] = matrix;
+
+            List<double[][]> monthPowers = new ArrayList<>();
+            monthPowers.add(identity());
+            weather.powers.add(monthPowers);
+
+            List<WeatherForecast[]> monthForecasts = new ArrayList<>();
+            monthForecasts.add(toForecasts(monthPowers.get(0)));
+            weather.forecasts.add(monthForecasts);
+        }
+
+        return weather;
+    }
+
+    /**
+     * Build a month's transition matrix. Each first die result is paired with each second die result, so that every
+     * outcome of the rules is weighted by its exact probability.
+     *
+     * @param month The month.
+     * @return The month's transition matrix.
+     */
+    private double[][] buildTransitions(final int month) {
+        double[][] matrix = new double[STATES][STATES];
+        double weight = 1.0 / (DIE_SIDES * DIE_SIDES);
+
+        for (WeatherType current : WEATHER_TYPES) {
+            for (int result = 1; result <= DIE_SIDES; result++) {
+                for (int second = 1; second <= DIE_SIDES; second++) {
+                    final int secondRoll = second;
+                    WeatherType next = rules.determineWeather(result, current, month, () -> secondRoll);
+                    matrix[current.ordinal()][next.ordinal()] += weight;
+                }
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Extend a month's cached matrix powers and forecasts up to the given horizon.
+     *
+     * @param weather The compiled weather.
+     * @param month The month.
+     * @param horizon The forecast horizon.
+     */
+    private void extend(final CompiledWeather weather, final int month, final int horizon) {
+        List<double[][]> monthPowers = weather.powers.get(month);
+        List<WeatherForecast[]> monthForecasts = weather.forecasts.get(month);
+        double[][] transitions = weather.transitions[month];
+
+        while (monthPowers.size() <= horizon) {
+            double[][] next = multiply(monthPowers.get(monthPowers.size() - 1), transitions);
+            monthPowers.add(next);
+            monthForecasts.add(toForecasts(next));
+        }
+    }
+
+    /**
+     * Build the forecast of each current weather from a matrix power.
+     *
+     * @param power The transition matrix raised to the forecast horizon.
+     * @return The forecasts indexed by the current weather's ordinal.
+     */
+    private WeatherForecast[] toForecasts(final double[][] power) {
+        WeatherForecast[] rowForecasts = new WeatherForecast[STATES];
+
+        for (int i = 0; i < STATES; i++) {
+            rowForecasts[i] = new WeatherForecast(power[i]);
+        }
+
+        return rowForecasts;
+    }
+
+    private double[][] identity() {
+        double[][] matrix = new double[STATES][STATES];
+
+        for (int i = 0; i < STATES; i++) {
+            matrix[i][i] = 1.0;
+        }
+
+        return matrix;
+    }
+
+    private double[][] multiply(final double[][] left, final double[][] right) {
+        double[][] product = new double[STATES][STATES];
+
+        for (int i = 0; i < STATES; i++) {
+            for (int k = 0; k < STATES; k++) {
+                double value = left[i][k];
+
+                if (value != 0.0) {
+                    for (int j = 0; j < STATES; j++) {
+                        product[i][j] += value * right[k][j];
+                    }
+                }
+            }
+        }
+
+        return product;
+    }
+}
@@ -3,16 +3,47 @@ package engima.waratsea.utility;
 import com.google.inject.Singleton;
 import org.apache.commons.math3.distribution.BinomialDistribution;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.function.IntConsumer;
 
 /**
  * Represents a dice in the game.
+ *
+ * The dice use a splittable random generator. It is considerably faster than java.util.Random as it
+ * does not synchronize on each roll. Note, this means the dice must only be rolled from the game's
+ * thread. The bulk roll methods should be used when a large number of dice are rolled at once, such as
+ * anti-aircraft fire. They avoid a method call and a stream per die.
+ *
+ * The dice may be seeded so that a sequence of rolls can be reproduced. An optional recorder receives
+ * the result of every roll. This is used by the game journal.
  */
 @Singleton
 public class Dice {
     private static final int PERCENTAGE = 100;
     private static final int DICE_SIX_SIDED = 6;
-    private static final Random DICE = new Random();
+
+    private static final IntConsumer NO_RECORDER = result -> { };
+
+    private SplittableRandom generator = new SplittableRandom();
+    private IntConsumer recorder = NO_RECORDER;
+
+    /**
+     * Seed the dice. The same seed always produces the same sequence of rolls.
+     *
+     * @param seed The seed.
+     */
+    public void setSeed(final long seed) {
+        generator = new SplittableRandom(seed);
+    }
+
+    /**
+     * Set the recorder that receives the result of every roll.
+     *
+     * @param rollRecorder The recorder. Null removes the current recorder.
+     */
+    public void setRecorder(final IntConsumer rollRecorder) {
+        recorder = rollRecorder == null ? NO_RECORDER : rollRecorder;
+    }
 
     /**
      * Roll a six sided dice.
@@ -20,7 +51,7 @@ public class Dice {
      * @return  A value between 1 and 6.
      */
     public int roll() {
-        return DICE.nextInt(DICE_SIX_SIDED) + 1;
+        return record(generator.nextInt(DICE_SIX_SIDED) + 1);
     }
 
     /**
@@ -30,9 +61,60 @@ public class Dice {
      * @return                  The sum of all the dice rolls.
      */
     public int sumDiceRoll(final int numberDiceToRoll) {
-        return DICE
-                .ints(numberDiceToRoll, 1, DICE_SIX_SIDED + 1)
-                .sum();
+        int sum = 0;
+
+        for (int i = 0; i < numberDiceToRoll; i++) {
+            sum += generator.nextInt(DICE_SIX_SIDED) + 1;
+        }
+
+        return record(sum);
+    }
+
+    /**
+     * Roll the given number of 6 sided dice and store each result in the given array.
+     *
+     * @param results The array that receives the dice results. It must hold at least the number of dice rolled.
+     * @param numberDiceToRoll The number of 6 sided dice to roll.
+     * @return The given results array.
+     */
+    public int[] roll(final int[] results, final int numberDiceToRoll) {
+        return roll(results, numberDiceToRoll, DICE_SIX_SIDED);
+    }
+
+    /**
+     * Roll the given number of dice of the given number of sides and store each result in the given array.
+     *
+     * @param results The array that receives the dice results. It must hold at least the number of dice rolled.
+     * @param numberDiceToRoll The number of dice to roll.
+     * @param sides The number of sides of each dice.
+     * @return The given results array. Each result is between 1 and sides.
+     */
+    public int[] roll(final int[] results, final int numberDiceToRoll, final int sides) {
+        for (int i = 0; i < numberDiceToRoll; i++) {
+            results[i] = record(generator.nextInt(sides) + 1);
+        }
+
+        return results;
+    }
+
+    /**
+     * Roll the given number of 6 sided dice and count the number of dice that roll the given
+     * threshold or higher. The individual dice results are not kept.
+     *
+     * @param numberDiceToRoll The number of 6 sided dice to roll.
+     * @param threshold The minimum roll that is counted.
+     * @return The number of dice that rolled the threshold or higher.
+     */
+    public int countRollsAtLeast(final int numberDiceToRoll, final int threshold) {
+        int count = 0;
+
+        for (int i = 0; i < numberDiceToRoll; i++) {
+            if (generator.nextInt(DICE_SIX_SIDED) + 1 >= threshold) {
+                count++;
+            }
+        }
+
+        return record(count);
     }
 
     /**
@@ -42,7 +124,7 @@ public class Dice {
      * @return A value between 1 and sides.
      */
     public int roll(final int sides) {
-        return DICE.nextInt(sides) + 1;
+        return record(generator.nextInt(sides) + 1);
     }
 
     /**
@@ -133,4 +215,15 @@ public class Dice {
 
         return (int) (probability * PERCENTAGE);
     }
+
+    /**
+     * Pass the result of a roll to the recorder.
+     *
+     * @param result The result of a roll.
+     * @return The given result.
+     */
+    private int record(final int result) {
+        recorder.accept(result);
+        return result;
+    }
 }
@@ -0,0 +1,92 @@
+package engima.waratsea.utility.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the hits and misses of a cache. Nothing is counted when metrics are disabled.
+ */
+public class CacheMetric implements CacheMetricMBean {
+    @Getter private final String name;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param name The cache's name.
+     */
+    public CacheMetric(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record a cache hit.
+     */
+    public void hit() {
+        if (Metrics.isEnabled()) {
+            hits.increment();
+        }
+    }
+
+    /**
+     * Record a cache miss.
+     */
+    public void miss() {
+        if (Metrics.isEnabled()) {
+            misses.increment();
+        }
+    }
+
+    /**
+     * Get the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of cache misses.
+     *
+     * @return The number of cache misses.
+     */
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Get the ratio of cache hits to cache lookups.
+     *
+     * @return The cache hit ratio between 0 and 1.
+     */
+    @Override
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long lookups = hitCount + misses.sum();
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+
+    /**
+     * Clear the cache hits and misses.
+     */
+    @Override
+    public void reset() {
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Get a one line summary of this cache metric.
+     *
+     * @return A summary of this cache metric.
+     */
+    public String summary() {
+        return String.format("%-28s hits=%-7d misses=%-7d ratio=%.2f", name, getHits(), getMisses(), getHitRatio());
+    }
+}
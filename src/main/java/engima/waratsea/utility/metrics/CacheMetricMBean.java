@@ -0,0 +1,32 @@
+package engima.waratsea.utility.metrics;
+
+/**
+ * The JMX management interface of a cache metric.
+ */
+public interface CacheMetricMBean {
+    /**
+     * Get the number of cache hits.
+     *
+     * @return The number of cache hits.
+     */
+    long getHits();
+
+    /**
+     * Get the number of cache misses.
+     *
+     * @return The number of cache misses.
+     */
+    long getMisses();
+
+    /**
+     * Get the ratio of cache hits to cache lookups.
+     *
+     * @return The cache hit ratio between 0 and 1.
+     */
+    double getHitRatio();
+
+    /**
+     * Clear the cache hits and misses.
+     */
+    void reset();
+}
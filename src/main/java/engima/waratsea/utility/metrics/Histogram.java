@@ -0,0 +1,194 @@
+package engima.waratsea.utility.metrics;
+
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock free histogram of elapsed times.
+ *
+ * Samples are placed in power of two buckets of nanoseconds. Thus, the percentiles are approximate:
+ * they are reported as the upper bound of the bucket that contains the percentile. Recording a sample
+ * never allocates and never blocks.
+ */
+public class Histogram implements HistogramMBean {
+    private static final int NUM_BUCKETS = Long.SIZE + 1;
+    private static final double MEDIAN = 0.5;
+    private static final double NINETY_NINE = 0.99;
+
+    @Getter private final String name;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(NUM_BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Long::max, 0);
+
+    /**
+     * Constructor.
+     *
+     * @param name The histogram's name.
+     */
+    public Histogram(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Record the time elapsed since the given start time. Nothing is recorded if metrics were
+     * disabled when the start time was taken.
+     *
+     * @param start The start time returned by {@link Metrics#start()}.
+     */
+    public void stop(final long start) {
+        if (start != Metrics.NOT_STARTED) {
+            record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record an elapsed time.
+     *
+     * @param nanos The elapsed time in nanoseconds.
+     */
+    public void record(final long nanos) {
+        long value = Math.max(0, nanos);
+        buckets.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(value));
+        count.increment();
+        total.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Get the number of recorded samples.
+     *
+     * @return The number of recorded samples.
+     */
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Get the total of all the recorded samples.
+     *
+     * @return The total time of all the recorded samples in microseconds.
+     */
+    @Override
+    public long getTotalMicros() {
+        return toMicros(total.sum());
+    }
+
+    /**
+     * Get the mean of the recorded samples.
+     *
+     * @return The mean time of the recorded samples in microseconds.
+     */
+    @Override
+    public double getMeanMicros() {
+        long samples = count.sum();
+        return samples == 0 ? 0 : (double) getTotalMicros() / samples;
+    }
+
+    /**
+     * Get the largest recorded sample.
+     *
+     * @return The largest recorded sample in microseconds.
+     */
+    @Override
+    public long getMaxMicros() {
+        return toMicros(max.get());
+    }
+
+    /**
+     * Get the approximate median of the recorded samples.
+     *
+     * @return The approximate median in microseconds.
+     */
+    @Override
+    public long getP50Micros() {
+        return toMicros(percentile(MEDIAN));
+    }
+
+    /**
+     * Get the approximate 99th percentile of the recorded samples.
+     *
+     * @return The approximate 99th percentile in microseconds.
+     */
+    @Override
+    public long getP99Micros() {
+        return toMicros(percentile(NINETY_NINE));
+    }
+
+    /**
+     * Clear all the recorded samples.
+     */
+    @Override
+    public void reset() {
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+
+        count.reset();
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * Get a one line summary of this histogram.
+     *
+     * @return A summary of this histogram.
+     */
+    public String summary() {
+        return String.format("%-28s n=%-7d mean=%.1fus p50=%dus p99=%dus max=%dus",
+                name, getCount(), getMeanMicros(), getP50Micros(), getP99Micros(), getMaxMicros());
+    }
+
+    /**
+     * Determine the approximate value of the given percentile.
+     *
+     * @param fraction The percentile as a fraction between 0 and 1.
+     * @return The upper bound in nanoseconds of the bucket that contains the percentile.
+     */
+    private long percentile(final double fraction) {
+        long samples = count.sum();
+
+        if (samples == 0) {
+            return 0;
+        }
+
+        long rank = (long) Math.ceil(samples * fraction);
+        long seen = 0;
+
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            seen += buckets.get(i);
+
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    /**
+     * Get the largest value that is placed in the given bucket.
+     *
+     * @param bucket The bucket index.
+     * @return The largest value of the bucket.
+     */
+    private long upperBound(final int bucket) {
+        return bucket >= Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+
+    /**
+     * Convert nanoseconds to microseconds.
+     *
+     * @param nanos A time in nanoseconds.
+     * @return The time in microseconds.
+     */
+    private long toMicros(final long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,53 @@
+package engima.waratsea.utility.metrics;
+
+/**
+ * The JMX management interface of a metrics histogram. All times are in microseconds.
+ */
+public interface HistogramMBean {
+    /**
+     * Get the number of recorded samples.
+     *
+     * @return The number of recorded samples.
+     */
+    long getCount();
+
+    /**
+     * Get the total of all the recorded samples.
+     *
+     * @return The total time of all the recorded samples in microseconds.
+     */
+    long getTotalMicros();
+
+    /**
+     * Get the mean of the recorded samples.
+     *
+     * @return The mean time of the recorded samples in microseconds.
+     */
+    double getMeanMicros();
+
+    /**
+     * Get the largest recorded sample.
+     *
+     * @return The largest recorded sample in microseconds.
+     */
+    long getMaxMicros();
+
+    /**
+     * Get the approximate median of the recorded samples.
+     *
+     * @return The approximate median in microseconds.
+     */
+    long getP50Micros();
+
+    /**
+     * Get the approximate 99th percentile of the recorded samples.
+     *
+     * @return The approximate 99th percentile in microseconds.
+     */
+    long getP99Micros();
+
+    /**
+     * Clear all the recorded samples.
+     */
+    void reset();
+}
@@ -0,0 +1,154 @@
+package engima.waratsea.utility.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The game's performance metrics. Metrics are recorded in named histograms and cache metrics which are
+ * also published as JMX MBeans under the domain engima.waratsea.
+ *
+ * Metrics are disabled by default. They are enabled by starting the game with the system property
+ * waratsea.metrics=true or at runtime through the MetricsControl MBean. When metrics are disabled,
+ * timing a piece of code costs a volatile read and nothing is allocated.
+ *
+ * Callers should look up their histograms and cache metrics once and keep them.
+ *
+ * <pre>
+ *     long start = Metrics.start();
+ *     ... timed code ...
+ *     histogram.stop(start);
+ * </pre>
+ */
+@Slf4j
+public final class Metrics {
+    public static final long NOT_STARTED = 0;
+
+    private static final String DOMAIN = "engima.waratsea";
+    private static final String PROPERTY = "waratsea.metrics";
+
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<String, CacheMetric> CACHES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled = Boolean.getBoolean(PROPERTY);
+
+    static {
+        register("Control", "metrics", new MetricsControl());
+    }
+
+    /**
+     * Private constructor for utility class.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Determine if metrics are recorded.
+     *
+     * @return True if metrics are recorded. False otherwise.
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Switch the recording of metrics on or off.
+     *
+     * @param on True to record metrics. False to stop recording metrics.
+     */
+    public static void setEnabled(final boolean on) {
+        enabled = on;
+    }
+
+    /**
+     * Get the start time of a timed piece of code.
+     *
+     * @return The current time in nanoseconds if metrics are enabled. Otherwise, NOT_STARTED.
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : NOT_STARTED;
+    }
+
+    /**
+     * Get the histogram with the given name. The histogram is created if it does not exist.
+     *
+     * @param name The histogram's name.
+     * @return The histogram.
+     */
+    public static Histogram histogram(final String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> register("Histogram", key, new Histogram(key)));
+    }
+
+    /**
+     * Get the cache metric with the given name. The cache metric is created if it does not exist.
+     *
+     * @param name The cache's name.
+     * @return The cache metric.
+     */
+    public static CacheMetric cache(final String name) {
+        return CACHES.computeIfAbsent(name, key -> register("Cache", key, new CacheMetric(key)));
+    }
+
+    /**
+     * Clear all the recorded metrics.
+     */
+    public static void reset() {
+        HISTOGRAMS.values().forEach(Histogram::reset);
+        CACHES.values().forEach(CacheMetric::reset);
+    }
+
+    /**
+     * Get a report of all the recorded metrics. Metrics that have not recorded anything are not reported.
+     *
+     * @return A report of the recorded metrics. One metric per line.
+     */
+    public static String report() {
+        Stream<String> histograms = HISTOGRAMS
+                .values()
+                .stream()
+                .filter(histogram -> histogram.getCount() > 0)
+                .map(Histogram::summary);
+
+        Stream<String> caches = CACHES
+                .values()
+                .stream()
+                .filter(cache -> cache.getHits() + cache.getMisses() > 0)
+                .map(CacheMetric::summary);
+
+        return Stream.concat(histograms, caches)
+                .sorted()
+                .collect(Collectors.joining(System.lineSeparator()));
+    }
+
+    /**
+     * Register a metric with the platform MBean server. A failure to register is logged and otherwise
+     * ignored as the metric is still recorded and reported.
+     *
+     * @param type The type of metric.
+     * @param name The metric's name.
+     * @param metric The metric.
+     * @param <T> The type of metric.
+     * @return The given metric.
+     */
+    private static <T> T register(final String type, final String name, final T metric) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(DOMAIN + ":type=" + type + ",name=" + ObjectName.quote(name));
+
+            if (!server.isRegistered(objectName)) {
+                server.registerMBean(metric, objectName);
+            }
+        } catch (JMException | SecurityException ex) {
+            log.warn("Unable to register metric '{}' with JMX", name, ex);
+        }
+
+        return metric;
+    }
+}
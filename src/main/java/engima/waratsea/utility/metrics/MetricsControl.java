@@ -0,0 +1,44 @@
+package engima.waratsea.utility.metrics;
+
+/**
+ * Allows the game's metrics to be switched on and off through JMX.
+ */
+public class MetricsControl implements MetricsControlMBean {
+    /**
+     * Determine if metrics are recorded.
+     *
+     * @return True if metrics are recorded. False otherwise.
+     */
+    @Override
+    public boolean isEnabled() {
+        return Metrics.isEnabled();
+    }
+
+    /**
+     * Switch the recording of metrics on or off.
+     *
+     * @param enabled True to record metrics. False to stop recording metrics.
+     */
+    @Override
+    public void setEnabled(final boolean enabled) {
+        Metrics.setEnabled(enabled);
+    }
+
+    /**
+     * Clear all the recorded metrics.
+     */
+    @Override
+    public void reset() {
+        Metrics.reset();
+    }
+
+    /**
+     * Get a report of all the recorded metrics.
+     *
+     * @return A report of the recorded metrics. One metric per line.
+     */
+    @Override
+    public String getReport() {
+        return Metrics.report();
+    }
+}
@@ -0,0 +1,32 @@
+package engima.waratsea.utility.metrics;
+
+/**
+ * The JMX management interface used to switch the game's metrics on and off.
+ */
+public interface MetricsControlMBean {
+    /**
+     * Determine if metrics are recorded.
+     *
+     * @return True if metrics are recorded. False otherwise.
+     */
+    boolean isEnabled();
+
+    /**
+     * Switch the recording of metrics on or off.
+     *
+     * @param enabled True to record metrics. False to stop recording metrics.
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Clear all the recorded metrics.
+     */
+    void reset();
+
+    /**
+     * Get a report of all the recorded metrics.
+     *
+     * @return A report of the recorded metrics. One metric per line.
+     */
+    String getReport();
+}
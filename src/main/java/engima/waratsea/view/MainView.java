@@ -4,9 +4,11 @@ import com.google.inject.Inject;
 import com.google.inject.Singleton;
 import engima.waratsea.model.game.Game;
 import engima.waratsea.utility.CssResourceProvider;
+import engima.waratsea.utility.metrics.Metrics;
 import engima.waratsea.view.asset.AssetSummaryView;
 import engima.waratsea.view.map.MainMapView;
 import engima.waratsea.view.map.SelectedGridView;
+import engima.waratsea.view.metrics.MetricsView;
 import engima.waratsea.view.turn.TurnView;
 import engima.waratsea.view.weather.WeatherView;
 import javafx.geometry.Rectangle2D;
@@ -39,6 +41,7 @@ public class MainView {
     private final TurnView turnView;
     private final SelectedGridView selectedGridView;
     private final AssetSummaryView assetSummaryView;
+    private final MetricsView metricsView;
 
     /**
      * Constructor called by guice.
@@ -51,6 +54,7 @@ public class MainView {
      * @param turnView The turn view.
      * @param selectedGridView The selected map grid's details.
      * @param assetSummaryView The asset summary view.
+     * @param metricsView The performance metrics debug view.
      */
     //CHECKSTYLE:OFF
     @Inject
@@ -62,7 +66,8 @@ public class MainView {
                     final WeatherView weatherView,
                     final TurnView turnView,
                     final SelectedGridView selectedGridView,
-                    final AssetSummaryView assetSummaryView) {
+                    final AssetSummaryView assetSummaryView,
+                    final MetricsView metricsView) {
         //CHECKSTYLE:ON
         this.cssResourceProvider = cssResourceProvider;
         this.props = props;
@@ -73,6 +78,7 @@ public class MainView {
         this.turnView = turnView;
         this.selectedGridView = selectedGridView;
         this.assetSummaryView = assetSummaryView;
+        this.metricsView = metricsView;
     }
 
     /**
@@ -104,6 +110,10 @@ public class MainView {
         Node assetSummary = assetSummaryView.build();
 
         VBox leftVbox = new VBox(weather, turn, selectedGrid);
+
+        if (Metrics.isEnabled()) {
+            leftVbox.getChildren().add(metricsView.build());
+        }
         VBox mapVbox = new VBox(map);
 
         ScrollPane sp = new ScrollPane();
@@ -0,0 +1,69 @@
+package engima.waratsea.view.metrics;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.view.ViewProps;
+import engima.waratsea.viewmodel.metrics.MetricsViewModel;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.TitledPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+
+/**
+ * Defines the debug overlay that shows the game's performance metrics. It is only shown when the
+ * game's metrics are enabled.
+ */
+@Singleton
+public class MetricsView {
+    private final ViewProps props;
+    private final MetricsViewModel viewModel;
+
+    /**
+     * The constructor called by guice.
+     *
+     * @param props The view properties.
+     * @param viewModel The metrics view model.
+     */
+    @Inject
+    public MetricsView(final ViewProps props,
+                       final MetricsViewModel viewModel) {
+        this.props = props;
+        this.viewModel = viewModel;
+    }
+
+    /**
+     * Build the metrics overlay.
+     *
+     * @return A node that contains the metrics report.
+     */
+    public Node build() {
+        TitledPane titledPane = new TitledPane();
+        titledPane.setText("Metrics");
+        titledPane.setExpanded(false);
+
+        Label report = new Label();
+        report.textProperty().bind(viewModel.getReport());
+        report.setStyle("-fx-font-family: monospace;");
+
+        Button refresh = new Button("Refresh");
+        refresh.setOnAction(event -> viewModel.refresh());
+
+        Button reset = new Button("Reset");
+        reset.setOnAction(event -> viewModel.reset());
+
+        HBox buttons = new HBox(refresh, reset);
+        buttons.getStyleClass().add("spacing-5");
+
+        VBox vBox = new VBox(report, buttons);
+        vBox.getStyleClass().add("spacing-5");
+        vBox.setMaxWidth(props.getInt("main.left.side.width"));
+
+        titledPane.setContent(vBox);
+
+        viewModel.refresh();
+
+        return titledPane;
+    }
+}
@@ -18,7 +18,11 @@ import engima.waratsea.model.squadron.Squadron;
 import engima.waratsea.model.target.Target;
 import engima.waratsea.model.taskForce.TaskForce;
 import engima.waratsea.presenter.asset.AssetPresenter;
+import engima.waratsea.viewmodel.airfield.stats.MissionSnapshot;
+import engima.waratsea.viewmodel.airfield.stats.MissionStats;
+import engima.waratsea.viewmodel.airfield.stats.MissionStatsPipeline;
 import engima.waratsea.viewmodel.squadrons.SquadronViewModel;
+import engima.waratsea.viewmodel.util.ChangeBatch;
 import javafx.beans.binding.Bindings;
 import javafx.beans.binding.ObjectExpression;
 import javafx.beans.property.BooleanProperty;
@@ -32,7 +36,6 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
@@ -103,6 +106,8 @@ public class AirMissionViewModel {
     private final Game game;
     private final AssetPresenter assetManager;
     private final MissionDAO missionDAO;
+    private final MissionStatsPipeline statsPipeline;
+    private final ChangeBatch changeBatch = new ChangeBatch();
     @Getter private AirMission mission;
 
     @Getter private final IntegerProperty missionId = new SimpleIntegerProperty(0);
@@ -127,6 +132,7 @@ public class AirMissionViewModel {
         this.game = game;
         this.assetManager = assetManager;
         this.missionDAO = missionDAO;
+        this.statsPipeline = new MissionStatsPipeline(game, missionDAO);
 
         missionTypes.setValue(FXCollections.observableArrayList(AirMissionType.values()));
 
@@ -239,16 +245,16 @@ public class AirMissionViewModel {
 
         checkCapacity = false; // This is an existing mission, so no need to check target capacity.
 
-        MissionRole
-                .stream()
-                .forEach(role -> assigned
-                            .get(role)
-                            .getValue()
+        changeBatch.apply(() -> {
+            MissionRole
+                    .stream()
+                    .forEach(role -> changeBatch
+                            .edit(assigned.get(role))
                             .addAll(getSquadronViewModels(mission.getSquadrons().get(role))));
 
-        totalAssigned.setValue(FXCollections.observableArrayList(getSquadronViewModels(mission.getSquadrons().getAll())));
-
-        isAffectedByWeather.setValue(mission.isAffectedByWeather());
+            changeBatch.set(totalAssigned, FXCollections.observableArrayList(getSquadronViewModels(mission.getSquadrons().getAll())));
+            changeBatch.set(isAffectedByWeather, mission.isAffectedByWeather());
+        });
 
         return this;
     }
@@ -306,25 +312,19 @@ public class AirMissionViewModel {
 
             log.debug("Add squadron: '{}' with role: '{}' to mission id: '{}'", new Object[]{squadron.getTitle(), role.toString(), id});
 
-            assigned.get(role).get().add(squadron);
-            squadron.setOnMission();
-
-            String assignedNames = assigned
-                    .get(role)
-                    .get()
-                    .stream()
-                    .map(SquadronViewModel::getTitleAsString)
-                    .collect(Collectors.joining(","));
-
-            log.debug("Assigned squadrons: '{}'", assignedNames);
+            changeBatch.apply(() -> {
+                List<SquadronViewModel> roleSquadrons = changeBatch.edit(assigned.get(role));
+                roleSquadrons.add(squadron);
+                squadron.setOnMission();
 
-            totalAssigned.add(squadron);
+                log.debug("Assigned squadrons: '{}'", getTitles(roleSquadrons));
 
-            ready.setValue(FXCollections.observableArrayList(remove(ready.getValue(), squadron)));
+                changeBatch.edit(totalAssigned).add(squadron);
+                changeBatch.edit(ready).remove(squadron);
+                changeBatch.set(changed, true);
+            });
 
             updateMissionStats();
-
-            changed.setValue(true);
         }
     }
 
@@ -337,25 +337,32 @@ public class AirMissionViewModel {
     public void removeFromMission(final SquadronViewModel squadron, final MissionRole role) {
         log.debug("remove squadron: '{}' with role: '{}' to mission id: '{}'", new Object[]{squadron.getTitle(), role.toString(), id});
 
-        assigned.get(role).get().remove(squadron);
-        squadron.setOffMission();
+        changeBatch.apply(() -> {
+            List<SquadronViewModel> roleSquadrons = changeBatch.edit(assigned.get(role));
+            roleSquadrons.remove(squadron);
+            squadron.setOffMission();
 
-        String assignedNames = assigned
-                .get(role)
-                .get()
-                .stream()
-                .map(SquadronViewModel::getTitleAsString)
-                .collect(Collectors.joining(","));
-
-        log.debug("Assigned squadrons: '{}'", assignedNames);
-
-        totalAssigned.remove(squadron);
+            log.debug("Assigned squadrons: '{}'", getTitles(roleSquadrons));
 
-        ready.setValue(FXCollections.observableArrayList(add(ready.getValue(), squadron)));
+            changeBatch.edit(totalAssigned).remove(squadron);
+            changeBatch.edit(ready).add(squadron);
+            changeBatch.set(changed, true);
+        });
 
         updateMissionStats();
+    }
 
-        changed.setValue(true);
+    /**
+     * Get the titles of the given squadrons.
+     *
+     * @param squadrons The squadrons.
+     * @return A comma separated list of the squadron titles.
+     */
+    private String getTitles(final List<SquadronViewModel> squadrons) {
+        return squadrons
+                .stream()
+                .map(SquadronViewModel::getTitleAsString)
+                .collect(Collectors.joining(","));
     }
 
     /**
@@ -364,23 +371,12 @@ public class AirMissionViewModel {
     public void clearMission() {
         log.debug("Clear assigned squadrons for id: '{}'", id);
 
-        MissionRole.stream().forEach(role -> {
-            assigned.get(role).get().clear();
-
-            String assignedNames = assigned
-                    .get(role)
-                    .get()
-                    .stream()
-                    .map(SquadronViewModel::getTitleAsString)
-                    .collect(Collectors.joining(","));
-
-            log.debug("Assigned squadrons: '{}' for role: '{}'", assignedNames, role);
+        changeBatch.apply(() -> {
+            MissionRole.stream().forEach(role -> changeBatch.edit(assigned.get(role)).clear());
 
+            changeBatch.set(totalAssigned, FXCollections.observableList(new ArrayList<>()));
+            changeBatch.set(ready, FXCollections.observableList(new ArrayList<>(nationAirbaseViewModel.getTotalReadySquadrons().getValue())));
         });
-
-        totalAssigned.setValue(FXCollections.observableList(new ArrayList<>()));
-
-        ready.set(FXCollections.observableList(new ArrayList<>(nationAirbaseViewModel.getTotalReadySquadrons().getValue())));
     }
 
     /**
@@ -782,33 +778,76 @@ public class AirMissionViewModel {
      * @return An air mission.
      */
     private AirMission buildMission(final int airMissionId) {
-        String targetName = Optional
-                .ofNullable(target.getValue())
-                .map(Target::getName)
-                .orElse("");
+        return missionDAO.load(buildMissionData(airMissionId));
+    }
 
+    /**
+     * Build the mission data from the current state of this view model. The squadron lists are
+     * copied so that the returned data is a snapshot that does not change with further edits.
+     *
+     * @param airMissionId The air mission id.
+     * @return The mission data.
+     */
+    private MissionData buildMissionData(final int airMissionId) {
         MissionData data = new MissionData();
         data.setId(airMissionId);
         data.setAirbase(airbase);
         data.setNation(nation);
         data.setType(missionType.getValue());
-        data.setTarget(targetName);
+        data.setTarget(getTargetName());
         data.setState(state.getValue());
+        data.setSquadronMap(getAssignedSquadronNames());
+
+        return data;
+    }
 
-        Map<MissionRole, List<String>> squadronNames = assigned
+    /**
+     * Build an immutable snapshot of this mission's inputs from the current state of this view model.
+     * The snapshot names the airbase instead of referencing it, so it may be handed to another thread.
+     *
+     * @return The mission snapshot.
+     */
+    private MissionSnapshot buildMissionSnapshot() {
+        return MissionSnapshot
+                .builder()
+                .side(airbase.getSide())
+                .airbaseName(airbase.getName())
+                .nation(nation)
+                .type(missionType.getValue())
+                .state(state.getValue())
+                .target(getTargetName())
+                .squadronMap(getAssignedSquadronNames())
+                .build();
+    }
+
+    /**
+     * Get the name of this mission's target.
+     *
+     * @return The target's name or an empty string if no target is selected.
+     */
+    private String getTargetName() {
+        return Optional
+                .ofNullable(target.getValue())
+                .map(Target::getName)
+                .orElse("");
+    }
+
+    /**
+     * Get an unmodifiable copy of the names of the squadrons assigned to this mission.
+     *
+     * @return The assigned squadron names by mission role.
+     */
+    private Map<MissionRole, List<String>> getAssignedSquadronNames() {
+        return assigned
                 .entrySet()
                 .stream()
-                .collect(Collectors.toMap(Map.Entry::getKey,
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey,
                         entry -> entry
                                 .getValue()
                                 .getValue()
                                 .stream()
                                 .map(SquadronViewModel::getNameAsString)
-                                .collect(Collectors.toList())));
-
-        data.setSquadronMap(squadronNames);
-
-        return missionDAO.load(data);
+                                .collect(Collectors.toUnmodifiableList())));
     }
 
     /**
@@ -836,18 +875,23 @@ public class AirMissionViewModel {
     }
 
     /**
-     * Update the mission stats.
+     * Update the mission stats. The stats are computed from a snapshot of this mission once the edits
+     * pause. A burst of edits results in a single computation and only the latest stats are shown.
      */
     private void updateMissionStats() {
-        log.debug("Build temp mission with id 0");
+        log.debug("Submit temp mission with id 0");
 
-        AirMission tempMission = buildMission(0);
-        isAffectedByWeather.setValue(tempMission.isAffectedByWeather());
-
-        log.debug("Mission object: '{}'", tempMission);
+        statsPipeline.submit(buildMissionSnapshot(), this::setMissionStats);
+    }
 
-        List<ProbabilityStats> stats = tempMission.getMissionProbability();
-        missionStats.set(FXCollections.observableArrayList(stats));
+    /**
+     * Set the mission stats. This is called on the JavaFX application thread.
+     *
+     * @param stats The mission stats.
+     */
+    private void setMissionStats(final MissionStats stats) {
+        isAffectedByWeather.setValue(stats.isAffectedByWeather());
+        missionStats.set(FXCollections.observableArrayList(stats.getProbability()));
     }
 
     /**
@@ -924,32 +968,6 @@ public class AirMissionViewModel {
         warning.set(false);
     }
 
-    /**
-     * Utility function for adding to an observable list.
-     *
-     * @param list the list
-     * @param t an element added to the list.
-     * @param <T> The type of elements in the list.
-     * @return The list.
-     */
-    private <T> ObservableList<T> add(final ObservableList<T> list, final T t) {
-        list.add(t);
-        return list;
-    }
-
-    /**
-     * Utility function for removing from an observable list.
-     *
-     * @param list the list
-     * @param t an element added to the list.
-     * @param <T> The type of elements in the list.
-     * @return The list.
-     */
-    private <T> ObservableList<T> remove(final ObservableList<T> list, final T t) {
-        list.remove(t);
-        return list;
-    }
-
     /**
      * Filter the target's region. Only return true for other mission targets that match this mission's target.
      * The target's region cannot be the same region of the originating airfield. The mission must be to a different
@@ -16,6 +16,7 @@ import engima.waratsea.utility.ResourceProvider;
 import engima.waratsea.view.ViewProps;
 import engima.waratsea.view.squadron.SquadronViewType;
 import engima.waratsea.viewmodel.squadrons.SquadronViewModel;
+import engima.waratsea.viewmodel.util.ChangeBatch;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -28,6 +29,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.property.SimpleStringProperty;
 import javafx.beans.property.StringProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.scene.image.Image;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
@@ -78,6 +80,11 @@ public class NationAirbaseViewModel {
 
     @Getter private AirbaseViewModel airbaseViewModel;                                                    // Parent airbase view model.
 
+    @Getter private final ChangeBatch changeBatch = new ChangeBatch();                                    // Batches the squadron list updates.
+    private final Map<Integer, AirMissionViewModel> missionIndex = new HashMap<>();                       // Mission view models indexed by mission id.
+    private final ListChangeListener<AirMissionViewModel> missionIndexer = this::updateMissionIndex;      // Keeps the mission index current.
+    private ListProperty<AirMissionViewModel> indexedMissions;                                            // The mission view models that are indexed.
+
     @Getter private Nation nation;
 
     /**
@@ -133,6 +140,7 @@ public class NationAirbaseViewModel {
     public void setMissionViewModels(final Map<Nation, ListProperty<AirMissionViewModel>> airbaseMissions) {
         // We have to wait until here to bind the mission counts, since the mission view models are only now known.
         bindMissionCounts(airbaseMissions.get(nation));
+        indexMissions(airbaseMissions.get(nation));
     }
 
     /**
@@ -267,8 +275,10 @@ public class NationAirbaseViewModel {
      * @param viewModel The mission view model.
      */
     public void addMission(final AirMissionViewModel viewModel) {
-        airbaseViewModel.addMission(nation, viewModel);
-        removeFromReady(viewModel);            // Remove the mission squadrons from the ready list.
+        changeBatch.apply(() -> {
+            airbaseViewModel.addMission(nation, viewModel);
+            removeFromReady(viewModel);            // Remove the mission squadrons from the ready list.
+        });
     }
 
     /**
@@ -280,21 +290,18 @@ public class NationAirbaseViewModel {
      */
     public void editMission(final AirMissionViewModel viewModel) {
         // The unique mission id is used to find the mission view model.
-        Optional<AirMissionViewModel> oldViewModel = airbaseViewModel
-                .getMissionViewModels()
-                .get(nation)
-                .stream()
-                .filter(vm -> vm.getId() == viewModel.getId())
-                .findFirst();
+        Optional<AirMissionViewModel> oldViewModel = Optional.ofNullable(missionIndex.get(viewModel.getId()));
 
-        // The 'old' non updated mission view model is removed.
-        oldViewModel.ifPresent(oldMissionVM -> airbaseViewModel.removeMission(nation, oldMissionVM));
+        changeBatch.apply(() -> {
+            // The 'old' non updated mission view model is removed.
+            oldViewModel.ifPresent(oldMissionVM -> airbaseViewModel.removeMission(nation, oldMissionVM));
 
-        // The 'updated' mission view model is then added back in.
-        airbaseViewModel.addMission(nation, viewModel);
+            // The 'updated' mission view model is then added back in.
+            airbaseViewModel.addMission(nation, viewModel);
 
-        removeFromReady(viewModel);       // Remove the mission squadrons from the ready list.
-        editReady(viewModel);             // Add any squadrons removed from the mission to the ready list.
+            removeFromReady(viewModel);       // Remove the mission squadrons from the ready list.
+            editReady(viewModel);             // Add any squadrons removed from the mission to the ready list.
+        });
     }
 
     /**
@@ -303,8 +310,10 @@ public class NationAirbaseViewModel {
      * @param viewModel The mission view model.
      */
     public void removeMission(final AirMissionViewModel viewModel) {
-        airbaseViewModel.removeMission(nation, viewModel);
-        addToReady(viewModel);
+        changeBatch.apply(() -> {
+            airbaseViewModel.removeMission(nation, viewModel);
+            addToReady(viewModel);
+        });
     }
 
     /**
@@ -314,8 +323,10 @@ public class NationAirbaseViewModel {
      * @param squadron The squadron added to the patrol.
      */
     public void addToPatrol(final PatrolType type, final SquadronViewModel squadron) {
-        airbaseViewModel.addToPatrol(type, squadron);
-        removeFromReady(squadron);
+        changeBatch.apply(() -> {
+            airbaseViewModel.addToPatrol(type, squadron);
+            removeFromReady(squadron);
+        });
     }
 
     /**
@@ -325,8 +336,10 @@ public class NationAirbaseViewModel {
      * @param squadron The squadron removed from the patrol.
      */
     public void removeFromPatrol(final PatrolType type, final SquadronViewModel squadron) {
-        airbaseViewModel.removeFromPatrol(type, squadron);
-        addToReady(squadron);
+        changeBatch.apply(() -> {
+            airbaseViewModel.removeFromPatrol(type, squadron);
+            addToReady(squadron);
+        });
     }
 
 
@@ -431,6 +444,40 @@ public class NationAirbaseViewModel {
         missionCounts.get(type.toString()).bind(Bindings.createIntegerBinding(bindingFunction, missionViewModels));
     }
 
+    /**
+     * Index the mission view models by mission id. The index is kept up to date as missions are
+     * added to and removed from the mission view model list. Only one mission view model list is
+     * indexed at a time, so any previously indexed list is no longer listened to.
+     *
+     * @param missionViewModels The mission view models for this nation.
+     */
+    private void indexMissions(final ListProperty<AirMissionViewModel> missionViewModels) {
+        if (indexedMissions != null) {
+            indexedMissions.removeListener(missionIndexer);
+        }
+
+        indexedMissions = missionViewModels;
+        missionIndex.clear();
+
+        Optional
+                .ofNullable(missionViewModels.getValue())
+                .ifPresent(missions -> missions.forEach(mission -> missionIndex.put(mission.getId(), mission)));
+
+        missionViewModels.addListener(missionIndexer);
+    }
+
+    /**
+     * Update the mission index with the changes to the indexed mission view model list.
+     *
+     * @param change The change to the mission view model list.
+     */
+    private void updateMissionIndex(final ListChangeListener.Change<? extends AirMissionViewModel> change) {
+        while (change.next()) {
+            change.getRemoved().forEach(mission -> missionIndex.remove(mission.getId(), mission));
+            change.getAddedSubList().forEach(mission -> missionIndex.put(mission.getId(), mission));
+        }
+    }
+
     /**
      * Bind whether this nation has any missions at this airbase.
      */
@@ -7,6 +7,7 @@ import engima.waratsea.model.game.Nation;
 import engima.waratsea.model.squadron.state.SquadronState;
 import engima.waratsea.view.squadron.SquadronViewType;
 import engima.waratsea.viewmodel.squadrons.SquadronViewModel;
+import engima.waratsea.viewmodel.util.ChangeBatch;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
@@ -49,6 +50,7 @@ public class SquadronStateViewModel {
     @Getter private final BooleanProperty noSquadronsPresent = new SimpleBooleanProperty(true);
 
     private NationAirbaseViewModel nationAirbaseViewModel;
+    private ChangeBatch changeBatch = new ChangeBatch();              // Shared with the nation airbase view model.
 
     @Inject
     public SquadronStateViewModel() {
@@ -73,6 +75,7 @@ public class SquadronStateViewModel {
      */
     public void setModel(final NationAirbaseViewModel newNationAirbaseViewModel, final Nation newNation, final SquadronState newState) {
         nationAirbaseViewModel = newNationAirbaseViewModel;
+        changeBatch = newNationAirbaseViewModel.getChangeBatch();
 
         airbase = newNationAirbaseViewModel.getAirbaseViewModel().getAirbaseModel();
         nation = newNation;
@@ -84,41 +87,39 @@ public class SquadronStateViewModel {
 
     /**
      * Add a squadron to this view model. The squadron should have the correct airbase, nation and state.
+     * If a change batch is open the squadron lists are updated when the batch is committed.
      *
      * @param squadron The squadron added to this view model. This squadron should have the correct airbase
      *                 nation and state.
      */
     public void add(final SquadronViewModel squadron) {
-        if (!squadrons.get().contains(squadron)) {   // If the squadron is already in the ready list don't add it again.
-            SquadronViewType type = SquadronViewType.get(squadron.getType());
-
-            squadronMap.get(type).get().add(squadron);
-
-            // Have to set the value of the squadrons property to trigger the custom object binding used by observers.
-            // Modifying the list by calling add or remove does not work. This seems like a Javafx bug.
-            List<SquadronViewModel> squadronsInDesiredState = squadrons.get();
-            squadronsInDesiredState.add(squadron);
-
-            squadrons.set(FXCollections.observableArrayList(squadronsInDesiredState));
-        }
+        // The squadrons property is set, rather than modified, on commit to trigger the custom object binding
+        // used by observers. Modifying the list by calling add or remove does not work. This seems like a Javafx bug.
+        changeBatch.apply(() -> {
+            List<SquadronViewModel> squadronsInDesiredState = changeBatch.edit(squadrons);
+
+            if (!squadronsInDesiredState.contains(squadron)) {   // If the squadron is already in the ready list don't add it again.
+                SquadronViewType type = SquadronViewType.get(squadron.getType());
+
+                changeBatch.edit(squadronMap.get(type)).add(squadron);
+                squadronsInDesiredState.add(squadron);
+            }
+        });
     }
 
     /**
      * Remove the given squadron from the ready list of the squadron's type.
+     * If a change batch is open the squadron lists are updated when the batch is committed.
      *
      * @param squadron The squadron removed.
      */
     public void remove(final SquadronViewModel squadron) {
-        SquadronViewType type = SquadronViewType.get(squadron.getType());
-
-        squadronMap.get(type).getValue().remove(squadron);
-
-        // Have to set the value of the squadrons property to trigger the custom object binding used by observers.
-        // Modifying the list by calling add or remove does not work. This seems like a Javafx bug.
-        List<SquadronViewModel> squadronsInDesiredState = squadrons.getValue();
-        squadronsInDesiredState.remove(squadron);
+        changeBatch.apply(() -> {
+            SquadronViewType type = SquadronViewType.get(squadron.getType());
 
-        squadrons.set(FXCollections.observableArrayList(squadronsInDesiredState));
+            changeBatch.edit(squadronMap.get(type)).remove(squadron);
+            changeBatch.edit(squadrons).remove(squadron);
+        });
     }
 
     /**
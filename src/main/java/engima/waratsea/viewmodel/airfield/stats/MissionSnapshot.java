@@ -0,0 +1,47 @@
+package engima.waratsea.viewmodel.airfield.stats;
+
+import engima.waratsea.model.base.Airbase;
+import engima.waratsea.model.base.airfield.mission.AirMissionType;
+import engima.waratsea.model.base.airfield.mission.MissionRole;
+import engima.waratsea.model.base.airfield.mission.data.MissionData;
+import engima.waratsea.model.base.airfield.mission.state.AirMissionState;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable copy of an air mission's inputs taken on the JavaFX application thread. The airbase is
+ * recorded by side and name so that the snapshot holds no reference to the live airbase model.
+ */
+@Builder
+public class MissionSnapshot {
+    @Getter private final Side side;                                        // The side of the mission's airbase.
+    @Getter private final String airbaseName;                               // The name of the mission's airbase.
+    @Getter private final Nation nation;
+    @Getter private final AirMissionType type;
+    @Getter private final AirMissionState state;
+    @Getter private final String target;                                    // The name of the mission's target.
+    @Getter private final Map<MissionRole, List<String>> squadronMap;       // Unmodifiable squadron names by role.
+
+    /**
+     * Build the mission data of a temporary mission from this snapshot.
+     *
+     * @param airbase The airbase named by this snapshot.
+     * @return The mission data.
+     */
+    public MissionData toData(final Airbase airbase) {
+        MissionData data = new MissionData();
+        data.setId(0);
+        data.setAirbase(airbase);
+        data.setNation(nation);
+        data.setType(type);
+        data.setTarget(target);
+        data.setState(state);
+        data.setSquadronMap(squadronMap);
+        return data;
+    }
+}
@@ -0,0 +1,16 @@
+package engima.waratsea.viewmodel.airfield.stats;
+
+import engima.waratsea.model.base.airfield.mission.stats.ProbabilityStats;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * The statistics of an air mission computed by the mission stats pipeline.
+ */
+@Builder
+public class MissionStats {
+    @Getter private final List<ProbabilityStats> probability;  // The mission's success probabilities.
+    @Getter private final boolean affectedByWeather;           // Indicates if the mission is affected by the weather.
+}
@@ -0,0 +1,179 @@
+package engima.waratsea.viewmodel.airfield.stats;
+
+import engima.waratsea.model.base.Airbase;
+import engima.waratsea.model.base.airfield.mission.AirMission;
+import engima.waratsea.model.base.airfield.mission.MissionDAO;
+import engima.waratsea.model.game.Game;
+import javafx.application.Platform;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Debounces the computation of an air mission's statistics.
+ *
+ * Each edit of a mission submits an immutable snapshot of the mission's inputs that is taken on the JavaFX
+ * application thread. The computation is delayed by a short quiet period, and every snapshot submitted during
+ * that period replaces the previous one. Thus, a burst of edits results in a single computation of the latest
+ * snapshot.
+ *
+ * The computation runs on the scheduler's background thread. Only the result is handed to the publishing
+ * thread, the JavaFX application thread. The computation reads the squadron, target and weather models but
+ * never modifies them.
+ *
+ * Every submission bumps a generation number. A snapshot is only computed if its generation is still the
+ * latest when the quiet period ends, and its result is only published if its generation is still the latest
+ * when it reaches the publishing thread. Thus, stale snapshots and results are discarded.
+ */
+@Slf4j
+public class MissionStatsPipeline {
+    private static final long QUIET_PERIOD_MILLIS = 75;
+
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "mission-stats");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Function<MissionSnapshot, MissionStats> calculator;
+    private final ScheduledExecutorService scheduler;
+    private final Executor publisher;
+    private final long quietPeriod;
+
+    private final AtomicLong generation = new AtomicLong();
+    private ScheduledFuture<?> pending;
+
+    /**
+     * Constructor.
+     *
+     * @param game The game used to find the airbase named by a snapshot.
+     * @param missionDAO The mission data access object used to build the temporary missions.
+     */
+    public MissionStatsPipeline(final Game game, final MissionDAO missionDAO) {
+        this(snapshot -> calculate(game, missionDAO, snapshot), SCHEDULER, Platform::runLater, QUIET_PERIOD_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param calculator Computes the mission stats from a snapshot of the mission's inputs.
+     * @param scheduler The executor that times the quiet period and computes the mission stats.
+     * @param publisher The executor on which the mission stats are published.
+     * @param quietPeriod The period in milliseconds during which further edits are coalesced.
+     */
+    public MissionStatsPipeline(final Function<MissionSnapshot, MissionStats> calculator,
+                                final ScheduledExecutorService scheduler,
+                                final Executor publisher,
+                                final long quietPeriod) {
+        this.calculator = calculator;
+        this.scheduler = scheduler;
+        this.publisher = publisher;
+        this.quietPeriod = quietPeriod;
+    }
+
+    /**
+     * Submit a snapshot of the mission's inputs. Any computation that has not yet started is replaced
+     * by this snapshot.
+     *
+     * @param snapshot The mission's inputs.
+     * @param consumer Receives the mission stats on the publishing thread.
+     */
+    public synchronized void submit(final MissionSnapshot snapshot, final Consumer<MissionStats> consumer) {
+        long current = generation.incrementAndGet();
+
+        if (pending != null) {
+            pending.cancel(false);
+        }
+
+        pending = scheduler.schedule(() -> compute(current, snapshot, consumer), quietPeriod, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discard any pending or in progress computation.
+     */
+    public synchronized void cancel() {
+        generation.incrementAndGet();
+
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+    }
+
+    /**
+     * Compute the mission stats if the snapshot is still current and hand them to the publishing thread.
+     * This runs on the scheduler's background thread.
+     *
+     * @param computeGeneration The generation of the snapshot.
+     * @param snapshot The mission's inputs.
+     * @param consumer Receives the mission stats.
+     */
+    private void compute(final long computeGeneration, final MissionSnapshot snapshot, final Consumer<MissionStats> consumer) {
+        if (!isCurrent(computeGeneration)) {
+            log.debug("Discard stale mission snapshot of generation {}", computeGeneration);
+            return;
+        }
+
+        try {
+            MissionStats stats = calculator.apply(snapshot);
+            publisher.execute(() -> publish(computeGeneration, stats, consumer));
+        } catch (RuntimeException ex) {
+            log.error("Unable to compute mission stats", ex);
+        }
+    }
+
+    /**
+     * Publish the mission stats if they are still current. This runs on the publishing thread.
+     *
+     * @param computeGeneration The generation of the snapshot from which the stats were computed.
+     * @param stats The mission stats.
+     * @param consumer Receives the mission stats.
+     */
+    private void publish(final long computeGeneration, final MissionStats stats, final Consumer<MissionStats> consumer) {
+        if (!isCurrent(computeGeneration)) {
+            log.debug("Discard stale mission stats of generation {}", computeGeneration);
+            return;
+        }
+
+        consumer.accept(stats);
+    }
+
+    /**
+     * Determine if the given generation is the latest submitted generation.
+     *
+     * @param candidate A generation.
+     * @return True if the given generation is the latest. False otherwise.
+     */
+    private boolean isCurrent(final long candidate) {
+        return generation.get() == candidate;
+    }
+
+    /**
+     * Build a temporary mission from the snapshot and compute its stats.
+     *
+     * @param game The game.
+     * @param missionDAO The mission data access object.
+     * @param snapshot The mission's inputs.
+     * @return The mission's stats.
+     */
+    private static MissionStats calculate(final Game game, final MissionDAO missionDAO, final MissionSnapshot snapshot) {
+        Airbase airbase = game
+                .getPlayer(snapshot.getSide())
+                .getAirbase(snapshot.getAirbaseName());
+
+        AirMission tempMission = missionDAO.load(snapshot.toData(airbase));
+
+        return MissionStats
+                .builder()
+                .probability(tempMission.getMissionProbability())
+                .affectedByWeather(tempMission.isAffectedByWeather())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package engima.waratsea.viewmodel.metrics;
+
+import com.google.inject.Inject;
+import com.google.inject.Singleton;
+import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.utility.metrics.Metrics;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import lombok.Getter;
+
+/**
+ * This class keeps the current report of the game's performance metrics. The report is refreshed
+ * at the end of every game turn while metrics are enabled and whenever the player asks.
+ */
+@Singleton
+public class MetricsViewModel {
+    @Getter private final StringProperty report = new SimpleStringProperty();
+
+    /**
+     * The constructor called by guice.
+     */
+    @Inject
+    public MetricsViewModel() {
+        TurnEvent.register(this, this::turnEnded, true);
+    }
+
+    /**
+     * Refresh the metrics report.
+     */
+    public void refresh() {
+        report.setValue(Metrics.report());
+    }
+
+    /**
+     * Clear the recorded metrics.
+     */
+    public void reset() {
+        Metrics.reset();
+        refresh();
+    }
+
+    /**
+     * Refresh the metrics report at the end of a turn. Nothing is recorded while metrics are disabled,
+     * so the report is not rebuilt.
+     *
+     * @param event The turn event.
+     */
+    private void turnEnded(final TurnEvent event) {
+        if (!Metrics.isEnabled()) {
+            return;
+        }
+
+        refresh();
+    }
+}
@@ -0,0 +1,173 @@
+package engima.waratsea.viewmodel.util;
+
+import javafx.beans.property.ListProperty;
+import javafx.beans.value.WritableValue;
+import javafx.collections.FXCollections;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Batches view model property writes and list mutations.
+ *
+ * Between a begin and its matching commit, property writes and list mutations are buffered. When the outermost
+ * scope commits, each changed property is written exactly once. Thus, the observers of a property are invalidated
+ * once per batch instead of once per individual change. Scopes may be nested; only the outermost commit applies
+ * the buffered changes.
+ *
+ * A list property is edited through a working copy of its list. On commit the list property is set to a new
+ * observable list containing the working copy, unless the working copy is unchanged. Setting the list property, rather than modifying its list, is
+ * required to trigger the custom object bindings used by the views.
+ *
+ * Property reads are not affected by a batch. They return the committed value until the batch is committed.
+ * A change batch is not thread safe and must only be used on the JavaFX application thread.
+ */
+public class ChangeBatch {
+    private final Map<WritableValue<?>, Object> values = new IdentityHashMap<>();
+    private final Map<ListProperty<?>, List<?>> lists = new IdentityHashMap<>();
+
+    private int depth;
+
+    /**
+     * Begin a batch scope.
+     */
+    public void begin() {
+        depth++;
+    }
+
+    /**
+     * Commit a batch scope. If this is the outermost scope then all of the buffered changes are applied.
+     */
+    public void commit() {
+        if (depth == 0) {
+            throw new IllegalStateException("Change batch committed without a matching begin");
+        }
+
+        depth--;
+
+        if (depth == 0) {
+            flush();
+        }
+    }
+
+    /**
+     * Discard all of the buffered changes and close all of the open scopes.
+     */
+    public void rollback() {
+        depth = 0;
+        values.clear();
+        lists.clear();
+    }
+
+    /**
+     * Determine if a batch scope is open.
+     *
+     * @return True if a batch scope is open. False otherwise.
+     */
+    public boolean isActive() {
+        return depth > 0;
+    }
+
+    /**
+     * Run the given changes within a batch scope. If the changes fail then all of the buffered changes are discarded.
+     *
+     * @param changes The changes.
+     */
+    public void apply(final Runnable changes) {
+        begin();
+
+        try {
+            changes.run();
+        } catch (RuntimeException ex) {
+            rollback();
+            throw ex;
+        }
+
+        commit();
+    }
+
+    /**
+     * Write a property. If a batch scope is open the write is buffered until the scope is committed. Only
+     * the last buffered write of a property is applied.
+     *
+     * @param property The property.
+     * @param value The new value of the property.
+     * @param <T> The type of the property's value.
+     */
+    public <T> void set(final WritableValue<T> property, final T value) {
+        if (isActive()) {
+            lists.remove(property);
+            values.put(property, value);
+        } else {
+            property.setValue(value);
+        }
+    }
+
+    /**
+     * Get the working copy of the given list property's list. A batch scope must be open.
+     *
+     * @param property The list property.
+     * @param <E> The type of the list's elements.
+     * @return The working copy. Changes made to the returned list are applied to the property on commit.
+     */
+    @SuppressWarnings("unchecked")
+    public <E> List<E> edit(final ListProperty<E> property) {
+        if (!isActive()) {
+            throw new IllegalStateException("List edited outside of a change batch");
+        }
+
+        values.remove(property);
+
+        return (List<E>) lists.computeIfAbsent(property, p -> new ArrayList<>(Optional
+                .ofNullable(property.getValue())
+                .orElse(FXCollections.emptyObservableList())));
+    }
+
+    /**
+     * Edit the given list property's list within a batch scope.
+     *
+     * @param property The list property.
+     * @param mutation The mutation applied to the working copy of the list.
+     * @param <E> The type of the list's elements.
+     */
+    public <E> void edit(final ListProperty<E> property, final Consumer<List<E>> mutation) {
+        apply(() -> mutation.accept(edit(property)));
+    }
+
+    /**
+     * Apply all of the buffered changes. The buffers are cleared first so that observers may safely
+     * write properties while the changes are applied.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void flush() {
+        Map<WritableValue<?>, Object> pendingValues = copy(values);
+        Map<ListProperty<?>, List<?>> pendingLists = copy(lists);
+
+        values.clear();
+        lists.clear();
+
+        pendingValues.forEach((property, value) -> ((WritableValue) property).setValue(value));
+        pendingLists
+                .entrySet()
+                .stream()
+                .filter(entry -> !entry.getValue().equals(entry.getKey().getValue()))    // Unchanged lists are not written.
+                .forEach(entry -> ((ListProperty) entry.getKey()).set(FXCollections.observableArrayList(entry.getValue())));
+    }
+
+    /**
+     * Copy the given buffer.
+     *
+     * @param buffer A buffer of changes.
+     * @param <K> The type of property.
+     * @param <V> The type of value.
+     * @return A copy of the buffer.
+     */
+    private <K, V> Map<K, V> copy(final Map<K, V> buffer) {
+        return buffer.isEmpty() ? Collections.emptyMap() : new IdentityHashMap<>(buffer);
+    }
+}
@@ -96,6 +96,34 @@ public class airfieldTest {
         Assert.assertTrue(result);
     }
 
+    @Test
+    public void capacityIsSavedTest() {
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        AirfieldData data = new AirfieldData();
+        data.setName("Gibraltar");
+        data.setSide(Side.ALLIES);
+        data.setLandingType(new ArrayList<>(Collections.singletonList(LandingType.LAND)));
+        data.setMaxCapacity(40);
+        data.setAntiAir(6);
+        data.setLocation("G20");
+
+        Airfield airfield = airfieldFactory.create(data);
+
+        Assert.assertEquals(40, airfield.getCapacity());           // A new game's airfield is at full capacity.
+
+        airfield.setCapacity(25);                                  // Damaged by bombardment.
+
+        Airfield loaded = airfieldFactory.create(airfield.getData());
+
+        Assert.assertEquals(40, loaded.getMaxCapacity());
+        Assert.assertEquals(25, loaded.getCapacity());
+
+        airfield.setCapacity(0);
+
+        Assert.assertEquals(0, airfieldFactory.create(airfield.getData()).getCapacity());
+    }
+
     @Test
     public void addSquadronToCAPTest() {
         gameTitle.setName(GameName.BOMB_ALLEY);
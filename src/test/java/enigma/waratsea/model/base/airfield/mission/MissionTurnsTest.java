@@ -0,0 +1,17 @@
+package enigma.waratsea.model.base.airfield.mission;
+
+import engima.waratsea.model.base.airfield.mission.MissionTurns;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class MissionTurnsTest {
+    private static final int RANGE = 4;
+
+    @Test
+    public void testPartialTurnCountsAsWholeTurn() {
+        Assert.assertEquals(0, MissionTurns.getTurnsToDistance(0, RANGE));
+        Assert.assertEquals(1, MissionTurns.getTurnsToDistance(1, RANGE));
+        Assert.assertEquals(1, MissionTurns.getTurnsToDistance(RANGE, RANGE));
+        Assert.assertEquals(2, MissionTurns.getTurnsToDistance(RANGE + 1, RANGE));
+    }
+}
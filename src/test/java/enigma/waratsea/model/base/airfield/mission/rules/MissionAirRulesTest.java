@@ -0,0 +1,76 @@
+package enigma.waratsea.model.base.airfield.mission.rules;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.base.airfield.mission.rules.MissionAirStrikeRules;
+import engima.waratsea.model.base.airfield.mission.rules.MissionAirSweepRules;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Turn;
+import engima.waratsea.model.game.TurnIndex;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.weather.Weather;
+import engima.waratsea.model.weather.WeatherForecast;
+import engima.waratsea.model.weather.WeatherType;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Date;
+
+public class MissionAirRulesTest {
+    private static final double TOLERANCE = 1e-9;
+    private static final int HORIZON = 2;
+
+    private static Weather weather;
+    private static MissionAirStrikeRules strikeRules;
+    private static MissionAirSweepRules sweepRules;
+
+    @BeforeClass
+    public static void setup() {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        weather = injector.getInstance(Weather.class);
+        strikeRules = injector.getInstance(MissionAirStrikeRules.class);
+        sweepRules = injector.getInstance(MissionAirSweepRules.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setDate(new Date());
+        scenario.setTurnIndex(TurnIndex.TWILIGHT);
+        scenario.setWeather(WeatherType.CLEAR);
+
+        injector.getInstance(Turn.class).start(scenario);
+        weather.start(scenario);
+    }
+
+    @Test
+    public void testTargetReachedThisTurnUsesCurrentWeather() {
+        weather.setCurrent(WeatherType.RAIN);
+
+        Assert.assertEquals(-1.0, strikeRules.getExpected(0, modifier -> modifier), TOLERANCE);
+        Assert.assertEquals(strikeRules.getModifier(), strikeRules.getExpected(0, modifier -> modifier), TOLERANCE);
+    }
+
+    @Test
+    public void testTargetReachedLaterUsesForecastWeather() {
+        weather.setCurrent(WeatherType.CLEAR);
+
+        WeatherForecast forecast = weather.getForecast(HORIZON);
+
+        double expected = 0.0;
+        for (WeatherType weatherType : WeatherType.values()) {
+            expected += forecast.getProbability(weatherType) * strikeRules.getModifier(weatherType);
+        }
+
+        Assert.assertEquals(expected, strikeRules.getExpected(HORIZON, modifier -> modifier), TOLERANCE);
+
+        // The sweep is unaffected only in clear or cloudy weather.
+        double unaffected = forecast.getProbability(WeatherType.CLEAR) + forecast.getProbability(WeatherType.CLOUDY);
+
+        Assert.assertEquals(unaffected, sweepRules.getExpected(HORIZON, modifier -> modifier == 0 ? 1.0 : 0.0), TOLERANCE);
+    }
+}
@@ -0,0 +1,158 @@
+package enigma.waratsea.model.base.airfield.squadron;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.aircraft.AircraftType;
+import engima.waratsea.model.base.airfield.squadron.Squadrons;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronFactory;
+import engima.waratsea.model.squadron.SquadronStrength;
+import engima.waratsea.model.squadron.data.SquadronData;
+import engima.waratsea.model.squadron.state.SquadronAction;
+import engima.waratsea.model.squadron.state.SquadronState;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+public class SquadronsTest {
+    private static final int OPERATIONS = 2000;
+    private static final long SEED = 1941L;
+    private static final List<Nation> NATIONS = List.of(Nation.GERMAN, Nation.ITALIAN, Nation.BRITISH);
+
+    private Injector injector;
+    private final List<Squadron> pool = new ArrayList<>();
+
+    @Before
+    public void setup() {
+        injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        SquadronFactory factory = injector.getInstance(SquadronFactory.class);
+
+        pool.clear();
+        pool.add(create(factory, Side.AXIS, Nation.GERMAN, "BF109E", "JG1"));
+        pool.add(create(factory, Side.AXIS, Nation.GERMAN, "BF109E", "JG2"));
+        pool.add(create(factory, Side.AXIS, Nation.GERMAN, "JU87B", "StG1"));
+        pool.add(create(factory, Side.AXIS, Nation.GERMAN, "JU88A", "KG1"));
+        pool.add(create(factory, Side.AXIS, Nation.ITALIAN, "CR42", "Stormo1"));
+        pool.add(create(factory, Side.AXIS, Nation.ITALIAN, "MC200", "Stormo2"));
+        pool.add(create(factory, Side.ALLIES, Nation.BRITISH, "Hurricane-1", "RAF1"));
+        pool.add(create(factory, Side.ALLIES, Nation.BRITISH, "Swordfish", "FAA1"));
+        pool.add(create(factory, Side.ALLIES, Nation.BRITISH, "Sunderland", "RAF2"));
+    }
+
+    @Test
+    public void testIndexesMatchBruteForce() {
+        Squadrons squadrons = injector.getInstance(Squadrons.class);
+        Random random = new Random(SEED);
+
+        for (int i = 0; i < OPERATIONS; i++) {
+            Squadron squadron = pool.get(random.nextInt(pool.size()));
+
+            switch (random.nextInt(7)) {
+                case 0:
+                    squadrons.add(squadron);
+                    break;
+                case 1:
+                    squadrons.remove(squadron);
+                    break;
+                case 2:
+                    squadrons.addTemporarily(squadron);
+                    break;
+                case 3:
+                    squadron.setState(SquadronAction.values()[random.nextInt(SquadronAction.values().length)]);
+                    break;
+                case 4:
+                    squadron.setStrength(SquadronStrength.values()[random.nextInt(SquadronStrength.values().length)]);
+                    break;
+                case 5:
+                    squadron.reduceStrength();
+                    break;
+                default:
+                    if (random.nextInt(10) == 0) {
+                        squadrons.clear(NATIONS.get(random.nextInt(NATIONS.size())));
+                    } else {
+                        squadrons.removeTemporarily(squadron);
+                    }
+                    break;
+            }
+
+            assertMatchesBruteForce(squadrons);
+        }
+    }
+
+    @Test
+    public void testRemovedSquadronIsNotCounted() {
+        Squadrons squadrons = injector.getInstance(Squadrons.class);
+        Squadron squadron = pool.get(0);
+
+        squadrons.add(squadron);
+        Assert.assertEquals(SquadronStrength.calculateSteps(squadron.getAircraftNumber()), squadrons.getCurrentSteps());
+
+        squadrons.remove(squadron);
+        squadron.setStrength(SquadronStrength.HALF);
+
+        Assert.assertEquals(0, squadrons.getCurrentSteps());
+        Assert.assertFalse(squadrons.isStationed(squadron));
+    }
+
+    private void assertMatchesBruteForce(final Squadrons squadrons) {
+        List<Squadron> stationed = squadrons.getSquadrons();
+
+        Assert.assertEquals(SquadronStrength.calculateSteps(sum(stationed)), squadrons.getCurrentSteps());
+        Assert.assertEquals(squadrons.getCurrentSteps(), squadrons.deployedSteps());
+
+        for (AircraftType type : AircraftType.values()) {
+            List<Squadron> ofType = stationed.stream().filter(s -> s.getType() == type).collect(Collectors.toList());
+            Assert.assertEquals(SquadronStrength.calculateSteps(sum(ofType)), squadrons.getStepsForType(type));
+        }
+
+        for (Nation nation : NATIONS) {
+            List<Squadron> ofNation = stationed.stream().filter(s -> s.ofNation(nation)).collect(Collectors.toList());
+
+            Assert.assertEquals(sum(ofNation), squadrons.getAircraftNumber(nation));
+            Assert.assertEquals(!ofNation.isEmpty(), squadrons.areSquadronsPresent(nation));
+            Assert.assertEquals(ofNation, squadrons.getSquadrons(nation));
+
+            for (SquadronState state : SquadronState.values()) {
+                List<Squadron> atState = ofNation.stream().filter(s -> s.isAtState(state)).collect(Collectors.toList());
+                Assert.assertEquals(new HashSet<>(atState), new HashSet<>(squadrons.getSquadrons(nation, state)));
+
+                Map<AircraftType, List<Squadron>> map = squadrons.getSquadronMap(nation, state);
+                for (AircraftType type : AircraftType.values()) {
+                    List<Squadron> expected = atState.stream().filter(s -> s.getType() == type).collect(Collectors.toList());
+                    Assert.assertEquals(new HashSet<>(expected), new HashSet<>(map.get(type)));
+                }
+            }
+        }
+
+        pool.forEach(squadron -> Assert.assertEquals(stationed.contains(squadron), squadrons.isStationed(squadron)));
+    }
+
+    private int sum(final List<Squadron> list) {
+        return list.stream().mapToInt(Squadron::getAircraftNumber).sum();
+    }
+
+    private Squadron create(final SquadronFactory factory, final Side side, final Nation nation, final String model, final String name) {
+        SquadronData data = new SquadronData();
+        data.setName(name);
+        data.setModel(model);
+        data.setStrength(SquadronStrength.FULL);
+
+        return factory.create(side, nation, data);
+    }
+}
@@ -0,0 +1,126 @@
+package enigma.waratsea.model.enemy.visibility;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.enemy.visibility.SideVisibility;
+import engima.waratsea.model.enemy.visibility.Visibility;
+import engima.waratsea.model.enemy.visibility.data.VisibilityData;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+public class VisibilityTest {
+    private static GameMap gameMap;
+    private static Visibility visibility;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        visibility = injector.getInstance(Visibility.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testBulkSight() {
+        SideVisibility sideVisibility = new SideVisibility(Side.ALLIES, gameMap.getRows(), gameMap.getColumns());
+
+        GameGrid first = gameMap.getGrid(0, 0);
+        GameGrid last = gameMap.getGrid(gameMap.getRows() - 2, gameMap.getColumns() - 1);
+        GameGrid unseen = gameMap.getGrid(1, 0);
+
+        List.of(first, last).forEach(sideVisibility::sight);
+
+        Assert.assertTrue(sideVisibility.isSighted(first));
+        Assert.assertTrue(sideVisibility.isSighted(last));
+        Assert.assertFalse(sideVisibility.isSighted(unseen));
+
+        Assert.assertEquals(0, sideVisibility.getAge(first));
+        Assert.assertEquals(SideVisibility.NOT_KNOWN, sideVisibility.getAge(unseen));
+        Assert.assertEquals(2, sideVisibility.getSightedCount());
+    }
+
+    @Test
+    public void testDecay() {
+        SideVisibility sideVisibility = new SideVisibility(Side.AXIS, gameMap.getRows(), gameMap.getColumns());
+
+        GameGrid old = gameMap.getGrid(2, 2);
+        GameGrid recent = gameMap.getGrid(3, 3);
+
+        sideVisibility.sight(old);
+        sideVisibility.nextTurn(2, Visibility.MAX_AGE);
+
+        Assert.assertFalse(sideVisibility.isSighted(old));
+        Assert.assertTrue(sideVisibility.isKnown(old));
+        Assert.assertEquals(1, sideVisibility.getAge(old));
+
+        sideVisibility.sight(recent);
+        sideVisibility.nextTurn(2 + Visibility.MAX_AGE, Visibility.MAX_AGE);
+
+        Assert.assertFalse(sideVisibility.isKnown(old));                        // Older than the maximum age.
+        Assert.assertEquals(Visibility.MAX_AGE, sideVisibility.getAge(recent));
+
+        sideVisibility.nextTurn(2, Visibility.MAX_AGE);                         // Stale turns are ignored.
+        Assert.assertEquals(Visibility.MAX_AGE, sideVisibility.getAge(recent));
+        Assert.assertEquals(1, sideVisibility.getKnownCount());
+    }
+
+    @Test
+    public void testTurnEventAgesAllSides() {
+        GameGrid grid = gameMap.getGrid(4, 4);
+
+        visibility.sight(Side.ALLIES, grid);
+
+        int turn = visibility.get(Side.ALLIES).getTurn() + 1;
+        new TurnEvent(turn).fire();
+
+        Assert.assertFalse(visibility.isSighted(Side.ALLIES, grid));
+        Assert.assertEquals(1, visibility.getAge(Side.ALLIES, grid));
+        Assert.assertEquals(SideVisibility.NOT_KNOWN, visibility.getAge(Side.AXIS, grid));
+    }
+
+    @Test
+    public void testPersistenceRoundTrip() {
+        SideVisibility sideVisibility = new SideVisibility(Side.ALLIES, gameMap.getRows(), gameMap.getColumns());
+
+        GameGrid known = gameMap.getGrid(5, 7);
+        GameGrid sighted = gameMap.getGrid(6, 8);
+
+        sideVisibility.sight(known);
+        sideVisibility.nextTurn(3, Visibility.MAX_AGE);
+        sideVisibility.sight(sighted);
+
+        Gson gson = new Gson();
+        String json = gson.toJson(sideVisibility.getData());
+        SideVisibility loaded = new SideVisibility(gson.fromJson(json, VisibilityData.class));
+
+        Assert.assertEquals(Side.ALLIES, loaded.getSide());
+        Assert.assertEquals(3, loaded.getTurn());
+        Assert.assertTrue(loaded.isSighted(sighted));
+        Assert.assertFalse(loaded.isSighted(known));
+        Assert.assertEquals(3, loaded.getAge(known));
+        Assert.assertEquals(0, loaded.getAge(sighted));
+        Assert.assertEquals(sideVisibility.getKnownCount(), loaded.getKnownCount());
+    }
+}
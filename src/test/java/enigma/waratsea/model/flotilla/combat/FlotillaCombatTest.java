@@ -0,0 +1,251 @@
+package enigma.waratsea.model.flotilla.combat;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.flotilla.Flotilla;
+import engima.waratsea.model.flotilla.FlotillaFactory;
+import engima.waratsea.model.flotilla.FlotillaType;
+import engima.waratsea.model.flotilla.combat.FlotillaCombat;
+import engima.waratsea.model.flotilla.data.FlotillaData;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Phases;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.ship.Torpedo;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.vessel.Vessel;
+import engima.waratsea.utility.Dice;
+import enigma.waratsea.TestModule;
+import enigma.waratsea.utility.FixedDice;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class FlotillaCombatTest {
+    private static final long SEED = 1940;
+
+    private static final int MANY_FLOTILLAS = 48;
+    private static final int MANY_TASK_FORCES = 300;
+
+    private static Injector injector;
+    private static GameMap gameMap;
+    private static TaskForceFactory taskForceFactory;
+    private static FlotillaFactory flotillaFactory;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        taskForceFactory = injector.getInstance(TaskForceFactory.class);
+        flotillaFactory = injector.getInstance(FlotillaFactory.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("puntaStilo");
+        scenario.setTitle("Punta Stilo");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testContacts() {
+        FlotillaCombat combat = buildCombat(new FixedDice(1));
+
+        buildTaskForce(Side.ALLIES, "Contact", "AK10", List.of("CL36 Sheffield"));
+        buildTaskForce(Side.AXIS, "Friendly", "AK11", List.of("CA01 Trento"));
+
+        Assert.assertTrue(combat.getContact(buildSubFlotilla("Contact", "AK10")).isPresent());
+        Assert.assertFalse(combat.getContact(buildSubFlotilla("Friendly", "AK11")).isPresent());
+        Assert.assertFalse(combat.getContact(buildSubFlotilla("Empty", "AK12")).isPresent());
+    }
+
+    @Test
+    public void testTorpedoHitsDamageShips() {
+        TaskForce taskForce = buildTaskForce(Side.ALLIES, "Hit", "AK14", List.of("CL36 Sheffield"));
+        Ship sheffield = taskForce.getShip("CL36 Sheffield");
+        int health = sheffield.getHull().getHealth();
+
+        Flotilla flotilla = buildSubFlotilla("Hit", "AK14");
+        int torpedoes = getTorpedoCount(flotilla);
+
+        List<ShipEvent> events = new ArrayList<>();
+        Object handler = new Object();
+        ShipEvent.register(handler, events::add);
+
+        int hits = buildCombat(new FixedDice(FlotillaCombat.TORPEDO_HIT_ROLL)).attack(FlotillaType.SUBMARINE, List.of(flotilla));
+
+        ShipEvent.unregister(handler);
+
+        int salvos = flotilla.getVessels().size();
+
+        Assert.assertEquals(salvos, hits);
+        Assert.assertEquals(torpedoes - salvos, getTorpedoCount(flotilla));
+        Assert.assertEquals(Math.max(health - hits * FlotillaCombat.HULL_DAMAGE, 0), sheffield.getHull().getHealth());
+        Assert.assertTrue(sheffield.getTorpedo().getHealth() <= 0);
+
+        Assert.assertTrue(events
+                .stream()
+                .anyMatch(event -> event.getShip() == sheffield
+                        && event.getAction() == ShipEventAction.DAMAGED_HULL
+                        && event.getBy() == AssetType.SUB));
+
+        Assert.assertTrue(events
+                .stream()
+                .anyMatch(event -> event.getShip() == sheffield
+                        && event.getAction() == ShipEventAction.DAMAGED_TORPEDO_MOUNT));
+    }
+
+    @Test
+    public void testAswDrivesOffSubmarinesOnly() {
+        buildTaskForce(Side.ALLIES, "Escorted", "AK16", List.of("CL36 Sheffield", "DD53 Faulknor"));
+
+        FlotillaCombat combat = buildCombat(new FixedDice(1));
+
+        Flotilla subs = buildSubFlotilla("Subs", "AK16");
+        int subTorpedoes = getTorpedoCount(subs);
+
+        Assert.assertEquals(0, combat.attack(FlotillaType.SUBMARINE, List.of(subs)));
+        Assert.assertEquals(subTorpedoes, getTorpedoCount(subs));               // Driven off before firing.
+
+        Flotilla boats = buildMtbFlotilla("Boats", "AK16");
+        int boatTorpedoes = getTorpedoCount(boats);
+
+        Assert.assertEquals(0, combat.attack(FlotillaType.MTB, List.of(boats)));
+        Assert.assertEquals(boatTorpedoes - boats.getVessels().size(), getTorpedoCount(boats));
+    }
+
+    @Test
+    public void testSeededAttacksAreReproducible() {
+        List<Integer> first = runSeededAttack("SeedA", "AK26");
+        List<Integer> second = runSeededAttack("SeedB", "AK28");
+
+        Assert.assertEquals(first, second);
+    }
+
+    @Test
+    public void testManyFlotillasFindContacts() {
+        FlotillaCombat combat = buildCombat(new FixedDice(1));
+
+        List<TaskForce> taskForces = new ArrayList<>();
+        List<Flotilla> flotillas = new ArrayList<>();
+
+        int column = 0;
+        int row = 0;
+
+        for (int i = 0; i < MANY_TASK_FORCES; i++) {
+            GameGrid grid = gameMap.getGrid(row, column);
+
+            if (grid != null) {
+                String reference = grid.getMapReference();
+                taskForces.add(createTaskForce(Side.ALLIES, "Many" + i, reference, List.of("CL36 Sheffield")));
+
+                if (flotillas.size() < MANY_FLOTILLAS) {
+                    flotillas.add(buildSubFlotilla("Many" + i, reference));
+                }
+            }
+
+            column = (column + 1) % gameMap.getColumns();
+            row = column == 0 ? row + 1 : row;
+        }
+
+        gameMap.updateTaskForces(taskForces);
+
+        flotillas.forEach(flotilla -> Assert.assertTrue(combat.getContact(flotilla).isPresent()));
+
+        Assert.assertEquals(0, combat.attack(FlotillaType.SUBMARINE, flotillas));   // A roll of one never hits.
+    }
+
+    private List<Integer> runSeededAttack(final String name, final String location) {
+        Dice dice = new Dice();
+        dice.setSeed(SEED);
+
+        TaskForce taskForce = buildTaskForce(Side.ALLIES, name, location, List.of("CL36 Sheffield", "DD53 Faulknor"));
+        Flotilla flotilla = buildSubFlotilla(name, location);
+
+        FlotillaCombat combat = buildCombat(dice);
+
+        List<Integer> results = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            results.add(combat.attack(FlotillaType.SUBMARINE, List.of(flotilla)));
+        }
+
+        taskForce.getShips().forEach(ship -> results.add(ship.getHull().getHealth()));
+        results.add(getTorpedoCount(flotilla));
+
+        return results;
+    }
+
+    private FlotillaCombat buildCombat(final Dice dice) {
+        return new FlotillaCombat(gameMap, dice, injector.getInstance(OperationsLog.class), injector.getInstance(ShipDamageStore.class), new Phases(), () -> null);
+    }
+
+    private TaskForce buildTaskForce(final Side side, final String name, final String location, final List<String> ships) {
+        TaskForce taskForce = createTaskForce(side, name, location, ships);
+        gameMap.updateTaskForces(List.of(taskForce));
+        return taskForce;
+    }
+
+    private TaskForce createTaskForce(final Side side, final String name, final String location, final List<String> ships) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(ships));
+        data.setLocation(location);
+        data.setState(TaskForceState.ACTIVE);
+
+        return taskForceFactory.create(side, data);
+    }
+
+    private Flotilla buildSubFlotilla(final String name, final String location) {
+        FlotillaData data = new FlotillaData();
+        data.setName(name);
+        data.setLocation(location);
+        data.setSubs(new ArrayList<>(Arrays.asList("SM1", "SM2")));
+
+        return flotillaFactory.createSubmarineFlotilla(Side.AXIS, data);
+    }
+
+    private Flotilla buildMtbFlotilla(final String name, final String location) {
+        FlotillaData data = new FlotillaData();
+        data.setName(name);
+        data.setLocation(location);
+        data.setBoats(new ArrayList<>(Arrays.asList("MTB1", "MTB2")));
+
+        return flotillaFactory.createMTBFlotilla(Side.AXIS, data);
+    }
+
+    private int getTorpedoCount(final Flotilla flotilla) {
+        return flotilla
+                .getVessels()
+                .stream()
+                .map(Vessel::getTorpedo)
+                .mapToInt(Torpedo::getNumber)
+                .sum();
+    }
+}
@@ -0,0 +1,205 @@
+package enigma.waratsea.model.game;
+
+import com.google.gson.Gson;
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.SavedGameCatalog;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.TurnIndex;
+import engima.waratsea.model.game.data.GameData;
+import engima.waratsea.model.game.data.SavedGameCatalogData;
+import engima.waratsea.model.game.data.SavedGameEntry;
+import engima.waratsea.model.game.data.TurnData;
+import engima.waratsea.model.scenario.Scenario;
+import enigma.waratsea.TestModule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SavedGameCatalogTest {
+    private static final int THREADS = 8;
+    private static final long ONE_MINUTE = 60_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String userHome;
+    private SavedGameCatalog catalog;
+    private Path root;
+
+    @Before
+    public void setup() {
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", folder.getRoot().getAbsolutePath());     // Keep saved games out of the real home directory.
+
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        catalog = injector.getInstance(SavedGameCatalog.class);
+        root = folder.getRoot().toPath().resolve("WW2atSea/SavedGames/" + gameTitle.getValue());
+    }
+
+    @After
+    public void tearDown() {
+        System.setProperty("user.home", userHome);
+    }
+
+    @Test
+    public void testCatalogRebuild() throws Exception {
+        writeSave("firstSortie", "save1", 1);
+        writeSave("firstSortie", "save2", 2);
+        writeSave("puntaStilo", "save1", 3);
+
+        Assert.assertEquals(3, catalog.getEntries().size());
+        Assert.assertTrue(Files.exists(root.resolve(SavedGameCatalog.CATALOG_FILE_NAME)));
+
+        Files.delete(root.resolve(SavedGameCatalog.CATALOG_FILE_NAME));
+
+        Assert.assertEquals(3, catalog.getEntries().size());
+
+        Files.writeString(root.resolve(SavedGameCatalog.CATALOG_FILE_NAME), "{ \"entries\": [ {", StandardCharsets.UTF_8);
+
+        List<SavedGameEntry> entries = catalog.getEntries();
+        Assert.assertEquals(3, entries.size());
+        Assert.assertEquals(Set.of(1, 2, 3), entries.stream().map(entry -> entry.getGame().getTurn().getTurn()).collect(Collectors.toSet()));
+        Assert.assertTrue(entries.stream().allMatch(entry -> entry.getSize() > 0));
+
+        Assert.assertEquals(3, readCatalog().getEntries().size());                   // The rebuilt catalog was written.
+    }
+
+    @Test
+    public void testStaleEntriesPruned() throws Exception {
+        writeSave("firstSortie", "save1", 1);
+        writeSave("firstSortie", "save2", 2);
+        writeSave("puntaStilo", "save1", 3);
+
+        Assert.assertEquals(3, catalog.getEntries().size());
+
+        delete(root.resolve("firstSortie/save2"));
+        touch(root.resolve("firstSortie"));
+
+        List<SavedGameEntry> entries = catalog.getEntries();
+        Assert.assertEquals(2, entries.size());
+        Assert.assertFalse(entries.stream().anyMatch(entry -> entry.getDirectory().equals("firstSortie/save2")));
+
+        delete(root.resolve("puntaStilo"));
+
+        entries = catalog.getEntries();
+        Assert.assertEquals(1, entries.size());
+        Assert.assertEquals("firstSortie/save1", entries.get(0).getDirectory());
+        Assert.assertFalse(readCatalog().getScenarioModified().containsKey("puntaStilo"));
+    }
+
+    @Test
+    public void testUnchangedScenarioIsNotScanned() throws Exception {
+        writeSave("firstSortie", "save1", 1);
+
+        Assert.assertEquals(1, catalog.getEntries().size());
+
+        // Overwrite the saved game without cataloging it. The scenario directory is unchanged, so the
+        // catalog entry is trusted.
+        Path gameFile = writeSave("firstSortie", "save1", 2);
+        gameFile.getParent().getParent().toFile().setLastModified(readCatalog().getScenarioModified().get("firstSortie"));
+
+        Assert.assertEquals(1, catalog.getEntries().get(0).getGame().getTurn().getTurn());
+    }
+
+    @Test
+    public void testConcurrentSaves() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            int turn = i;
+            futures.add(executor.submit(() -> {
+                Path gameFile = writeSave("firstSortie", "save" + turn, turn);
+                catalog.update(buildGame("firstSortie", turn), gameFile.getParent());
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        SavedGameCatalogData data = readCatalog();
+        Assert.assertEquals(THREADS, data.getEntries().size());
+        Assert.assertEquals(THREADS, catalog.getEntries().size());
+
+        try (Stream<Path> files = Files.list(root)) {
+            Assert.assertEquals(1, files.filter(Files::isRegularFile).count());   // No temporary catalog files are left behind.
+        }
+    }
+
+    private Path writeSave(final String scenario, final String name, final int turn) throws IOException {
+        Path directory = root.resolve(scenario).resolve(name);
+        Files.createDirectories(directory);
+
+        Path gameFile = directory.resolve("game.json");
+        Files.writeString(gameFile, new Gson().toJson(buildGame(scenario, turn)), StandardCharsets.UTF_8);
+        Files.writeString(directory.resolve("assets.json"), "[]", StandardCharsets.UTF_8);
+
+        return gameFile;
+    }
+
+    private GameData buildGame(final String scenarioName, final int turn) {
+        Scenario scenario = new Scenario();
+        scenario.setName(scenarioName);
+        scenario.setId(turn);
+
+        TurnData turnData = new TurnData();
+        turnData.setTurn(turn);
+        turnData.setIndex(TurnIndex.DAY_1);
+        turnData.setDate(new Date());
+
+        GameData data = new GameData();
+        data.setScenario(scenario);
+        data.setHumanSide(Side.ALLIES);
+        data.setTurn(turnData);
+        data.setSavedGameName("/save" + turn);
+        return data;
+    }
+
+    private SavedGameCatalogData readCatalog() throws IOException {
+        String json = Files.readString(root.resolve(SavedGameCatalog.CATALOG_FILE_NAME), StandardCharsets.UTF_8);
+        return new Gson().fromJson(json, SavedGameCatalogData.class);
+    }
+
+    private void touch(final Path directory) {
+        File file = directory.toFile();
+        file.setLastModified(file.lastModified() + ONE_MINUTE);              // Guarantee a new modified time on coarse file systems.
+    }
+
+    private void delete(final Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import engima.waratsea.model.game.GameTitle;
 import engima.waratsea.model.game.Turn;
 import engima.waratsea.model.game.TurnIndex;
 import engima.waratsea.model.game.TurnType;
+import engima.waratsea.model.game.data.TurnData;
 import engima.waratsea.model.scenario.Scenario;
 import engima.waratsea.model.weather.WeatherType;
 import enigma.waratsea.TestModule;
@@ -14,10 +15,14 @@ import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Calendar;
 import java.util.Date;
 
 public class TurnTest {
+    private static final int TURNS_PER_DAY = 6;
+
     private GameTitle gameTitle;
     private Turn turn;
 
@@ -131,4 +136,88 @@ public class TurnTest {
 
         Assert.assertEquals(dayOfMonth, newDayOfMonth);
     }
+
+    @Test
+    public void monthBoundaryTest() {
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        turn.start(buildScenario(LocalDate.of(1941, 2, 28), TurnIndex.TWILIGHT));
+
+        Assert.assertEquals(Calendar.FEBRUARY, turn.getMonth());
+        Assert.assertSame(TurnType.NIGHT, turn.getTrue());   // February twilight is night.
+
+        advance(TURNS_PER_DAY);
+
+        Assert.assertEquals(LocalDate.of(1941, 3, 1), turn.getLocalDate());
+        Assert.assertEquals(Calendar.MARCH, turn.getMonth());
+        Assert.assertSame(TurnType.TWILIGHT, turn.getType());
+        Assert.assertSame(TurnType.DAY, turn.getTrue());     // March twilight is day.
+    }
+
+    @Test
+    public void leapYearTest() {
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        turn.start(buildScenario(LocalDate.of(1940, 2, 28), TurnIndex.NIGHT_2));
+
+        advance(1);
+
+        Assert.assertEquals(LocalDate.of(1940, 2, 29), turn.getLocalDate());
+        Assert.assertSame(TurnIndex.DAY_1, turn.getIndex());
+
+        advance(TURNS_PER_DAY);
+
+        Assert.assertEquals(LocalDate.of(1940, 3, 1), turn.getLocalDate());
+    }
+
+    @Test
+    public void savedGameTest() {
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        turn.start(buildScenario(LocalDate.of(1940, 12, 31), TurnIndex.NIGHT_1));
+
+        advance(2);
+
+        TurnData data = turn.getData();
+        Assert.assertEquals("1941-01-01", data.getDay());
+
+        turn.init(data);
+
+        Assert.assertEquals(LocalDate.of(1941, 1, 1), turn.getLocalDate());
+        Assert.assertSame(TurnIndex.DAY_1, turn.getIndex());
+
+        // Games saved before the day was saved only have the date.
+        TurnData oldData = new TurnData();
+        oldData.setTurn(data.getTurn());
+        oldData.setIndex(TurnIndex.NIGHT_2);
+        oldData.setDate(toDate(LocalDate.of(1941, 1, 31)));
+
+        turn.init(oldData);
+
+        Assert.assertEquals(LocalDate.of(1941, 1, 31), turn.getLocalDate());
+        Assert.assertEquals(Calendar.JANUARY, turn.getMonth());
+
+        advance(1);
+
+        Assert.assertEquals(LocalDate.of(1941, 2, 1), turn.getLocalDate());
+        Assert.assertEquals(Calendar.FEBRUARY, turn.getMonth());
+    }
+
+    private Scenario buildScenario(final LocalDate date, final TurnIndex index) {
+        Scenario scenario = new Scenario();
+        scenario.setDate(toDate(date));
+        scenario.setTurnIndex(index);
+        scenario.setWeather(WeatherType.CLEAR);
+        return scenario;
+    }
+
+    private void advance(final int turns) {
+        for (int i = 0; i < turns; i++) {
+            turn.next();
+        }
+    }
+
+    private Date toDate(final LocalDate date) {
+        return Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant());
+    }
 }
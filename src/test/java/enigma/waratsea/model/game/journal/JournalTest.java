@@ -0,0 +1,149 @@
+package enigma.waratsea.model.game.journal;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.AppProps;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.data.GameData;
+import engima.waratsea.model.game.journal.Journal;
+import engima.waratsea.model.game.journal.JournalEntry;
+import engima.waratsea.model.game.journal.JournalEntryType;
+import engima.waratsea.model.game.journal.JournalReplay;
+import engima.waratsea.model.game.journal.JournalReplayResult;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.utility.Dice;
+import enigma.waratsea.TestModule;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.DataOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+public class JournalTest {
+    private static final int TURNS = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private String userHome;
+
+    @Before
+    public void setup() {
+        userHome = System.getProperty("user.home");
+        System.setProperty("user.home", folder.getRoot().getAbsolutePath());     // Keep saved games out of the real home directory.
+    }
+
+    @After
+    public void tearDown() {
+        System.setProperty("user.home", userHome);
+    }
+
+    @Test
+    public void testEntryRoundTrip() throws Exception {
+        Path path = folder.newFile("journal.bin").toPath();
+
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            new JournalEntry(JournalEntryType.TURN, 2, Long.MIN_VALUE).write(out);
+            new JournalEntry(JournalEntryType.PATROL, 3, 0, "Malta", "SEARCH", "Sunderland-1").write(out);
+        }
+
+        List<JournalEntry> entries = JournalReplay.read(path);
+
+        Assert.assertEquals(2, entries.size());
+        Assert.assertEquals(JournalEntryType.TURN, entries.get(0).getType());
+        Assert.assertEquals(Long.MIN_VALUE, entries.get(0).getNumber());
+        Assert.assertEquals(3, entries.get(1).getTurn());
+        Assert.assertEquals(List.of("Malta", "SEARCH", "Sunderland-1"), entries.get(1).getValues());
+    }
+
+    @Test
+    public void testSeededDiceRepeat() {
+        Dice dice = new Dice();
+        List<Integer> first = new ArrayList<>();
+        List<Integer> second = new ArrayList<>();
+
+        dice.setSeed(1);
+        dice.setRecorder(first::add);
+        dice.roll();
+        dice.countRollsAtLeast(10, 6);
+        dice.roll(100);
+
+        dice.setSeed(1);
+        dice.setRecorder(second::add);
+        dice.roll();
+        dice.countRollsAtLeast(10, 6);
+        dice.roll(100);
+
+        Assert.assertEquals(3, first.size());
+        Assert.assertEquals(first, second);
+    }
+
+    @Test
+    public void testReplay() throws Exception {
+        Injector injector = boot();
+        Game game = startNew(injector);
+
+        game.save("journalTest");
+        GameData savedGame = game.getData();
+        int savedTurn = game.getTurn().getNumber();
+
+        for (int i = 0; i < TURNS; i++) {
+            game.getTurn().next();
+        }
+
+        Journal journal = injector.getInstance(Journal.class);
+        Path path = journal.getPath();
+        journal.stop();
+
+        List<JournalEntry> entries = JournalReplay.read(path);
+
+        Assert.assertEquals(JournalEntryType.START, entries.get(0).getType());
+        Assert.assertEquals(TURNS, entries.stream().filter(entry -> entry.getType() == JournalEntryType.TURN).count());
+
+        JournalReplay replay = boot().getInstance(JournalReplay.class);
+        JournalReplayResult result = replay.replay(savedGame, entries, Integer.MAX_VALUE);
+
+        Assert.assertTrue(result.isExact());
+        Assert.assertEquals(TURNS, result.getTurnsReplayed());
+        Assert.assertEquals(savedTurn + TURNS, result.getFinalTurn());
+
+        JournalReplay jump = boot().getInstance(JournalReplay.class);
+        JournalReplayResult jumpResult = jump.replay(savedGame, entries, savedTurn + 1);
+
+        Assert.assertTrue(jumpResult.isExact());
+        Assert.assertEquals(1, jumpResult.getTurnsReplayed());
+        Assert.assertEquals(savedTurn + 1, jumpResult.getFinalTurn());
+    }
+
+    private Injector boot() {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);                                                    //The game instance must be injected first!
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        injector.getInstance(AppProps.class);                                                                           // Load the main application properties.
+
+        return injector;
+    }
+
+    private Game startNew(final Injector injector) throws Exception {
+        Game game = injector.getInstance(Game.class);
+
+        List<Scenario> scenarios = game.initScenarios();
+        game.setScenario(scenarios.get(0));
+        game.setHumanSide(Side.ALLIES);
+        game.startNew();
+
+        return game;
+    }
+}
@@ -0,0 +1,155 @@
+package enigma.waratsea.model.game.operations;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Turn;
+import engima.waratsea.model.game.TurnIndex;
+import engima.waratsea.model.game.data.TurnData;
+import engima.waratsea.model.game.operations.OperationRecord;
+import engima.waratsea.model.game.operations.OperationType;
+import engima.waratsea.model.game.operations.OperationsLog;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OperationsLogTest {
+    private static final int THREADS = 4;
+    private static final int SHOTS_PER_THREAD = 200;
+    private static final long WAIT_MILLIS = 5_000;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private OperationsLog operationsLog;
+    private Turn turn;
+
+    @Before
+    public void setup() {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        operationsLog = injector.getInstance(OperationsLog.class);
+        turn = injector.getInstance(Turn.class);
+        setTurn(1);
+    }
+
+    @Test
+    public void testConcurrentCombatRecords() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            String attacker = "Airfield" + i;
+            futures.add(executor.submit(() -> {
+                for (int shot = 0; shot < SHOTS_PER_THREAD; shot++) {
+                    operationsLog.combat(attacker, "anti-air", shot, shot % 2);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        executor.shutdown();
+
+        operationsLog.flush();
+
+        List<OperationRecord> recent = operationsLog.getCombat(1, 10);
+        Assert.assertEquals(10, recent.size());
+
+        for (int i = 1; i < recent.size(); i++) {
+            Assert.assertTrue(recent.get(i - 1).getSequence() < recent.get(i).getSequence());     // Oldest first.
+        }
+
+        Assert.assertTrue(recent.stream().allMatch(record -> record.getType() == OperationType.COMBAT));
+        Assert.assertEquals(0, operationsLog.getDropped());
+        Assert.assertTrue(operationsLog.getCombat(2, 10).isEmpty());
+    }
+
+    @Test
+    public void testRecordsAreKeptPerTurn() {
+        operationsLog.combat("Malta", "anti-air", 4, 1);
+        operationsLog.spotting("Malta", "Force H", 3);
+
+        setTurn(2);
+
+        operationsLog.combat("Sicily", "anti-air", 6, 2);
+
+        operationsLog.flush();
+
+        List<OperationRecord> turnOne = operationsLog.getCombat(1, 10);
+        Assert.assertEquals(1, turnOne.size());
+        Assert.assertEquals("Malta", turnOne.get(0).getSubject());
+
+        List<OperationRecord> turnTwo = operationsLog.getCombat(2, 10);
+        Assert.assertEquals(1, turnTwo.size());
+        Assert.assertEquals(2, turnTwo.get(0).getResult());
+
+        List<OperationRecord> spotting = operationsLog.getRecent(OperationType.SPOTTING, 1, 10);
+        Assert.assertEquals(1, spotting.size());
+        Assert.assertEquals("Force H", spotting.get(0).getTarget());
+        Assert.assertEquals(3, spotting.get(0).getValue());
+    }
+
+    @Test
+    public void testRecordsWrittenToFile() throws Exception {
+        Path path = folder.getRoot().toPath().resolve("game/operations.log");
+
+        operationsLog.start(path);
+
+        operationsLog.combat("Malta", "anti-air", 4, 1);
+        operationsLog.spotting("Malta", "Force H", 3);
+
+        operationsLog.stop();
+
+        List<String> lines = waitForLines(path, 2);
+
+        Assert.assertEquals(2, lines.size());
+        Assert.assertTrue(lines.get(0).contains("\tCOMBAT\tMalta\t"));
+        Assert.assertEquals(8, lines.get(1).split("\t").length);
+    }
+
+    private void setTurn(final int number) {
+        TurnData data = new TurnData();
+        data.setTurn(number);
+        data.setIndex(TurnIndex.DAY_1);
+        data.setDate(new Date());
+        turn.init(data);
+    }
+
+    private List<String> waitForLines(final Path path, final int count) throws Exception {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;     // The log file is closed by the writer thread.
+
+        List<String> lines = new ArrayList<>();
+
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.exists(path)) {
+                lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+                if (lines.size() >= count) {
+                    break;
+                }
+            }
+            Thread.sleep(10);
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,114 @@
+package enigma.waratsea.model.map.lanes;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.map.GridType;
+import engima.waratsea.model.map.lanes.SeaLaneDeploymentSolver;
+import engima.waratsea.model.map.lanes.SeaLanes;
+import engima.waratsea.model.scenario.Scenario;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public class SeaLaneDeploymentSolverTest {
+    private static final int ASSETS = 8;
+    private static final int RANDOM_TRIALS = 30;
+
+    private static GameMap gameMap;
+    private static SeaLanes seaLanes;
+    private static SeaLaneDeploymentSolver solver;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        seaLanes = injector.getInstance(SeaLanes.class);
+        solver = injector.getInstance(SeaLaneDeploymentSolver.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testLanesAreSeaPaths() {
+        List<int[]> lanes = seaLanes.getLanes(Side.AXIS);
+
+        Assert.assertFalse(lanes.isEmpty());
+
+        for (int[] lane : lanes) {
+            for (int i = 1; i < lane.length; i++) {
+                Assert.assertEquals(1, gameMap.determineDistance(getGrid(lane[i - 1]), getGrid(lane[i])));
+            }
+        }
+    }
+
+    @Test
+    public void testSolverCoversMoreThanRandom() {
+        List<int[]> lanes = seaLanes.getLanes(Side.AXIS);
+        List<String> candidates = getSeaGrids();
+
+        List<String> solved = solver.solve(lanes, candidates, ASSETS, 1);
+
+        Assert.assertEquals(ASSETS, solved.size());
+        Assert.assertEquals(ASSETS, new HashSet<>(solved).size());
+        Assert.assertEquals(solved, solver.solve(lanes, candidates, ASSETS, 1));    // Reproducible for a seed.
+
+        double solvedCoverage = solver.getCoverage(lanes, solved);
+
+        double randomCoverage = 0.0;
+        for (int seed = 0; seed < RANDOM_TRIALS; seed++) {
+            randomCoverage += solver.getCoverage(lanes, solver.selectRandom(candidates, ASSETS, seed));
+        }
+        randomCoverage /= RANDOM_TRIALS;
+
+        Assert.assertTrue("solved " + solvedCoverage + " random " + randomCoverage, solvedCoverage > randomCoverage);
+    }
+
+    @Test
+    public void testMoreAssetsThanCandidates() {
+        List<int[]> lanes = seaLanes.getLanes(Side.AXIS);
+        List<String> candidates = getSeaGrids().subList(0, 3);
+
+        List<String> solved = solver.solve(lanes, candidates, ASSETS, 1);
+
+        Assert.assertEquals(3, solved.size());
+        Assert.assertTrue(candidates.containsAll(solved));
+    }
+
+    private List<String> getSeaGrids() {
+        List<String> grids = new ArrayList<>();
+
+        for (int row = 0; row < gameMap.getRows(); row++) {
+            for (int column = 0; column < gameMap.getColumns(); column++) {
+                GameGrid grid = gameMap.getGrid(row, column);
+                if (grid != null && grid.getType() != GridType.LAND) {
+                    grids.add(grid.getMapReference());
+                }
+            }
+        }
+
+        return grids;
+    }
+
+    private GameGrid getGrid(final int cell) {
+        return gameMap.getGrid(cell / gameMap.getColumns(), cell % gameMap.getColumns());
+    }
+}
@@ -8,7 +8,7 @@ import engima.waratsea.model.game.Side;
 import engima.waratsea.model.map.region.Region;
 import engima.waratsea.model.map.region.RegionDAO;
 import engima.waratsea.model.scenario.Scenario;
-import engima.waratsea.model.scenario.ScenarioDAO;
+import engima.waratsea.model.scenario.ScenarioCatalogue;
 import enigma.waratsea.TestModule;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
@@ -20,7 +20,7 @@ import java.util.List;
 @Slf4j
 public class RegionTest {
     private static GameTitle gameTitle;
-    private static ScenarioDAO scenarioDAO;
+    private static ScenarioCatalogue scenarioCatalogue;
     private static RegionDAO regionDAO;
 
     @BeforeClass
@@ -28,7 +28,7 @@ public class RegionTest {
         Injector injector = Guice.createInjector(new TestModule());
 
         gameTitle = injector.getInstance(GameTitle.class);                                                              //The game instance must be injected first!
-        scenarioDAO = injector.getInstance(ScenarioDAO.class);
+        scenarioCatalogue = injector.getInstance(ScenarioCatalogue.class);
         regionDAO = injector.getInstance(RegionDAO.class);
     }
 
@@ -42,7 +42,7 @@ public class RegionTest {
 
         gameTitle.setName(gameName);
 
-        List<Scenario> scenarios = scenarioDAO.load();
+        List<Scenario> scenarios = scenarioCatalogue.load();
         scenarios.forEach(this::loadRegion);
     }
 
@@ -0,0 +1,169 @@
+package enigma.waratsea.model.minefield;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.map.GameGrid;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.minefield.Minefield;
+import engima.waratsea.model.minefield.MinefieldTransit;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import enigma.waratsea.TestModule;
+import enigma.waratsea.utility.FixedDice;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+public class MinefieldTransitTest {
+    private static final int TRANSITS = 100;
+    private static final int PATH_START_ROW = 0;
+    private static final int PATH_LENGTH = 20;
+    private static final int PATH_COLUMN = 40;
+
+    private static GameMap gameMap;
+    private static TaskForceFactory taskForceFactory;
+    private static ShipDamageStore damageStore;
+    private static Minefield italy;
+    private static Minefield libya;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        taskForceFactory = injector.getInstance(TaskForceFactory.class);
+        damageStore = injector.getInstance(ShipDamageStore.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("puntaStilo");
+        scenario.setTitle("Punta Stilo");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+
+        italy = gameMap.getMinefields(Side.AXIS).get(0);
+        libya = gameMap.getMinefields(Side.AXIS).get(1);
+    }
+
+    @Test
+    public void testMinedGridsFollowMinefieldChanges() {
+        MinefieldTransit transit = new MinefieldTransit(gameMap, new FixedDice(1), damageStore);
+
+        GameGrid grid = gameMap.getGrid("AK20").orElseThrow();
+
+        italy.setActiveMapRef(new ArrayList<>());
+        Assert.assertFalse(transit.isMined(Side.AXIS, grid));
+
+        italy.addMine("AK20");
+        Assert.assertTrue(transit.isMined(Side.AXIS, grid));
+        Assert.assertFalse(transit.isMined(Side.ALLIES, grid));
+
+        italy.removeMine("AK20");
+        Assert.assertFalse(transit.isMined(Side.AXIS, grid));
+    }
+
+    @Test
+    public void testMineHitsDamageEnemyShips() {
+        italy.setActiveMapRef(new ArrayList<>(List.of("AK20")));
+        libya.setActiveMapRef(new ArrayList<>());
+
+        List<GameGrid> path = List.of(gameMap.getGrid("AK19").orElseThrow(), gameMap.getGrid("AK20").orElseThrow());
+
+        TaskForce allied = buildTaskForce(Side.ALLIES, "Mined", "AK18");
+        Ship sheffield = allied.getShip("CL36 Sheffield");
+        int health = sheffield.getHull().getHealth();
+
+        List<ShipEvent> events = new ArrayList<>();
+        Object handler = new Object();
+        ShipEvent.register(handler, events::add);
+
+        Assert.assertEquals(0, new MinefieldTransit(gameMap, new FixedDice(1), damageStore).resolve(allied, path));
+        Assert.assertEquals(2, new MinefieldTransit(gameMap, new FixedDice(MinefieldTransit.HIT_ROLL), damageStore).resolve(allied, path));
+
+        ShipEvent.unregister(handler);
+
+        Assert.assertEquals(health - MinefieldTransit.HULL_DAMAGE, sheffield.getHull().getHealth());
+        Assert.assertTrue(events
+                .stream()
+                .anyMatch(event -> event.getShip() == sheffield
+                        && event.getAction() == ShipEventAction.DAMAGED_HULL
+                        && event.getBy() == AssetType.MINE));
+
+        // Friendly minefields are not a hazard.
+        TaskForce axis = buildTaskForce(Side.AXIS, "Friendly", "AK18");
+        Assert.assertEquals(0, new MinefieldTransit(gameMap, new FixedDice(MinefieldTransit.HIT_ROLL), damageStore).resolve(axis, path));
+    }
+
+    @Test
+    public void testMinedGridsOnlyRebuiltWhenMinefieldsChange() {
+        MinefieldTransit transit = new MinefieldTransit(gameMap, new FixedDice(1), damageStore);
+        TaskForce taskForce = buildTaskForce(Side.ALLIES, "Rebuild", "AO1");
+
+        List<GameGrid> path = IntStream
+                .range(PATH_START_ROW, PATH_START_ROW + PATH_LENGTH)
+                .mapToObj(row -> gameMap.getGrid(row, PATH_COLUMN))
+                .collect(Collectors.toList());
+
+        italy.setActiveMapRef(new ArrayList<>(List.of("AK20")));
+        libya.setActiveMapRef(new ArrayList<>());
+
+        transit.resolve(taskForce, path);
+        int rebuilds = transit.getRebuilds();
+        int version = italy.getVersion();
+
+        for (int i = 0; i < TRANSITS; i++) {
+            Assert.assertEquals(0, transit.resolve(taskForce, path));
+        }
+
+        Assert.assertEquals(version, italy.getVersion());
+        Assert.assertEquals(rebuilds, transit.getRebuilds());                  // Unchanged minefields reuse the bitset.
+
+        italy.addMine("AK21");
+        transit.resolve(taskForce, path);
+        transit.resolve(taskForce, path);
+
+        Assert.assertEquals(rebuilds + 1, transit.getRebuilds());              // A new mine rebuilds it once.
+
+        italy.removeMine("AK21");
+        transit.resolve(taskForce, path);
+
+        Assert.assertEquals(rebuilds + 2, transit.getRebuilds());
+    }
+
+    private TaskForce buildTaskForce(final Side side, final String name, final String location) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        List<String> ships = side == Side.ALLIES
+                ? List.of("CL36 Sheffield", "DD53 Faulknor")
+                : List.of("CA01 Trento");
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(ships));
+        data.setLocation(location);
+
+        return taskForceFactory.create(side, data);
+    }
+}
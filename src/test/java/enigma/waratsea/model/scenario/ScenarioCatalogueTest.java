@@ -0,0 +1,148 @@
+package enigma.waratsea.model.scenario;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.AppProps;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Resource;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.scenario.ScenarioCatalogue;
+import engima.waratsea.model.weather.WeatherType;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+public class ScenarioCatalogueTest {
+    private static final String SCENARIO_DIRECTORY = "bombAlley/scenarios/";
+    private static final String INDEX = "[\"second\", \"first\"]";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Resource config;
+    private GameTitle gameTitle;
+    private AppProps props;
+
+    private final Map<String, String> resources = new LinkedHashMap<>();
+
+    @Before
+    public void setup() {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        config = injector.getInstance(Resource.class);
+        props = injector.getInstance(AppProps.class);
+
+        resources.put(SCENARIO_DIRECTORY + "first/summary.json", summary("first", 1));
+        resources.put(SCENARIO_DIRECTORY + "second/summary.json", summary("second", 2));
+    }
+
+    @Test
+    public void testExplodedDirectory() throws Exception {
+        resources.put(SCENARIO_DIRECTORY + "index.json", INDEX);
+
+        ScenarioCatalogue catalogue = new ScenarioCatalogue(config, gameTitle, props, classLoader(writeDirectory()));
+
+        assertScenarios(catalogue);
+    }
+
+    @Test
+    public void testExplodedDirectoryWithoutIndex() throws Exception {
+        ScenarioCatalogue catalogue = new ScenarioCatalogue(config, gameTitle, props, classLoader(writeDirectory()));
+
+        assertScenarios(catalogue);
+    }
+
+    @Test
+    public void testJar() throws Exception {
+        resources.put(SCENARIO_DIRECTORY + "index.json", INDEX);
+
+        ScenarioCatalogue catalogue = new ScenarioCatalogue(config, gameTitle, props, classLoader(writeJar()));
+
+        assertScenarios(catalogue);
+    }
+
+    @Test
+    public void testCachedScenariosAreCopied() throws Exception {
+        resources.put(SCENARIO_DIRECTORY + "index.json", INDEX);
+
+        Path directory = writeDirectory();
+        ScenarioCatalogue catalogue = new ScenarioCatalogue(config, gameTitle, props, classLoader(directory));
+
+        List<Scenario> scenarios = catalogue.load();
+        scenarios.get(0).setObjectives("changed");
+
+        // Later loads are served from memory. Removing the files does not change the catalogue.
+        Files.delete(directory.resolve(SCENARIO_DIRECTORY + "first/summary.json"));
+
+        List<Scenario> cached = catalogue.load();
+
+        Assert.assertEquals(2, cached.size());
+        Assert.assertNotSame(scenarios.get(0), cached.get(0));
+        Assert.assertNull(cached.get(0).getObjectives());
+    }
+
+    private void assertScenarios(final ScenarioCatalogue catalogue) throws Exception {
+        List<Scenario> scenarios = catalogue.load();
+
+        Assert.assertEquals(2, scenarios.size());
+        Assert.assertEquals("first", scenarios.get(0).getName());     // Sorted by id.
+        Assert.assertEquals("second", scenarios.get(1).getName());
+        Assert.assertEquals(WeatherType.RAIN, scenarios.get(1).getWeather());
+        Assert.assertEquals("1940", scenarios.get(0).getYear());
+    }
+
+    private Path writeDirectory() throws Exception {
+        Path root = folder.newFolder("classes").toPath();
+
+        for (Map.Entry<String, String> resource : resources.entrySet()) {
+            Path path = root.resolve(resource.getKey());
+            Files.createDirectories(path.getParent());
+            Files.write(path, resource.getValue().getBytes(StandardCharsets.UTF_8));
+        }
+
+        return root;
+    }
+
+    private Path writeJar() throws Exception {
+        Path jar = folder.getRoot().toPath().resolve("scenarios.jar");
+
+        try (OutputStream out = Files.newOutputStream(jar);
+             JarOutputStream jarOut = new JarOutputStream(out)) {
+            for (Map.Entry<String, String> resource : resources.entrySet()) {
+                jarOut.putNextEntry(new JarEntry(resource.getKey()));
+                jarOut.write(resource.getValue().getBytes(StandardCharsets.UTF_8));
+                jarOut.closeEntry();
+            }
+        }
+
+        return jar;
+    }
+
+    private ClassLoader classLoader(final Path path) throws Exception {
+        return new URLClassLoader(new URL[]{path.toUri().toURL()}, null);
+    }
+
+    private String summary(final String name, final int id) {
+        return "{\"name\": \"" + name + "\", \"title\": \"" + name + "\", \"id\": " + id + ", "
+                + "\"date\": \"06/11/1940\", \"weather\": \"" + (id == 1 ? "CLEAR" : "RAIN") + "\", \"map\": \"june1940\"}";
+    }
+}
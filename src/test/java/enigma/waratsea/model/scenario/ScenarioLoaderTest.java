@@ -8,7 +8,7 @@ import engima.waratsea.model.game.GameTitle;
 import engima.waratsea.model.game.Side;
 import engima.waratsea.model.map.GameMap;
 import engima.waratsea.model.scenario.Scenario;
-import engima.waratsea.model.scenario.ScenarioDAO;
+import engima.waratsea.model.scenario.ScenarioCatalogue;
 import engima.waratsea.model.taskForce.TaskForce;
 import engima.waratsea.model.taskForce.TaskForceDAO;
 import engima.waratsea.model.weather.WeatherType;
@@ -61,9 +61,9 @@ public class ScenarioLoaderTest {
 
         try {
             gameTitle.setName(gameName);
-            ScenarioDAO scenarioDAO = injector.getInstance(ScenarioDAO.class);
+            ScenarioCatalogue scenarioCatalogue = injector.getInstance(ScenarioCatalogue.class);
 
-            List<Scenario> scenarios = scenarioDAO.load();
+            List<Scenario> scenarios = scenarioCatalogue.load();
 
             assert (!scenarios.isEmpty());                                                                              // Ensure that at least one scenario was loaded.
 
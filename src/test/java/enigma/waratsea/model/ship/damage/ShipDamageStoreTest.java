@@ -0,0 +1,202 @@
+package enigma.waratsea.model.ship.damage;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.ArmourType;
+import engima.waratsea.model.ship.Hull;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.ship.damage.ComponentSlot;
+import engima.waratsea.model.ship.damage.DamageBatch;
+import engima.waratsea.model.ship.damage.ShipDamageStore;
+import engima.waratsea.model.ship.data.HullData;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ShipDamageStoreTest {
+    private static final int MANY_VESSELS = 1000;
+
+    private static ShipDamageStore store;
+    private static TaskForceFactory taskForceFactory;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        GameMap gameMap = injector.getInstance(GameMap.class);
+        store = injector.getInstance(ShipDamageStore.class);
+        taskForceFactory = injector.getInstance(TaskForceFactory.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testHullIsViewOverStore() {
+        ShipDamageStore damageStore = new ShipDamageStore();
+
+        HullData data = new HullData();
+        data.setMaxHealth(5);
+        data.setHealth(4);
+        data.setArmour(ArmourType.LIGHT);
+
+        int row = damageStore.allocate();
+        Hull hull = new Hull(data, damageStore, damageStore.getCell(row, ComponentSlot.HULL));
+
+        Assert.assertEquals(4, damageStore.getHealth(hull.getCell()));
+        Assert.assertEquals(5, hull.getMaxHealth());
+        Assert.assertEquals(ArmourType.LIGHT, hull.getArmour());
+
+        damageStore.setHealth(hull.getCell(), 2);
+        Assert.assertEquals(2, hull.getHealth());
+
+        hull.setHealth(3);
+        Assert.assertEquals(3, hull.getData().getHealth());
+    }
+
+    @Test
+    public void testStoreGrows() {
+        ShipDamageStore damageStore = new ShipDamageStore();
+
+        int last = 0;
+        for (int i = 0; i < MANY_VESSELS; i++) {
+            last = damageStore.allocate();
+            damageStore.init(damageStore.getCell(last, ComponentSlot.HULL), i, i, null);
+        }
+
+        Assert.assertEquals(MANY_VESSELS, damageStore.getVesselCount());
+        Assert.assertEquals(MANY_VESSELS - 1, damageStore.getHealth(damageStore.getCell(last, ComponentSlot.HULL)));
+        Assert.assertNull(damageStore.getArmour(damageStore.getCell(last, ComponentSlot.HULL)));
+    }
+
+    @Test
+    public void testClear() {
+        ShipDamageStore damageStore = new ShipDamageStore();
+
+        for (int i = 0; i < 3; i++) {
+            int row = damageStore.allocate();
+            damageStore.init(damageStore.getCell(row, ComponentSlot.HULL), 2, 2, ArmourType.LIGHT);
+        }
+
+        damageStore.clear();
+
+        Assert.assertEquals(0, damageStore.getVesselCount());
+        Assert.assertEquals(0, damageStore.allocate());
+        Assert.assertEquals(0, damageStore.getHealth(damageStore.getCell(0, ComponentSlot.HULL)));
+    }
+
+    @Test
+    public void testSecondScenarioLoadStartsAtFirstRow() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        ShipDamageStore damageStore = injector.getInstance(ShipDamageStore.class);
+        Game game = injector.getInstance(Game.class);
+
+        List<Scenario> scenarios = game.initScenarios();
+        game.setScenario(scenarios.get(0));
+        game.setHumanSide(Side.ALLIES);
+        game.startNew();
+
+        int vessels = damageStore.getVesselCount();
+        Assert.assertTrue(vessels > 0);
+
+        game.setScenario(scenarios.get(0));
+        game.startNew();
+
+        Assert.assertEquals(vessels, damageStore.getVesselCount());            // The first game's rows are released.
+
+        int firstRow = game
+                .getHumanPlayer()
+                .getTaskForces()
+                .stream()
+                .flatMap(taskForce -> taskForce.getShips().stream())
+                .mapToInt(ship -> ship.getHull().getCell() / ShipDamageStore.SLOTS)
+                .min()
+                .orElseThrow();
+
+        Assert.assertTrue(firstRow < vessels);
+    }
+
+    @Test
+    public void testBatchedDamageFiresShipEvents() {
+        TaskForce taskForce = buildTaskForce(List.of("CL36 Sheffield", "DD53 Faulknor"));
+
+        Ship sheffield = taskForce.getShip("CL36 Sheffield");
+        Ship faulknor = taskForce.getShip("DD53 Faulknor");
+
+        int sheffieldHealth = sheffield.getHull().getHealth();
+        int faulknorHealth = faulknor.getHull().getHealth();
+
+        DamageBatch batch = new DamageBatch();
+        batch.add(sheffield, sheffield.getHull().getCell(), 1);
+        batch.add(sheffield.getSecondary().getCell(), 1);                  // Not reported.
+        batch.add(faulknor, faulknor.getHull().getCell(), faulknorHealth + 1);     // More damage than health.
+
+        Assert.assertEquals(faulknorHealth + 1, batch.getTotal(faulknor.getHull().getCell()));
+
+        List<ShipEvent> events = new ArrayList<>();
+        Object handler = new Object();
+        ShipEvent.register(handler, events::add);
+
+        Assert.assertEquals(1, store.apply(batch, AssetType.MINE));
+
+        ShipEvent.unregister(handler);
+
+        Assert.assertEquals(sheffieldHealth - 1, sheffield.getHull().getHealth());
+        Assert.assertEquals(0, faulknor.getHull().getHealth());
+
+        Assert.assertEquals(List.of(ShipEventAction.DAMAGED_HULL), getActions(events, sheffield));
+        Assert.assertEquals(List.of(ShipEventAction.DAMAGED_HULL, ShipEventAction.SUNK), getActions(events, faulknor));
+        Assert.assertTrue(events.stream().allMatch(event -> event.getBy() == AssetType.MINE));
+    }
+
+    private List<ShipEventAction> getActions(final List<ShipEvent> events, final Ship ship) {
+        return events
+                .stream()
+                .filter(event -> event.getShip() == ship)
+                .map(ShipEvent::getAction)
+                .collect(Collectors.toList());
+    }
+
+    private TaskForce buildTaskForce(final List<String> ships) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setName("Damage");
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(ships));
+        data.setLocation("AK10");
+
+        return taskForceFactory.create(Side.ALLIES, data);
+    }
+}
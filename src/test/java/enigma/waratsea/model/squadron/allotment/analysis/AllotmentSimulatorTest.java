@@ -0,0 +1,186 @@
+package enigma.waratsea.model.squadron.allotment.analysis;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Resource;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.squadron.allotment.AllotmentDAO;
+import engima.waratsea.model.squadron.allotment.analysis.AllotmentOutcome;
+import engima.waratsea.model.squadron.allotment.analysis.AllotmentSimulator;
+import engima.waratsea.model.squadron.allotment.analysis.StepDistribution;
+import engima.waratsea.model.squadron.allotment.data.AllotmentAircraftData;
+import engima.waratsea.model.squadron.allotment.data.AllotmentData;
+import engima.waratsea.model.squadron.allotment.data.AllotmentGroupData;
+import engima.waratsea.model.squadron.allotment.data.AllotmentTableData;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.Calendar;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AllotmentSimulatorTest {
+    private static final double EPSILON = 1e-12;
+    private static final int SAMPLES = 20000;
+
+    private static AllotmentSimulator simulator;
+    private static AllotmentDAO allotmentDAO;
+    private static Resource config;
+
+    @BeforeClass
+    public static void setup() {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        config = injector.getInstance(Resource.class);
+        allotmentDAO = injector.getInstance(AllotmentDAO.class);
+        simulator = injector.getInstance(AllotmentSimulator.class);
+
+        gameTitle.setName(GameName.BOMB_ALLEY);
+    }
+
+    @Test
+    public void testStepDistributionMatchesEnumeration() {
+        for (int dice = 0; dice <= 4; dice++) {
+            int factor = dice - 2;
+            StepDistribution distribution = StepDistribution.of(dice, factor);
+            Map<Integer, Integer> counts = new HashMap<>();
+            int rolls = enumerate(dice, 0, factor, counts);
+
+            Assert.assertEquals(dice + factor, distribution.getMin());
+            Assert.assertEquals(dice * 6 + factor, distribution.getMax());
+
+            for (int steps = distribution.getMin() - 1; steps <= distribution.getMax() + 1; steps++) {
+                double expected = counts.getOrDefault(steps, 0) / (double) rolls;
+                Assert.assertEquals(expected, distribution.getProbability(steps), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void testOptionalDiceMatchesEnumeration() {
+        Map<Integer, Double> optional = simulator.getOptionalDice(List.of("bombers", "fighters", "recon"), 3).get("fighters");
+
+        // The bombers roll 1-3, then the fighters roll a die of what remains.
+        Assert.assertEquals(1.0 / 3, optional.get(0), EPSILON);
+        Assert.assertEquals(1.0 / 3 * (1.0 + 1.0 / 2), optional.get(1), EPSILON);
+        Assert.assertEquals(1.0 / 3 * (1.0 / 2), optional.get(2), EPSILON);
+
+        StepDistribution mixed = StepDistribution.of(Map.of(1, 0.5, 2, 0.5), 0);
+        Assert.assertEquals(0.5 / 6, mixed.getProbability(1), EPSILON);
+        Assert.assertEquals(0.5 / 6 + 0.5 / 36, mixed.getProbability(2), EPSILON);
+        Assert.assertEquals(0.5 / 36, mixed.getProbability(12), EPSILON);
+    }
+
+    @Test
+    public void testExhaustedGroupsTerminate() {
+        AllotmentData data = new AllotmentData();
+        data.setNation(Nation.BRITISH);
+        data.setBombers(table(4, 10, group(1, aircraft("Blenheim", 2))));
+
+        AllotmentOutcome outcome = simulator.simulate(data, SAMPLES, 1L);
+
+        Assert.assertEquals(1.0, outcome.getInclusion("Blenheim"), EPSILON);
+        Assert.assertEquals(2.0, outcome.getMeanTableSquadrons().get("bombers"), EPSILON);
+        Assert.assertEquals(1.0, outcome.getShortfall().get("bombers"), EPSILON);
+    }
+
+    @Test
+    public void testDataIsNotChanged() throws Exception {
+        AllotmentData data = loadBritish();
+        int bomberOptionalDice = data.getBombers().getOptionalDice();
+        int blenheims = data.getBombers().getGroups().get(0).getAircraft().get(0).getNumber();
+
+        simulator.simulate(data, SAMPLES, 1L);
+
+        Assert.assertEquals(bomberOptionalDice, data.getBombers().getOptionalDice());
+        Assert.assertEquals(blenheims, data.getBombers().getGroups().get(0).getAircraft().get(0).getNumber());
+    }
+
+    @Test
+    public void testOutcomeIsDeterministicForSeed() throws Exception {
+        AllotmentData data = loadBritish();
+
+        AllotmentOutcome first = simulator.simulate(data, SAMPLES, 42L);
+        AllotmentOutcome second = simulator.simulate(data, SAMPLES, 42L);
+
+        Assert.assertEquals(first.getInclusion(), second.getInclusion());
+        Assert.assertEquals(first.getMeanSquadrons(), second.getMeanSquadrons());
+
+        first.getInclusion().values().forEach(probability -> Assert.assertTrue(probability >= 0.0 && probability <= 1.0));
+        Assert.assertEquals(first.getSteps().size() + 1, first.getStats().size());
+    }
+
+    @Test
+    public void testSampledSquadronsMatchExactDistribution() {
+        AllotmentData data = new AllotmentData();
+        data.setNation(Nation.ITALIAN);
+        data.setFighters(table(2, 1, group(2, aircraft("CR42", 20)), group(1, aircraft("G50", 20))));
+
+        AllotmentOutcome outcome = simulator.simulate(data, SAMPLES, 7L);
+        StepDistribution steps = outcome.getSteps().get("fighters");
+
+        double expected = 0.0;
+        for (int squadrons = 0; squadrons <= steps.getMaxSquadrons(); squadrons++) {
+            expected += squadrons * steps.getSquadronProbability(squadrons);
+        }
+
+        Assert.assertEquals(expected, outcome.getMeanTableSquadrons().get("fighters"), 0.05);
+    }
+
+    private AllotmentData loadBritish() throws Exception {
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The First Sortie");
+        scenario.setMap("june1940");
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(1940, Calendar.JUNE, 11);
+        scenario.setDate(calendar.getTime());
+
+        config.setScenario(scenario.getName());
+
+        return allotmentDAO.loadData(scenario, Side.ALLIES, Nation.BRITISH);
+    }
+
+    private int enumerate(final int dice, final int sum, final int factor, final Map<Integer, Integer> counts) {
+        if (dice == 0) {
+            counts.merge(sum + factor, 1, Integer::sum);
+            return 1;
+        }
+
+        int rolls = 0;
+        for (int face = 1; face <= 6; face++) {
+            rolls += enumerate(dice - 1, sum + face, factor, counts);
+        }
+        return rolls;
+    }
+
+    private AllotmentTableData table(final int dice, final int factor, final AllotmentGroupData... groups) {
+        AllotmentTableData table = new AllotmentTableData();
+        table.setDice(dice);
+        table.setFactor(factor);
+        table.setGroups(List.of(groups));
+        return table;
+    }
+
+    private AllotmentGroupData group(final int selectSize, final AllotmentAircraftData... aircraft) {
+        AllotmentGroupData group = new AllotmentGroupData();
+        group.setSelectSize(selectSize);
+        group.setAircraft(List.of(aircraft));
+        return group;
+    }
+
+    private AllotmentAircraftData aircraft(final String type, final int number) {
+        AllotmentAircraftData aircraft = new AllotmentAircraftData();
+        aircraft.setType(type);
+        aircraft.setNumber(number);
+        return aircraft;
+    }
+}
@@ -0,0 +1,190 @@
+package enigma.waratsea.model.squadron.deployment;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.aircraft.LandingType;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.AirfieldFactory;
+import engima.waratsea.model.base.airfield.data.AirfieldData;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.region.Region;
+import engima.waratsea.model.map.region.RegionFactory;
+import engima.waratsea.model.map.region.data.RegionData;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronFactory;
+import engima.waratsea.model.squadron.SquadronStrength;
+import engima.waratsea.model.squadron.data.SquadronData;
+import engima.waratsea.model.squadron.deployment.SquadronDeploymentMap;
+import engima.waratsea.model.squadron.deployment.SquadronDeploymentPlan;
+import engima.waratsea.model.squadron.deployment.SquadronDeploymentSolver;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class SquadronDeploymentSolverTest {
+    private static final long SEED = 42L;
+
+    private Injector injector;
+    private AirfieldFactory airfieldFactory;
+    private SquadronFactory squadronFactory;
+    private RegionFactory regionFactory;
+    private SquadronDeploymentSolver solver;
+    private int squadronNumber;
+
+    @Before
+    public void setup() {
+        injector = Guice.createInjector(new TestModule());
+
+        injector.getInstance(GameTitle.class).setName(GameName.BOMB_ALLEY);
+
+        airfieldFactory = injector.getInstance(AirfieldFactory.class);
+        squadronFactory = injector.getInstance(SquadronFactory.class);
+        regionFactory = injector.getInstance(RegionFactory.class);
+        solver = injector.getInstance(SquadronDeploymentSolver.class);
+    }
+
+    @Test
+    public void testCapacityIsPacked() {
+        List<Squadron> squadrons = List.of(
+                buildSquadron(SquadronStrength.HALF),
+                buildSquadron(SquadronStrength.FULL),
+                buildSquadron(SquadronStrength.HALF),
+                buildSquadron(SquadronStrength.FULL));
+
+        Region region = buildRegion("0", squadrons);
+        List<Airfield> airfields = List.of(buildAirfield("Field1", 3, region), buildAirfield("Field2", 3, region));
+
+        SquadronDeploymentPlan plan = solver.solve(Nation.BRITISH, squadrons, airfields, buildMap(airfields), SEED);
+
+        Assert.assertTrue(plan.getUndeployed().isEmpty());
+        assertCapacityRespected(plan, airfields);
+    }
+
+    @Test
+    public void testRegionMinimumIsMet() {
+        List<Squadron> squadrons = List.of(
+                buildSquadron(SquadronStrength.FULL),
+                buildSquadron(SquadronStrength.FULL),
+                buildSquadron(SquadronStrength.FULL));
+
+        Region required = buildRegion("4", squadrons);
+        Region open = buildRegion("0", squadrons);
+
+        Airfield big = buildAirfield("Big", 10, open);
+        Airfield small = buildAirfield("Small", 4, required);
+        List<Airfield> airfields = List.of(big, small);
+
+        SquadronDeploymentPlan plan = solver.solve(Nation.BRITISH, squadrons, airfields, buildMap(airfields), SEED);
+
+        Assert.assertEquals(0, plan.getShortfall());
+        Assert.assertEquals(2, plan.getAssignments().values().stream().filter(small::equals).count());
+        assertCapacityRespected(plan, airfields);
+    }
+
+    @Test
+    public void testDeterministicForSeed() {
+        List<Squadron> squadrons = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            squadrons.add(buildSquadron(i % 3 == 0 ? SquadronStrength.HALF : SquadronStrength.FULL));
+        }
+
+        Region region = buildRegion("0", squadrons);
+        List<Airfield> airfields = List.of(
+                buildAirfield("Field1", 5, region),
+                buildAirfield("Field2", 7, region),
+                buildAirfield("Field3", 6, region));
+
+        SquadronDeploymentMap map = buildMap(airfields);
+
+        SquadronDeploymentPlan first = solver.solve(Nation.BRITISH, squadrons, airfields, map, SEED);
+        SquadronDeploymentPlan second = solver.solve(Nation.BRITISH, squadrons, airfields, map, SEED);
+
+        Assert.assertEquals(first.getAssignments(), second.getAssignments());
+        Assert.assertEquals(first.getScore(), second.getScore());
+        assertCapacityRespected(first, airfields);
+    }
+
+    @Test
+    public void testPlanIsApplicable() {
+        List<Squadron> squadrons = List.of(
+                buildSquadron(SquadronStrength.FULL),
+                buildSquadron(SquadronStrength.HALF),
+                buildSquadron(SquadronStrength.FULL));
+
+        Region region = buildRegion("0", squadrons);
+        List<Airfield> airfields = List.of(buildAirfield("Field1", 3, region), buildAirfield("Field2", 2, region));
+        SquadronDeploymentMap map = buildMap(airfields);
+
+        SquadronDeploymentPlan plan = solver.solve(Nation.BRITISH, squadrons, airfields, map, SEED);
+
+        plan.getAssignments().forEach((squadron, airfield) -> airfield.addSquadron(squadron));
+        plan.getAssignments().forEach((squadron, airfield) -> Assert.assertEquals(airfield, squadron.getHome()));
+
+        Assert.assertEquals(plan.getScore(), solver.evaluate(Nation.BRITISH, squadrons, airfields, map));
+    }
+
+    private void assertCapacityRespected(final SquadronDeploymentPlan plan, final List<Airfield> airfields) {
+        for (Airfield airfield : airfields) {
+            int aircraft = plan.getAssignments()
+                    .entrySet()
+                    .stream()
+                    .filter(entry -> entry.getValue() == airfield)
+                    .map(Map.Entry::getKey)
+                    .mapToInt(Squadron::getAircraftNumber)
+                    .sum();
+
+            Assert.assertTrue(SquadronStrength.calculateSteps(aircraft) <= airfield.getMaxCapacity());
+        }
+    }
+
+    private SquadronDeploymentMap buildMap(final List<Airfield> airfields) {
+        SquadronDeploymentMap map = injector.getInstance(SquadronDeploymentMap.class);
+        map.build(Side.ALLIES, Collections.emptyList(), airfields);
+        return map;
+    }
+
+    private Airfield buildAirfield(final String name, final int capacity, final Region region) {
+        AirfieldData data = new AirfieldData();
+        data.setName(name);
+        data.setSide(Side.ALLIES);
+        data.setLandingType(new ArrayList<>(Collections.singletonList(LandingType.LAND)));
+        data.setMaxCapacity(capacity);
+        data.setAntiAir(2);
+        data.setLocation("G20");
+
+        Airfield airfield = airfieldFactory.create(data);
+        airfield.addRegion(region);
+        return airfield;
+    }
+
+    private Region buildRegion(final String min, final List<Squadron> squadrons) {
+        RegionData regionData = new RegionData();
+        regionData.setAirfields(new ArrayList<>(Collections.singletonList("Gibraltar")));
+        regionData.setMin(min);
+        regionData.setMax("0");
+        regionData.setName("Gibraltar");
+        regionData.setNation(Nation.BRITISH);
+
+        return regionFactory
+                .createLandRegion(Side.ALLIES, regionData)
+                .setRequirements(squadrons);
+    }
+
+    private Squadron buildSquadron(final SquadronStrength strength) {
+        SquadronData data = new SquadronData();
+        data.setName("RAF " + squadronNumber++);
+        data.setModel("Kittyhawk");
+        data.setStrength(strength);
+
+        return squadronFactory.create(Side.ALLIES, Nation.BRITISH, data);
+    }
+}
@@ -0,0 +1,94 @@
+package enigma.waratsea.model.target;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.base.airfield.mission.AirMissionType;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.player.Player;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.target.Target;
+import engima.waratsea.model.target.TargetDAO;
+import engima.waratsea.model.target.TargetType;
+import engima.waratsea.model.target.data.TargetData;
+import engima.waratsea.model.taskForce.TaskForce;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.List;
+
+public class TargetDAOTest {
+    private static Game game;
+    private static TargetDAO targetDAO;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        game = injector.getInstance(Game.class);
+        targetDAO = injector.getInstance(TargetDAO.class);
+
+        List<Scenario> scenarios = game.initScenarios();
+        game.setScenario(scenarios.get(0));
+        game.setHumanSide(Side.ALLIES);
+        game.startNew();
+    }
+
+    @Test
+    public void testTargetsAreShared() {
+        TaskForce enemyTaskForce = game.getComputerPlayer().getTaskForces().get(0);
+
+        TargetData data = new TargetData();
+        data.setType(TargetType.ENEMY_TASK_FORCE);
+        data.setSide(Side.ALLIES);
+        data.setName(enemyTaskForce.getName());
+
+        Target loaded = targetDAO.load(data);
+
+        Assert.assertSame(loaded, targetDAO.getEnemyTaskForceTarget(enemyTaskForce));
+        Assert.assertSame(loaded, targetDAO.load(data));
+
+        Player human = game.getHumanPlayer();
+
+        List<Target> sweepTargets = human.getTargets(AirMissionType.SWEEP_AIRFIELD, Nation.BRITISH);
+        List<Target> strikeTargets = human.getTargets(AirMissionType.LAND_STRIKE, Nation.BRITISH);
+
+        Assert.assertSame(sweepTargets, strikeTargets);                            // Both missions share the same view.
+        Assert.assertSame(sweepTargets.get(0), targetDAO.load(sweepTargets.get(0).getData()));
+    }
+
+    @Test
+    public void testTaskForceMoveInvalidatesTaskForceTargets() {
+        Player human = game.getHumanPlayer();
+        TaskForce taskForce = human.getTaskForces().get(0);
+        String startingLocation = taskForce.getReference();
+
+        Target target = targetDAO.getFriendlyTaskForceTarget(taskForce);
+        List<Target> airfieldTargets = human.getTargets(AirMissionType.SWEEP_AIRFIELD, Nation.BRITISH);
+
+        taskForce.setReference("Alexandria");                                      // In port. Not a distant CAP target.
+
+        List<Target> inPort = human.getTargets(AirMissionType.DISTANT_CAP, Nation.BRITISH);
+        Assert.assertSame(inPort, human.getTargets(AirMissionType.DISTANT_CAP, Nation.BRITISH));
+        Assert.assertFalse(inPort.contains(target));
+
+        taskForce.setReference("J20");                                             // At sea.
+
+        List<Target> atSea = human.getTargets(AirMissionType.DISTANT_CAP, Nation.BRITISH);
+        Assert.assertNotSame(inPort, atSea);
+        Assert.assertTrue(atSea.contains(target));
+
+        // Bases have not changed so the base targets are not rebuilt.
+        Assert.assertSame(airfieldTargets, human.getTargets(AirMissionType.SWEEP_AIRFIELD, Nation.BRITISH));
+
+        taskForce.setReference(startingLocation);
+    }
+}
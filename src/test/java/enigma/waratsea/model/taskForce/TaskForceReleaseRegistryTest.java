@@ -0,0 +1,180 @@
+package enigma.waratsea.model.taskForce;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.AssetType;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.event.ship.data.ShipMatchData;
+import engima.waratsea.model.game.event.turn.TurnEvent;
+import engima.waratsea.model.game.event.turn.data.TurnMatchData;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceReleaseRegistry;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class TaskForceReleaseRegistryTest {
+    private static final int TRIALS = 10;
+    private static final int EVENTS_PER_TRIAL = 150;
+    private static final int MAX_TURN = 12;
+    private static final int MAX_VALUE = 6;
+
+    private static TaskForceFactory factory;
+    private static TaskForceReleaseRegistry registry;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        GameMap gameMap = injector.getInstance(GameMap.class);
+
+        factory = injector.getInstance(TaskForceFactory.class);
+        registry = injector.getInstance(TaskForceReleaseRegistry.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testReleaseMatchesPerTaskForceHandlers() {
+        Random random = new Random(1940);
+
+        for (int trial = 0; trial < TRIALS; trial++) {
+            registry.clear();
+
+            List<TaskForce> taskForces = buildTaskForces();
+            List<Ship> ships = new ArrayList<>();
+            taskForces.forEach(taskForce -> ships.addAll(taskForce.getShips()));
+
+            Set<TaskForce> expectedActive = new HashSet<>();
+
+            for (int i = 0; i < EVENTS_PER_TRIAL; i++) {
+                if (random.nextBoolean()) {
+                    ShipEvent event = new ShipEvent();
+                    event.setShip(ships.get(random.nextInt(ships.size())));
+                    event.setAction(ShipEventAction.values()[random.nextInt(ShipEventAction.values().length)]);
+                    event.setBy(random.nextBoolean() ? AssetType.AIRCRAFT : AssetType.SHIP);
+
+                    taskForces                                                  // The per task force handlers.
+                            .stream()
+                            .filter(taskForce -> taskForce.getReleaseShipEvents().stream().anyMatch(matcher -> matcher.match(event)))
+                            .forEach(expectedActive::add);
+
+                    event.fire();
+                } else {
+                    TurnEvent event = new TurnEvent(1 + random.nextInt(MAX_TURN));
+                    event.setValue(1 + random.nextInt(MAX_VALUE));
+
+                    taskForces
+                            .stream()
+                            .filter(taskForce -> taskForce.getReleaseTurnEvents().stream().anyMatch(matcher -> matcher.match(event)))
+                            .forEach(expectedActive::add);
+
+                    event.fire();
+                }
+
+                for (TaskForce taskForce : taskForces) {
+                    TaskForceState expected = expectedActive.contains(taskForce) ? TaskForceState.ACTIVE : TaskForceState.RESERVE;
+                    Assert.assertEquals(taskForce.getName(), expected, taskForce.getState());
+                    Assert.assertEquals(expected == TaskForceState.RESERVE, registry.isWaiting(taskForce));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testActiveTaskForceIsNotRegistered() {
+        TaskForceData data = buildData("Force Z", List.of("BB02 Warspite"));
+        data.setState(TaskForceState.ACTIVE);
+        data.setReleaseTurnEvents(List.of(turnMatch(1, 0, null)));
+
+        TaskForce taskForce = factory.create(Side.ALLIES, data);
+
+        Assert.assertFalse(registry.isWaiting(taskForce));
+    }
+
+    private List<TaskForce> buildTaskForces() {
+        List<TaskForce> taskForces = new ArrayList<>();
+
+        TaskForceData forceH = buildData("Force H", List.of("BC01 Renown", "CV04 Ark Royal-1"));
+        forceH.setReleaseShipEvents(List.of(shipMatch("CL36 Sheffield", null, null, "DAMAGED")));
+        taskForces.add(factory.create(Side.ALLIES, forceH));
+
+        TaskForceData forceK = buildData("Force K", List.of("CL17 Despatch", "CL36 Sheffield"));
+        forceK.setReleaseShipEvents(List.of(shipMatch(null, "force h", null, ShipEventAction.SPOTTED.toString())));
+        forceK.setReleaseTurnEvents(List.of(turnMatch(9, 0, null)));
+        taskForces.add(factory.create(Side.ALLIES, forceK));
+
+        TaskForceData forceB = buildData("Force B", List.of("DD53 Faulknor"));
+        forceB.setReleaseShipEvents(List.of(shipMatch(null, null, "BATTLESHIP", null)));
+        taskForces.add(factory.create(Side.ALLIES, forceB));
+
+        TaskForceData forceD = buildData("Force D", List.of("CVL04 Eagle-1", "BB02 Warspite"));
+        forceD.setReleaseTurnEvents(List.of(turnMatch(5, 0, null), turnMatch(0, 3, Set.of(1, 2))));
+        taskForces.add(factory.create(Side.ALLIES, forceD));
+
+        TaskForceData forceE = buildData("Force E", List.of("CL36 Sheffield"));
+        forceE.setReleaseShipEvents(List.of(shipMatch("CVL04 Eagle-1, BC01 Renown", null, null, ShipEventAction.SUNK.toString())));
+        forceE.setReleaseTurnEvents(List.of(turnMatch(0, 7, Set.of(6))));
+        taskForces.add(factory.create(Side.ALLIES, forceE));
+
+        return taskForces;
+    }
+
+    private TaskForceData buildData(final String name, final List<String> shipNames) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setMission(missionData);
+        data.setName(name);
+        data.setLocation("Alexandria");
+        data.setState(TaskForceState.RESERVE);
+        data.setShips(new ArrayList<>(shipNames));
+        return data;
+    }
+
+    private ShipMatchData shipMatch(final String name, final String taskForceName, final String shipType, final String action) {
+        ShipMatchData data = new ShipMatchData();
+        data.setSide(Side.ALLIES);
+        data.setName(name);
+        data.setTaskForceName(taskForceName);
+        data.setShipType(shipType);
+        data.setAction(action);
+        return data;
+    }
+
+    private TurnMatchData turnMatch(final int turn, final int turnGreaterThan, final Set<Integer> values) {
+        TurnMatchData data = new TurnMatchData();
+        data.setTurn(turn);
+        data.setTurnGreaterThan(turnGreaterThan);
+        data.setValues(values);
+        return data;
+    }
+}
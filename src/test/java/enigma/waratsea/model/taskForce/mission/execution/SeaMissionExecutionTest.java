@@ -0,0 +1,342 @@
+package enigma.waratsea.model.taskForce.mission.execution;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.squadron.Squadrons;
+import engima.waratsea.model.base.port.Port;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Phases;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.AircraftCarrier;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronFactory;
+import engima.waratsea.model.squadron.SquadronStrength;
+import engima.waratsea.model.squadron.data.SquadronData;
+import engima.waratsea.model.target.TargetType;
+import engima.waratsea.model.target.data.TargetData;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.mission.execution.BombardmentExecutor;
+import engima.waratsea.model.taskForce.mission.execution.FerryAircraftExecutor;
+import engima.waratsea.model.taskForce.mission.execution.FerryShipsExecutor;
+import engima.waratsea.model.taskForce.mission.execution.InvasionExecutor;
+import engima.waratsea.model.taskForce.mission.execution.SeaMissionExecution;
+import engima.waratsea.model.taskForce.mission.execution.TransportExecutor;
+import engima.waratsea.model.taskForce.mission.state.SeaMissionState;
+import engima.waratsea.utility.Dice;
+import enigma.waratsea.TestModule;
+import enigma.waratsea.utility.FixedDice;
+import mockit.Deencapsulation;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class SeaMissionExecutionTest {
+    private static final long SEED = 1940;
+
+    private static final String CAGLIARI = "AC17";
+    private static final String MALTA = "AK24";
+    private static final String ALEXANDRIA = "BG32";
+
+    private static Injector injector;
+    private static GameMap gameMap;
+    private static TaskForceFactory taskForceFactory;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        taskForceFactory = injector.getInstance(TaskForceFactory.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("puntaStilo");
+        scenario.setTitle("Punta Stilo");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testBombardmentDamagesAirfieldAndPort() {
+        SeaMissionExecution execution = buildExecution(new FixedDice(BombardmentExecutor.BOMBARDMENT_HIT_ROLL));
+
+        TaskForce taskForce = buildTaskForce("Bombard", SeaMissionType.BOMBARDMENT, "AC16", CAGLIARI,
+                List.of("BB02 Warspite", "CL36 Sheffield"), List.of());
+
+        Airfield airfield = getAirfield(Side.AXIS, "Cagliari");
+        Port port = gameMap.getPort(Side.AXIS, CAGLIARI).orElseThrow();
+
+        int capacity = airfield.getCapacity();
+        int damage = port.getDamage();
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.ON_STATION, taskForce.getMission().getState());
+        Assert.assertEquals(capacity, airfield.getCapacity());                  // Arriving on station does not fire.
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.RETURNING, taskForce.getMission().getState());
+
+        int hits = capacity - airfield.getCapacity();
+
+        Assert.assertEquals(taskForce.getShips().size(), hits);
+        Assert.assertEquals(damage + hits, port.getDamage());
+        Assert.assertFalse(taskForce.hasBombardmentAmmo());
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.RETURNING, taskForce.getMission().getState());
+        Assert.assertEquals(capacity - hits, airfield.getCapacity());           // The ammunition is spent.
+    }
+
+    @Test
+    public void testTransportUnloadsOverTurns() {
+        SeaMissionExecution execution = buildExecution(new FixedDice(1));
+
+        TaskForce taskForce = buildTaskForce("Convoy", SeaMissionType.TRANSPORT, MALTA, MALTA,
+                List.of("TL01"), List.of("TL01"));
+
+        Port port = gameMap.getPort(Side.ALLIES, MALTA).orElseThrow();
+        Ship transport = taskForce.getCargoShips().get(0);
+
+        int cargo = port.getCargo();
+        int level = transport.getCargo().getLevel();
+        int turns = (level + TransportExecutor.UNLOAD_PER_TURN - 1) / TransportExecutor.UNLOAD_PER_TURN;
+
+        Assert.assertTrue(turns > 1);
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.ON_STATION, taskForce.getMission().getState());
+
+        for (int turn = 1; turn < turns; turn++) {
+            execution.execute(List.of(taskForce));
+            Assert.assertEquals(SeaMissionState.EXECUTING, taskForce.getMission().getState());
+            Assert.assertEquals(level - turn * TransportExecutor.UNLOAD_PER_TURN, transport.getCargo().getLevel());
+        }
+
+        List<ShipEvent> events = new ArrayList<>();
+        Object handler = new Object();
+        ShipEvent.register(handler, events::add);
+
+        execution.execute(List.of(taskForce));
+
+        ShipEvent.unregister(handler);
+
+        Assert.assertEquals(SeaMissionState.RETURNING, taskForce.getMission().getState());
+        Assert.assertEquals(0, transport.getCargo().getLevel());
+        Assert.assertEquals(cargo + level, port.getCargo());
+
+        Assert.assertEquals(1, events.size());                                  // The emptied transport scores its cargo.
+        Assert.assertEquals(ShipEventAction.CARGO_UNLOADED, events.get(0).getAction());
+        Assert.assertSame(transport, events.get(0).getShip());
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.DONE, taskForce.getMission().getState());
+
+        Assert.assertEquals(0, execution.execute(List.of(taskForce)));           // Done missions are not batched.
+    }
+
+    @Test
+    public void testBombardedPortUnloadsLess() {
+        SeaMissionExecution execution = buildExecution(new FixedDice(1));
+
+        TaskForce taskForce = buildTaskForce("Damaged", SeaMissionType.TRANSPORT, ALEXANDRIA, ALEXANDRIA,
+                List.of("TL01"), List.of("TL01"));
+
+        Port port = gameMap.getPort(Side.ALLIES, ALEXANDRIA).orElseThrow();
+        Ship transport = taskForce.getCargoShips().get(0);
+
+        port.bombard(Port.MAJOR_UNLOAD_CAPACITY);
+        Assert.assertEquals(Port.MINIMUM_UNLOAD_CAPACITY, port.getUnloadCapacity());
+
+        int cargo = port.getCargo();
+        int level = transport.getCargo().getLevel();
+
+        Assert.assertTrue(level > Port.MINIMUM_UNLOAD_CAPACITY);
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.ON_STATION, taskForce.getMission().getState());
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.EXECUTING, taskForce.getMission().getState());
+        Assert.assertEquals(level - Port.MINIMUM_UNLOAD_CAPACITY, transport.getCargo().getLevel());
+        Assert.assertEquals(cargo + Port.MINIMUM_UNLOAD_CAPACITY, port.getCargo());
+    }
+
+    @Test
+    public void testFerryAircraftWaitsForCapacity() {
+        SeaMissionExecution execution = buildExecution(new FixedDice(1));
+        FerryAircraftExecutor ferry = new FerryAircraftExecutor(gameMap, injector.getInstance(OperationsLog.class));
+
+        TaskForce taskForce = buildTaskForce("Ferry", SeaMissionType.FERRY_AIRCRAFT, "AK20", MALTA,
+                List.of("CVL01 Argus-1"), List.of());
+
+        Airfield airfield = getAirfield(Side.ALLIES, "Malta-1940");
+        int capacity = airfield.getCapacity();
+        int ferried = ferry.getFerriedSquadrons(taskForce).size();
+
+        Assert.assertTrue(ferried > 0);
+
+        airfield.setCapacity(0);                                                 // The airfield is bombed out.
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.ON_STATION, taskForce.getMission().getState());
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.EXECUTING, taskForce.getMission().getState());
+        Assert.assertEquals(ferried, ferry.getFerriedSquadrons(taskForce).size());
+
+        airfield.setCapacity(capacity);
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.RETURNING, taskForce.getMission().getState());
+        Assert.assertTrue(ferry.getFerriedSquadrons(taskForce).isEmpty());
+        Assert.assertEquals(ferried, airfield.getSquadrons().size());
+    }
+
+    @Test
+    public void testFerryAircraftGivesUpOnRefusedNation() {
+        SeaMissionExecution execution = buildExecution(new FixedDice(1));
+        FerryAircraftExecutor ferry = new FerryAircraftExecutor(gameMap, injector.getInstance(OperationsLog.class));
+
+        TaskForce taskForce = buildTaskForce("Refused", SeaMissionType.FERRY_AIRCRAFT, "AK20", MALTA,
+                List.of("CVL01 Argus-1"), List.of());
+
+        AircraftCarrier carrier = (AircraftCarrier) taskForce.getShip("CVL01 Argus-1");
+        ferry.getFerriedSquadrons(taskForce).forEach(carrier::removeSquadron);
+
+        Squadron greek = buildSquadron(Nation.GREEK, "Hurricane-1f");
+        Squadrons squadrons = Deencapsulation.getField(carrier, "squadrons");
+        squadrons.add(greek);
+
+        Airfield airfield = getAirfield(Side.ALLIES, "Malta-1940");
+        Assert.assertFalse(airfield.canUse(Nation.GREEK));                     // Malta is only used by the British.
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.ON_STATION, taskForce.getMission().getState());
+
+        execution.execute(List.of(taskForce));
+        Assert.assertEquals(SeaMissionState.RETURNING, taskForce.getMission().getState());
+        Assert.assertEquals(List.of(greek), ferry.getFerriedSquadrons(taskForce));
+        Assert.assertFalse(airfield.getSquadrons().contains(greek));
+    }
+
+    @Test
+    public void testSkippedMissions() {
+        SeaMissionExecution execution = buildExecution(new FixedDice(1));
+
+        TaskForce invasion = buildTaskForce("Invasion", SeaMissionType.INVASION, "AC10", CAGLIARI,
+                List.of("TL02"), List.of("TL02"));
+        TaskForce patrol = buildTaskForce("Patrol", SeaMissionType.PATROL, "AC11", CAGLIARI,
+                List.of("CL36 Sheffield"), List.of());
+
+        Assert.assertEquals(0, execution.execute(List.of(invasion, patrol)));  // Neither is near its target.
+        Assert.assertEquals(SeaMissionState.EN_ROUTE, invasion.getMission().getState());
+        Assert.assertEquals(SeaMissionState.EN_ROUTE, patrol.getMission().getState());
+    }
+
+    @Test
+    public void testSeededBombardmentIsReproducible() {
+        List<Integer> first = runSeededBombardment("SeedA");
+        List<Integer> second = runSeededBombardment("SeedB");
+
+        Assert.assertEquals(first, second);
+    }
+
+    private List<Integer> runSeededBombardment(final String name) {
+        Dice dice = new Dice();
+        dice.setSeed(SEED);
+
+        SeaMissionExecution execution = buildExecution(dice);
+
+        List<String> ships = List.of("BB01 Queen Elizabeth", "BB02 Warspite", "BB03 Valiant", "CL36 Sheffield");
+
+        List<TaskForce> taskForces = new ArrayList<>();
+        taskForces.add(buildTaskForce(name + "1", SeaMissionType.BOMBARDMENT, "AC16", CAGLIARI, ships, List.of()));
+        taskForces.add(buildTaskForce(name + "2", SeaMissionType.BOMBARDMENT, "AC18", CAGLIARI, ships, List.of()));
+
+        Port port = gameMap.getPort(Side.AXIS, CAGLIARI).orElseThrow();
+
+        List<Integer> results = new ArrayList<>();
+
+        for (int turn = 0; turn < 2; turn++) {
+            int damage = port.getDamage();
+            results.add(execution.execute(taskForces));
+            results.add(port.getDamage() - damage);
+        }
+
+        return results;
+    }
+
+    private SeaMissionExecution buildExecution(final Dice dice) {
+        OperationsLog operationsLog = injector.getInstance(OperationsLog.class);
+
+        return new SeaMissionExecution(
+                new BombardmentExecutor(gameMap, dice, operationsLog),
+                new TransportExecutor(gameMap, operationsLog),
+                new InvasionExecutor(gameMap, operationsLog),
+                new FerryShipsExecutor(gameMap),
+                new FerryAircraftExecutor(gameMap, operationsLog),
+                new Phases(),
+                () -> null);
+    }
+
+    private TaskForce buildTaskForce(final String name, final SeaMissionType type, final String location,
+                                     final String target, final List<String> ships, final List<String> cargoShips) {
+        TargetData targetData = new TargetData();
+        targetData.setType(TargetType.LAND_GRID);
+        targetData.setName(target);
+
+        MissionData missionData = new MissionData();
+        missionData.setType(type);
+        missionData.setTargets(new ArrayList<>(Arrays.asList(targetData)));
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(ships));
+        data.setCargoShips(new ArrayList<>(cargoShips));
+        data.setLocation(location);
+        data.setState(TaskForceState.ACTIVE);
+
+        TaskForce taskForce = taskForceFactory.create(Side.ALLIES, data).init();
+        gameMap.updateTaskForces(List.of(taskForce));
+        return taskForce;
+    }
+
+    private Squadron buildSquadron(final Nation nation, final String model) {
+        SquadronData data = new SquadronData();
+        data.setModel(model);
+        data.setStrength(SquadronStrength.FULL);
+
+        return injector.getInstance(SquadronFactory.class).create(Side.ALLIES, nation, data);
+    }
+
+    private Airfield getAirfield(final Side side, final String name) {
+        return gameMap
+                .getAirfields(side)
+                .stream()
+                .filter(airfield -> airfield.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,171 @@
+package enigma.waratsea.model.taskForce.movement;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.TurnType;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.movement.TaskForceMovement;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TaskForceMovementTest {
+    private static final int EVEN_TURN = 2;
+    private static final int ODD_TURN = 3;
+
+    private static final int MANY_TASK_FORCES = 120;
+
+    private static GameMap gameMap;
+    private static TaskForceFactory taskForceFactory;
+    private static TaskForceMovement movement;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        taskForceFactory = injector.getInstance(TaskForceFactory.class);
+        movement = injector.getInstance(TaskForceMovement.class);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testSpeedIsSlowestShip() {
+        TaskForce taskForce = buildTaskForce("TF1", "AK10", List.of("BB02 Warspite", "DD53 Faulknor"));
+
+        Assert.assertEquals(3, movement.getSpeed(taskForce, EVEN_TURN, TurnType.DAY));
+        Assert.assertEquals(2, movement.getSpeed(taskForce, ODD_TURN, TurnType.DAY));
+        Assert.assertEquals(2, movement.getSpeed(taskForce, EVEN_TURN, TurnType.NIGHT));
+        Assert.assertEquals(1, movement.getSpeed(taskForce, ODD_TURN, TurnType.NIGHT));
+    }
+
+    @Test
+    public void testFuelLimitsSpeedAndIsBurned() {
+        TaskForce taskForce = buildTaskForce("TF2", "AK10", List.of("CL36 Sheffield", "DD53 Faulknor"));
+        taskForce.plotRoute(List.of("AK18"));
+
+        Ship sheffield = taskForce.getShip("CL36 Sheffield");
+        Ship faulknor = taskForce.getShip("DD53 Faulknor");
+
+        int sheffieldFuel = sheffield.getFuel().getLevel();
+        faulknor.getFuel().setLevel(2);
+
+        Assert.assertEquals(2, movement.getSpeed(taskForce, EVEN_TURN, TurnType.DAY));
+
+        movement.move(List.of(taskForce), EVEN_TURN, TurnType.DAY);
+
+        Assert.assertEquals("AK12", taskForce.getReference());
+        Assert.assertEquals(0, faulknor.getFuel().getLevel());
+        Assert.assertEquals(sheffieldFuel - 2 * TaskForceMovement.FUEL_PER_GRID, sheffield.getFuel().getLevel());
+
+        // Out of fuel ships limp along.
+        Assert.assertEquals(TaskForceMovement.OUT_OF_FUEL_SPEED, movement.getSpeed(taskForce, EVEN_TURN, TurnType.DAY));
+
+        movement.move(List.of(taskForce), EVEN_TURN, TurnType.DAY);
+
+        Assert.assertEquals("AK13", taskForce.getReference());
+        Assert.assertEquals(0, faulknor.getFuel().getLevel());
+    }
+
+    @Test
+    public void testPortArrival() {
+        TaskForce taskForce = buildTaskForce("TF3", "AK20", List.of("CL36 Sheffield", "DD53 Faulknor"));
+        taskForce.plotRoute(List.of("Malta"));
+
+        movement.move(List.of(taskForce), EVEN_TURN, TurnType.DAY);
+
+        Assert.assertEquals("AK23", taskForce.getReference());
+        Assert.assertFalse(taskForce.atPort());
+
+        movement.move(List.of(taskForce), ODD_TURN, TurnType.DAY);
+
+        Assert.assertEquals("AK24", taskForce.getReference());
+        Assert.assertTrue(taskForce.atPort());
+        Assert.assertTrue(taskForce.getRoute().isEmpty());
+        Assert.assertTrue(gameMap.getPort(Side.ALLIES, "Malta").orElseThrow().areTaskForcesPresent());
+
+        // A task force stops for the turn when it enters a friendly port on its route.
+        TaskForce passing = buildTaskForce("TF4", "AK22", List.of("CL36 Sheffield", "DD53 Faulknor"));
+        passing.plotRoute(List.of("Malta", "AK30"));
+
+        movement.move(List.of(passing), EVEN_TURN, TurnType.DAY);
+
+        Assert.assertEquals("AK24", passing.getReference());
+        Assert.assertEquals(List.of("AK30"), passing.getRoute());
+    }
+
+    @Test
+    public void testReserveTaskForceDoesNotMove() {
+        TaskForce taskForce = buildTaskForce("TF5", "AK10", List.of("CL36 Sheffield"));
+        taskForce.setState(TaskForceState.RESERVE);
+        taskForce.plotRoute(List.of("AK18"));
+
+        Assert.assertTrue(movement.move(List.of(taskForce), EVEN_TURN, TurnType.DAY).isEmpty());
+        Assert.assertEquals("AK10", taskForce.getReference());
+    }
+
+    @Test
+    public void testMoveManyTaskForces() {
+        List<TaskForce> taskForces = new ArrayList<>();
+
+        for (int i = 0; i < MANY_TASK_FORCES; i++) {
+            TaskForce taskForce = buildTaskForce("Many" + i, "J20", List.of("CL36 Sheffield", "DD53 Faulknor"));
+            taskForce.plotRoute(List.of("BA20", "J20", "BA20", "J20", "BA20", "J20"));
+            taskForces.add(taskForce);
+        }
+
+        int version = gameMap.getTaskForceVersion();
+        movement.move(taskForces, EVEN_TURN, TurnType.DAY);
+
+        Assert.assertEquals(version + 1, gameMap.getTaskForceVersion());       // The map is updated once.
+
+        String reference = taskForces.get(0).getReference();
+        long atReference = gameMap
+                .getTaskForceGrids()
+                .get(Side.ALLIES)
+                .stream()
+                .filter(grid -> grid.getReference().equals(reference))
+                .mapToLong(grid -> grid.getTaskForces().stream().filter(taskForces::contains).count())
+                .sum();
+
+        Assert.assertEquals(MANY_TASK_FORCES, atReference);                    // All share a single task force grid.
+    }
+
+    private TaskForce buildTaskForce(final String name, final String location, final List<String> shipNames) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(shipNames));
+        data.setLocation(location);
+        data.setState(TaskForceState.ACTIVE);
+
+        return taskForceFactory.create(Side.ALLIES, data);
+    }
+}
@@ -0,0 +1,215 @@
+package enigma.waratsea.model.taskForce.patrol;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.aircraft.LandingType;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.AirfieldFactory;
+import engima.waratsea.model.base.airfield.data.AirfieldData;
+import engima.waratsea.model.base.airfield.patrol.PatrolType;
+import engima.waratsea.model.enemy.views.taskForce.TaskForceView;
+import engima.waratsea.model.enemy.views.taskForce.TaskForceViewFactory;
+import engima.waratsea.model.enemy.views.taskForce.data.TaskForceViewData;
+import engima.waratsea.model.enemy.visibility.Visibility;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.operations.OperationsLog;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.map.region.Region;
+import engima.waratsea.model.map.region.RegionFactory;
+import engima.waratsea.model.map.region.data.RegionData;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronFactory;
+import engima.waratsea.model.squadron.SquadronStrength;
+import engima.waratsea.model.squadron.data.SquadronData;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.taskForce.patrol.PatrolSearch;
+import engima.waratsea.model.weather.Weather;
+import engima.waratsea.model.weather.WeatherType;
+import enigma.waratsea.TestModule;
+import enigma.waratsea.utility.FixedDice;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class PatrolSearchTest {
+    private static GameMap gameMap;
+    private static AirfieldFactory airfieldFactory;
+    private static SquadronFactory squadronFactory;
+    private static RegionFactory regionFactory;
+    private static TaskForceFactory taskForceFactory;
+    private static TaskForceViewFactory taskForceViewFactory;
+    private static OperationsLog operationsLog;
+    private static Visibility visibility;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        gameMap = injector.getInstance(GameMap.class);
+        airfieldFactory = injector.getInstance(AirfieldFactory.class);
+        squadronFactory = injector.getInstance(SquadronFactory.class);
+        regionFactory = injector.getInstance(RegionFactory.class);
+        taskForceFactory = injector.getInstance(TaskForceFactory.class);
+        taskForceViewFactory = injector.getInstance(TaskForceViewFactory.class);
+        operationsLog = injector.getInstance(OperationsLog.class);
+        visibility = injector.getInstance(Visibility.class);
+
+        Weather weather = injector.getInstance(Weather.class);
+        weather.setCurrent(WeatherType.CLEAR);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        gameMap.load(scenario);
+    }
+
+    @Test
+    public void testTaskForceInRangeIsSpotted() {
+        PatrolSearch patrolSearch = new PatrolSearch(gameMap, new FixedDice(1), operationsLog, visibility);
+
+        Airfield airfield = buildAirfieldWithSearch();
+
+        TaskForceView near = buildView("TF1", "J20");
+        TaskForceView far = buildView("TF2", "AA10");
+
+        List<TaskForceView> views = List.of(near, far);
+
+        Set<TaskForceView> spotted = patrolSearch.search(Stream.of(airfield.getPatrolGroups()), views);
+
+        Assert.assertEquals(1, spotted.size());
+        Assert.assertTrue(near.isSpotted());
+        Assert.assertFalse(far.isSpotted());
+
+        Assert.assertTrue(near.isSighted());
+        Assert.assertEquals(0, near.getLastKnownAge());
+        Assert.assertFalse(far.isSighted());
+    }
+
+    @Test
+    public void testFailedSearchClearsSpotted() {
+        PatrolSearch patrolSearch = new PatrolSearch(gameMap, new FixedDice(100), operationsLog, visibility);
+
+        Airfield airfield = buildAirfieldWithSearch();
+
+        TaskForceView near = buildView("TF3", "J20");
+        near.setSpotted(true);
+
+        Set<TaskForceView> spotted = patrolSearch.search(Stream.of(airfield.getPatrolGroups()), List.of(near));
+
+        Assert.assertTrue(spotted.isEmpty());
+        Assert.assertFalse(near.isSpotted());
+    }
+
+    @Test
+    public void testSearchSuccessRateIsCached() {
+        Airfield airfield = buildAirfieldWithSearch();
+
+        PatrolGroup group = airfield.getPatrolGroups().getPatrolGroup(PatrolType.SEARCH);
+
+        Assert.assertSame(group.getPatrolStats(), group.getPatrolStats());
+        Assert.assertEquals(33, group.getSuccessRate(3));
+    }
+
+    @Test
+    public void testPatrolGroupsKeptUntilPatrolChanges() {
+        Airfield airfield = buildAirfieldWithSearch();
+
+        PatrolGroups groups = airfield.getPatrolGroups();
+        Assert.assertSame(groups, airfield.getPatrolGroups());
+
+        Squadron squadron = groups.getPatrolGroup(PatrolType.SEARCH).getSquadrons().get(0);
+        squadron.setStrength(SquadronStrength.HALF);
+
+        PatrolGroups reduced = airfield.getPatrolGroups();
+        Assert.assertNotSame(groups, reduced);
+        Assert.assertSame(reduced, airfield.getPatrolGroups());
+
+        airfield.getPatrol(PatrolType.SEARCH).removeSquadron(squadron);
+
+        PatrolGroups removed = airfield.getPatrolGroups();
+        Assert.assertNotSame(reduced, removed);
+        Assert.assertTrue(removed.getPatrolGroup(PatrolType.SEARCH).getSquadrons().isEmpty());
+    }
+
+    private Airfield buildAirfieldWithSearch() {
+        Region region = buildRegion();
+        Airfield airfield = buildAirfield();
+        airfield.addRegion(region);
+
+        Squadron squadron = buildSquadronSeaplaneRecon();
+        airfield.addSquadron(squadron);
+        airfield.updatePatrol(PatrolType.SEARCH, Collections.singletonList(squadron));
+
+        return airfield;
+    }
+
+    private TaskForceView buildView(final String name, final String location) {
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setName(name);
+        data.setMission(missionData);
+        data.setShips(new ArrayList<>(Arrays.asList("CL36 Sheffield", "DD53 Faulknor")));
+        data.setLocation(location);
+
+        TaskForce taskForce = taskForceFactory.create(Side.ALLIES, data);
+
+        TaskForceViewData viewData = new TaskForceViewData();
+        viewData.setName(name);
+        viewData.setTaskForce(taskForce);
+
+        return taskForceViewFactory.create(viewData);
+    }
+
+    private Squadron buildSquadronSeaplaneRecon() {
+        SquadronData data = new SquadronData();
+        data.setName("RAF");
+        data.setModel("Sunderland");
+        data.setStrength(SquadronStrength.FULL);
+
+        return squadronFactory.create(Side.ALLIES, Nation.BRITISH, data);
+    }
+
+    private Airfield buildAirfield() {
+        AirfieldData data = new AirfieldData();
+        data.setName("Gibraltar");
+        data.setSide(Side.ALLIES);
+        data.setLandingType(new ArrayList<>(Arrays.asList(LandingType.LAND, LandingType.SEAPLANE)));
+        data.setMaxCapacity(40);
+        data.setAntiAir(6);
+        data.setLocation("G20");
+
+        return airfieldFactory.create(data);
+    }
+
+    private Region buildRegion() {
+        RegionData regionData = new RegionData();
+        regionData.setAirfields(new ArrayList<>(Collections.singletonList("Gibraltar")));
+        regionData.setMin("20");
+        regionData.setName("Gibraltar");
+        regionData.setNation(Nation.BRITISH);
+
+        return regionFactory.createLandRegion(Side.ALLIES, regionData);
+    }
+}
@@ -0,0 +1,388 @@
+package enigma.waratsea.model.victory;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import com.google.inject.Key;
+import com.google.inject.TypeLiteral;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.game.Turn;
+import engima.waratsea.model.game.TurnIndex;
+import engima.waratsea.model.game.data.TurnData;
+import engima.waratsea.model.game.event.airfield.AirfieldEvent;
+import engima.waratsea.model.game.event.airfield.AirfieldEventAction;
+import engima.waratsea.model.game.event.airfield.data.AirfieldMatchData;
+import engima.waratsea.model.game.event.ship.ShipEvent;
+import engima.waratsea.model.game.event.ship.ShipEventAction;
+import engima.waratsea.model.game.event.ship.data.ShipMatchData;
+import engima.waratsea.model.game.event.squadron.SquadronEvent;
+import engima.waratsea.model.game.event.squadron.SquadronEventAction;
+import engima.waratsea.model.game.event.squadron.data.SquadronMatchData;
+import engima.waratsea.model.map.GameMap;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.ship.Ship;
+import engima.waratsea.model.squadron.Squadron;
+import engima.waratsea.model.squadron.SquadronFactory;
+import engima.waratsea.model.squadron.data.SquadronData;
+import engima.waratsea.model.taskForce.TaskForce;
+import engima.waratsea.model.taskForce.TaskForceFactory;
+import engima.waratsea.model.taskForce.TaskForceState;
+import engima.waratsea.model.taskForce.data.TaskForceData;
+import engima.waratsea.model.taskForce.mission.SeaMissionType;
+import engima.waratsea.model.taskForce.mission.data.MissionData;
+import engima.waratsea.model.victory.AirfieldVictoryFactory;
+import engima.waratsea.model.victory.ShipVictoryFactory;
+import engima.waratsea.model.victory.SquadronVictoryFactory;
+import engima.waratsea.model.victory.VictoryCondition;
+import engima.waratsea.model.victory.VictoryConditions;
+import engima.waratsea.model.victory.VictoryConditionsFactory;
+import engima.waratsea.model.victory.data.AirfieldVictoryData;
+import engima.waratsea.model.victory.data.ShipVictoryData;
+import engima.waratsea.model.victory.data.SquadronVictoryData;
+import engima.waratsea.model.victory.data.VictoryConditionsData;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class VictoryConditionsIndexTest {
+    private static final int EVENTS = 5000;
+    private static final int EVENTS_PER_TURN = 37;
+
+    private static VictoryConditionsFactory victoryConditionsFactory;
+    private static ShipVictoryFactory<ShipEvent, ShipVictoryData> shipVictoryFactory;
+    private static SquadronVictoryFactory<SquadronEvent, SquadronVictoryData> squadronVictoryFactory;
+    private static AirfieldVictoryFactory<AirfieldEvent, AirfieldVictoryData> airfieldVictoryFactory;
+    private static Turn turn;
+
+    private static List<Ship> ships;
+    private static List<Squadron> squadrons;
+    private static List<Airfield> airfields;
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        Scenario scenario = new Scenario();
+        scenario.setName("firstSortie");
+        scenario.setTitle("The first Sortie");
+        scenario.setMap("june1940");
+
+        GameMap gameMap = injector.getInstance(GameMap.class);
+        gameMap.load(scenario);
+
+        victoryConditionsFactory = injector.getInstance(VictoryConditionsFactory.class);
+        shipVictoryFactory = injector.getInstance(Key.get(new TypeLiteral<ShipVictoryFactory<ShipEvent, ShipVictoryData>>() { }));
+        squadronVictoryFactory = injector.getInstance(Key.get(new TypeLiteral<SquadronVictoryFactory<SquadronEvent, SquadronVictoryData>>() { }));
+        airfieldVictoryFactory = injector.getInstance(Key.get(new TypeLiteral<AirfieldVictoryFactory<AirfieldEvent, AirfieldVictoryData>>() { }));
+        turn = injector.getInstance(Turn.class);
+
+        MissionData missionData = new MissionData();
+        missionData.setType(SeaMissionType.PATROL);
+
+        TaskForceData data = new TaskForceData();
+        data.setMission(missionData);
+        data.setLocation("Tobruk");
+        data.setState(TaskForceState.ACTIVE);
+        data.setShips(new ArrayList<>(Arrays.asList("BB11 Nelson", "BB12 Rodney", "CL47 Dido", "CA12 York")));
+
+        TaskForce taskForce = injector.getInstance(TaskForceFactory.class).create(Side.ALLIES, data);
+        ships = taskForce.getShips();
+
+        SquadronFactory squadronFactory = injector.getInstance(SquadronFactory.class);
+        squadrons = List.of(
+                buildSquadron(squadronFactory, Side.ALLIES, Nation.BRITISH, "Hurricane-1"),
+                buildSquadron(squadronFactory, Side.ALLIES, Nation.BRITISH, "Swordfish"),
+                buildSquadron(squadronFactory, Side.AXIS, Nation.GERMAN, "BF109F"),
+                buildSquadron(squadronFactory, Side.AXIS, Nation.ITALIAN, "CR42"));
+
+        airfields = new ArrayList<>();
+        airfields.addAll(gameMap.getAirfields(Side.ALLIES).subList(0, 2));
+        airfields.addAll(gameMap.getAirfields(Side.AXIS).subList(0, 2));
+    }
+
+    @Test
+    public void testIndexedTotalsMatchBruteForce() {
+        VictoryConditionsData data = buildVictoryData();
+
+        setTurn(1);
+
+        VictoryConditions victory = victoryConditionsFactory.create(data, Side.ALLIES);
+        BruteForce bruteForce = new BruteForce(data);
+
+        Random random = new Random(1);
+
+        for (int i = 0; i < EVENTS; i++) {
+            fireRandomEvent(random, bruteForce);
+
+            Assert.assertEquals("Event " + i, bruteForce.getTotal(), victory.getTotalVictoryPoints());
+        }
+
+        Assert.assertEquals(bruteForce.requirementsMet(), victory.requirementsMet());
+        Assert.assertEquals(EVENTS, victory.getHistory().size());
+    }
+
+    @Test
+    public void testTurnHistory() {
+        VictoryConditionsData data = buildVictoryData();
+
+        setTurn(1);
+
+        VictoryConditions victory = victoryConditionsFactory.create(data, Side.AXIS);
+        BruteForce bruteForce = new BruteForce(data);
+
+        Map<Integer, Integer> expectedPoints = new HashMap<>();
+        Random random = new Random(2);
+
+        int turnNumber = 1;
+
+        for (int i = 0; i < EVENTS; i++) {
+            if (i % EVENTS_PER_TURN == 0) {
+                turnNumber++;
+                setTurn(turnNumber);
+            }
+
+            int before = bruteForce.getTotal();
+            fireRandomEvent(random, bruteForce);
+            expectedPoints.merge(turnNumber, bruteForce.getTotal() - before, Integer::sum);
+        }
+
+        int sum = 0;
+
+        for (int t = 2; t <= turnNumber; t++) {
+            Assert.assertEquals("Turn " + t, (int) expectedPoints.getOrDefault(t, 0), victory.getTurnVictoryPoints(t));
+
+            int turnOfEvents = t;
+            Assert.assertTrue(victory.getHistory(t).stream().allMatch(history -> history.getTurn() == turnOfEvents));
+
+            sum += victory.getTurnVictoryPoints(t);
+        }
+
+        Assert.assertEquals(victory.getTotalVictoryPoints(), sum);
+        Assert.assertEquals(EVENTS_PER_TURN, victory.getHistory(2).size());
+        Assert.assertTrue(victory.getHistory(turnNumber + 1).isEmpty());
+    }
+
+    private void fireRandomEvent(final Random random, final BruteForce bruteForce) {
+        switch (random.nextInt(3)) {
+            case 0:
+                ShipEvent shipEvent = new ShipEvent();
+                shipEvent.setShip(ships.get(random.nextInt(ships.size())));
+                shipEvent.setAction(pick(random, ShipEventAction.values()));
+                bruteForce.handle(shipEvent);
+                shipEvent.fire();
+                break;
+            case 1:
+                SquadronEvent squadronEvent = new SquadronEvent();
+                squadronEvent.setSquadron(squadrons.get(random.nextInt(squadrons.size())));
+                squadronEvent.setAction(pick(random, SquadronEventAction.values()));
+                bruteForce.handle(squadronEvent);
+                squadronEvent.fire();
+                break;
+            default:
+                AirfieldEvent airfieldEvent = new AirfieldEvent();
+                airfieldEvent.setAirfield(airfields.get(random.nextInt(airfields.size())));
+                airfieldEvent.setAction(pick(random, AirfieldEventAction.values()));
+                airfieldEvent.setValue(1 + random.nextInt(3));
+                bruteForce.handle(airfieldEvent);
+                airfieldEvent.fire();
+                break;
+        }
+    }
+
+    private <T> T pick(final Random random, final T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private void setTurn(final int number) {
+        TurnData data = new TurnData();
+        data.setTurn(number);
+        data.setIndex(TurnIndex.DAY_1);
+        data.setDate(new Date());
+        turn.init(data);
+    }
+
+    private static Squadron buildSquadron(final SquadronFactory factory, final Side side, final Nation nation, final String model) {
+        SquadronData data = new SquadronData();
+        data.setModel(model);
+        return factory.create(side, nation, data);
+    }
+
+    private VictoryConditionsData buildVictoryData() {
+        VictoryConditionsData data = new VictoryConditionsData();
+
+        data.setDefaultShip(List.of(
+                shipVictory("SUNK", Side.ALLIES, null, 0, 0),
+                shipVictory("DAMAGED_PRIMARY", Side.ALLIES, null, 2, 0),
+                shipVictory("OUT_OF_FUEL", Side.ALLIES, null, 0, 0),
+                shipVictory("SUNK", Side.AXIS, null, 0, 0)));
+
+        data.setScenarioShip(List.of(
+                shipVictory("SUNK", Side.ALLIES, "BATTLESHIP", 40, 0),
+                shipVictory("DAMAGED_HULL", Side.ALLIES, null, 3, 2),
+                shipVictory("ARRIVAL", Side.ALLIES, "CRUISER", 0, 3)));
+
+        ShipMatchData damaged = new ShipMatchData();
+        damaged.setAction("DAMAGED");
+        damaged.setSide(Side.ALLIES);
+
+        ShipMatchData sunk = new ShipMatchData();
+        sunk.setAction("SUNK");
+        sunk.setSide(Side.ALLIES);
+
+        ShipVictoryData required = new ShipVictoryData();
+        required.setEvents(List.of(damaged, sunk));
+        required.setRequiredPoints(50);
+
+        data.setRequiredShip(List.of(required));
+
+        data.setDefaultSquadron(List.of(
+                squadronVictory("DESTROYED", Side.ALLIES, null, 6),
+                squadronVictory("DESTROYED", Side.AXIS, null, 6),
+                squadronVictory("DAMAGED", Side.AXIS, null, 2),
+                squadronVictory(null, Side.ALLIES, null, 1)));
+
+        data.setScenarioSquadron(List.of(
+                squadronVictory("ARRIVAL", Side.ALLIES, "Hurricane-1", 3),
+                squadronVictory("DESTROYED", Side.AXIS, "BF109F", 9)));
+
+        data.setScenarioAirfield(List.of(
+                airfieldVictory("DAMAGE", Side.ALLIES, 2, 0),
+                airfieldVictory("DAMAGE", Side.AXIS, 3, 2),
+                airfieldVictory("REPAIR", Side.AXIS, 1, 0)));
+
+        return data;
+    }
+
+    private ShipVictoryData shipVictory(final String action, final Side side, final String shipType, final int points, final int occurrences) {
+        ShipMatchData match = new ShipMatchData();
+        match.setAction(action);
+        match.setSide(side);
+        match.setShipType(shipType);
+
+        ShipVictoryData data = new ShipVictoryData();
+        data.setEvent(match);
+        data.setPoints(points);
+        data.setRequiredOccurrences(occurrences);
+        return data;
+    }
+
+    private SquadronVictoryData squadronVictory(final String action, final Side side, final String model, final int points) {
+        SquadronMatchData match = new SquadronMatchData();
+        match.setAction(action);
+        match.setSide(side);
+        match.setAircraftModel(model);
+
+        SquadronVictoryData data = new SquadronVictoryData();
+        data.setEvent(match);
+        data.setPoints(points);
+        return data;
+    }
+
+    private AirfieldVictoryData airfieldVictory(final String action, final Side side, final int points, final int occurrences) {
+        AirfieldMatchData match = new AirfieldMatchData();
+        match.setAction(action);
+        match.setSide(side);
+
+        AirfieldVictoryData data = new AirfieldVictoryData();
+        data.setEvent(match);
+        data.setPoints(points);
+        data.setRequiredOccurences(occurrences);
+        return data;
+    }
+
+    /**
+     * The original victory evaluation: every event is tested against every victory condition.
+     */
+    private static class BruteForce {
+        private final List<VictoryCondition<ShipEvent, ShipVictoryData>> defaultShips;
+        private final List<VictoryCondition<ShipEvent, ShipVictoryData>> scenarioShips;
+        private final List<VictoryCondition<ShipEvent, ShipVictoryData>> requiredShips;
+        private final List<VictoryCondition<SquadronEvent, SquadronVictoryData>> defaultSquadron;
+        private final List<VictoryCondition<SquadronEvent, SquadronVictoryData>> scenarioSquadron;
+        private final List<VictoryCondition<AirfieldEvent, AirfieldVictoryData>> scenarioAirfields;
+
+        private int total;
+
+        BruteForce(final VictoryConditionsData data) {
+            defaultShips = build(data.getDefaultShip(), shipVictoryFactory::createShip);
+            scenarioShips = build(data.getScenarioShip(), shipVictoryFactory::createShip);
+            requiredShips = build(data.getRequiredShip(), shipVictoryFactory::createRequired);
+            defaultSquadron = build(data.getDefaultSquadron(), squadronVictoryFactory::create);
+            scenarioSquadron = build(data.getScenarioSquadron(), squadronVictoryFactory::create);
+            scenarioAirfields = build(data.getScenarioAirfield(), airfieldVictoryFactory::createAirfield);
+        }
+
+        int getTotal() {
+            return total;
+        }
+
+        void handle(final ShipEvent event) {
+            List<VictoryCondition<ShipEvent, ShipVictoryData>> matched = match(scenarioShips, event);
+
+            if (matched.isEmpty()) {
+                matched = match(defaultShips, event);
+            }
+
+            int points = award(matched, event);
+
+            match(requiredShips, event).forEach(condition -> condition.isPointRequirementMet(points));
+        }
+
+        void handle(final SquadronEvent event) {
+            List<VictoryCondition<SquadronEvent, SquadronVictoryData>> matched = match(scenarioSquadron, event);
+
+            if (matched.isEmpty()) {
+                matched = match(defaultSquadron, event);
+            }
+
+            award(matched, event);
+        }
+
+        void handle(final AirfieldEvent event) {
+            award(match(scenarioAirfields, event), event);
+        }
+
+        boolean requirementsMet() {
+            return scenarioShips.stream().allMatch(VictoryCondition::isRequirementMet)
+                    && requiredShips.stream().allMatch(VictoryCondition::isRequirementMet)
+                    && scenarioAirfields.stream().allMatch(VictoryCondition::isRequirementMet);
+        }
+
+        private <E, D> int award(final List<VictoryCondition<E, D>> matched, final E event) {
+            int points = matched.isEmpty() ? 0 : matched.get(0).getPoints(event);
+            total += points;
+            return points;
+        }
+
+        private <E, D> List<VictoryCondition<E, D>> match(final List<VictoryCondition<E, D>> conditions, final E event) {
+            return conditions
+                    .stream()
+                    .filter(condition -> condition.match(event))
+                    .collect(Collectors.toList());
+        }
+
+        private <E, D> List<VictoryCondition<E, D>> build(final List<D> data, final Function<D, VictoryCondition<E, D>> create) {
+            return data
+                    .stream()
+                    .map(create)
+                    .collect(Collectors.toList());
+        }
+    }
+}
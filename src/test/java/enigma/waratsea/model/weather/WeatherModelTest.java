@@ -0,0 +1,113 @@
+package enigma.waratsea.model.weather;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.rules.WeatherRules;
+import engima.waratsea.model.weather.WeatherForecast;
+import engima.waratsea.model.weather.WeatherModel;
+import engima.waratsea.model.weather.WeatherType;
+import engima.waratsea.utility.Dice;
+import enigma.waratsea.TestModule;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Calendar;
+
+public class WeatherModelTest {
+    private static final int SAMPLES = 60_000;
+    private static final double SAMPLE_TOLERANCE = 0.01;
+    private static final double EXACT_TOLERANCE = 1e-9;
+    private static final WeatherType[] WEATHER_TYPES = WeatherType.values();
+
+    private GameTitle gameTitle;
+    private WeatherRules rules;
+    private WeatherModel model;
+    private Dice dice;
+
+    @Before
+    public void setup() {
+        Injector injector = Guice.createInjector(new TestModule());
+
+        gameTitle = injector.getInstance(GameTitle.class);
+        rules = injector.getInstance(WeatherRules.class);
+        model = injector.getInstance(WeatherModel.class);
+        dice = injector.getInstance(Dice.class);
+
+        dice.setSeed(0);
+    }
+
+    @Test
+    public void testBombAlleyMatchesRules() {
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        assertMatchesSampledRules(Calendar.JANUARY);
+        assertMatchesSampledRules(Calendar.JULY);
+    }
+
+    @Test
+    public void testArcticConvoyMatchesRules() {
+        gameTitle.setName(GameName.ARCTIC_CONVOY);
+
+        assertMatchesSampledRules(Calendar.JANUARY);   // Winter. A six in a storm rolls a second die.
+        assertMatchesSampledRules(Calendar.JUNE);
+    }
+
+    @Test
+    public void testForecastIsMatrixPower() {
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        double[][] transitions = model.getTransitions(Calendar.MARCH);
+
+        for (WeatherType current : WEATHER_TYPES) {
+            WeatherForecast forecast = model.getForecast(Calendar.MARCH, current, 2);
+
+            double total = 0.0;
+
+            for (WeatherType next : WEATHER_TYPES) {
+                double expected = 0.0;
+
+                for (WeatherType between : WEATHER_TYPES) {
+                    expected += transitions[current.ordinal()][between.ordinal()] * transitions[between.ordinal()][next.ordinal()];
+                }
+
+                Assert.assertEquals(expected, forecast.getProbability(next), EXACT_TOLERANCE);
+                total += forecast.getProbability(next);
+            }
+
+            Assert.assertEquals(1.0, total, EXACT_TOLERANCE);
+        }
+
+        WeatherForecast now = model.getForecast(Calendar.MARCH, WeatherType.RAIN, 0);
+        Assert.assertEquals(1.0, now.getProbability(WeatherType.RAIN), EXACT_TOLERANCE);
+        Assert.assertEquals(WeatherType.RAIN, now.getMostLikely());
+
+        // Once built, a forecast is served from the cache.
+        Assert.assertSame(model.getForecast(Calendar.MARCH, WeatherType.CLEAR, 2), model.getForecast(Calendar.MARCH, WeatherType.CLEAR, 2));
+    }
+
+    /**
+     * Sample the weather rules with real dice and compare the observed transitions to the compiled matrix.
+     *
+     * @param month The month.
+     */
+    private void assertMatchesSampledRules(final int month) {
+        double[][] transitions = model.getTransitions(month);
+
+        for (WeatherType current : WEATHER_TYPES) {
+            int[] counts = new int[WEATHER_TYPES.length];
+
+            for (int i = 0; i < SAMPLES; i++) {
+                WeatherType next = rules.determineWeather(dice.roll(), current, month);
+                counts[next.ordinal()]++;
+            }
+
+            for (WeatherType next : WEATHER_TYPES) {
+                double observed = (double) counts[next.ordinal()] / SAMPLES;
+                Assert.assertEquals(current + " to " + next, transitions[current.ordinal()][next.ordinal()], observed, SAMPLE_TOLERANCE);
+            }
+        }
+    }
+}
@@ -46,4 +46,38 @@ public class DiceTest {
         result = dice.probabilityHitsPercentage(3, 6, 1.0 / 6.0);
         Assert.assertEquals(6, result);
     }
+
+    @Test
+    public void testBulkRoll() {
+        int[] results = dice.roll(new int[1000], 1000);
+
+        for (int result : results) {
+            Assert.assertTrue(result <= 6);
+            Assert.assertTrue(result >= 1);
+        }
+    }
+
+    @Test
+    public void testBulkRollSides() {
+        int[] results = dice.roll(new int[12], 10, 3);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(results[i] <= 3);
+            Assert.assertTrue(results[i] >= 1);
+        }
+
+        Assert.assertEquals(0, results[10]);     // Only the requested number of dice are rolled.
+        Assert.assertEquals(0, results[11]);
+    }
+
+    @Test
+    public void testCountRollsAtLeast() {
+        Assert.assertEquals(0, dice.countRollsAtLeast(0, 6));
+        Assert.assertEquals(100, dice.countRollsAtLeast(100, 1));
+        Assert.assertEquals(0, dice.countRollsAtLeast(100, 7));
+
+        int hits = dice.countRollsAtLeast(60000, 6);
+        Assert.assertTrue(hits > 9000);          // Expected 10000 hits. Standard deviation is about 91.
+        Assert.assertTrue(hits < 11000);
+    }
 }
@@ -0,0 +1,49 @@
+package enigma.waratsea.utility;
+
+import engima.waratsea.utility.Dice;
+
+import java.util.Arrays;
+
+/**
+ * A dice that always rolls the same value. A dice with fewer sides than the value rolls its highest side.
+ */
+public class FixedDice extends Dice {
+    private static final int DICE_SIDES = 6;
+
+    private final int value;
+
+    /**
+     * Constructor.
+     *
+     * @param value The value of every roll.
+     */
+    public FixedDice(final int value) {
+        this.value = value;
+    }
+
+    @Override
+    public int roll() {
+        return value;
+    }
+
+    @Override
+    public int sumDiceRoll(final int numberDiceToRoll) {
+        return Math.min(value, DICE_SIDES) * numberDiceToRoll;
+    }
+
+    @Override
+    public int countRollsAtLeast(final int numberDiceToRoll, final int threshold) {
+        return Math.min(value, DICE_SIDES) >= threshold ? numberDiceToRoll : 0;
+    }
+
+    @Override
+    public int roll(final int sides) {
+        return Math.min(value, sides);
+    }
+
+    @Override
+    public int[] roll(final int[] results, final int numberDiceToRoll, final int sides) {
+        Arrays.fill(results, 0, numberDiceToRoll, Math.min(value, sides));
+        return results;
+    }
+}
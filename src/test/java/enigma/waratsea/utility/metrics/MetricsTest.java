@@ -0,0 +1,99 @@
+package enigma.waratsea.utility.metrics;
+
+import engima.waratsea.utility.metrics.CacheMetric;
+import engima.waratsea.utility.metrics.Histogram;
+import engima.waratsea.utility.metrics.Metrics;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+public class MetricsTest {
+
+    @Before
+    public void setup() {
+        Metrics.setEnabled(true);
+        Metrics.reset();
+    }
+
+    @After
+    public void tearDown() {
+        Metrics.setEnabled(false);
+        Metrics.reset();
+    }
+
+    @Test
+    public void testHistogramPercentiles() {
+        Histogram histogram = new Histogram("test");
+
+        for (int i = 0; i < 99; i++) {
+            histogram.record(1_000);                      // 1 microsecond.
+        }
+
+        histogram.record(1_000_000);                      // 1 millisecond.
+
+        Assert.assertEquals(100, histogram.getCount());
+        Assert.assertEquals(1_000, histogram.getMaxMicros());
+        Assert.assertEquals(1, histogram.getP50Micros());  // Bucket upper bound is 1023 nanoseconds.
+        Assert.assertEquals(1, histogram.getP99Micros());
+        Assert.assertEquals(10.99, histogram.getMeanMicros(), 0.01);
+
+        histogram.reset();
+
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getP99Micros());
+    }
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        Histogram histogram = Metrics.histogram("test.disabled");
+        CacheMetric cache = Metrics.cache("test.disabled.cache");
+
+        Metrics.setEnabled(false);
+
+        long start = Metrics.start();
+        Assert.assertEquals(Metrics.NOT_STARTED, start);
+
+        histogram.stop(start);
+        cache.hit();
+        cache.miss();
+
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, cache.getHits() + cache.getMisses());
+    }
+
+    @Test
+    public void testEnabledRecords() {
+        Histogram histogram = Metrics.histogram("test.enabled");
+        CacheMetric cache = Metrics.cache("test.enabled.cache");
+
+        histogram.stop(Metrics.start());
+        cache.hit();
+        cache.hit();
+        cache.hit();
+        cache.miss();
+
+        Assert.assertEquals(1, histogram.getCount());
+        Assert.assertEquals(0.75, cache.getHitRatio(), 0.001);
+        Assert.assertTrue(Metrics.report().contains("test.enabled.cache"));
+    }
+
+    @Test
+    public void testSameNameSameHistogram() {
+        Assert.assertSame(Metrics.histogram("test.same"), Metrics.histogram("test.same"));
+    }
+
+    @Test
+    public void testMBeansRegistered() throws Exception {
+        Metrics.histogram("test.jmx");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        Assert.assertTrue(server.isRegistered(new ObjectName("engima.waratsea:type=Histogram,name=" + ObjectName.quote("test.jmx"))));
+        Assert.assertTrue(server.isRegistered(new ObjectName("engima.waratsea:type=Control,name=" + ObjectName.quote("metrics"))));
+    }
+}
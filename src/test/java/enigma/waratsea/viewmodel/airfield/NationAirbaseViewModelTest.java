@@ -0,0 +1,161 @@
+package enigma.waratsea.viewmodel.airfield;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import engima.waratsea.model.base.airfield.Airfield;
+import engima.waratsea.model.base.airfield.mission.MissionDAO;
+import engima.waratsea.model.base.airfield.mission.MissionRole;
+import engima.waratsea.model.game.Game;
+import engima.waratsea.model.game.GameName;
+import engima.waratsea.model.game.GameTitle;
+import engima.waratsea.model.game.Nation;
+import engima.waratsea.model.game.Side;
+import engima.waratsea.model.scenario.Scenario;
+import engima.waratsea.model.squadron.state.SquadronState;
+import engima.waratsea.view.squadron.SquadronViewType;
+import engima.waratsea.viewmodel.airfield.AirMissionViewModel;
+import engima.waratsea.viewmodel.airfield.NationAirbaseViewModel;
+import engima.waratsea.viewmodel.airfield.RealAirbaseViewModel;
+import engima.waratsea.viewmodel.squadrons.SquadronViewModel;
+import enigma.waratsea.TestModule;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.collections.FXCollections;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NationAirbaseViewModelTest {
+    private static final int MISSION_SQUADRONS = 3;
+
+    private static Injector injector;
+    private static Game game;
+
+    private NationAirbaseViewModel nationViewModel;
+    private RealAirbaseViewModel airbaseViewModel;
+    private Nation nation;
+
+    private final AtomicInteger readyNotifications = new AtomicInteger();
+    private final AtomicInteger readyTypeNotifications = new AtomicInteger();
+
+    @BeforeClass
+    public static void setup() throws Exception {
+        injector = Guice.createInjector(new TestModule());
+
+        GameTitle gameTitle = injector.getInstance(GameTitle.class);
+        gameTitle.setName(GameName.BOMB_ALLEY);
+
+        game = injector.getInstance(Game.class);
+
+        List<Scenario> scenarios = game.initScenarios();
+        game.setScenario(scenarios.get(0));
+        game.setHumanSide(Side.ALLIES);
+        game.startNew();
+    }
+
+    @Before
+    public void buildViewModel() {
+        Airfield airfield = game
+                .getHumanPlayer()
+                .getAirfields()
+                .stream()
+                .max(Comparator.comparingInt(a -> a.getSquadrons().size()))
+                .orElseThrow();
+
+        nation = airfield.getSquadrons().get(0).getNation();
+
+        airbaseViewModel = injector.getInstance(RealAirbaseViewModel.class).setModel(airfield);
+        nationViewModel = airbaseViewModel.getNationViewModels().get(nation);
+
+        Assert.assertTrue(nationViewModel.getTotalReadySquadrons().size() >= MISSION_SQUADRONS);
+
+        readyNotifications.set(0);
+        readyTypeNotifications.set(0);
+
+        nationViewModel.getTotalReadySquadrons().addListener((o, ov, nv) -> readyNotifications.incrementAndGet());
+        nationViewModel
+                .getSquadronMap(SquadronState.READY)
+                .values()
+                .forEach(list -> list.addListener((o, ov, nv) -> readyTypeNotifications.incrementAndGet()));
+    }
+
+    @Test
+    public void testAddMissionNotifiesOnce() {
+        int ready = nationViewModel.getTotalReadySquadrons().size();
+
+        nationViewModel.addMission(buildMission(MISSION_SQUADRONS));
+
+        Assert.assertEquals(ready - MISSION_SQUADRONS, nationViewModel.getTotalReadySquadrons().size());
+        Assert.assertEquals(1, readyNotifications.get());
+        Assert.assertTrue(readyTypeNotifications.get() <= SquadronViewType.values().length);   // At most once per squadron type.
+    }
+
+    @Test
+    public void testEditMissionNotifiesOnce() {
+        int ready = nationViewModel.getTotalReadySquadrons().size();
+
+        AirMissionViewModel original = buildMission(MISSION_SQUADRONS);
+        nationViewModel.addMission(original);
+        readyNotifications.set(0);
+
+        AirMissionViewModel edited = buildMission(0);
+        edited.getAssigned().get(MissionRole.MAIN).add(original.getAssigned().get(MissionRole.MAIN).get(0));
+        edited.getReady().setValue(FXCollections.observableArrayList(original.getAssigned().get(MissionRole.MAIN).subList(1, MISSION_SQUADRONS)));
+
+        nationViewModel.editMission(edited);
+
+        Assert.assertEquals(ready - 1, nationViewModel.getTotalReadySquadrons().size());
+        Assert.assertEquals(1, readyNotifications.get());
+        Assert.assertEquals(List.of(edited), nationViewModel.getMissionViewModels());          // The original is replaced.
+    }
+
+    @Test
+    public void testRemoveMissionNotifiesOnce() {
+        int ready = nationViewModel.getTotalReadySquadrons().size();
+
+        AirMissionViewModel mission = buildMission(MISSION_SQUADRONS);
+        nationViewModel.addMission(mission);
+        readyNotifications.set(0);
+
+        nationViewModel.removeMission(mission);
+
+        Assert.assertEquals(ready, nationViewModel.getTotalReadySquadrons().size());
+        Assert.assertEquals(1, readyNotifications.get());
+    }
+
+    @Test
+    public void testOnlyTheCurrentMissionListIsIndexed() {
+        ListProperty<AirMissionViewModel> stale = airbaseViewModel.getMissionViewModels().get(nation);
+
+        Map<Nation, ListProperty<AirMissionViewModel>> replacement = new HashMap<>();
+        replacement.put(nation, new SimpleListProperty<>(FXCollections.observableArrayList(new ArrayList<>())));
+
+        nationViewModel.setMissionViewModels(replacement);
+
+        AirMissionViewModel unindexed = buildMission(0);
+        stale.add(unindexed);
+
+        nationViewModel.editMission(buildMission(0));
+
+        Assert.assertTrue(stale.contains(unindexed));                                         // The stale list is no longer observed.
+    }
+
+    private AirMissionViewModel buildMission(final int squadrons) {
+        AirMissionViewModel mission = new AirMissionViewModel(game, null, injector.getInstance(MissionDAO.class));
+        mission.setNation(nation);
+        mission.setSquadrons(airbaseViewModel.getSquadronsViewModel());
+
+        List<SquadronViewModel> ready = nationViewModel.getTotalReadySquadrons();
+        mission.getAssigned().get(MissionRole.MAIN).addAll(new ArrayList<>(ready.subList(0, squadrons)));
+
+        return mission;
+    }
+}
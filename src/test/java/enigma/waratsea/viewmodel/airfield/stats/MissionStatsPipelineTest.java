@@ -0,0 +1,155 @@
+package enigma.waratsea.viewmodel.airfield.stats;
+
+import engima.waratsea.viewmodel.airfield.stats.MissionSnapshot;
+import engima.waratsea.viewmodel.airfield.stats.MissionStats;
+import engima.waratsea.viewmodel.airfield.stats.MissionStatsPipeline;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class MissionStatsPipelineTest {
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private ScheduledExecutorService scheduler;
+    private final AtomicInteger computations = new AtomicInteger();
+    private final List<Integer> computedIds = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicReference<Thread> computeThread = new AtomicReference<>();
+
+    @Before
+    public void setup() {
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        computations.set(0);
+        computedIds.clear();
+        computeThread.set(null);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void testBurstIsCoalesced() throws Exception {
+        CountDownLatch published = new CountDownLatch(1);
+        List<Integer> publishedIds = Collections.synchronizedList(new ArrayList<>());
+
+        MissionStatsPipeline pipeline = new MissionStatsPipeline(this::calculate, scheduler, Runnable::run, 200);
+
+        int burst = 20;
+        for (int i = 1; i <= burst; i++) {
+            int id = i;
+            pipeline.submit(snapshot(id), stats -> {
+                publishedIds.add(id);
+                published.countDown();
+            });
+        }
+
+        Assert.assertTrue(published.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        scheduler.shutdown();
+        Assert.assertTrue(scheduler.awaitTermination(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        Assert.assertEquals(1, computations.get());
+        Assert.assertEquals(List.of(burst), computedIds);
+        Assert.assertEquals(List.of(burst), publishedIds);
+    }
+
+    @Test
+    public void testStaleResultIsDiscarded() throws Exception {
+        BlockingQueue<Runnable> fxQueue = new LinkedBlockingQueue<>();
+        List<Integer> publishedIds = new ArrayList<>();
+
+        MissionStatsPipeline pipeline = new MissionStatsPipeline(this::calculate, scheduler, fxQueue::add, 0);
+
+        pipeline.submit(snapshot(1), stats -> publishedIds.add(1));
+        Runnable first = fxQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull(first);
+        Assert.assertEquals(List.of(1), computedIds);               // Computed before it reaches the JavaFX thread.
+
+        // The user edits the mission again before the first result reaches the JavaFX thread.
+        pipeline.submit(snapshot(2), stats -> publishedIds.add(2));
+        Runnable second = fxQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull(second);
+
+        first.run();
+        Assert.assertTrue(publishedIds.isEmpty());
+
+        second.run();
+        Assert.assertEquals(List.of(2), publishedIds);
+    }
+
+    @Test
+    public void testComputedOffPublisherThread() throws Exception {
+        ExecutorService publisher = Executors.newSingleThreadExecutor();
+        AtomicReference<Thread> publishThread = new AtomicReference<>();
+        CountDownLatch published = new CountDownLatch(1);
+
+        try {
+            Thread publisherThread = publisher.submit(Thread::currentThread).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            MissionStatsPipeline pipeline = new MissionStatsPipeline(this::calculate, scheduler, publisher, 0);
+
+            pipeline.submit(snapshot(1), stats -> {
+                publishThread.set(Thread.currentThread());
+                published.countDown();
+            });
+
+            Assert.assertTrue(published.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assert.assertSame(publisherThread, publishThread.get());
+            Assert.assertNotNull(computeThread.get());
+            Assert.assertNotSame(publisherThread, computeThread.get());
+        } finally {
+            publisher.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testCancelDiscardsResult() throws Exception {
+        BlockingQueue<Runnable> fxQueue = new LinkedBlockingQueue<>();
+        List<Integer> publishedIds = new ArrayList<>();
+
+        MissionStatsPipeline pipeline = new MissionStatsPipeline(this::calculate, scheduler, fxQueue::add, 0);
+
+        pipeline.submit(snapshot(1), stats -> publishedIds.add(1));
+        Runnable first = fxQueue.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Assert.assertNotNull(first);
+
+        pipeline.cancel();
+
+        first.run();
+        Assert.assertTrue(publishedIds.isEmpty());
+    }
+
+    private MissionStats calculate(final MissionSnapshot snapshot) {
+        computations.incrementAndGet();
+        computedIds.add(Integer.valueOf(snapshot.getTarget()));
+        computeThread.set(Thread.currentThread());
+
+        return MissionStats
+                .builder()
+                .probability(Collections.emptyList())
+                .affectedByWeather(false)
+                .build();
+    }
+
+    private MissionSnapshot snapshot(final int id) {
+        return MissionSnapshot
+                .builder()
+                .target(String.valueOf(id))
+                .squadronMap(Collections.emptyMap())
+                .build();
+    }
+}
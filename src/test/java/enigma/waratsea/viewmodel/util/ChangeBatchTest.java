@@ -0,0 +1,124 @@
+package enigma.waratsea.viewmodel.util;
+
+import engima.waratsea.viewmodel.util.ChangeBatch;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleListProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.property.StringProperty;
+import javafx.collections.FXCollections;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ChangeBatchTest {
+    private static final int SQUADRONS = 12;
+
+    private ChangeBatch batch;
+    private ListProperty<String> ready;
+    private IntegerProperty readyCount;
+    private AtomicInteger readyNotifications;
+    private AtomicInteger countNotifications;
+
+    @Before
+    public void setup() {
+        batch = new ChangeBatch();
+
+        List<String> squadrons = new ArrayList<>();
+        for (int i = 0; i < SQUADRONS; i++) {
+            squadrons.add("squadron-" + i);
+        }
+
+        ready = new SimpleListProperty<>(FXCollections.observableArrayList(squadrons));
+        readyCount = new SimpleIntegerProperty();
+        readyCount.bind(ready.sizeProperty());
+
+        readyNotifications = new AtomicInteger();
+        countNotifications = new AtomicInteger();
+
+        ready.addListener((o, ov, nv) -> readyNotifications.incrementAndGet());
+        readyCount.addListener((o, ov, nv) -> countNotifications.incrementAndGet());
+    }
+
+    @Test
+    public void testUnbatchedRemovalNotifiesPerSquadron() {
+        // This mirrors how the ready list was updated one squadron at a time before batching.
+        for (int i = 0; i < SQUADRONS; i++) {
+            List<String> copy = new ArrayList<>(ready.getValue());
+            copy.remove("squadron-" + i);
+            ready.set(FXCollections.observableArrayList(copy));
+        }
+
+        Assert.assertEquals(SQUADRONS, readyNotifications.get());
+        Assert.assertEquals(SQUADRONS, countNotifications.get());
+    }
+
+    @Test
+    public void testBatchedRemovalNotifiesOnce() {
+        batch.apply(() -> {
+            for (int i = 0; i < SQUADRONS; i++) {
+                int index = i;
+                batch.edit(ready, list -> list.remove("squadron-" + index));   // Nested scopes are part of the outer batch.
+            }
+
+            Assert.assertEquals(SQUADRONS, ready.size());                      // Nothing is applied until commit.
+        });
+
+        Assert.assertTrue(ready.isEmpty());
+        Assert.assertEquals(0, readyCount.get());
+        Assert.assertEquals(1, readyNotifications.get());
+        Assert.assertEquals(1, countNotifications.get());
+    }
+
+    @Test
+    public void testLastWriteWins() {
+        StringProperty title = new SimpleStringProperty("start");
+        AtomicInteger titleNotifications = new AtomicInteger();
+        title.addListener((o, ov, nv) -> titleNotifications.incrementAndGet());
+
+        batch.begin();
+        batch.set(title, "first");
+        batch.set(title, "second");
+        Assert.assertEquals("start", title.get());
+        batch.commit();
+
+        Assert.assertEquals("second", title.get());
+        Assert.assertEquals(1, titleNotifications.get());
+    }
+
+    @Test
+    public void testUnchangedListIsNotWritten() {
+        batch.apply(() -> {
+            batch.edit(ready).remove("squadron-0");
+            batch.edit(ready).add(0, "squadron-0");
+        });
+
+        Assert.assertEquals(0, readyNotifications.get());
+    }
+
+    @Test
+    public void testFailedBatchIsDiscarded() {
+        try {
+            batch.apply(() -> {
+                batch.edit(ready).clear();
+                throw new IllegalArgumentException("failed");
+            });
+            Assert.fail("Expected the failure to propagate");
+        } catch (IllegalArgumentException ex) {
+            Assert.assertFalse(batch.isActive());
+        }
+
+        Assert.assertEquals(SQUADRONS, ready.size());
+        Assert.assertEquals(0, readyNotifications.get());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCommitWithoutBegin() {
+        batch.commit();
+    }
+}